@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Message definitions read from a <code>.proto</code> file.
+ * <p>
+ * Only the subset of proto2 used by <code>kogito-cloudevents.proto</code> is supported:
+ * flat messages whose fields are scalars, <code>google.protobuf.Timestamp</code> or other messages of the same file.
+ */
+final class ProtoSchema {
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/|//[^\\n]*", Pattern.DOTALL);
+    private static final Pattern PACKAGE = Pattern.compile("package\\s+([\\w.]+)\\s*;");
+    private static final Pattern MESSAGE = Pattern.compile("message\\s+(\\w+)\\s*\\{([^}]*)}");
+    private static final Pattern FIELD = Pattern.compile("(optional|required|repeated)\\s+([\\w.]+)\\s+(\\w+)\\s*=\\s*(\\d+)\\s*;");
+    private static final String TIMESTAMP = "google.protobuf.Timestamp";
+
+    enum Type {
+        STRING,
+        BYTES,
+        INT32,
+        INT64,
+        DOUBLE,
+        BOOL,
+        TIMESTAMP,
+        MESSAGE
+    }
+
+    private final String packageName;
+    private final Map<String, Message> messages;
+
+    private ProtoSchema(String packageName, Map<String, Message> messages) {
+        this.packageName = packageName;
+        this.messages = messages;
+    }
+
+    static ProtoSchema load(String resource) {
+        try (InputStream is = ProtoSchema.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IllegalStateException("Protobuf schema " + resource + " not found");
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = is.read(buffer); read != -1; read = is.read(buffer)) {
+                content.write(buffer, 0, read);
+            }
+            return parse(new String(content.toByteArray(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static ProtoSchema parse(String proto) {
+        String definitions = COMMENT.matcher(proto).replaceAll("");
+        Matcher packageMatcher = PACKAGE.matcher(definitions);
+        String packageName = packageMatcher.find() ? packageMatcher.group(1) : "";
+
+        Map<String, List<String[]>> declarations = new LinkedHashMap<>();
+        Matcher messageMatcher = MESSAGE.matcher(definitions);
+        while (messageMatcher.find()) {
+            List<String[]> fields = new ArrayList<>();
+            Matcher fieldMatcher = FIELD.matcher(messageMatcher.group(2));
+            while (fieldMatcher.find()) {
+                fields.add(new String[]{fieldMatcher.group(1), fieldMatcher.group(2), fieldMatcher.group(3), fieldMatcher.group(4)});
+            }
+            declarations.put(messageMatcher.group(1), fields);
+        }
+
+        Map<String, Message> messages = new LinkedHashMap<>();
+        declarations.forEach((name, fields) -> {
+            List<Field> resolved = new ArrayList<>();
+            for (String[] field : fields) {
+                String typeName = field[1];
+                Type type = type(typeName);
+                if (type == Type.MESSAGE && !declarations.containsKey(typeName)) {
+                    throw new IllegalStateException("Unsupported type " + typeName + " of field " + name + "." + field[2]);
+                }
+                resolved.add(new Field(field[2], Integer.parseInt(field[3]), type, type == Type.MESSAGE ? typeName : null, "repeated".equals(field[0])));
+            }
+            messages.put(name, new Message(name, resolved));
+        });
+        return new ProtoSchema(packageName, messages);
+    }
+
+    private static Type type(String typeName) {
+        switch (typeName) {
+            case "string":
+                return Type.STRING;
+            case "bytes":
+                return Type.BYTES;
+            case "int32":
+                return Type.INT32;
+            case "int64":
+                return Type.INT64;
+            case "double":
+                return Type.DOUBLE;
+            case "bool":
+                return Type.BOOL;
+            case TIMESTAMP:
+                return Type.TIMESTAMP;
+            default:
+                return Type.MESSAGE;
+        }
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    Message getMessage(String name) {
+        Message message = messages.get(name);
+        if (message == null) {
+            throw new IllegalArgumentException("Message " + name + " is not defined in package " + packageName);
+        }
+        return message;
+    }
+
+    static final class Message {
+
+        private final String name;
+        private final List<Field> fields;
+        private final Map<String, Field> byName = new HashMap<>();
+        private final Map<Integer, Field> byNumber = new HashMap<>();
+
+        private Message(String name, List<Field> fields) {
+            this.name = name;
+            this.fields = Collections.unmodifiableList(fields);
+            for (Field field : fields) {
+                byName.put(field.getName(), field);
+                byNumber.put(field.getNumber(), field);
+            }
+        }
+
+        String getName() {
+            return name;
+        }
+
+        List<Field> getFields() {
+            return fields;
+        }
+
+        Field getField(String name) {
+            return byName.get(name);
+        }
+
+        Field getField(int number) {
+            return byNumber.get(number);
+        }
+    }
+
+    static final class Field {
+
+        private final String name;
+        private final int number;
+        private final Type type;
+        private final String messageType;
+        private final boolean repeated;
+
+        private Field(String name, int number, Type type, String messageType, boolean repeated) {
+            this.name = name;
+            this.number = number;
+            this.type = type;
+            this.messageType = messageType;
+            this.repeated = repeated;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getNumber() {
+            return number;
+        }
+
+        Type getType() {
+            return type;
+        }
+
+        String getMessageType() {
+            return messageType;
+        }
+
+        boolean isRepeated() {
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.protobuf;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.kie.kogito.events.protobuf.ProtoSchema.Message;
+import org.kie.kogito.events.protobuf.ProtobufMessageWriter.Context;
+import org.kie.kogito.events.protobuf.ProtobufMessageWriter.Encoder;
+
+/**
+ * Structured mode protobuf cloud events, following the schema in <code>META-INF/kogito-cloudevents.proto</code>.
+ * <p>
+ * Events are written from and read into the publisher and consumer objects directly, through
+ * {@link ProtobufMessageWriter} and {@link ProtobufMessageReader}, so publishers and consumers always agree
+ * on field numbers and types. The <code>datacontenttype</code> attribute is always written first so consumers
+ * can tell binary events apart from JSON ones, and find the message type of <code>data</code>, by looking at the first field only.
+ */
+public class ProtobufCloudEventCodec {
+
+    public static final String SCHEMA = "META-INF/kogito-cloudevents.proto";
+    public static final String DATA_CONTENT_TYPE = "application/protobuf";
+    public static final String DATA_CONTENT_TYPE_ATTRIBUTE = "datacontenttype";
+
+    private static final String CLOUD_EVENT = "CloudEvent";
+    private static final String PROTO_PARAMETER = "proto=";
+
+    static final ProtoSchema PROTO = ProtoSchema.load(SCHEMA);
+    private static final Message CLOUD_EVENT_MESSAGE = PROTO.getMessage(CLOUD_EVENT);
+    private static final int CONTENT_TYPE_TAG = (CLOUD_EVENT_MESSAGE.getField(DATA_CONTENT_TYPE_ATTRIBUTE).getNumber() << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private final ObjectMapper json;
+
+    /**
+     * @param json converts values of variables, inputs and outputs that are neither maps, collections, JSON nodes nor basic values
+     */
+    public ProtobufCloudEventCodec(ObjectMapper json) {
+        this.json = json;
+    }
+
+    /**
+     * Binary events always start with their <code>datacontenttype</code>, anything else is considered JSON.
+     */
+    public static boolean isProtobuf(byte[] event) {
+        if (event.length == 0 || event[0] != CONTENT_TYPE_TAG) {
+            return false;
+        }
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(event);
+            return input.readTag() == CONTENT_TYPE_TAG && input.readString().startsWith(DATA_CONTENT_TYPE);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static String contentType(String dataMessage) {
+        return DATA_CONTENT_TYPE + "; " + PROTO_PARAMETER + PROTO.getPackageName() + "." + dataMessage;
+    }
+
+    /**
+     * @return name of the message held by <code>data</code> for the given <code>datacontenttype</code>
+     */
+    public static String dataMessage(String contentType) throws IOException {
+        int index = contentType == null ? -1 : contentType.indexOf(PROTO_PARAMETER);
+        String prefix = PROTO.getPackageName() + ".";
+        if (index < 0 || !contentType.startsWith(prefix, index + PROTO_PARAMETER.length())) {
+            throw new IOException("Unsupported protobuf cloud event content type " + contentType);
+        }
+        return contentType.substring(index + PROTO_PARAMETER.length() + prefix.length()).trim();
+    }
+
+    /**
+     * Writes <code>datacontenttype</code> followed by whatever the encoder writes, which should include
+     * <code>data</code> as a message of the given type.
+     */
+    public <T> byte[] encode(String dataMessage, T event, Encoder<T> encoder) throws IOException {
+        String contentType = contentType(dataMessage);
+        Encoder<T> cloudEvent = (writer, value) -> {
+            writer.string(DATA_CONTENT_TYPE_ATTRIBUTE, contentType);
+            encoder.encode(writer, value);
+        };
+        Context context = new Context(json);
+        ProtobufMessageWriter sizing = new ProtobufMessageWriter(CLOUD_EVENT_MESSAGE, context, null);
+        cloudEvent.encode(sizing, event);
+
+        byte[] bytes = new byte[sizing.size()];
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        cloudEvent.encode(new ProtobufMessageWriter(CLOUD_EVENT_MESSAGE, context, output), event);
+        output.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    /**
+     * @return reader of the cloud event attributes, positioned before <code>datacontenttype</code>
+     */
+    public static ProtobufMessageReader decode(byte[] event) {
+        return new ProtobufMessageReader(CLOUD_EVENT_MESSAGE, CodedInputStream.newInstance(event), -1);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.protobuf;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.kie.kogito.events.protobuf.ProtoSchema.Field;
+import org.kie.kogito.events.protobuf.ProtoSchema.Message;
+
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.BIG_INTEGER_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.BOOL_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.FIELD_NAME;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.FIELD_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.INTEGER_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.LIST_VALUES;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.LIST_VALUE_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.NUMBER_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.STRING_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.STRUCT_FIELDS;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.STRUCT_VALUE;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.TIMESTAMP_NANOS;
+import static org.kie.kogito.events.protobuf.ProtobufMessageWriter.TIMESTAMP_SECONDS;
+
+/**
+ * Reads the fields of a message declared in <code>META-INF/kogito-cloudevents.proto</code> in the order they were written:
+ * {@link #next()} moves to the next known field, whose value is then read with the method matching its type
+ * or {@link #skip() skipped}. A nested {@link #message() message} must be read to its end before moving on.
+ */
+public final class ProtobufMessageReader {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final Message message;
+    private final CodedInputStream input;
+    private final int parentLimit;
+    private Field field;
+    private int tag;
+
+    ProtobufMessageReader(Message message, CodedInputStream input, int parentLimit) {
+        this.message = message;
+        this.input = input;
+        this.parentLimit = parentLimit;
+    }
+
+    /**
+     * @return <code>false</code> once the end of the message is reached
+     */
+    public boolean next() throws IOException {
+        for (tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            field = message.getField(WireFormat.getTagFieldNumber(tag));
+            if (field != null) {
+                return true;
+            }
+            input.skipField(tag);
+        }
+        field = null;
+        if (parentLimit >= 0) {
+            input.popLimit(parentLimit);
+        }
+        return false;
+    }
+
+    /**
+     * @return name of the current field
+     */
+    public String field() {
+        return field.getName();
+    }
+
+    public String string() throws IOException {
+        return input.readString();
+    }
+
+    public int int32() throws IOException {
+        return input.readInt32();
+    }
+
+    public long int64() throws IOException {
+        return input.readInt64();
+    }
+
+    public boolean bool() throws IOException {
+        return input.readBool();
+    }
+
+    public Instant timestamp() throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        long seconds = 0;
+        int nanos = 0;
+        for (int t = input.readTag(); t != 0; t = input.readTag()) {
+            int number = WireFormat.getTagFieldNumber(t);
+            if (number == TIMESTAMP_SECONDS) {
+                seconds = input.readInt64();
+            } else if (number == TIMESTAMP_NANOS) {
+                nanos = input.readInt32();
+            } else {
+                input.skipField(t);
+            }
+        }
+        input.popLimit(limit);
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    /**
+     * Reads a <code>Struct</code> field.
+     */
+    public ObjectNode struct() throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        ObjectNode node = NODES.objectNode();
+        for (int t = input.readTag(); t != 0; t = input.readTag()) {
+            if (WireFormat.getTagFieldNumber(t) == STRUCT_FIELDS) {
+                readStructField(node);
+            } else {
+                input.skipField(t);
+            }
+        }
+        input.popLimit(limit);
+        return node;
+    }
+
+    public ProtobufMessageReader message() throws IOException {
+        return message(field.getMessageType());
+    }
+
+    /**
+     * Reads a <code>bytes</code> field holding a message of the given type, like <code>CloudEvent.data</code>.
+     */
+    public ProtobufMessageReader message(String messageType) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        return new ProtobufMessageReader(ProtobufCloudEventCodec.PROTO.getMessage(messageType), input, limit);
+    }
+
+    public void skip() throws IOException {
+        input.skipField(tag);
+    }
+
+    private void readStructField(ObjectNode node) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        String name = null;
+        JsonNode value = NODES.nullNode();
+        for (int t = input.readTag(); t != 0; t = input.readTag()) {
+            int number = WireFormat.getTagFieldNumber(t);
+            if (number == FIELD_NAME) {
+                name = input.readString();
+            } else if (number == FIELD_VALUE) {
+                value = readValue();
+            } else {
+                input.skipField(t);
+            }
+        }
+        input.popLimit(limit);
+        if (name != null) {
+            node.set(name, value);
+        }
+    }
+
+    private ArrayNode readList() throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        ArrayNode node = NODES.arrayNode();
+        for (int t = input.readTag(); t != 0; t = input.readTag()) {
+            if (WireFormat.getTagFieldNumber(t) == LIST_VALUES) {
+                node.add(readValue());
+            } else {
+                input.skipField(t);
+            }
+        }
+        input.popLimit(limit);
+        return node;
+    }
+
+    private JsonNode readValue() throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        JsonNode value = NODES.nullNode();
+        for (int t = input.readTag(); t != 0; t = input.readTag()) {
+            int number = WireFormat.getTagFieldNumber(t);
+            if (number == STRING_VALUE) {
+                value = NODES.textNode(input.readString());
+            } else if (number == INTEGER_VALUE) {
+                long integer = input.readInt64();
+                value = integer == (int) integer ? NODES.numberNode((int) integer) : NODES.numberNode(integer);
+            } else if (number == NUMBER_VALUE) {
+                value = NODES.numberNode(input.readDouble());
+            } else if (number == BOOL_VALUE) {
+                value = NODES.booleanNode(input.readBool());
+            } else if (number == STRUCT_VALUE) {
+                value = struct();
+            } else if (number == LIST_VALUE_VALUE) {
+                value = readList();
+            } else if (number == BIG_INTEGER_VALUE) {
+                value = NODES.numberNode(new BigInteger(input.readString()));
+            } else {
+                // nullValue or fields added later
+                input.skipField(t);
+            }
+        }
+        input.popLimit(limit);
+        return value;
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.protobuf;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.kie.kogito.events.protobuf.ProtoSchema.Field;
+import org.kie.kogito.events.protobuf.ProtoSchema.Message;
+
+/**
+ * Writes the fields of a message declared in <code>META-INF/kogito-cloudevents.proto</code>, referenced by name.
+ * Absent (<code>null</code>) values are not written.
+ * <p>
+ * Writers are handed to {@link Encoder encoders} by {@link ProtobufCloudEventCodec#encode(String, Object, Encoder)},
+ * which runs each encoder twice: once to compute the size of every message and once to write them
+ * into a buffer of the exact size, so no intermediate buffer is ever allocated or copied.
+ * Encoders must therefore write the same fields in the same order on both runs.
+ */
+public final class ProtobufMessageWriter {
+
+    private static final Message STRUCT = ProtobufCloudEventCodec.PROTO.getMessage("Struct");
+    private static final Message STRUCT_FIELD = ProtobufCloudEventCodec.PROTO.getMessage("StructField");
+    private static final Message LIST_VALUE = ProtobufCloudEventCodec.PROTO.getMessage("ListValue");
+    private static final Message VALUE = ProtobufCloudEventCodec.PROTO.getMessage("Value");
+
+    static final int STRUCT_FIELDS = STRUCT.getField("fields").getNumber();
+    static final int FIELD_NAME = STRUCT_FIELD.getField("name").getNumber();
+    static final int FIELD_VALUE = STRUCT_FIELD.getField("value").getNumber();
+    static final int LIST_VALUES = LIST_VALUE.getField("values").getNumber();
+    static final int NULL_VALUE = VALUE.getField("nullValue").getNumber();
+    static final int NUMBER_VALUE = VALUE.getField("numberValue").getNumber();
+    static final int STRING_VALUE = VALUE.getField("stringValue").getNumber();
+    static final int BOOL_VALUE = VALUE.getField("boolValue").getNumber();
+    static final int STRUCT_VALUE = VALUE.getField("structValue").getNumber();
+    static final int LIST_VALUE_VALUE = VALUE.getField("listValue").getNumber();
+    static final int INTEGER_VALUE = VALUE.getField("integerValue").getNumber();
+    static final int BIG_INTEGER_VALUE = VALUE.getField("bigIntegerValue").getNumber();
+
+    // google.protobuf.Timestamp
+    static final int TIMESTAMP_SECONDS = 1;
+    static final int TIMESTAMP_NANOS = 2;
+
+    private final Message message;
+    private final Context context;
+    private final CodedOutputStream output;
+    private int size;
+
+    ProtobufMessageWriter(Message message, Context context, CodedOutputStream output) {
+        this.message = message;
+        this.context = context;
+        this.output = output;
+    }
+
+    public ProtobufMessageWriter string(String name, String value) throws IOException {
+        if (value != null) {
+            writeString(number(name), value);
+        }
+        return this;
+    }
+
+    public ProtobufMessageWriter strings(String name, Collection<String> values) throws IOException {
+        if (values != null) {
+            int number = number(name);
+            for (String value : values) {
+                writeString(number, value);
+            }
+        }
+        return this;
+    }
+
+    public ProtobufMessageWriter int32(String name, Integer value) throws IOException {
+        if (value != null) {
+            writeInt32(number(name), value);
+        }
+        return this;
+    }
+
+    public ProtobufMessageWriter int64(String name, Long value) throws IOException {
+        if (value != null) {
+            writeInt64(number(name), value);
+        }
+        return this;
+    }
+
+    public ProtobufMessageWriter bool(String name, Boolean value) throws IOException {
+        if (value != null) {
+            writeBool(number(name), value);
+        }
+        return this;
+    }
+
+    public ProtobufMessageWriter timestamp(String name, Date value) throws IOException {
+        return timestamp(name, value == null ? null : value.toInstant());
+    }
+
+    public ProtobufMessageWriter timestamp(String name, Instant value) throws IOException {
+        if (value != null) {
+            lengthDelimited(number(name), () -> {
+                if (value.getEpochSecond() != 0) {
+                    writeInt64(TIMESTAMP_SECONDS, value.getEpochSecond());
+                }
+                if (value.getNano() != 0) {
+                    writeInt32(TIMESTAMP_NANOS, value.getNano());
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Writes a <code>Struct</code> field.
+     *
+     * @param value either a {@link Map} or an object {@link JsonNode}, any other object is converted with
+     *        the codec object mapper as it would be when serialized to JSON
+     */
+    public ProtobufMessageWriter struct(String name, Object value) throws IOException {
+        if (value != null) {
+            lengthDelimited(number(name), () -> structContent(value instanceof Map || value instanceof JsonNode ? value : converted(value)));
+        }
+        return this;
+    }
+
+    public <T> ProtobufMessageWriter message(String name, T value, Encoder<T> encoder) throws IOException {
+        if (value != null) {
+            Field field = field(name);
+            message(field, field.getMessageType(), value, encoder);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a <code>bytes</code> field holding a message of the given type, like <code>CloudEvent.data</code>.
+     */
+    public <T> ProtobufMessageWriter message(String name, String messageType, T value, Encoder<T> encoder) throws IOException {
+        return value == null ? this : message(field(name), messageType, value, encoder);
+    }
+
+    public <T> ProtobufMessageWriter messages(String name, Collection<T> values, Encoder<T> encoder) throws IOException {
+        if (values != null) {
+            Field field = field(name);
+            for (T value : values) {
+                message(field, field.getMessageType(), value, encoder);
+            }
+        }
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private <T> ProtobufMessageWriter message(Field field, String messageType, T value, Encoder<T> encoder) throws IOException {
+        ProtobufMessageWriter nested = new ProtobufMessageWriter(ProtobufCloudEventCodec.PROTO.getMessage(messageType), context, output);
+        lengthDelimited(field.getNumber(), () -> {
+            encoder.encode(nested, value);
+            size += nested.size;
+        });
+        return this;
+    }
+
+    private void structContent(Object value) throws IOException {
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                structField(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        } else {
+            Iterator<Map.Entry<String, JsonNode>> fields = ((JsonNode) value).fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                structField(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void structField(String name, Object value) throws IOException {
+        lengthDelimited(STRUCT_FIELDS, () -> {
+            writeString(FIELD_NAME, name);
+            lengthDelimited(FIELD_VALUE, () -> valueContent(value));
+        });
+    }
+
+    private void listContent(Iterable<?> values) throws IOException {
+        for (Object value : values) {
+            lengthDelimited(LIST_VALUES, () -> valueContent(value));
+        }
+    }
+
+    private void valueContent(Object value) throws IOException {
+        if (value == null) {
+            writeBool(NULL_VALUE, true);
+        } else if (value instanceof String) {
+            writeString(STRING_VALUE, (String) value);
+        } else if (value instanceof Boolean) {
+            writeBool(BOOL_VALUE, (Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writeInt64(INTEGER_VALUE, ((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            writeDouble(NUMBER_VALUE, ((Number) value).doubleValue());
+        } else if (value instanceof Map) {
+            lengthDelimited(STRUCT_VALUE, () -> structContent(value));
+        } else if (value instanceof Collection) {
+            lengthDelimited(LIST_VALUE_VALUE, () -> listContent((Collection<?>) value));
+        } else if (value instanceof Object[]) {
+            lengthDelimited(LIST_VALUE_VALUE, () -> listContent(Arrays.asList((Object[]) value)));
+        } else if (value instanceof JsonNode) {
+            jsonContent((JsonNode) value);
+        } else {
+            jsonContent(converted(value));
+        }
+    }
+
+    private void jsonContent(JsonNode value) throws IOException {
+        if (value.isNull() || value.isMissingNode()) {
+            writeBool(NULL_VALUE, true);
+        } else if (value.isBoolean()) {
+            writeBool(BOOL_VALUE, value.booleanValue());
+        } else if (value.isIntegralNumber()) {
+            if (value.canConvertToLong()) {
+                writeInt64(INTEGER_VALUE, value.longValue());
+            } else {
+                writeString(BIG_INTEGER_VALUE, value.bigIntegerValue().toString());
+            }
+        } else if (value.isNumber()) {
+            writeDouble(NUMBER_VALUE, value.doubleValue());
+        } else if (value.isObject()) {
+            lengthDelimited(STRUCT_VALUE, () -> structContent(value));
+        } else if (value.isArray()) {
+            lengthDelimited(LIST_VALUE_VALUE, () -> listContent(value));
+        } else {
+            writeString(STRING_VALUE, value.asText());
+        }
+    }
+
+    /**
+     * Objects that are not basic values are converted once, while sizing, and the result reused while writing.
+     */
+    private JsonNode converted(Object value) {
+        if (output == null) {
+            JsonNode node = context.json.valueToTree(value);
+            context.converted.add(node);
+            return node;
+        }
+        return context.converted.get(context.convertedIndex++);
+    }
+
+    /**
+     * Sizes of length delimited fields are recorded in the order the fields are visited while sizing
+     * and consumed in the same order while writing.
+     */
+    private void lengthDelimited(int number, Content content) throws IOException {
+        if (output == null) {
+            int index = context.reserveSize();
+            int outer = size;
+            size = 0;
+            content.write();
+            int inner = size;
+            context.sizes[index] = inner;
+            size = outer + CodedOutputStream.computeTagSize(number) + CodedOutputStream.computeUInt32SizeNoTag(inner) + inner;
+        } else {
+            output.writeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(context.sizes[context.sizeIndex++]);
+            content.write();
+        }
+    }
+
+    private void writeString(int number, String value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeStringSize(number, value);
+        } else {
+            output.writeString(number, value);
+        }
+    }
+
+    private void writeInt64(int number, long value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeInt64Size(number, value);
+        } else {
+            output.writeInt64(number, value);
+        }
+    }
+
+    private void writeDouble(int number, double value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeDoubleSize(number, value);
+        } else {
+            output.writeDouble(number, value);
+        }
+    }
+
+    private void writeBool(int number, boolean value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeBoolSize(number, value);
+        } else {
+            output.writeBool(number, value);
+        }
+    }
+
+    private void writeInt32(int number, int value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeInt32Size(number, value);
+        } else {
+            output.writeInt32(number, value);
+        }
+    }
+
+    private int number(String name) {
+        return field(name).getNumber();
+    }
+
+    private Field field(String name) {
+        Field field = message.getField(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Field " + name + " is not defined in message " + message.getName());
+        }
+        return field;
+    }
+
+    /**
+     * Writes the fields of a message from the given value.
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+
+        void encode(ProtobufMessageWriter writer, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Content {
+
+        void write() throws IOException;
+    }
+
+    /**
+     * State shared by all the writers of an event across the sizing and the writing runs.
+     */
+    static final class Context {
+
+        private final ObjectMapper json;
+        private final List<JsonNode> converted = new ArrayList<>();
+        private int convertedIndex;
+        private int[] sizes = new int[64];
+        private int sizeCount;
+        private int sizeIndex;
+
+        Context(ObjectMapper json) {
+            this.json = json;
+        }
+
+        private int reserveSize() {
+            if (sizeCount == sizes.length) {
+                sizes = Arrays.copyOf(sizes, sizes.length * 2);
+            }
+            return sizeCount++;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.protobuf;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.events.protobuf.ProtoSchema.Field;
+import org.kie.kogito.events.protobuf.ProtoSchema.Message;
+import org.kie.kogito.events.protobuf.ProtoSchema.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProtobufCloudEventCodecTest {
+
+    private static final String PROCESS_INSTANCE_CONTENT_TYPE = "application/protobuf; proto=org.kie.kogito.events.ProcessInstance";
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ProtobufCloudEventCodec codec = new ProtobufCloudEventCodec(json);
+
+    @Test
+    public void testSchemaReadFromProtoFile() {
+        ProtoSchema schema = ProtoSchema.load(ProtobufCloudEventCodec.SCHEMA);
+
+        assertThat(schema.getPackageName()).isEqualTo("org.kie.kogito.events");
+        Message processInstance = schema.getMessage("ProcessInstance");
+        assertThat(processInstance.getFields()).hasSize(15);
+        assertField(processInstance.getField("startDate"), 7, Type.TIMESTAMP, false);
+        assertField(processInstance.getField("nodeInstances"), 10, Type.MESSAGE, true);
+        assertThat(processInstance.getField("nodeInstances").getMessageType()).isEqualTo("NodeInstance");
+        assertField(processInstance.getField("variables"), 11, Type.MESSAGE, false);
+        assertThat(processInstance.getField("variables").getMessageType()).isEqualTo("Struct");
+        assertField(processInstance.getField("sequence"), 15, Type.INT64, false);
+        assertField(schema.getMessage("UserTaskInstance").getField("adminGroups"), 14, Type.STRING, true);
+        assertField(schema.getMessage("CloudEvent").getField("datacontenttype"), 1, Type.STRING, false);
+        assertField(schema.getMessage("Value").getField("numberValue"), 2, Type.DOUBLE, false);
+    }
+
+    @Test
+    public void testProcessInstanceEventRoundTrip() throws Exception {
+        byte[] encoded = encodeProcessInstanceEvent(variables());
+
+        assertThat(ProtobufCloudEventCodec.isProtobuf(encoded)).isTrue();
+        Map<String, Object> event = read(ProtobufCloudEventCodec.decode(encoded), "CloudEvent");
+        assertThat(event.keySet()).containsExactly("datacontenttype", "id", "type", "data", "kogitoProcessinstanceState");
+        assertThat(event.get("datacontenttype")).isEqualTo(PROCESS_INSTANCE_CONTENT_TYPE);
+        assertThat(event.get("kogitoProcessinstanceState")).isEqualTo("5");
+
+        Map<String, Object> data = (Map<String, Object>) event.get("data");
+        assertThat(data.get("id")).isEqualTo("c2fa5c5e-3002-44c7-aef7-bce82297e3fe");
+        assertThat(data.get("startDate")).isEqualTo(Instant.parse("2019-08-20T19:26:02.091Z"));
+        assertThat(data.get("endDate")).isEqualTo(Instant.parse("2019-08-20T19:26:02Z"));
+        assertThat(data.get("state")).isEqualTo(5);
+        assertThat(data.get("roles")).isEqualTo(Arrays.asList("admin", "managers"));
+        assertThat(data.get("variablesDelta")).isEqualTo(true);
+        assertThat(data.get("sequence")).isEqualTo(42L);
+        List<Map<String, Object>> nodes = (List<Map<String, Object>>) data.get("nodeInstances");
+        assertThat(nodes).hasSize(2);
+        assertThat(nodes.get(0).get("nodeId")).isEqualTo("1");
+        assertThat(nodes.get(1).get("nodeId")).isEqualTo("2");
+        assertThat(nodes.get(1).get("triggerTime")).isEqualTo(Instant.ofEpochMilli(1566329162092L));
+        assertThat(data.get("variables")).isEqualTo(json.valueToTree(variables()));
+    }
+
+    @Test
+    public void testEmptyAndMissingValues() throws Exception {
+        byte[] encoded = codec.encode("UserTaskInstance", "Completed", (writer, state) -> writer
+                .string("kogitoReferenceId", null)
+                .message("data", "UserTaskInstance", state, (data, value) -> data
+                        .string("state", value)
+                        .strings("potentialUsers", Collections.emptyList())
+                        .timestamp("startDate", (Date) null)
+                        .struct("inputs", Collections.emptyMap())));
+
+        Map<String, Object> event = read(ProtobufCloudEventCodec.decode(encoded), "CloudEvent");
+
+        assertThat(event.keySet()).containsExactly("datacontenttype", "data");
+        Map<String, Object> data = (Map<String, Object>) event.get("data");
+        assertThat(data.keySet()).containsExactly("state", "inputs");
+        assertThat(data.get("inputs")).isEqualTo(json.createObjectNode());
+    }
+
+    @Test
+    public void testSkippedFields() throws Exception {
+        ProtobufMessageReader event = ProtobufCloudEventCodec.decode(encodeProcessInstanceEvent(variables()));
+
+        List<String> attributes = new ArrayList<>();
+        while (event.next()) {
+            attributes.add(event.field());
+            if ("kogitoProcessinstanceState".equals(event.field())) {
+                assertThat(event.string()).isEqualTo("5");
+            } else {
+                event.skip();
+            }
+        }
+        assertThat(attributes).containsExactly("datacontenttype", "id", "type", "data", "kogitoProcessinstanceState");
+    }
+
+    @Test
+    public void testJsonIsNotProtobuf() throws Exception {
+        assertThat(ProtobufCloudEventCodec.isProtobuf(json.writeValueAsBytes(variables()))).isFalse();
+        assertThat(ProtobufCloudEventCodec.isProtobuf("\n".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(ProtobufCloudEventCodec.isProtobuf(new byte[0])).isFalse();
+    }
+
+    @Test
+    public void testUnknownField() {
+        assertThatThrownBy(() -> codec.encode("ProcessInstance", "5", (writer, state) -> writer.string("kogitoState", state)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testUnsupportedContentType() {
+        assertThatThrownBy(() -> ProtobufCloudEventCodec.dataMessage("application/protobuf; proto=com.acme.Order"))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> ProtobufCloudEventCodec.dataMessage(null)).isInstanceOf(IOException.class);
+    }
+
+    private byte[] encodeProcessInstanceEvent(Map<String, Object> variables) throws IOException {
+        return codec.encode("ProcessInstance", variables, (writer, values) -> writer
+                .string("id", "b50a3dd4-a955-49c4-a055-f30a4d768f87")
+                .string("type", "ProcessInstanceEvent")
+                .message("data", "ProcessInstance", values, (data, vars) -> data
+                        .string("id", "c2fa5c5e-3002-44c7-aef7-bce82297e3fe")
+                        .timestamp("startDate", Instant.parse("2019-08-20T19:26:02.091Z"))
+                        .timestamp("endDate", Instant.parse("2019-08-20T19:26:02Z"))
+                        .int32("state", 5)
+                        .messages("nodeInstances", Arrays.asList("1", "2"), (node, nodeId) -> node
+                                .string("nodeId", nodeId)
+                                .timestamp("triggerTime", new Date(1566329162091L + Long.parseLong(nodeId) - 1)))
+                        .struct("variables", vars)
+                        .strings("roles", Arrays.asList("admin", "managers"))
+                        .bool("variablesDelta", true)
+                        .int64("sequence", 42L))
+                .string("kogitoProcessinstanceState", "5"));
+    }
+
+    private Map<String, Object> variables() {
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("city", "Boston");
+        address.put("zipCode", null);
+        Map<String, Object> hotel = new LinkedHashMap<>();
+        hotel.put("name", "Perfect hotel");
+        hotel.put("rooms", 120);
+        hotel.put("rating", 4.5);
+        hotel.put("address", address);
+        hotel.put("tags", Arrays.asList("downtown", 3, false));
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("hotel", hotel);
+        variables.put("nights", new int[]{1, 2});
+        variables.put("bookingNumber", 5_000_000_000L);
+        variables.put("checksum", new BigInteger("123456789012345678901234567890"));
+        variables.put("traveller", new Traveller("John", true));
+        variables.put("confirmed", json.createObjectNode().put("by", "manager"));
+        variables.put("cancelled", null);
+        return variables;
+    }
+
+    private static Map<String, Object> read(ProtobufMessageReader reader, String messageType) throws IOException {
+        Message message = ProtobufCloudEventCodec.PROTO.getMessage(messageType);
+        Map<String, Object> values = new LinkedHashMap<>();
+        while (reader.next()) {
+            Field field = message.getField(reader.field());
+            Object value;
+            if ("data".equals(field.getName())) {
+                value = read(reader.message(ProtobufCloudEventCodec.dataMessage((String) values.get("datacontenttype"))),
+                             ProtobufCloudEventCodec.dataMessage((String) values.get("datacontenttype")));
+            } else if (field.getType() == Type.STRING) {
+                value = reader.string();
+            } else if (field.getType() == Type.INT32) {
+                value = reader.int32();
+            } else if (field.getType() == Type.INT64) {
+                value = reader.int64();
+            } else if (field.getType() == Type.BOOL) {
+                value = reader.bool();
+            } else if (field.getType() == Type.TIMESTAMP) {
+                value = reader.timestamp();
+            } else if ("Struct".equals(field.getMessageType())) {
+                value = reader.struct();
+            } else {
+                value = read(reader.message(), field.getMessageType());
+            }
+            if (field.isRepeated()) {
+                ((List<Object>) values.computeIfAbsent(field.getName(), name -> new ArrayList<>())).add(value);
+            } else {
+                values.put(field.getName(), value);
+            }
+        }
+        return values;
+    }
+
+    private static void assertField(Field field, int number, Type type, boolean repeated) {
+        assertThat(field).isNotNull();
+        assertThat(field.getNumber()).isEqualTo(number);
+        assertThat(field.getType()).isEqualTo(type);
+        assertThat(field.isRepeated()).isEqualTo(repeated);
+    }
+
+    public static class Traveller {
+
+        private final String name;
+        private final boolean vip;
+
+        public Traveller(String name, boolean vip) {
+            this.name = name;
+            this.vip = vip;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+    }
+}
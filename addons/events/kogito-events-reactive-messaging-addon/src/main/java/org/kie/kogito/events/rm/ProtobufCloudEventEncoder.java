@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.rm;
+
+import java.io.IOException;
+
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
+import org.kie.kogito.events.protobuf.ProtobufMessageWriter;
+import org.kie.kogito.services.event.ProcessInstanceDataEvent;
+import org.kie.kogito.services.event.UserTaskInstanceDataEvent;
+import org.kie.kogito.services.event.impl.NodeInstanceEventBody;
+import org.kie.kogito.services.event.impl.ProcessErrorEventBody;
+import org.kie.kogito.services.event.impl.ProcessInstanceEventBody;
+import org.kie.kogito.services.event.impl.UserTaskInstanceEventBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encodes process and user task instance events as protobuf cloud events straight from the event objects,
+ * without going through their JSON form.
+ */
+public class ProtobufCloudEventEncoder {
+
+    private static final String PROCESS_INSTANCE = "ProcessInstance";
+    private static final String USER_TASK_INSTANCE = "UserTaskInstance";
+    private static final String DATA = "data";
+
+    private final ProtobufCloudEventCodec codec;
+
+    /**
+     * @param json mapper used for variables, inputs and outputs that are neither basic values, maps nor collections
+     */
+    public ProtobufCloudEventEncoder(ObjectMapper json) {
+        this.codec = new ProtobufCloudEventCodec(json);
+    }
+
+    public byte[] encode(DataEvent<?> event) throws IOException {
+        if (event instanceof ProcessInstanceDataEvent) {
+            return codec.encode(PROCESS_INSTANCE, (ProcessInstanceDataEvent) event, ProtobufCloudEventEncoder::writeProcessInstanceEvent);
+        }
+        if (event instanceof UserTaskInstanceDataEvent) {
+            return codec.encode(USER_TASK_INSTANCE, (UserTaskInstanceDataEvent) event, ProtobufCloudEventEncoder::writeUserTaskInstanceEvent);
+        }
+        throw new IllegalArgumentException("Event of type " + event.getType() + " cannot be encoded as protobuf");
+    }
+
+    private static void writeProcessInstanceEvent(ProtobufMessageWriter writer, ProcessInstanceDataEvent event) throws IOException {
+        writer.string("specversion", event.getSpecversion())
+                .string("id", event.getId())
+                .string("source", event.getSource())
+                .string("type", event.getType())
+                .string("time", event.getTime())
+                .message(DATA, PROCESS_INSTANCE, event.getData(), ProtobufCloudEventEncoder::writeProcessInstance)
+                .string("kogitoProcessinstanceId", event.getKogitoProcessinstanceId())
+                .string("kogitoParentProcessinstanceId", event.getKogitoParentProcessinstanceId())
+                .string("kogitoRootProcessinstanceId", event.getKogitoRootProcessinstanceId())
+                .string("kogitoProcessId", event.getKogitoProcessId())
+                .string("kogitoRootProcessId", event.getKogitoRootProcessId())
+                .string("kogitoProcessinstanceState", event.getKogitoProcessinstanceState())
+                .string("kogitoReferenceId", event.getKogitoReferenceId())
+                .string("kogitoAddons", event.getKogitoAddons());
+    }
+
+    private static void writeProcessInstance(ProtobufMessageWriter writer, ProcessInstanceEventBody body) throws IOException {
+        writer.string("id", body.getId())
+                .string("parentInstanceId", body.getParentInstanceId())
+                .string("rootInstanceId", body.getRootInstanceId())
+                .string("processId", body.getProcessId())
+                .string("rootProcessId", body.getRootProcessId())
+                .string("processName", body.getProcessName())
+                .timestamp("startDate", body.getStartDate())
+                .timestamp("endDate", body.getEndDate())
+                .int32("state", body.getState())
+                .messages("nodeInstances", body.getNodeInstances(), ProtobufCloudEventEncoder::writeNodeInstance)
+                .struct("variables", body.getVariables())
+                .message("error", body.getError(), ProtobufCloudEventEncoder::writeError)
+                .strings("roles", body.getRoles())
+                .bool("variablesDelta", body.isVariablesDelta())
+                .int64("sequence", body.getSequence());
+    }
+
+    private static void writeNodeInstance(ProtobufMessageWriter writer, NodeInstanceEventBody body) throws IOException {
+        writer.string("id", body.getId())
+                .string("nodeId", body.getNodeId())
+                .string("nodeDefinitionId", body.getNodeDefinitionId())
+                .string("nodeName", body.getNodeName())
+                .string("nodeType", body.getNodeType())
+                .timestamp("triggerTime", body.getTriggerTime())
+                .timestamp("leaveTime", body.getLeaveTime());
+    }
+
+    private static void writeError(ProtobufMessageWriter writer, ProcessErrorEventBody body) throws IOException {
+        writer.string("nodeDefinitionId", body.getNodeDefinitionId())
+                .string("errorMessage", body.getErrorMessage());
+    }
+
+    private static void writeUserTaskInstanceEvent(ProtobufMessageWriter writer, UserTaskInstanceDataEvent event) throws IOException {
+        writer.string("specversion", event.getSpecversion())
+                .string("id", event.getId())
+                .string("source", event.getSource())
+                .string("type", event.getType())
+                .string("time", event.getTime())
+                .message(DATA, USER_TASK_INSTANCE, event.getData(), ProtobufCloudEventEncoder::writeUserTaskInstance)
+                .string("kogitoProcessinstanceId", event.getKogitoProcessinstanceId())
+                .string("kogitoRootProcessinstanceId", event.getKogitoRootProcessinstanceId())
+                .string("kogitoProcessId", event.getKogitoProcessId())
+                .string("kogitoRootProcessId", event.getKogitoRootProcessId())
+                .string("kogitoAddons", event.getKogitoAddons())
+                .string("kogitoUserTaskinstanceId", event.getKogitoUserTaskinstanceId())
+                .string("kogitoUserTaskinstanceState", event.getKogitoUserTaskinstanceState());
+    }
+
+    private static void writeUserTaskInstance(ProtobufMessageWriter writer, UserTaskInstanceEventBody body) throws IOException {
+        writer.string("id", body.getId())
+                .string("taskName", body.getTaskName())
+                .string("taskDescription", body.getTaskDescription())
+                .string("taskPriority", body.getTaskPriority())
+                .string("referenceName", body.getReferenceName())
+                .timestamp("startDate", body.getStartDate())
+                .timestamp("completeDate", body.getCompleteDate())
+                .string("state", body.getState())
+                .string("actualOwner", body.getActualOwner())
+                .strings("potentialUsers", body.getPotentialUsers())
+                .strings("potentialGroups", body.getPotentialGroups())
+                .strings("excludedUsers", body.getExcludedUsers())
+                .strings("adminUsers", body.getAdminUsers())
+                .strings("adminGroups", body.getAdminGroups())
+                .struct("inputs", body.getInputs())
+                .struct("outputs", body.getOutputs())
+                .string("processInstanceId", body.getProcessInstanceId())
+                .string("rootProcessInstanceId", body.getRootProcessInstanceId())
+                .string("processId", body.getProcessId())
+                .string("rootProcessId", body.getRootProcessId());
+    }
+}
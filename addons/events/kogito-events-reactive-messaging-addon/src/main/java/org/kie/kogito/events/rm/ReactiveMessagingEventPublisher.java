@@ -39,17 +39,19 @@ import io.smallrye.reactive.messaging.annotations.Emitter;
 public class ReactiveMessagingEventPublisher implements EventPublisher {
     private static final String PI_TOPIC_NAME = "kogito-processinstances-events";
     private static final String UI_TOPIC_NAME = "kogito-usertaskinstances-events";
+    private static final String PROTOBUF_ENCODING = "protobuf";
     
     private static final Logger logger = LoggerFactory.getLogger(ReactiveMessagingEventPublisher.class);
     private ObjectMapper json = new ObjectMapper();
+    private ProtobufCloudEventEncoder protobuf = new ProtobufCloudEventEncoder(json);
     
     @Inject
     @Channel(PI_TOPIC_NAME)
-    Emitter<String> processInstancesEventsEmitter;
+    Emitter<Object> processInstancesEventsEmitter;
     
     @Inject
     @Channel(UI_TOPIC_NAME)
-    Emitter<String> userTasksEventsEmitter;
+    Emitter<Object> userTasksEventsEmitter;
     
     @Inject
     @ConfigProperty(name = "kogito.events.processinstances.enabled")
@@ -58,6 +60,15 @@ public class ReactiveMessagingEventPublisher implements EventPublisher {
     @Inject
     @ConfigProperty(name = "kogito.events.usertasks.enabled")
     Optional<Boolean> userTasksEvents;
+
+    /**
+     * Either <code>json</code> (default) to send events as JSON strings or <code>protobuf</code>
+     * to send them as binary cloud events, see {@link ProtobufCloudEventEncoder}.
+     * Binary events require a byte array serializer on the outgoing channels.
+     */
+    @Inject
+    @ConfigProperty(name = "kogito.events.encoding")
+    Optional<String> encoding;
     
     @PostConstruct
     public void configure() {
@@ -86,17 +97,21 @@ public class ReactiveMessagingEventPublisher implements EventPublisher {
     }
 
     
-    protected void publishToTopic(DataEvent<?> event, Emitter<String> emitter, String topic) {
+    protected void publishToTopic(DataEvent<?> event, Emitter<Object> emitter, String topic) {
         if (emitter.isRequested()) {
             logger.debug("Emitter {} is not ready to send messages", topic);
         }
         
         logger.debug("About to publish event {} to topic {}", event, topic);
         try {
-            String eventString = json.writeValueAsString(event);
-            logger.debug("Event payload '{}'", eventString);
+            if (PROTOBUF_ENCODING.equalsIgnoreCase(encoding.orElse(null))) {
+                emitter.send(protobuf.encode(event));
+            } else {
+                String eventString = json.writeValueAsString(event);
+                logger.debug("Event payload '{}'", eventString);
 
-            emitter.send(eventString);
+                emitter.send(eventString);
+            }
             logger.debug("Successfully published event {} to topic {}", event, topic);
         } catch (Exception e) {
             logger.error("Error while publishing event to topic {} for event {}", topic, event, e);
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.rm;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
+import org.kie.kogito.events.protobuf.ProtobufMessageReader;
+import org.kie.kogito.services.event.ProcessInstanceDataEvent;
+import org.kie.kogito.services.event.UserTaskInstanceDataEvent;
+import org.kie.kogito.services.event.impl.NodeInstanceEventBody;
+import org.kie.kogito.services.event.impl.ProcessErrorEventBody;
+import org.kie.kogito.services.event.impl.ProcessInstanceEventBody;
+import org.kie.kogito.services.event.impl.UserTaskInstanceEventBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProtobufCloudEventEncoderTest {
+
+    private final ObjectMapper json = new ObjectMapper()
+            .setDateFormat(new StdDateFormat().withColonInTimeZone(true).withTimeZone(TimeZone.getDefault()));
+    private final ProtobufCloudEventEncoder encoder = new ProtobufCloudEventEncoder(json);
+
+    @Test
+    public void testProcessInstanceEvent() throws Exception {
+        Date start = new Date(1566329162091L);
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("traveller", Collections.singletonMap("name", "John"));
+        variables.put("approved", true);
+        variables.put("departure", start);
+        ProcessInstanceEventBody body = ProcessInstanceEventBody.create()
+                .id("c2fa5c5e-3002-44c7-aef7-bce82297e3fe")
+                .processId("travels")
+                .processName("Travels")
+                .startDate(start)
+                .state(5)
+                .nodeInstance(NodeInstanceEventBody.create().id("ni1").nodeId("1").nodeName("Start").triggerTime(start).build())
+                .error(ProcessErrorEventBody.create().nodeDefinitionId("ServiceTask_1").errorMessage("Booking failed").build())
+                .variables(variables)
+                .variablesDelta(true)
+                .sequence(42L)
+                .roles("admin", "managers")
+                .build();
+        ProcessInstanceDataEvent event = new ProcessInstanceDataEvent("http://localhost:8080/travels", "process-management", body.metaData(), body);
+
+        byte[] encoded = encoder.encode(event);
+
+        assertThat(ProtobufCloudEventCodec.isProtobuf(encoded)).isTrue();
+        Map<String, Object> decoded = readEvent(encoded);
+        assertThat(decoded.get("datacontenttype")).isEqualTo(ProtobufCloudEventCodec.contentType("ProcessInstance"));
+        assertThat(decoded.get("id")).isEqualTo(event.getId());
+        assertThat(decoded.get("source")).isEqualTo("http://localhost:8080/travels");
+        assertThat(decoded.get("time")).isEqualTo(event.getTime());
+        assertThat(decoded.get("kogitoProcessinstanceId")).isEqualTo("c2fa5c5e-3002-44c7-aef7-bce82297e3fe");
+        assertThat(decoded.get("kogitoProcessinstanceState")).isEqualTo("5");
+        assertThat(decoded.get("kogitoAddons")).isEqualTo("process-management");
+
+        Map<String, Object> data = (Map<String, Object>) decoded.get("data");
+        assertThat(data.get("processName")).isEqualTo("Travels");
+        assertThat(data.get("startDate")).isEqualTo(start.toInstant());
+        assertThat(data.get("state")).isEqualTo(5);
+        assertThat(data.get("nodeInstances")).isEqualTo(Collections.singletonList(Arrays.asList("ni1", "1", "Start", start.toInstant())));
+        assertThat(data.get("error")).isEqualTo(Arrays.asList("ServiceTask_1", "Booking failed"));
+        assertThat(data.get("variables")).isEqualTo(json.valueToTree(variables));
+        assertThat(data.get("variablesDelta")).isEqualTo(true);
+        assertThat(data.get("sequence")).isEqualTo(42L);
+        assertThat(data.get("roles")).isEqualTo(Arrays.asList("admin", "managers"));
+    }
+
+    @Test
+    public void testUserTaskInstanceEvent() throws Exception {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("TaskName", "VisaApplication");
+        inputs.put("trip", Collections.singletonMap("city", "Boston"));
+        UserTaskInstanceEventBody body = UserTaskInstanceEventBody.create()
+                .id("228d5922-5e88-4bfa-8329-7116a5cbe58b")
+                .taskName("Apply for visa")
+                .state("Completed")
+                .actualOwner("manager")
+                .completeDate(new Date(1567165717828L))
+                .potentialUsers(new HashSet<>(Collections.singletonList("manager")))
+                .inputs(inputs)
+                .outputs(Collections.singletonMap("approved", true))
+                .processInstanceId("f78fb147-ec22-4478-a592-3063add9f956")
+                .processId("travels")
+                .build();
+        UserTaskInstanceDataEvent event = new UserTaskInstanceDataEvent("http://localhost:8080/travels", null, body.metaData(), body);
+
+        Map<String, Object> decoded = readEvent(encoder.encode(event));
+
+        assertThat(decoded.get("datacontenttype")).isEqualTo(ProtobufCloudEventCodec.contentType("UserTaskInstance"));
+        assertThat(decoded.get("type")).isEqualTo("UserTaskInstanceEvent");
+        assertThat(decoded.get("kogitoUserTaskinstanceId")).isEqualTo("228d5922-5e88-4bfa-8329-7116a5cbe58b");
+        assertThat(decoded.get("kogitoUserTaskinstanceState")).isEqualTo("Completed");
+        assertThat(decoded).doesNotContainKey("kogitoAddons");
+
+        Map<String, Object> data = (Map<String, Object>) decoded.get("data");
+        assertThat(data.get("taskName")).isEqualTo("Apply for visa");
+        assertThat(data.get("completeDate")).isEqualTo(new Date(1567165717828L).toInstant());
+        assertThat(data.get("potentialUsers")).isEqualTo(Collections.singletonList("manager"));
+        assertThat(data.get("inputs")).isEqualTo(json.valueToTree(inputs));
+        assertThat(data.get("outputs")).isEqualTo(json.createObjectNode().put("approved", true));
+        assertThat(data.get("processInstanceId")).isEqualTo("f78fb147-ec22-4478-a592-3063add9f956");
+    }
+
+    private static Map<String, Object> readEvent(byte[] encoded) throws IOException {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        ProtobufMessageReader event = ProtobufCloudEventCodec.decode(encoded);
+        while (event.next()) {
+            if ("data".equals(event.field())) {
+                String dataMessage = ProtobufCloudEventCodec.dataMessage((String) attributes.get("datacontenttype"));
+                attributes.put(event.field(), readData(event.message(dataMessage), dataMessage));
+            } else {
+                attributes.put(event.field(), event.string());
+            }
+        }
+        return attributes;
+    }
+
+    private static Map<String, Object> readData(ProtobufMessageReader data, String dataMessage) throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        while (data.next()) {
+            switch (data.field()) {
+                case "startDate":
+                case "completeDate":
+                    values.put(data.field(), data.timestamp());
+                    break;
+                case "state":
+                    // process instance states are numbers, user task ones are names
+                    values.put(data.field(), "ProcessInstance".equals(dataMessage) ? data.int32() : data.string());
+                    break;
+                case "variablesDelta":
+                    values.put(data.field(), data.bool());
+                    break;
+                case "sequence":
+                    values.put(data.field(), data.int64());
+                    break;
+                case "variables":
+                case "inputs":
+                case "outputs":
+                    values.put(data.field(), data.struct());
+                    break;
+                case "nodeInstances":
+                case "error":
+                    add(values, data.field(), readFields(data.message()));
+                    break;
+                case "roles":
+                case "potentialUsers":
+                    add(values, data.field(), data.string());
+                    break;
+                default:
+                    values.put(data.field(), data.string());
+            }
+        }
+        if (values.containsKey("error")) {
+            values.put("error", ((List<?>) values.get("error")).get(0));
+        }
+        return values;
+    }
+
+    private static List<Object> readFields(ProtobufMessageReader message) throws IOException {
+        List<Object> values = new ArrayList<>();
+        while (message.next()) {
+            values.add(message.field().endsWith("Time") ? message.timestamp() : message.string());
+        }
+        return values;
+    }
+
+    private static void add(Map<String, Object> values, String field, Object value) {
+        ((List<Object>) values.computeIfAbsent(field, name -> new ArrayList<>())).add(value);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.events.rm.benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.events.rm.ProtobufCloudEventEncoder;
+import org.kie.kogito.services.event.ProcessInstanceDataEvent;
+import org.kie.kogito.services.event.impl.NodeInstanceEventBody;
+import org.kie.kogito.services.event.impl.ProcessInstanceEventBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+/**
+ * Compares JSON and protobuf encoding of process instance events as done by the publisher,
+ * both produce the bytes sent to the channel straight from the event object.
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=CloudEventEncodingBenchmark</code>.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CloudEventEncodingBenchmark {
+
+    @Param({"1", "100"})
+    private int numberOfNodeInstances;
+
+    private ObjectMapper json;
+    private ProtobufCloudEventEncoder protobuf;
+    private ProcessInstanceDataEvent event;
+
+    @Setup
+    public void setUp() {
+        json = new ObjectMapper();
+        json.setDateFormat(new StdDateFormat().withColonInTimeZone(true).withTimeZone(TimeZone.getDefault()));
+        protobuf = new ProtobufCloudEventEncoder(json);
+
+        Date now = new Date();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("traveller", Collections.singletonMap("name", "John"));
+        variables.put("approved", true);
+        variables.put("nights", 3);
+        variables.put("price", 1250.5);
+        variables.put("departure", now);
+        variables.put("cities", Arrays.asList("Boston", "New York"));
+        ProcessInstanceEventBody.Builder body = ProcessInstanceEventBody.create()
+                .id("c2fa5c5e-3002-44c7-aef7-bce82297e3fe")
+                .processId("travels")
+                .processName("Travels")
+                .startDate(now)
+                .state(1)
+                .variables(variables)
+                .roles("admin");
+        for (int i = 0; i < numberOfNodeInstances; i++) {
+            body.nodeInstance(NodeInstanceEventBody.create()
+                    .id("ni" + i)
+                    .nodeId(String.valueOf(i))
+                    .nodeDefinitionId("Task_" + i)
+                    .nodeName("Task " + i)
+                    .nodeType("HumanTaskNode")
+                    .triggerTime(now)
+                    .leaveTime(now)
+                    .build());
+        }
+        ProcessInstanceEventBody built = body.build();
+        event = new ProcessInstanceDataEvent("http://localhost:8080/travels", "process-management", built.metaData(), built);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] protobuf() throws IOException {
+        return protobuf.encode(event);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.api;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * TimerTrigger describes a process instance timer to be triggered as part of a bulk callback
+ * from the jobs service to the runtime service. The same type is used in the response to carry
+ * the HTTP status of each trigger.
+ */
+public class TimerTrigger {
+
+    private String processId;
+    private String processInstanceId;
+    private String timerId;
+    private Integer limit;
+    private Integer status;
+
+    public TimerTrigger() {
+    }
+
+    public TimerTrigger(String processId, String processInstanceId, String timerId, Integer limit, Integer status) {
+        this.processId = processId;
+        this.processInstanceId = processInstanceId;
+        this.timerId = timerId;
+        this.limit = limit;
+        this.status = status;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public void setProcessId(String processId) {
+        this.processId = processId;
+    }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public void setProcessInstanceId(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    public String getTimerId() {
+        return timerId;
+    }
+
+    public void setTimerId(String timerId) {
+        this.timerId = timerId;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TimerTrigger)) {
+            return false;
+        }
+        TimerTrigger that = (TimerTrigger) o;
+        return Objects.equals(getProcessId(), that.getProcessId()) &&
+                Objects.equals(getProcessInstanceId(), that.getProcessInstanceId()) &&
+                Objects.equals(getTimerId(), that.getTimerId()) &&
+                Objects.equals(getLimit(), that.getLimit()) &&
+                Objects.equals(getStatus(), that.getStatus());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getProcessId(), getProcessInstanceId(), getTimerId(), getLimit(), getStatus());
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", TimerTrigger.class.getSimpleName() + "[", "]")
+                .add("processId='" + processId + "'")
+                .add("processInstanceId='" + processInstanceId + "'")
+                .add("timerId='" + timerId + "'")
+                .add("limit=" + limit)
+                .add("status=" + status)
+                .toString();
+    }
+}
@@ -19,6 +19,13 @@ package org.kie.kogito.jobs.management.quarkus;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -26,19 +33,26 @@ import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.Application;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.jobs.ProcessJobDescription;
 import org.kie.kogito.jobs.api.Job;
 import org.kie.kogito.jobs.api.JobBuilder;
+import org.kie.kogito.services.uow.PassThroughUnitOfWork;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.jackson.DatabindCodec;
+import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
 
@@ -47,6 +61,8 @@ public class VertxJobsService implements JobsService {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(VertxJobsService.class);
     public static final String JOBS_PATH = "/jobs";
+    public static final String JOBS_BATCH_PATH = JOBS_PATH + "/batch";
+    public static final String JOBS_BATCH_CANCEL_PATH = JOBS_BATCH_PATH + "/cancel";
 
     @Inject
     Vertx vertx;
@@ -60,7 +76,12 @@ public class VertxJobsService implements JobsService {
     @Inject
     Instance<WebClient> providedWebClient;
     
+    @Inject
+    Instance<Application> application;
+    
     private WebClient client;
+    
+    private final ThreadLocal<JobsBatch> batches = new ThreadLocal<>();
 
     @PostConstruct
     void initialize() {
@@ -113,29 +134,134 @@ public class VertxJobsService implements JobsService {
                 .rootProcessInstanceId(description.rootProcessInstanceId())
                 .build();
 
-        client.post(JOBS_PATH).sendJson(job, res -> {
-            
-            if (res.succeeded() && res.result().statusCode() == 200) {
-                LOGGER.debug("Creating of the job {} done with status code {} ", job, res.result().statusCode());
-            } else {
-                LOGGER.error("Scheduling of job {} failed with response code {}", job, res.result().statusCode(), res.cause());
-            }
-        });
+        JobsBatch batch = currentBatch();
+        if (batch == null) {
+            schedule(Collections.singletonList(job));
+        } else {
+            batch.schedule(job);
+        }
         
         return job.getId();
     }
 
     @Override
     public boolean cancelJob(String id) {
-        client.delete(JOBS_PATH + "/" + id).send(res -> {
-            if (res.succeeded() && (res.result().statusCode() == 200 || res.result().statusCode() == 404)) {
-                LOGGER.debug("Canceling of the job {} done with status code {} ", id, res.result().statusCode());
+        JobsBatch batch = currentBatch();
+        if (batch == null) {
+            cancel(Collections.singletonList(id));
+        } else {
+            batch.cancel(id);
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Returns the batch collecting the job calls of the current unit of work, sent as a single request 
+     * when the unit of work ends, or <code>null</code> when there is no unit of work in place.
+     */
+    protected JobsBatch currentBatch() {
+        if (!application.isResolvable()) {
+            return null;
+        }
+        UnitOfWork unitOfWork = application.get().unitOfWorkManager().currentUnitOfWork();
+        if (unitOfWork instanceof PassThroughUnitOfWork) {
+            return null;
+        }
+        JobsBatch batch = batches.get();
+        if (batch == null || batch.unitOfWork != unitOfWork) {
+            batch = new JobsBatch(unitOfWork);
+            batches.set(batch);
+            unitOfWork.intercept(WorkUnit.create(batch, this::send, this::discard));
+        }
+        return batch;
+    }
+    
+    protected void send(JobsBatch batch) {
+        discard(batch);
+        if (!batch.scheduled.isEmpty()) {
+            schedule(new ArrayList<>(batch.scheduled.values()));
+        }
+        if (!batch.canceled.isEmpty()) {
+            cancel(new ArrayList<>(batch.canceled));
+        }
+    }
+    
+    protected void discard(JobsBatch batch) {
+        if (batches.get() == batch) {
+            batches.remove();
+        }
+    }
+    
+    protected void schedule(List<Job> jobs) {
+        if (jobs.size() == 1) {
+            Job job = jobs.get(0);
+            client.post(JOBS_PATH).sendJson(job, res -> {
+                
+                if (res.succeeded() && res.result().statusCode() == 200) {
+                    LOGGER.debug("Creating of the job {} done with status code {} ", job, res.result().statusCode());
+                } else {
+                    LOGGER.error("Scheduling of job {} failed with response code {}", job, statusCode(res), res.cause());
+                }
+            });
+            return;
+        }
+        client.post(JOBS_BATCH_PATH).sendJson(jobs, res -> {
+            
+            if (res.succeeded() && res.result().statusCode() == 200) {
+                LOGGER.debug("Creating of {} jobs done with status code {} ", jobs.size(), res.result().statusCode());
+            } else {
+                LOGGER.error("Scheduling of jobs {} failed with response code {}", jobs, statusCode(res), res.cause());
+            }
+        });
+    }
+    
+    protected void cancel(List<String> ids) {
+        if (ids.size() == 1) {
+            String id = ids.get(0);
+            client.delete(JOBS_PATH + "/" + id).send(res -> {
+                if (res.succeeded() && (res.result().statusCode() == 200 || res.result().statusCode() == 404)) {
+                    LOGGER.debug("Canceling of the job {} done with status code {} ", id, res.result().statusCode());
+                } else {
+                    LOGGER.error("Canceling of job {} failed with response code {}", id, statusCode(res), res.cause());
+                }
+            });
+            return;
+        }
+        client.post(JOBS_BATCH_CANCEL_PATH).sendJson(ids, res -> {
+            if (res.succeeded() && res.result().statusCode() == 200) {
+                LOGGER.debug("Canceling of jobs {} done with status code {} ", ids, res.result().statusCode());
             } else {
-                LOGGER.error("Canceling of job {} failed with response code {}", id, res.result().statusCode(), res.cause());
+                LOGGER.error("Canceling of jobs {} failed with response code {}", ids, statusCode(res), res.cause());
             }
         });
+    }
+    
+    private static Integer statusCode(AsyncResult<HttpResponse<Buffer>> res) {
+        return res.succeeded() ? res.result().statusCode() : null;
+    }
+    
+    /**
+     * Jobs scheduled and canceled within the same unit of work, the last call for a given job id wins.
+     */
+    protected static class JobsBatch {
         
-        return true;
+        private final UnitOfWork unitOfWork;
+        private final Map<String, Job> scheduled = new LinkedHashMap<>();
+        private final Set<String> canceled = new LinkedHashSet<>();
+        
+        protected JobsBatch(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+        
+        protected void schedule(Job job) {
+            canceled.remove(job.getId());
+            scheduled.put(job.getId(), job);
+        }
+        
+        protected void cancel(String id) {
+            scheduled.remove(id);
+            canceled.add(id);
+        }
     }
-
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.management.quarkus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.StatusType;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.Application;
+import org.kie.kogito.jobs.api.TimerTrigger;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.ProcessInstances;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+
+public class CallbackJobsServiceResourceTest {
+
+    private static RuntimeDelegate runtimeDelegate;
+
+    private CallbackJobsServiceResource resource;
+    @SuppressWarnings("rawtypes")
+    private ProcessInstance processInstance;
+
+    @BeforeAll
+    public static void configureEnvironment() {
+        runtimeDelegate = mock(RuntimeDelegate.class);
+        RuntimeDelegate.setInstance(runtimeDelegate);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @BeforeEach
+    public void setup() {
+        ResponseBuilder responseBuilder = mock(ResponseBuilder.class);
+        Response response = mock(Response.class);
+        AtomicInteger status = new AtomicInteger();
+        when(runtimeDelegate.createResponseBuilder()).thenReturn(responseBuilder);
+        when(responseBuilder.status(any(StatusType.class))).thenAnswer(invocation -> {
+            status.set(((StatusType) invocation.getArguments()[0]).getStatusCode());
+            return responseBuilder;
+        });
+        when(responseBuilder.entity(any())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+        when(response.getStatus()).thenAnswer(invocation -> status.get());
+
+        Application application = mock(Application.class);
+        Processes processes = mock(Processes.class);
+        Process process = mock(Process.class);
+        ProcessInstances instances = mock(ProcessInstances.class);
+        processInstance = mock(ProcessInstance.class);
+        ProcessInstance conflicting = mock(ProcessInstance.class);
+        ProcessInstance failing = mock(ProcessInstance.class);
+
+        when(processes.processById(anyString())).thenReturn(null);
+        when(processes.processById("travels")).thenReturn(process);
+        when(process.instances()).thenReturn(instances);
+        when(instances.findById(anyString())).thenReturn(Optional.empty());
+        when(instances.findById("active")).thenReturn(Optional.of(processInstance));
+        when(instances.findById("conflicting")).thenReturn(Optional.of(conflicting));
+        when(instances.findById("failing")).thenReturn(Optional.of(failing));
+        doThrow(new ProcessInstanceOptimisticLockingException("conflicting")).when(conflicting).send(any());
+        doThrow(new IllegalStateException("failing")).when(failing).send(any());
+        when(application.unitOfWorkManager()).thenReturn(new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()));
+
+        resource = new CallbackJobsServiceResource();
+        resource.processes = processes;
+        resource.application = application;
+        resource.conflictRetries = 3;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testTriggerTimers() {
+        List<TimerTrigger> results = resource.triggerTimers(Arrays.asList(trigger("travels", "active"),
+                                                                          trigger("travels", "missing"),
+                                                                          trigger("travels", "conflicting"),
+                                                                          trigger("travels", "failing"),
+                                                                          trigger("unknown", "active")));
+
+        assertThat(results.stream().map(TimerTrigger::getProcessInstanceId).collect(Collectors.toList()))
+                .containsExactly("active", "missing", "conflicting", "failing", "active");
+        assertThat(results.stream().map(TimerTrigger::getStatus).collect(Collectors.toList()))
+                .containsExactly(200, 404, 409, 500, 404);
+        verify(processInstance, times(1)).send(any());
+    }
+
+    private static TimerTrigger trigger(String processId, String processInstanceId) {
+        return new TimerTrigger(processId, processInstanceId, "timer_1", null, null);
+    }
+}
@@ -16,35 +16,48 @@
 
 package org.kie.kogito.jobs.management.springboot;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
 import org.kie.kogito.Application;
+import org.kie.kogito.jobs.api.TimerTrigger;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.impl.Sig;
 import org.kie.kogito.services.uow.UnitOfWorkExecutor;
 import org.kie.services.time.TimerInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 @Path("/management/jobs")
 public class CallbackJobsServiceResource {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CallbackJobsServiceResource.class);
+
     @Autowired
     Processes processes;
 
     @Autowired
     Application application;
+
+    @Value("${" + UnitOfWorkExecutor.CONFLICT_RETRIES_PROPERTY + ":3}")
+    int conflictRetries;
     
     @POST
     @Path("{processId}/instances/{processInstanceId}/timers/{timerId}")
@@ -75,10 +88,38 @@ public class CallbackJobsServiceResource {
             
             return Response.status(Status.OK).build();
         
-        });
+        }, conflictRetries);
 
 
     }
 
-    
+    @POST
+    @Path("timers")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<TimerTrigger> triggerTimers(List<TimerTrigger> triggers) {
+        //each timer is triggered in its own unit of work, so a failure does not affect the others
+        return triggers.stream()
+                .map(trigger -> new TimerTrigger(trigger.getProcessId(),
+                                                 trigger.getProcessInstanceId(),
+                                                 trigger.getTimerId(),
+                                                 trigger.getLimit(),
+                                                 triggerTimerStatus(trigger)))
+                .collect(Collectors.toList());
+    }
+
+    private int triggerTimerStatus(TimerTrigger trigger) {
+        try {
+            return triggerTimer(trigger.getProcessId(),
+                                trigger.getProcessInstanceId(),
+                                trigger.getTimerId(),
+                                Optional.ofNullable(trigger.getLimit()).orElse(0)).getStatus();
+        } catch (ProcessInstanceOptimisticLockingException e) {
+            LOGGER.warn("Timer {} not triggered, process instance was concurrently modified", trigger);
+            return Status.CONFLICT.getStatusCode();
+        } catch (RuntimeException e) {
+            LOGGER.error("Error triggering timer {}", trigger, e);
+            return Status.INTERNAL_SERVER_ERROR.getStatusCode();
+        }
+    }
 }
@@ -17,13 +17,25 @@
 package org.kie.kogito.jobs.management.springboot;
 
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.annotation.PostConstruct;
 
+import org.kie.kogito.Application;
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.jobs.ProcessJobDescription;
 import org.kie.kogito.jobs.api.Job;
 import org.kie.kogito.jobs.api.JobBuilder;
+import org.kie.kogito.services.uow.PassThroughUnitOfWork;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +50,8 @@ public class SpringRestJobsService implements JobsService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SpringRestJobsService.class);
     public static final String JOBS_PATH = "/jobs";
+    public static final String JOBS_BATCH_PATH = JOBS_PATH + "/batch";
+    public static final String JOBS_BATCH_CANCEL_PATH = JOBS_BATCH_PATH + "/cancel";
 
     @Value("${kogito.jobs-service.url}")
     String jobServiceUrl;
@@ -47,6 +61,11 @@ public class SpringRestJobsService implements JobsService {
     
     @Autowired(required=false)
     private RestTemplate restTemplate;
+    
+    @Autowired(required=false)
+    Application application;
+    
+    private final ThreadLocal<JobsBatch> batches = new ThreadLocal<>();
 
     @PostConstruct
     public void initialize() {
@@ -79,24 +98,108 @@ public class SpringRestJobsService implements JobsService {
                 .rootProcessInstanceId(description.rootProcessInstanceId())
                 .build();
         
-        ResponseEntity<String> result = restTemplate.postForEntity(jobServiceUrl + JOBS_PATH, job, String.class);
-        if (result.getStatusCode().ordinal() == 200) {
-            LOGGER.debug("Creating of the job {} done with status code {} ", job, result.getStatusCode());
+        JobsBatch batch = currentBatch();
+        if (batch == null) {
+            schedule(Collections.singletonList(job));
+        } else {
+            batch.schedule(job);
         }
         return job.getId();
     }
 
     @Override
     public boolean cancelJob(String id) {
-        
+        JobsBatch batch = currentBatch();
+        if (batch == null) {
+            return cancel(Collections.singletonList(id));
+        }
+        batch.cancel(id);
+        return true;
+    }
+    
+    /**
+     * Returns the batch collecting the job calls of the current unit of work, sent as a single request 
+     * when the unit of work ends, or <code>null</code> when there is no unit of work in place.
+     */
+    protected JobsBatch currentBatch() {
+        if (application == null) {
+            return null;
+        }
+        UnitOfWork unitOfWork = application.unitOfWorkManager().currentUnitOfWork();
+        if (unitOfWork instanceof PassThroughUnitOfWork) {
+            return null;
+        }
+        JobsBatch batch = batches.get();
+        if (batch == null || batch.unitOfWork != unitOfWork) {
+            batch = new JobsBatch(unitOfWork);
+            batches.set(batch);
+            unitOfWork.intercept(WorkUnit.create(batch, this::send, this::discard));
+        }
+        return batch;
+    }
+    
+    protected void send(JobsBatch batch) {
+        discard(batch);
+        if (!batch.scheduled.isEmpty()) {
+            schedule(new ArrayList<>(batch.scheduled.values()));
+        }
+        if (!batch.canceled.isEmpty()) {
+            cancel(new ArrayList<>(batch.canceled));
+        }
+    }
+    
+    protected void discard(JobsBatch batch) {
+        if (batches.get() == batch) {
+            batches.remove();
+        }
+    }
+    
+    protected void schedule(List<Job> jobs) {
+        if (jobs.size() == 1) {
+            Job job = jobs.get(0);
+            ResponseEntity<String> result = restTemplate.postForEntity(jobServiceUrl + JOBS_PATH, job, String.class);
+            LOGGER.debug("Creating of the job {} done with status code {} ", job, result.getStatusCode());
+            return;
+        }
+        ResponseEntity<String> result = restTemplate.postForEntity(jobServiceUrl + JOBS_BATCH_PATH, jobs, String.class);
+        LOGGER.debug("Creating of {} jobs done with status code {} ", jobs.size(), result.getStatusCode());
+    }
+    
+    protected boolean cancel(List<String> ids) {
         try {
-            restTemplate.delete(jobServiceUrl + JOBS_PATH+ "/{id}", id);
-            
+            if (ids.size() == 1) {
+                restTemplate.delete(jobServiceUrl + JOBS_PATH + "/{id}", ids.get(0));
+            } else {
+                restTemplate.postForEntity(jobServiceUrl + JOBS_BATCH_CANCEL_PATH, ids, String.class);
+            }
             return true;
         } catch (RestClientException e) {
-            LOGGER.debug("Exceltion thrown during canceling of job {}", id, e);
+            LOGGER.debug("Exception thrown during canceling of jobs {}", ids, e);
             return false;
         }
     }
-
+    
+    /**
+     * Jobs scheduled and canceled within the same unit of work, the last call for a given job id wins.
+     */
+    protected static class JobsBatch {
+        
+        private final UnitOfWork unitOfWork;
+        private final Map<String, Job> scheduled = new LinkedHashMap<>();
+        private final Set<String> canceled = new LinkedHashSet<>();
+        
+        protected JobsBatch(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+        
+        protected void schedule(Job job) {
+            canceled.remove(job.getId());
+            scheduled.put(job.getId(), job);
+        }
+        
+        protected void cancel(String id) {
+            scheduled.remove(id);
+            canceled.add(id);
+        }
+    }
 }
@@ -17,8 +17,18 @@
 package org.kie.kogito.jobs.service.executor;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -32,8 +42,12 @@ import io.vertx.axle.core.buffer.Buffer;
 import io.vertx.axle.ext.web.client.HttpRequest;
 import io.vertx.axle.ext.web.client.HttpResponse;
 import io.vertx.axle.ext.web.client.WebClient;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.web.client.WebClientOptions;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.api.TimerTrigger;
 import org.kie.kogito.jobs.service.converters.HttpConverters;
 import org.kie.kogito.jobs.service.model.HTTPRequestCallback;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
@@ -42,15 +56,48 @@ import org.kie.kogito.jobs.service.stream.AvailableStreams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Executes the jobs invoking their HTTP callback endpoint. Each target host has its own connection pool and the
+ * number of requests in flight is bounded, the requests beyond the limit wait for the running ones to complete.
+ * <p>
+ * When {@link HttpJobExecutor#batchSize} is greater than one, the process instance timer callbacks targeting the
+ * same runtime service are grouped, during {@link HttpJobExecutor#batchWindowMillis} or until the batch is full,
+ * and sent as a single request to its bulk timer trigger endpoint.
+ */
 @ApplicationScoped
 public class HttpJobExecutor implements JobExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpJobExecutor.class);
 
+    /**
+     * Process instance timer callback, as created by the runtime services: base, process id, process instance id
+     * and timer id.
+     */
+    private static final Pattern TIMER_CALLBACK =
+            Pattern.compile("^(.+/management/jobs)/([^/]+)/instances/([^/]+)/timers/([^/]+)$");
+
+    private static final String BULK_TIMERS_PATH = "/timers";
+
+    @ConfigProperty(name = "kogito.jobs-service.callbackMaxPoolSize", defaultValue = "20")
+    int maxPoolSize;
+
+    @ConfigProperty(name = "kogito.jobs-service.callbackMaxInFlight", defaultValue = "200")
+    int maxInFlight;
+
+    @ConfigProperty(name = "kogito.jobs-service.callbackBatchSize", defaultValue = "1")
+    int batchSize;
+
+    @ConfigProperty(name = "kogito.jobs-service.callbackBatchWindowMillis", defaultValue = "50")
+    long batchWindowMillis;
+
     @Inject
     Vertx vertx;
 
-    private WebClient client;
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+
+    private final Map<String, List<PendingTrigger>> pendingTriggers = new HashMap<>();
+
+    private InFlightLimiter limiter;
 
     @Inject
     HttpConverters httpConverters;
@@ -73,20 +120,27 @@ public class HttpJobExecutor implements JobExecutor {
 
     @PostConstruct
     void initialize() {
-        this.client = WebClient.create(vertx);
+        this.limiter = new InFlightLimiter(maxInFlight);
+    }
+
+    private WebClient client(URL url) {
+        return clients.computeIfAbsent(url.getHost() + ":" + url.getPort(),
+                                       host -> WebClient.create(vertx, new WebClientOptions()
+                                               .setMaxPoolSize(maxPoolSize)
+                                               .setKeepAlive(true)));
     }
 
     private CompletionStage<HttpResponse<Buffer>> executeCallback(HTTPRequestCallback request) {
         LOGGER.debug("Executing callback {}", request);
         final URL url = httpConverters.convertURL(request.getUrl());
-        final HttpRequest<Buffer> clientRequest = client.request(httpConverters.convertHttpMethod(request.getMethod()),
-                                                                 url.getPort(),
-                                                                 url.getHost(),
-                                                                 url.getPath());
+        final HttpRequest<Buffer> clientRequest = client(url).request(httpConverters.convertHttpMethod(request.getMethod()),
+                                                                      url.getPort(),
+                                                                      url.getHost(),
+                                                                      url.getPath());
         Optional.ofNullable(request.getQueryParams())
                 .ifPresent(params -> clientRequest.queryParams().addAll(params));
 
-        return clientRequest.send();
+        return limiter.submit(clientRequest::send);
     }
 
     private String getResponseCode(HttpResponse<Buffer> response) {
@@ -121,43 +175,155 @@ public class HttpJobExecutor implements JobExecutor {
     @Override
     public CompletionStage<ScheduledJob> execute(CompletionStage<ScheduledJob> futureJob) {
         return futureJob
-                .thenCompose(job -> {
-                    //Using just POST method for now
-                    final HTTPRequestCallback callback = HTTPRequestCallback.builder()
-                            .url(job.getCallbackEndpoint())
-                            .method(HTTPRequestCallback.HTTPMethod.POST)
-                            //in case of repeatable jobs add the limit parameter
-                            .addQueryParam("limit", job
-                                    .hasInterval()
-                                    .map(interval -> getRepeatableJobCountDown(job))
-                                    .map(String::valueOf)
-                                    .orElse(null))
-                            .build();
-
-                    return ReactiveStreams.fromCompletionStage(executeCallback(callback))
-                            .map(response -> JobExecutionResponse.builder()
-                                    .message(response.statusMessage())
-                                    .code(getResponseCode(response))
-                                    .now()
-                                    .jobId(job.getId())
-                                    .build())
-                            .flatMap(this::handleResponse)
-                            .findFirst()
-                            .run()
-                            .thenApply(response -> response.map(r -> job).orElse(null))
-                            .exceptionally(ex -> {
-                                LOGGER.error("Generic error executing job {}", job, ex);
-                                jobErrorEmitter.send(JobExecutionResponse.builder()
-                                                             .message(ex.getMessage())
-                                                             .now()
-                                                             .jobId(job.getId())
-                                                             .build());
-                                return job;
-                            });
+                .thenCompose(job -> Optional.of(job)
+                        .filter(j -> batchSize > 1)
+                        .map(this::toPendingTrigger)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .map(this::executeBatched)
+                        .orElseGet(() -> executeSingle(job)));
+    }
+
+    private CompletionStage<ScheduledJob> executeSingle(ScheduledJob job) {
+        //Using just POST method for now
+        final HTTPRequestCallback callback = HTTPRequestCallback.builder()
+                .url(job.getCallbackEndpoint())
+                .method(HTTPRequestCallback.HTTPMethod.POST)
+                //in case of repeatable jobs add the limit parameter
+                .addQueryParam("limit", job
+                        .hasInterval()
+                        .map(interval -> getRepeatableJobCountDown(job))
+                        .map(String::valueOf)
+                        .orElse(null))
+                .build();
+
+        return ReactiveStreams.fromCompletionStage(executeCallback(callback))
+                .map(response -> JobExecutionResponse.builder()
+                        .message(response.statusMessage())
+                        .code(getResponseCode(response))
+                        .now()
+                        .jobId(job.getId())
+                        .build())
+                .flatMap(this::handleResponse)
+                .findFirst()
+                .run()
+                .thenApply(response -> response.map(r -> job).orElse(null))
+                .exceptionally(ex -> {
+                    LOGGER.error("Generic error executing job {}", job, ex);
+                    jobErrorEmitter.send(JobExecutionResponse.builder()
+                                                 .message(ex.getMessage())
+                                                 .now()
+                                                 .jobId(job.getId())
+                                                 .build());
+                    return job;
                 });
     }
 
+    private Optional<PendingTrigger> toPendingTrigger(ScheduledJob job) {
+        Matcher matcher = TIMER_CALLBACK.matcher(job.getCallbackEndpoint());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        TimerTrigger trigger = new TimerTrigger(matcher.group(2),
+                                                matcher.group(3),
+                                                matcher.group(4),
+                                                job.hasInterval()
+                                                        .map(interval -> getRepeatableJobCountDown(job))
+                                                        .orElse(null),
+                                                null);
+        return Optional.of(new PendingTrigger(matcher.group(1), job, trigger));
+    }
+
+    private CompletionStage<ScheduledJob> executeBatched(PendingTrigger pending) {
+        List<PendingTrigger> ready = null;
+        synchronized (pendingTriggers) {
+            List<PendingTrigger> batch = pendingTriggers.computeIfAbsent(pending.base, base -> new ArrayList<>());
+            batch.add(pending);
+            if (batch.size() >= batchSize) {
+                ready = pendingTriggers.remove(pending.base);
+            } else if (batch.size() == 1) {
+                vertx.setTimer(batchWindowMillis, id -> flush(pending.base));
+            }
+        }
+        if (ready != null) {
+            sendBatch(pending.base, ready);
+        }
+        return pending.result;
+    }
+
+    private void flush(String base) {
+        List<PendingTrigger> ready;
+        synchronized (pendingTriggers) {
+            ready = pendingTriggers.remove(base);
+        }
+        if (ready != null) {
+            sendBatch(base, ready);
+        }
+    }
+
+    private void sendBatch(String base, List<PendingTrigger> batch) {
+        LOGGER.debug("Executing batch of {} timer callbacks on {}", batch.size(), base);
+        final URL url = httpConverters.convertURL(base + BULK_TIMERS_PATH);
+        final List<TimerTrigger> triggers = batch.stream()
+                .map(pending -> pending.trigger)
+                .collect(Collectors.toList());
+        limiter.submit(() -> client(url).post(url.getPort(), url.getHost(), url.getPath()).sendJson(triggers))
+                .thenApply(this::getTriggerCodes)
+                .whenComplete((codes, error) -> batch.forEach(pending -> completeTrigger(pending, codes, error)));
+    }
+
+    private Map<String, String> getTriggerCodes(HttpResponse<Buffer> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Bulk timer trigger failed with status " + response.statusCode());
+        }
+        final JsonArray results = response.bodyAsJsonArray();
+        final Map<String, String> codes = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            TimerTrigger result = results.getJsonObject(i).mapTo(TimerTrigger.class);
+            codes.put(result.getTimerId(), String.valueOf(result.getStatus()));
+        }
+        return codes;
+    }
+
+    private void completeTrigger(PendingTrigger pending, Map<String, String> codes, Throwable error) {
+        final String code = Optional.ofNullable(codes)
+                .orElse(Collections.emptyMap())
+                .get(pending.trigger.getTimerId());
+        if (error != null || code == null) {
+            LOGGER.error("Generic error executing job {}", pending.job, error);
+            jobErrorEmitter.send(JobExecutionResponse.builder()
+                                         .message(error != null ? error.getMessage() : "Timer trigger not found in response")
+                                         .now()
+                                         .jobId(pending.job.getId())
+                                         .build());
+            pending.result.complete(pending.job);
+            return;
+        }
+        handleResponse(JobExecutionResponse.builder()
+                               .code(code)
+                               .now()
+                               .jobId(pending.job.getId())
+                               .build())
+                .findFirst()
+                .run()
+                .whenComplete((response, ex) -> pending.result.complete(pending.job));
+    }
+
     private int getRepeatableJobCountDown(ScheduledJob job) {
         return job.getRepeatLimit() - job.getExecutionCounter();
     }
-}
\ No newline at end of file
+
+    private static class PendingTrigger {
+
+        private final String base;
+        private final ScheduledJob job;
+        private final TimerTrigger trigger;
+        private final CompletableFuture<ScheduledJob> result = new CompletableFuture<>();
+
+        PendingTrigger(String base, ScheduledJob job, TimerTrigger trigger) {
+            this.base = base;
+            this.job = job;
+            this.trigger = trigger;
+        }
+    }
+}
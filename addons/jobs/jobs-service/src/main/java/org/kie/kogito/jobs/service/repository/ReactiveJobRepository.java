@@ -16,6 +16,8 @@
 
 package org.kie.kogito.jobs.service.repository;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
@@ -26,6 +28,8 @@ public interface ReactiveJobRepository {
 
     CompletionStage<ScheduledJob> save(ScheduledJob job);
 
+    CompletionStage<List<ScheduledJob>> saveAll(List<ScheduledJob> jobs);
+
     CompletionStage<ScheduledJob> get(String id);
 
     CompletionStage<Boolean> exists(String id);
@@ -36,4 +40,13 @@ public interface ReactiveJobRepository {
 
     PublisherBuilder<ScheduledJob> findAll();
 
+    /**
+     * Finds the jobs with expiration time in the range (from, to], ordered by expiration time.
+     * @param from the exclusive lower bound, <code>null</code> for no lower bound
+     * @param to the inclusive upper bound
+     * @param limit the maximum number of jobs returned
+     * @return the first jobs expiring in the given range
+     */
+    PublisherBuilder<ScheduledJob> findByExpirationTime(ZonedDateTime from, ZonedDateTime to, int limit);
+
 }
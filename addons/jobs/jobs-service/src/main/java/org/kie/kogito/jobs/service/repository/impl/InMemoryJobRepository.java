@@ -16,9 +16,17 @@
 
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -36,6 +44,11 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
 
     private final Map<String, ScheduledJob> jobMap = new ConcurrentHashMap<>();
 
+    /**
+     * Job ids sorted by expiration time.
+     */
+    private final NavigableMap<Instant, Set<String>> expirationIndex = new ConcurrentSkipListMap<>();
+
     public InMemoryJobRepository() {
         super(null);
     }
@@ -48,11 +61,23 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
     @Override
     public CompletionStage<ScheduledJob> save(ScheduledJob job) {
         return runAsync(() -> {
-            jobMap.put(job.getId(), job);
+            unindex(jobMap.put(job.getId(), job));
+            index(job);
             return job;
         });
     }
 
+    @Override
+    public CompletionStage<List<ScheduledJob>> saveAll(List<ScheduledJob> jobs) {
+        return runAsync(() -> {
+            jobs.forEach(job -> {
+                unindex(jobMap.put(job.getId(), job));
+                index(job);
+            });
+            return jobs;
+        });
+    }
+
     @Override
     public CompletionStage<ScheduledJob> get(String key) {
         return runAsync(() -> jobMap.get(key));
@@ -65,11 +90,44 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
 
     @Override
     public CompletionStage<ScheduledJob> delete(String key) {
-        return runAsync(() -> jobMap.remove(key));
+        return runAsync(() -> {
+            ScheduledJob removed = jobMap.remove(key);
+            unindex(removed);
+            return removed;
+        });
     }
 
     @Override
     public PublisherBuilder<ScheduledJob> findAll() {
         return ReactiveStreams.fromIterable(jobMap.values());
     }
+
+    @Override
+    public PublisherBuilder<ScheduledJob> findByExpirationTime(ZonedDateTime from, ZonedDateTime to, int limit) {
+        NavigableMap<Instant, Set<String>> range = Optional.ofNullable(from)
+                .map(f -> expirationIndex.subMap(f.toInstant(), false, to.toInstant(), true))
+                .orElseGet(() -> expirationIndex.headMap(to.toInstant(), true));
+        return ReactiveStreams.fromIterable(range.values())
+                .flatMapIterable(ids -> ids)
+                .map(jobMap::get)
+                .filter(Objects::nonNull)
+                .limit(limit);
+    }
+
+    private void index(ScheduledJob job) {
+        Optional.ofNullable(job.getExpirationTime())
+                .map(ZonedDateTime::toInstant)
+                .ifPresent(time -> expirationIndex.computeIfAbsent(time, t -> ConcurrentHashMap.newKeySet())
+                        .add(job.getId()));
+    }
+
+    private void unindex(ScheduledJob job) {
+        Optional.ofNullable(job)
+                .map(ScheduledJob::getExpirationTime)
+                .map(ZonedDateTime::toInstant)
+                .ifPresent(time -> expirationIndex.computeIfPresent(time, (t, ids) -> {
+                    ids.remove(job.getId());
+                    return ids.isEmpty() ? null : ids;
+                }));
+    }
 }
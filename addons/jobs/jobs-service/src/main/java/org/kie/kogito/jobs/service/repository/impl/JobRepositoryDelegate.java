@@ -16,6 +16,8 @@
 
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
@@ -59,6 +61,11 @@ public class JobRepositoryDelegate implements ReactiveJobRepository {
         return delegate.save(job);
     }
 
+    @Override
+    public CompletionStage<List<ScheduledJob>> saveAll(List<ScheduledJob> jobs) {
+        return delegate.saveAll(jobs);
+    }
+
     @Override
     public CompletionStage<ScheduledJob> get(String id) {
         return delegate.get(id);
@@ -83,4 +90,9 @@ public class JobRepositoryDelegate implements ReactiveJobRepository {
     public PublisherBuilder<ScheduledJob> findAll() {
         return delegate.findAll();
     }
+
+    @Override
+    public PublisherBuilder<ScheduledJob> findByExpirationTime(ZonedDateTime from, ZonedDateTime to, int limit) {
+        return delegate.findByExpirationTime(from, to, limit);
+    }
 }
@@ -69,7 +69,7 @@ public class InfinispanConfiguration {
         return ReactiveStreams.of(Caches.ALL())
                 .forEach(name -> cacheManager
                         .map(RemoteCacheManager::administration)
-                        .ifPresent(adm -> adm.getOrCreateCache(name, (String) null)))
+                        .ifPresent(adm -> adm.getOrCreateCache(name, new IndexedCacheConfiguration(name))))
                 .run()
                 .thenAccept(c -> LOGGER.info("Executed Infinispan configuration"));
     }
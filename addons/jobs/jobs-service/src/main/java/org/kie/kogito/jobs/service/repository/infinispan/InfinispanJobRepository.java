@@ -16,10 +16,13 @@
 
 package org.kie.kogito.jobs.service.repository.infinispan;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -32,6 +35,7 @@ import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.Search;
+import org.infinispan.query.dsl.FilterConditionContextQueryBuilder;
 import org.infinispan.query.dsl.QueryFactory;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.ScheduledJob;
@@ -66,6 +70,14 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
                 .thenCompose(j -> get(job.getId()));
     }
 
+    @Override
+    public CompletionStage<List<ScheduledJob>> saveAll(List<ScheduledJob> jobs) {
+        return runAsync(() -> {
+            cache.putAll(jobs.stream().collect(Collectors.toMap(ScheduledJob::getId, Function.identity(), (a, b) -> b)));
+            return jobs;
+        });
+    }
+
     @Override
     public CompletionStage<ScheduledJob> get(String id) {
         return runAsync(() -> cache.get(id));
@@ -102,4 +114,20 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
                                                     .build()
                                                     .list());
     }
+
+    @Override
+    public PublisherBuilder<ScheduledJob> findByExpirationTime(ZonedDateTime from, ZonedDateTime to, int limit) {
+        FilterConditionContextQueryBuilder query = queryFactory.from(ScheduledJob.class)
+                .having("expirationTime")
+                .lte(to.toInstant().toEpochMilli());
+        if (from != null) {
+            query = query.and()
+                    .having("expirationTime")
+                    .gt(from.toInstant().toEpochMilli());
+        }
+        return ReactiveStreams.fromIterable(query.orderBy("expirationTime")
+                                                    .maxResults(limit)
+                                                    .build()
+                                                    .list());
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.kie.kogito.jobs.service.resource;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
@@ -35,7 +36,7 @@ import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.api.Job;
 import org.kie.kogito.jobs.service.model.ScheduledJob;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
-import org.kie.kogito.jobs.service.scheduler.impl.VertxJobScheduler;
+import org.kie.kogito.jobs.service.scheduler.ReactiveJobScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +48,7 @@ public class JobResource {
     public static final String JOBS_PATH = "/jobs";
 
     @Inject
-    VertxJobScheduler scheduler;
+    ReactiveJobScheduler<ScheduledJob> scheduler;
 
     @Inject
     ReactiveJobRepository jobRepository;
@@ -63,6 +64,26 @@ public class JobResource {
                 .thenApply(j -> j.orElseThrow(() -> new RuntimeException("Failed to schedule job " + job)));
     }
 
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Path("/batch")
+    public CompletionStage<List<ScheduledJob>> createAll(List<Job> jobs) {
+        LOGGER.debug("REST create batch of {} jobs", jobs.size());
+        return ReactiveStreams.fromPublisher(scheduler.schedule(jobs))
+                .toList()
+                .run();
+    }
+
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Path("/batch/cancel")
+    public CompletionStage<List<ScheduledJob>> deleteAll(List<String> ids) {
+        LOGGER.debug("REST delete batch of {} jobs", ids.size());
+        return scheduler.cancel(ids);
+    }
+
     @DELETE
     @Produces(MediaType.APPLICATION_JSON)
     @Path("/{id}")
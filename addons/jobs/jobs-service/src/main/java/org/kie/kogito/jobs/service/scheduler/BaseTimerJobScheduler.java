@@ -18,9 +18,13 @@ package org.kie.kogito.jobs.service.scheduler;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -56,7 +60,7 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler<Sche
     JobExecutor jobExecutor;
 
     @Inject
-    ReactiveJobRepository jobRepository;
+    protected ReactiveJobRepository jobRepository;
 
     @Override
     public Publisher<ScheduledJob> schedule(Job job) {
@@ -85,6 +89,51 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler<Sche
                 .buildRs();
     }
 
+    @Override
+    public Publisher<ScheduledJob> schedule(List<Job> jobs) {
+        LOGGER.debug("Scheduling batch of {} jobs", jobs.size());
+        CompletionStage<List<ScheduledJob>> result = ReactiveStreams
+                //1- check which jobs are already scheduled
+                .fromIterable(jobs)
+                .flatMapCompletionStage(job -> jobRepository.exists(job.getId())
+                        .thenApply(exists -> new SimpleImmutableEntry<>(job, exists)))
+                .collect(Collectors.partitioningBy(entry -> entry.getValue(),
+                                                   Collectors.mapping(entry -> entry.getKey(),
+                                                                      Collectors.toList())))
+                .run()
+                .thenCompose(partition -> {
+                    //2- existing jobs go through the single job flow, handling the current status
+                    CompletionStage<List<ScheduledJob>> rescheduled = ReactiveStreams
+                            .fromIterable(partition.get(Boolean.TRUE))
+                            .flatMapRsPublisher(job -> schedule(job))
+                            .toList()
+                            .run();
+                    //3- new jobs are scheduled and then saved at once
+                    CompletionStage<List<ScheduledJob>> scheduled = ReactiveStreams
+                            .fromIterable(partition.get(Boolean.FALSE))
+                            .flatMapRsPublisher(job -> ReactiveStreams
+                                    .fromPublisher(doSchedule(calculateDelay(job.getExpirationTime()), job))
+                                    .map(scheduleId -> ScheduledJob
+                                            .builder()
+                                            .job(job)
+                                            .scheduledId(scheduleId)
+                                            .status(JobStatus.SCHEDULED)
+                                            .build())
+                                    .buildRs())
+                            .toList()
+                            .run()
+                            .thenCompose(jobRepository::saveAll);
+                    return rescheduled.thenCombine(scheduled, (existing, created) -> {
+                        List<ScheduledJob> all = new ArrayList<>(existing);
+                        all.addAll(created);
+                        return all;
+                    });
+                });
+        return ReactiveStreams.fromCompletionStage(result)
+                .flatMapIterable(all -> all)
+                .buildRs();
+    }
+
     private PublisherBuilder<Boolean> handleExistingJob(Job job) {
         //always returns true, canceling in case the job is already schedule
         return ReactiveStreams.fromCompletionStage(jobRepository.get(job.getId()))
@@ -269,5 +318,17 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler<Sche
         return cancel(jobRepository.get(jobId));
     }
 
+    @Override
+    public CompletionStage<List<ScheduledJob>> cancel(List<String> jobIds) {
+        LOGGER.debug("Canceling batch of {} jobs", jobIds.size());
+        return ReactiveStreams.fromIterable(jobIds)
+                .flatMapCompletionStage(jobId -> cancel(jobId).thenApply(Optional::ofNullable))
+                //jobs not found are skipped
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .toList()
+                .run();
+    }
+
     public abstract Publisher<Boolean> doCancel(ScheduledJob scheduledJob);
 }
\ No newline at end of file
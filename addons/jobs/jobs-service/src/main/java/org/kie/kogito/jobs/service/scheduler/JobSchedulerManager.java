@@ -16,17 +16,27 @@
 
 package org.kie.kogito.jobs.service.scheduler;
 
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.ScheduledJob;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
-import org.kie.kogito.jobs.service.scheduler.impl.VertxJobScheduler;
+import org.kie.kogito.jobs.service.scheduler.impl.JobSchedulerDelegate;
+import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.jobs.service.utils.ErrorHandling;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,22 +46,65 @@ public class JobSchedulerManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JobSchedulerManager.class);
 
+    private static final Set<JobStatus> ACTIVE = EnumSet.of(JobStatus.SCHEDULED, JobStatus.RETRY, JobStatus.PERIODIC_SCHEDULED);
+
+    private static final ZonedDateTime UNBOUNDED = ZonedDateTime.ofInstant(Instant.ofEpochMilli(Long.MAX_VALUE), DateUtil.DEFAULT_ZONE);
+
+    @ConfigProperty(name = "kogito.jobs-service.loadPageSize", defaultValue = "1000")
+    int loadPageSize;
+
     @Inject
-    VertxJobScheduler scheduler;
+    JobSchedulerDelegate scheduler;
 
     @Inject
     ReactiveJobRepository repository;
 
     CompletionStage<Void> loadScheduledJobs(@Observes StartupEvent startupEvent) {
         LOGGER.info("Loading scheduled jobs");
-        return repository.findByStatus(JobStatus.SCHEDULED, JobStatus.RETRY, JobStatus.PERIODIC_SCHEDULED)
+        //jobs are loaded page by page in expiration order, so the whole repository is never kept in memory
+        return loadPage(null)
+                .exceptionally(ex -> {
+                    LOGGER.error("Error loading jobs", ex);
+                    return null;
+                })
+                .thenAccept(c -> {
+                    LOGGER.info("Loading scheduled jobs completed !");
+                    scheduler.start();
+                });
+    }
+
+    private CompletionStage<Void> loadPage(ZonedDateTime from) {
+        return repository.findByExpirationTime(from, UNBOUNDED, loadPageSize)
+                .toList()
+                .run()
+                .thenCompose(page -> page.size() < loadPageSize ? schedule(page) : loadRemaining(page));
+    }
+
+    private CompletionStage<Void> loadRemaining(List<ScheduledJob> page) {
+        ZonedDateTime first = page.get(0).getExpirationTime();
+        ZonedDateTime last = page.get(page.size() - 1).getExpirationTime();
+        if (!last.isEqual(first)) {
+            //jobs sharing the last expiration time are scheduled with the next page, so none of them is skipped
+            return schedule(page.stream()
+                                    .filter(job -> job.getExpirationTime().isBefore(last))
+                                    .collect(Collectors.toList()))
+                    .thenCompose(v -> loadPage(last.minus(1, ChronoUnit.MILLIS)));
+        }
+        //the whole page shares the same expiration time, loading all of them before moving on
+        return repository.findByExpirationTime(last.minus(1, ChronoUnit.MILLIS), last, Integer.MAX_VALUE)
+                .toList()
+                .run()
+                .thenCompose(this::schedule)
+                .thenCompose(v -> loadPage(last));
+    }
+
+    private CompletionStage<Void> schedule(List<ScheduledJob> jobs) {
+        return ReactiveStreams.fromIterable(jobs)
+                .filter(job -> ACTIVE.contains(job.getStatus()))
                 //is is necessary to skip error on the publisher to continue processing, otherwise the subscribe
                 // terminated
                 .flatMapRsPublisher(t -> ErrorHandling.skipErrorPublisher(scheduler::schedule, t))
-                .onError(ex -> LOGGER.error("Error loading jobs", ex))
                 .forEach(a -> LOGGER.info("Loaded and scheduled job {}", a))
-                .run()
-                .thenAccept(c -> LOGGER.info("Loading scheduled jobs completed !"));
+                .run();
     }
 }
-
@@ -16,6 +16,7 @@
 
 package org.kie.kogito.jobs.service.scheduler;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
@@ -30,8 +31,18 @@ public interface ReactiveJobScheduler<T> extends JobScheduler<Publisher<T>, Comp
 
     CompletionStage<ScheduledJob> cancel(String jobId);
 
+    Publisher<T> schedule(List<Job> jobs);
+
+    CompletionStage<List<ScheduledJob>> cancel(List<String> jobIds);
+
     PublisherBuilder<ScheduledJob> handleJobExecutionError(JobExecutionResponse errorResponse);
 
     PublisherBuilder<ScheduledJob> handleJobExecutionSuccess(JobExecutionResponse errorResponse);
 
+    /**
+     * Invoked once the jobs stored in the repository were scheduled on startup.
+     */
+    default void start() {
+    }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel, where each level covers <code>wheelSize</code> ticks of the level below. Adding and
+ * removing entries is O(1) regardless of the number of scheduled entries, only non empty buckets are kept in the
+ * expiration queue and entries far in the future are cascaded to the lower levels as the clock advances.
+ * <p>
+ * The wheel has no clock of its own, the current time is provided by the caller on {@link #advance(long)}.
+ * @param <T> the type of the values scheduled in the wheel
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+    private final PriorityQueue<Bucket<T>> queue = new PriorityQueue<>(Comparator.comparingLong(b -> b.expiration));
+    private final Level<T> root;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.root = new Level<>(tickMillis, wheelSize, startMillis, queue);
+    }
+
+    /**
+     * Adds an entry to the wheel, replacing any previous entry with the same id.
+     * @return <code>false</code> if the expiration time is already reached, in this case the entry is not added
+     */
+    public synchronized boolean add(String id, long expirationMillis, T value) {
+        remove(id);
+        Entry<T> entry = new Entry<>(id, expirationMillis, value);
+        if (!root.add(entry)) {
+            return false;
+        }
+        entries.put(id, entry);
+        return true;
+    }
+
+    /**
+     * @return the value of the removed entry or <code>null</code> if there was no entry for the given id
+     */
+    public synchronized T remove(String id) {
+        Entry<T> entry = entries.remove(id);
+        if (entry == null) {
+            return null;
+        }
+        entry.bucket.remove(entry);
+        return entry.value;
+    }
+
+    /**
+     * Advances the wheel clock up to the given time.
+     * @return the values of the entries expired until the given time, in expiration order of their buckets
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        Bucket<T> bucket;
+        while ((bucket = queue.peek()) != null && bucket.expiration <= nowMillis) {
+            queue.poll();
+            root.advanceClock(bucket.expiration);
+            for (Entry<T> entry : bucket.flush()) {
+                //entries from the upper levels are cascaded, the ones that cannot be added are expired
+                if (!root.add(entry)) {
+                    entries.remove(entry.id);
+                    expired.add(entry.value);
+                }
+            }
+        }
+        root.advanceClock(nowMillis);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Level<T> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Bucket<T>> buckets;
+        private final PriorityQueue<Bucket<T>> queue;
+        private long currentTime;
+        private Level<T> overflow;
+
+        Level(long tickMillis, int wheelSize, long startMillis, PriorityQueue<Bucket<T>> queue) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.queue = queue;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+        }
+
+        boolean add(Entry<T> entry) {
+            if (entry.expiration < currentTime + tickMillis) {
+                return false;
+            }
+            if (entry.expiration < currentTime + interval) {
+                long virtualId = entry.expiration / tickMillis;
+                Bucket<T> bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime, queue);
+            }
+            return overflow.add(entry);
+        }
+
+        void advanceClock(long time) {
+            if (time >= currentTime + tickMillis) {
+                currentTime = time - (time % tickMillis);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static class Bucket<T> {
+
+        private final Set<Entry<T>> entries = new LinkedHashSet<>();
+        private long expiration = -1;
+
+        void add(Entry<T> entry) {
+            entries.add(entry);
+            entry.bucket = this;
+        }
+
+        void remove(Entry<T> entry) {
+            entries.remove(entry);
+            entry.bucket = null;
+        }
+
+        boolean setExpiration(long expiration) {
+            if (this.expiration == expiration) {
+                return false;
+            }
+            this.expiration = expiration;
+            return true;
+        }
+
+        List<Entry<T>> flush() {
+            List<Entry<T>> flushed = new ArrayList<>(entries);
+            flushed.forEach(entry -> entry.bucket = null);
+            entries.clear();
+            expiration = -1;
+            return flushed;
+        }
+    }
+
+    private static class Entry<T> {
+
+        private final String id;
+        private final long expiration;
+        private final T value;
+        private Bucket<T> bucket;
+
+        Entry(String id, long expiration, T value) {
+            this.id = id;
+            this.expiration = expiration;
+            this.value = value;
+        }
+    }
+}
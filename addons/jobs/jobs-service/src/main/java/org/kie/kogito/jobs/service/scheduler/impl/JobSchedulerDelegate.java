@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.kie.kogito.jobs.api.Job;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.ScheduledJob;
+import org.kie.kogito.jobs.service.qualifier.Scheduler;
+import org.kie.kogito.jobs.service.scheduler.ReactiveJobScheduler;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Default
+@ApplicationScoped
+public class JobSchedulerDelegate implements ReactiveJobScheduler<ScheduledJob> {
+
+    public static final String SCHEDULER_CONFIG_KEY = "kogito.jobs-service.scheduler";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobSchedulerDelegate.class);
+
+    private ReactiveJobScheduler<ScheduledJob> delegate;
+
+    JobSchedulerDelegate() {
+    }
+
+    @Inject
+    public JobSchedulerDelegate(@Any Instance<ReactiveJobScheduler<ScheduledJob>> instances,
+                                @ConfigProperty(name = SCHEDULER_CONFIG_KEY) Optional<String> scheduler) {
+        delegate = instances.select(new Scheduler.Literal(scheduler.orElse("vertx"))).get();
+        LOGGER.info("JobScheduler selected {}", delegate.getClass());
+    }
+
+    @Override
+    public Publisher<ScheduledJob> schedule(Job job) {
+        return delegate.schedule(job);
+    }
+
+    @Override
+    public CompletionStage<ScheduledJob> cancel(String jobId) {
+        return delegate.cancel(jobId);
+    }
+
+    @Override
+    public Publisher<ScheduledJob> schedule(List<Job> jobs) {
+        return delegate.schedule(jobs);
+    }
+
+    @Override
+    public CompletionStage<List<ScheduledJob>> cancel(List<String> jobIds) {
+        return delegate.cancel(jobIds);
+    }
+
+    @Override
+    public PublisherBuilder<ScheduledJob> handleJobExecutionError(JobExecutionResponse errorResponse) {
+        return delegate.handleJobExecutionError(errorResponse);
+    }
+
+    @Override
+    public PublisherBuilder<ScheduledJob> handleJobExecutionSuccess(JobExecutionResponse response) {
+        return delegate.handleJobExecutionSuccess(response);
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.vertx.axle.core.Vertx;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.api.Job;
+import org.kie.kogito.jobs.service.model.ScheduledJob;
+import org.kie.kogito.jobs.service.qualifier.Scheduler;
+import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Job Scheduler based on a {@link HierarchicalTimingWheel} driven by a single Vert.x periodic timer, instead of one
+ * timer per job. Only the jobs expiring within the load window are kept in memory, the ones beyond the window
+ * remain in the repository and are loaded by expiration time as the window moves forward.
+ */
+@ApplicationScoped
+@Scheduler("timing-wheel")
+public class TimingWheelJobScheduler extends BaseTimerJobScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelJobScheduler.class);
+
+    @ConfigProperty(name = "kogito.jobs-service.timingWheelTickMillis", defaultValue = "100")
+    long tickMillis;
+
+    @ConfigProperty(name = "kogito.jobs-service.timingWheelSize", defaultValue = "512")
+    int wheelSize;
+
+    @ConfigProperty(name = "kogito.jobs-service.loadWindowMillis", defaultValue = "600000")
+    long loadWindowMillis;
+
+    @ConfigProperty(name = "kogito.jobs-service.loadPageSize", defaultValue = "1000")
+    int loadPageSize;
+
+    @Inject
+    Vertx vertx;
+
+    private HierarchicalTimingWheel<Timer> wheel;
+
+    /**
+     * Upper bound of the expiration time of the jobs already loaded into the wheel.
+     */
+    private volatile long loadedUntil;
+
+    private volatile boolean loaded;
+
+    @PostConstruct
+    void init() {
+        long now = currentTimeMillis();
+        wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, now);
+        loadedUntil = now;
+    }
+
+    /**
+     * Starts the wheel timers once the stored jobs were scheduled, and loads the rest of the load window.
+     */
+    @Override
+    public void start() {
+        LOGGER.info("Starting timing wheel with tick {} ms, size {} and load window {} ms", tickMillis, wheelSize,
+                    loadWindowMillis);
+        vertx.setPeriodic(tickMillis, id -> fireExpired());
+        vertx.setPeriodic(loadPeriodMillis(), id -> loadJobs());
+        loadJobs();
+    }
+
+    @Override
+    public Publisher<String> doSchedule(Duration delay, Job job) {
+        LOGGER.debug("Job Scheduling {}", job);
+        long expiration = currentTimeMillis() + delay.toMillis();
+        //the job is stored only after being scheduled, so the next load may query the repository before it is there,
+        //jobs up to the end of the next load window are added directly, the later ones are loaded from the repository
+        if (expiration <= loadedUntil + loadPeriodMillis()) {
+            addTimer(job, expiration, 0);
+        }
+        return ReactiveStreams.of(UUID.randomUUID().toString()).buildRs();
+    }
+
+    @Override
+    public PublisherBuilder<String> doPeriodicSchedule(Duration interval, Job job) {
+        LOGGER.debug("Job Periodic Scheduling {}", job);
+        addTimer(job, currentTimeMillis() + interval.toMillis(), interval.toMillis());
+        return ReactiveStreams.of(UUID.randomUUID().toString());
+    }
+
+    @Override
+    public Publisher<Boolean> doCancel(ScheduledJob scheduledJob) {
+        return ReactiveStreams
+                .of(scheduledJob)
+                .map(Job::getId)
+                //jobs beyond the load window are not in the wheel, null elements are not allowed in the stream
+                .map(id -> wheel.remove(id) != null)
+                .buildRs();
+    }
+
+    private void addTimer(Job job, long expiration, long interval) {
+        if (!wheel.add(job.getId(), expiration, new Timer(job, interval))) {
+            fire(new Timer(job, interval));
+        }
+    }
+
+    void fireExpired() {
+        List<Timer> expired = wheel.advance(currentTimeMillis());
+        if (!expired.isEmpty()) {
+            LOGGER.debug("Firing {} expired jobs", expired.size());
+            expired.forEach(this::fire);
+        }
+    }
+
+    private void fire(Timer timer) {
+        if (timer.interval > 0) {
+            wheel.add(timer.job.getId(), currentTimeMillis() + timer.interval, timer);
+        }
+        execute(timer.job);
+    }
+
+    CompletionStage<Void> loadJobs() {
+        //the stored jobs are scheduled on startup, the ones expiring up to one load period after the wheel was
+        //created are added to the wheel, so the first load continues from there and fires the jobs that expired
+        //meanwhile, the next ones overlap the previous window by one load period to pick up the jobs stored after
+        //the previous load queried the repository
+        boolean overdue = !loaded;
+        long to = currentTimeMillis() + loadWindowMillis;
+        ZonedDateTime from = toDateTime(overdue ? Math.min(loadedUntil + loadPeriodMillis(), to) : loadedUntil - loadPeriodMillis());
+        loaded = true;
+        //moving the window before querying, so jobs scheduled meanwhile are added directly to the wheel
+        loadedUntil = to;
+        return loadPage(from, toDateTime(to), overdue)
+                .whenComplete((v, ex) -> {
+                    if (ex != null) {
+                        LOGGER.error("Error loading jobs", ex);
+                    } else {
+                        LOGGER.debug("Jobs loaded until {}, {} jobs in the wheel", toDateTime(to), wheel.size());
+                    }
+                });
+    }
+
+    private CompletionStage<Void> loadPage(ZonedDateTime from, ZonedDateTime to, boolean overdue) {
+        return jobRepository.findByExpirationTime(from, to, loadPageSize)
+                .peek(job -> load(job, overdue))
+                .toList()
+                .run()
+                .thenCompose(page -> page.size() < loadPageSize
+                        ? CompletableFuture.<Void>completedFuture(null)
+                        : loadRemaining(page, to, overdue));
+    }
+
+    private CompletionStage<Void> loadRemaining(List<ScheduledJob> page, ZonedDateTime to, boolean overdue) {
+        ZonedDateTime first = page.get(0).getExpirationTime();
+        ZonedDateTime last = page.get(page.size() - 1).getExpirationTime();
+        if (!last.isEqual(first)) {
+            //the next page includes the last expiration time again, so jobs sharing it are not skipped
+            return loadPage(last.minus(1, ChronoUnit.MILLIS), to, overdue);
+        }
+        //the whole page shares the same expiration time, loading all of them before moving on
+        return jobRepository.findByExpirationTime(last.minus(1, ChronoUnit.MILLIS), last, Integer.MAX_VALUE)
+                .forEach(job -> load(job, overdue))
+                .run()
+                .thenCompose(v -> loadPage(last, to, overdue));
+    }
+
+    /**
+     * @param overdue whether the jobs already expired should be fired, it is the case only for the first load as
+     * they were not added to the wheel on startup, the expired jobs found by the next loads were already fired from
+     * the wheel even though they may still be stored as scheduled
+     */
+    private void load(ScheduledJob job, boolean overdue) {
+        if (Objects.isNull(job.getStatus())) {
+            return;
+        }
+        switch (job.getStatus()) {
+            case SCHEDULED:
+            case RETRY:
+                loadTimer(job, job.getExpirationTime().toInstant().toEpochMilli(), 0, overdue);
+                break;
+            case PERIODIC_SCHEDULED:
+                job.hasInterval().ifPresent(interval -> loadTimer(job, nextPeriodicExpiration(job, interval), interval,
+                                                                  overdue));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void loadTimer(Job job, long expiration, long interval, boolean overdue) {
+        if (overdue) {
+            addTimer(job, expiration, interval);
+        } else if (!wheel.add(job.getId(), expiration, new Timer(job, interval))) {
+            LOGGER.debug("Job {} already expired, skipping it", job.getId());
+        }
+    }
+
+    /**
+     * The stored expiration time of a periodic job is the one of its first execution, the execution counter starts
+     * at 1 and is incremented on each execution.
+     */
+    private static long nextPeriodicExpiration(ScheduledJob job, long interval) {
+        long executions = Math.max(0, Optional.ofNullable(job.getExecutionCounter()).orElse(1) - 1);
+        return job.getExpirationTime().toInstant().toEpochMilli() + executions * interval;
+    }
+
+    private long loadPeriodMillis() {
+        return Math.max(tickMillis, loadWindowMillis / 2);
+    }
+
+    private static long currentTimeMillis() {
+        return DateUtil.now().toInstant().toEpochMilli();
+    }
+
+    private static ZonedDateTime toDateTime(long millis) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), DateUtil.DEFAULT_ZONE);
+    }
+
+    private static class Timer {
+
+        private final Job job;
+        private final long interval;
+
+        Timer(Job job, long interval) {
+            this.job = job;
+            this.interval = interval;
+        }
+    }
+}
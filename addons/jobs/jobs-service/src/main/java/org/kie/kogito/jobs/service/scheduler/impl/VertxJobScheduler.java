@@ -26,6 +26,7 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.api.Job;
 import org.kie.kogito.jobs.service.model.ScheduledJob;
+import org.kie.kogito.jobs.service.qualifier.Scheduler;
 import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ import org.slf4j.LoggerFactory;
  * Job Scheduler based on Vert.x engine.
  */
 @ApplicationScoped
+@Scheduler("vertx")
 public class VertxJobScheduler extends BaseTimerJobScheduler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VertxJobScheduler.class);
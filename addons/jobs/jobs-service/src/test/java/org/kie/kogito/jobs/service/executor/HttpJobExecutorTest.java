@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.executor;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.smallrye.reactive.messaging.annotations.Emitter;
+import io.vertx.axle.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.api.JobBuilder;
+import org.kie.kogito.jobs.service.converters.HttpConverters;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.ScheduledJob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpJobExecutorTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpJobExecutor executor;
+
+    private final List<JsonArray> bulkRequests = new CopyOnWriteArrayList<>();
+    private final List<String> singleRequests = new CopyOnWriteArrayList<>();
+    private final List<JobExecutionResponse> successes = new CopyOnWriteArrayList<>();
+    private final List<JobExecutionResponse> errors = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+        vertx.getDelegate()
+                .createHttpServer()
+                .requestHandler(this::handle)
+                .listen(0, result -> {
+                    if (result.succeeded()) {
+                        listening.complete(result.result());
+                    } else {
+                        listening.completeExceptionally(result.cause());
+                    }
+                });
+        server = listening.get(5, TimeUnit.SECONDS);
+
+        executor = new HttpJobExecutor();
+        executor.vertx = vertx;
+        executor.httpConverters = new HttpConverters();
+        executor.jobSuccessEmitter = emitter(successes);
+        executor.jobErrorEmitter = emitter(errors);
+        executor.maxPoolSize = 5;
+        executor.maxInFlight = 10;
+        executor.batchSize = 3;
+        executor.batchWindowMillis = 60_000;
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testBatchSentWhenFull() throws Exception {
+        execute(timerJob("1", "t1_1"), timerJob("2", "t2_1"), timerJob("3", "t3_1"));
+
+        assertEquals(1, bulkRequests.size());
+        assertEquals(Arrays.asList("t1_1", "t2_1", "t3_1"), timerIds(bulkRequests.get(0)));
+        assertEquals(Arrays.asList("1", "2", "3"), jobIds(successes));
+        assertTrue(errors.isEmpty());
+        assertTrue(singleRequests.isEmpty());
+    }
+
+    @Test
+    void testBatchSentAfterWindow() throws Exception {
+        executor.batchSize = 10;
+        executor.batchWindowMillis = 50;
+
+        execute(timerJob("1", "t1_1"), timerJob("2", "t2_1"));
+
+        assertEquals(1, bulkRequests.size());
+        assertEquals(Arrays.asList("t1_1", "t2_1"), timerIds(bulkRequests.get(0)));
+        assertEquals(Arrays.asList("1", "2"), jobIds(successes));
+    }
+
+    @Test
+    void testTriggerStatusPerJob() throws Exception {
+        executor.batchSize = 2;
+
+        execute(timerJob("1", "t1_1"), timerJob("2", "missing_1"));
+
+        assertEquals(1, bulkRequests.size());
+        assertEquals(Arrays.asList("1"), jobIds(successes));
+        assertEquals(Arrays.asList("2"), jobIds(errors));
+    }
+
+    @Test
+    void testOtherCallbacksSentOneByOne() throws Exception {
+        execute(job("1", url("/callback/1")), job("2", url("/callback/2")));
+
+        assertTrue(bulkRequests.isEmpty());
+        assertEquals(2, singleRequests.size());
+        assertTrue(singleRequests.containsAll(Arrays.asList("/callback/1", "/callback/2")));
+        assertEquals(2, successes.size());
+    }
+
+    @Test
+    void testBatchingDisabled() throws Exception {
+        executor.batchSize = 1;
+
+        execute(timerJob("1", "t1_1"), timerJob("2", "t2_1"));
+
+        assertTrue(bulkRequests.isEmpty());
+        assertEquals(2, singleRequests.size());
+        assertEquals(2, successes.size());
+    }
+
+    private void execute(ScheduledJob... jobs) throws Exception {
+        CompletableFuture.allOf(Arrays.stream(jobs)
+                                        .map(job -> executor.execute(CompletableFuture.completedFuture(job))
+                                                .toCompletableFuture())
+                                        .toArray(CompletableFuture[]::new))
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private void handle(HttpServerRequest request) {
+        request.bodyHandler(body -> {
+            if (!request.path().endsWith("/management/jobs/timers")) {
+                singleRequests.add(request.path());
+                request.response().end();
+                return;
+            }
+            JsonArray triggers = body.toJsonArray();
+            bulkRequests.add(triggers);
+            JsonArray results = new JsonArray();
+            for (int i = 0; i < triggers.size(); i++) {
+                JsonObject trigger = triggers.getJsonObject(i).copy();
+                results.add(trigger.put("status", trigger.getString("timerId").startsWith("missing") ? 404 : 200));
+            }
+            request.response()
+                    .putHeader("Content-Type", "application/json")
+                    .end(results.encode());
+        });
+    }
+
+    private ScheduledJob timerJob(String id, String timerId) {
+        return job(id, url("/management/jobs/travels/instances/" + id + "/timers/" + timerId));
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.actualPort() + path;
+    }
+
+    private static ScheduledJob job(String id, String callbackEndpoint) {
+        return ScheduledJob.builder()
+                .job(JobBuilder.builder().id(id).callbackEndpoint(callbackEndpoint).build())
+                .status(JobStatus.SCHEDULED)
+                .build();
+    }
+
+    private static List<String> timerIds(JsonArray triggers) {
+        return triggers.stream()
+                .map(JsonObject.class::cast)
+                .map(trigger -> trigger.getString("timerId"))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> jobIds(List<JobExecutionResponse> responses) {
+        return responses.stream()
+                .map(JobExecutionResponse::getJobId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Emitter<JobExecutionResponse> emitter(List<JobExecutionResponse> sent) {
+        return (Emitter<JobExecutionResponse>) Proxy.newProxyInstance(
+                HttpJobExecutorTest.class.getClassLoader(),
+                new Class<?>[]{Emitter.class},
+                (proxy, method, args) -> {
+                    if ("send".equals(method.getName())) {
+                        sent.add((JobExecutionResponse) args[0]);
+                    }
+                    if (method.getReturnType().isInstance(proxy)) {
+                        return proxy;
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                });
+    }
+}
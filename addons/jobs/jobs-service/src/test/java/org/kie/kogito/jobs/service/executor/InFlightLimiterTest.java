@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.executor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InFlightLimiterTest {
+
+    @Test
+    void testLimitAndSubmissionOrder() {
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> operations = new ArrayList<>();
+        List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String id = String.valueOf(i);
+            CompletableFuture<String> operation = new CompletableFuture<>();
+            operations.add(operation);
+            results.add(limiter.submit(() -> {
+                started.add(id);
+                return operation;
+            }));
+        }
+
+        assertEquals(Arrays.asList("0", "1"), started);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(3, limiter.getPending());
+
+        operations.get(1).complete("1");
+        assertEquals(Arrays.asList("0", "1", "2"), started);
+        assertEquals("1", results.get(1).toCompletableFuture().getNow(null));
+        assertFalse(results.get(0).toCompletableFuture().isDone());
+
+        operations.get(0).complete("0");
+        operations.get(2).complete("2");
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4"), started);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getPending());
+
+        operations.get(3).complete("3");
+        operations.get(4).complete("4");
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testFailedOperationReleasesSlot() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        CompletionStage<String> failed = limiter.submit(() -> {
+            throw new IllegalStateException("failed");
+        });
+        CompletionStage<String> next = limiter.submit(() -> CompletableFuture.completedFuture("next"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.toCompletableFuture().get());
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertEquals("next", next.toCompletableFuture().getNow(null));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testSynchronousCompletionsDoNotNest() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        limiter.submit(() -> blocker);
+        //queued behind the running operation, each one completes as soon as it is started
+        int operations = 100_000;
+        List<CompletionStage<Integer>> results = new ArrayList<>(operations);
+        for (int i = 0; i < operations; i++) {
+            Integer value = i;
+            results.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+        }
+        assertEquals(operations, limiter.getPending());
+
+        blocker.complete(null);
+
+        assertEquals(0, limiter.getPending());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(operations - 1, results.get(operations - 1).toCompletableFuture().getNow(null));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.repository.impl;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.api.JobBuilder;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.ScheduledJob;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryJobRepositoryTest {
+
+    private Vertx vertx;
+    private InMemoryJobRepository repository;
+    private ZonedDateTime now;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        repository = new InMemoryJobRepository(vertx);
+        now = DateUtil.now();
+        save("3", now.plusMinutes(3));
+        save("1", now.plusMinutes(1));
+        save("2", now.plusMinutes(2));
+        save("4", now.plusMinutes(4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testFindByExpirationTime() throws Exception {
+        assertEquals(Arrays.asList("1", "2", "3"), find(null, now.plusMinutes(3), 10));
+        assertEquals(Arrays.asList("2", "3"), find(now.plusMinutes(1), now.plusMinutes(3), 10));
+        assertEquals(Arrays.asList("2"), find(now.plusMinutes(1), now.plusMinutes(4), 1));
+    }
+
+    @Test
+    void testFindByExpirationTimeAfterUpdate() throws Exception {
+        save("1", now.plusMinutes(5));
+        repository.delete("2").toCompletableFuture().get();
+
+        assertEquals(Arrays.asList("3", "4", "1"), find(null, now.plusMinutes(5), 10));
+    }
+
+    private void save(String id, ZonedDateTime expirationTime) throws Exception {
+        repository.save(ScheduledJob.builder()
+                                .job(JobBuilder.builder().id(id).expirationTime(expirationTime).build())
+                                .status(JobStatus.SCHEDULED)
+                                .build())
+                .toCompletableFuture()
+                .get();
+    }
+
+    private List<String> find(ZonedDateTime from, ZonedDateTime to, int limit) throws Exception {
+        return repository.findByExpirationTime(from, to, limit)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get()
+                .stream()
+                .map(ScheduledJob::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -17,6 +17,7 @@
 package org.kie.kogito.jobs.service.resource;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import javax.inject.Inject;
 
@@ -134,4 +135,34 @@ public class JobResourceTest {
         assertEquals(JobStatus.SCHEDULED, scheduledJob.getStatus());
         assertNotNull(scheduledJob.getScheduledId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAndDeleteBatch() throws Exception {
+        final Job job1 = getJob("5");
+        final Job job2 = getJob("6");
+        final ScheduledJob[] created = given()
+                .contentType(ContentType.JSON)
+                .body(objectMapper.writeValueAsString(Arrays.asList(job1, job2)))
+                .when()
+                .post(JobResource.JOBS_PATH + "/batch")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .extract()
+                .as(ScheduledJob[].class);
+        assertEquals(2, created.length);
+        assertEquals(JobStatus.SCHEDULED, created[0].getStatus());
+
+        final ScheduledJob[] deleted = given()
+                .contentType(ContentType.JSON)
+                .body(objectMapper.writeValueAsString(Arrays.asList("5", "6", "unknown")))
+                .when()
+                .post(JobResource.JOBS_PATH + "/batch/cancel")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .extract()
+                .as(ScheduledJob[].class);
+        assertEquals(2, deleted.length);
+    }
+}
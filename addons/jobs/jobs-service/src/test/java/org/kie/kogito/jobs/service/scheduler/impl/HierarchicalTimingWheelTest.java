@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void testAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        assertTrue(wheel.add("1", START + 25, "1"));
+        assertTrue(wheel.add("2", START + 55, "2"));
+        //beyond the first level interval
+        assertTrue(wheel.add("3", START + 5_000, "3"));
+        assertEquals(3, wheel.size());
+
+        assertEquals(Collections.emptyList(), wheel.advance(START + 19));
+        assertEquals(Collections.singletonList("1"), wheel.advance(START + 30));
+        assertEquals(Collections.singletonList("2"), wheel.advance(START + 4_000));
+        assertEquals(Collections.emptyList(), wheel.advance(START + 4_999));
+        assertEquals(Collections.singletonList("3"), wheel.advance(START + 5_010));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAddExpired() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        assertFalse(wheel.add("1", START - 1, "1"));
+        assertFalse(wheel.add("2", START + 5, "2"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testRemoveAndReplace() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        wheel.add("1", START + 25, "1");
+        wheel.add("2", START + 1_000, "2");
+        wheel.add("2", START + 35, "2b");
+
+        assertEquals("1", wheel.remove("1"));
+        assertNull(wheel.remove("1"));
+        assertEquals(1, wheel.size());
+        assertEquals(Arrays.asList("2b"), wheel.advance(START + 2_000));
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.vertx.core.Vertx;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.api.Job;
+import org.kie.kogito.jobs.api.JobBuilder;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.ScheduledJob;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.repository.impl.InMemoryJobRepository;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelJobSchedulerTest {
+
+    private static final long WINDOW = 1_000;
+    private static final long PERIOD = WINDOW / 2;
+
+    private Vertx vertx;
+    private InMemoryJobRepository repository;
+    private TestScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        repository = new InMemoryJobRepository(vertx);
+        scheduler = new TestScheduler(repository);
+        scheduler.tickMillis = 10;
+        scheduler.wheelSize = 64;
+        scheduler.loadWindowMillis = WINDOW;
+        scheduler.loadPageSize = 100;
+        scheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void testJobBeyondWindowScheduledBeforeNextLoad() throws Exception {
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        //expires after the loaded window and it is not stored yet when the next load queries the repository
+        long delay = WINDOW + 200;
+        scheduler.doSchedule(Duration.ofMillis(delay), job("1", DateUtil.now().plus(Duration.ofMillis(delay))));
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        assertTrue(awaitFired("1", WINDOW + 1_000));
+    }
+
+    @Test
+    void testJobStoredAfterLoadReachingItsExpiration() throws Exception {
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        //beyond the next load window, so it is expected to be loaded from the repository
+        long delay = WINDOW + PERIOD + 100;
+        Job job = job("1", DateUtil.now().plus(Duration.ofMillis(delay)));
+        scheduler.doSchedule(Duration.ofMillis(delay), job);
+
+        //the next load window reaches the expiration before the job is stored
+        Thread.sleep(PERIOD + 200);
+        scheduler.loadJobs().toCompletableFuture().get();
+        save(ScheduledJob.builder().job(job).status(JobStatus.SCHEDULED).build());
+        assertFalse(awaitFired("1", 0));
+
+        //the following load overlaps the previous window
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        assertTrue(awaitFired("1", WINDOW + 1_000));
+    }
+
+    @Test
+    void testPeriodicJobLoadedAtStoredExpiration() throws Exception {
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        long interval = 200;
+        //stored after the load, the first execution already happened and the next one is due one interval after
+        //the stored expiration time
+        save(ScheduledJob.builder()
+                     .job(JobBuilder.builder()
+                                  .id("1")
+                                  .expirationTime(DateUtil.now().plus(Duration.ofMillis(PERIOD + 100)))
+                                  .repeatInterval(interval)
+                                  .build())
+                     .status(JobStatus.PERIODIC_SCHEDULED)
+                     .executionCounter(2)
+                     .build());
+
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        assertTrue(awaitFired("1", WINDOW));
+    }
+
+    @Test
+    void testJobExpiredWhileSchedulingStoredJobsFiredByFirstLoad() throws Exception {
+        //beyond the jobs added to the wheel while the stored jobs are scheduled on startup
+        save(ScheduledJob.builder()
+                     .job(job("1", DateUtil.now().plus(Duration.ofMillis(PERIOD + 100))))
+                     .status(JobStatus.SCHEDULED)
+                     .build());
+        //scheduling the stored jobs took longer than the job expiration
+        Thread.sleep(PERIOD + 200);
+
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        assertTrue(awaitFired("1", 0));
+    }
+
+    @Test
+    void testExpiredJobNotFiredAgainByOverlappingLoad() throws Exception {
+        //expires within the period the next load overlaps
+        save(ScheduledJob.builder()
+                     .job(job("1", DateUtil.now().plus(Duration.ofMillis(PERIOD + 100))))
+                     .status(JobStatus.SCHEDULED)
+                     .build());
+        scheduler.loadJobs().toCompletableFuture().get();
+        assertTrue(awaitFired("1", WINDOW));
+
+        //still stored as scheduled, the job is not removed from the repository by the test scheduler
+        scheduler.loadJobs().toCompletableFuture().get();
+        awaitFired("2", PERIOD);
+
+        assertEquals(Collections.singletonList("1"), scheduler.executed);
+    }
+
+    @Test
+    void testCancelJobOutsideWindow() throws Exception {
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        long delay = 3 * WINDOW;
+        Job job = job("1", DateUtil.now().plus(Duration.ofMillis(delay)));
+        scheduler.doSchedule(Duration.ofMillis(delay), job);
+
+        List<Boolean> cancelled = ReactiveStreams
+                .fromPublisher(scheduler.doCancel(ScheduledJob.builder().job(job).status(JobStatus.SCHEDULED).build()))
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+
+        assertEquals(Collections.singletonList(Boolean.FALSE), cancelled);
+    }
+
+    @Test
+    void testCancelJobInWheel() throws Exception {
+        scheduler.loadJobs().toCompletableFuture().get();
+
+        long delay = PERIOD;
+        Job job = job("1", DateUtil.now().plus(Duration.ofMillis(delay)));
+        scheduler.doSchedule(Duration.ofMillis(delay), job);
+
+        List<Boolean> cancelled = ReactiveStreams
+                .fromPublisher(scheduler.doCancel(ScheduledJob.builder().job(job).status(JobStatus.SCHEDULED).build()))
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+
+        assertEquals(Collections.singletonList(Boolean.TRUE), cancelled);
+        assertFalse(awaitFired("1", delay + 200));
+    }
+
+    private boolean awaitFired(String id, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        do {
+            scheduler.fireExpired();
+            if (scheduler.executed.contains(id)) {
+                return true;
+            }
+            Thread.sleep(10);
+        } while (System.currentTimeMillis() < deadline);
+        return false;
+    }
+
+    private void save(ScheduledJob job) throws Exception {
+        repository.save(job).toCompletableFuture().get();
+    }
+
+    private static Job job(String id, ZonedDateTime expirationTime) {
+        return JobBuilder.builder().id(id).expirationTime(expirationTime).build();
+    }
+
+    private static class TestScheduler extends TimingWheelJobScheduler {
+
+        private final List<String> executed = new CopyOnWriteArrayList<>();
+
+        TestScheduler(ReactiveJobRepository repository) {
+            this.jobRepository = repository;
+        }
+
+        @Override
+        protected CompletionStage<ScheduledJob> execute(Job job) {
+            executed.add(job.getId());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -16,51 +16,177 @@
 package org.kie.kogito.infinispan;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.protostream.MessageMarshaller;
+import org.kie.kogito.Model;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.process.impl.marshalling.ProcessInstanceMarshaller;
 
 @SuppressWarnings({"rawtypes"})
 public class CacheProcessInstances implements MutableProcessInstances {
-        
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    
+    private static final boolean PROMETHEUS_AVAILABLE = isPrometheusAvailable();
+
     private final RemoteCache<String, byte[]> cache;
     private ProcessInstanceMarshaller marshaller;
     
     private org.kie.kogito.process.Process<?> process;
     
+    private WriteBehindBuffer writeBehind;
+    private ProcessInstanceNearCache nearCache;
+    
     public CacheProcessInstances(Process<?> process, RemoteCacheManager cacheManager, String templateName, String proto, MessageMarshaller<?>...marshallers) {
+        this(process, cacheManager, templateName, 0, 0, 0, proto, marshallers);
+    }
+    
+    /**
+     * Creates process instances backed by remote cache, optionally in write behind mode where updates are
+     * buffered and stored in batches every <code>writeBehindInterval</code> milliseconds.
+     * Note that write behind mode does not verify versions of stored process instances.
+     * <p>
+     * When <code>nearCacheMaxSize</code> is greater than zero and write behind is not used, process instances stored
+     * or read by this node are kept unmarshalled in a near cache of given max size (in bytes of their marshalled form).
+     */
+    public CacheProcessInstances(Process<?> process, RemoteCacheManager cacheManager, String templateName, long writeBehindInterval, int writeBehindMaxPending, long nearCacheMaxSize, String proto, MessageMarshaller<?>...marshallers) {
         this.process = process;    
         this.cache = cacheManager.administration().getOrCreateCache(process.id() + "_store", ignoreNullOrEmpty(templateName));
         
         this.marshaller = new ProcessInstanceMarshaller(new ProtoStreamObjectMarshallingStrategy(proto, marshallers));
+        if (writeBehindInterval > 0) {
+            this.writeBehind = new WriteBehindBuffer(cache, writeBehindInterval, writeBehindMaxPending);
+        } else if (nearCacheMaxSize > 0) {
+            this.nearCache = new ProcessInstanceNearCache(nearCacheMaxSize);
+            this.cache.addClientListener(nearCache);
+            if (PROMETHEUS_AVAILABLE) {
+                ProcessInstanceNearCacheMetrics.add(process.id(), nearCache);
+            }
+        }
+    }
+
+    private static boolean isPrometheusAvailable() {
+        try {
+            Class.forName("io.prometheus.client.Collector", false, CacheProcessInstances.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
     }
 
     
     @Override
     public Optional<? extends ProcessInstance> findById(String id) {
-        byte[] data = cache.get(id);
+        if (writeBehind != null) {
+            byte[] pending = writeBehind.get(id);
+            if (pending == WriteBehindBuffer.REMOVED) {
+                return Optional.empty();
+            } else if (pending != null) {
+                return (Optional<? extends ProcessInstance>) Optional.of(unmarshall(pending, 0));
+            }
+        }
+        if (nearCache != null) {
+            ProcessInstanceNearCache.Entry cached = nearCache.checkout(id);
+            if (cached != null) {
+                AbstractProcessInstance<?> processInstance = (AbstractProcessInstance<?>) process.createInstance((Model) process.createModel());
+                processInstance.internalSetProcessInstance(cached.processInstance());
+                processInstance.internalSetVersion(cached.version());
+                return (Optional<? extends ProcessInstance>) Optional.of(processInstance);
+            }
+            return (Optional<? extends ProcessInstance>) readThroughNearCache(id);
+        }
+        MetadataValue<byte[]> data = cache.getWithMetadata(id);
         if (data == null) {
             return Optional.empty();
         }
         
-        return (Optional<? extends ProcessInstance>) Optional.of(marshaller.unmarshallProcessInstance(data, process));
+        return (Optional<? extends ProcessInstance>) Optional.of(unmarshall(data.getValue(), data.getVersion()));
+    }
+
+    /*
+     * Reads process instance from the remote cache and keeps the unmarshalled instance in the near cache. The returned
+     * instance takes it out of the near cache only once it is actually used, so readers that only look at its id, state
+     * or variables leave it there for the next caller.
+     */
+    private Optional<ProcessInstance> readThroughNearCache(String id) {
+        ProcessInstanceNearCache.Entry reserved = nearCache.reserveRead(id);
+        MetadataValue<byte[]> data;
+        try {
+            data = cache.getWithMetadata(id);
+        } catch (RuntimeException e) {
+            release(id, reserved);
+            throw e;
+        }
+        if (data == null) {
+            release(id, reserved);
+            return Optional.empty();
+        }
+        AbstractProcessInstance<?> processInstance = (AbstractProcessInstance<?>) unmarshall(data.getValue(), data.getVersion());
+        if (reserved != null && nearCache.completeRead(id, reserved, data.getVersion(), processInstance.internalGetProcessInstance(), data.getValue().length)) {
+            processInstance.internalRemoveProcessInstance(() -> reload(id, processInstance));
+        }
+        return Optional.of(processInstance);
+    }
+
+    private void release(String id, ProcessInstanceNearCache.Entry reserved) {
+        if (reserved != null) {
+            nearCache.release(id, reserved);
+        }
     }
 
     
     @Override
     public Collection<? extends ProcessInstance> values() {
-        return (Collection<? extends ProcessInstance>) cache.values()
-                .parallelStream()
-                .map(data -> marshaller.unmarshallProcessInstance(data, process))
-                .collect(Collectors.toList());
+        try (Stream<MetadataValue<Object>> data = remoteValues(DEFAULT_BATCH_SIZE)) {
+            return (Collection<? extends ProcessInstance>) data.collect(Collectors.toList())
+                    .parallelStream()
+                    .map(item -> unmarshall((byte[]) item.getValue(), item.getVersion()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Collection<? extends ProcessInstance> values(int offset, int limit) {
+        // page over raw entries first so only instances of the requested page get unmarshalled
+        try (Stream<MetadataValue<Object>> data = remoteValues(Math.min(Math.max(limit, 1), DEFAULT_BATCH_SIZE))) {
+            return (Collection<? extends ProcessInstance>) data.skip(offset)
+                    .limit(limit)
+                    .map(item -> unmarshall((byte[]) item.getValue(), item.getVersion()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<? extends ProcessInstance> stream() {
+        return remoteValues(DEFAULT_BATCH_SIZE).map(item -> unmarshall((byte[]) item.getValue(), item.getVersion()));
+    }
+
+    protected Stream<MetadataValue<Object>> remoteValues(int batchSize) {
+        if (writeBehind != null) {
+            // make sure all pending writes are visible to the remote iteration
+            writeBehind.flush();
+        }
+        CloseableIterator<Map.Entry<Object, MetadataValue<Object>>> iterator = cache.retrieveEntriesWithMetadata(null, batchSize);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .map(Map.Entry::getValue)
+                .onClose(iterator::close);
     }
 
     @SuppressWarnings("unchecked")
@@ -68,22 +194,103 @@ public class CacheProcessInstances implements MutableProcessInstances {
     public void update(String id, ProcessInstance instance) {
         if (isActive(instance)) {
             byte[] data = marshaller.marhsallProcessInstance(instance);
+            if (writeBehind != null) {
+                writeBehind.put(id, data);
+                ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(() -> reload(id, instance));
+                return;
+            }
+            long version = ((AbstractProcessInstance<?>) instance).version();
+            // reserve before writing so the event of our own write cannot be missed
+            ProcessInstanceNearCache.Entry reserved = nearCache != null ? nearCache.reserve(id, version) : null;
             
-            cache.put(instance.id(), data);
+            boolean stored;
+            if (version == 0) {
+                // never stored before, make sure no one else created it in the meantime
+                stored = cache.withFlags(Flag.FORCE_RETURN_VALUE).putIfAbsent(id, data) == null;
+            } else {
+                stored = cache.replaceWithVersion(id, data, version);
+            }
             
-            ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(() -> {
-                byte[] reloaded = cache.get(id);
-                if (reloaded != null) {
-                    return ((AbstractProcessInstance<?>)marshaller.unmarshallProcessInstance(reloaded, process, (AbstractProcessInstance<?>) instance)).internalGetProcessInstance();                    
+            if (!stored) {
+                if (nearCache != null) {
+                    nearCache.invalidate(id);
                 }
-                
+                throw new ProcessInstanceOptimisticLockingException(id);
+            }
+            if (nearCache != null) {
+                nearCache.complete(id, reserved, ((AbstractProcessInstance<?>) instance).internalGetProcessInstance(), data.length);
+            }
+            
+            ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(() -> reload(id, instance));
+        }
+    }
+
+    protected org.kie.api.runtime.process.ProcessInstance reload(String id, ProcessInstance instance) {
+        if (writeBehind != null) {
+            byte[] pending = writeBehind.get(id);
+            if (pending == WriteBehindBuffer.REMOVED) {
                 return null;
-            });
+            } else if (pending != null) {
+                return ((AbstractProcessInstance<?>) marshaller.unmarshallProcessInstance(pending, process, (AbstractProcessInstance<?>) instance)).internalGetProcessInstance();
+            }
+        }
+        if (nearCache != null) {
+            ProcessInstanceNearCache.Entry cached = nearCache.checkout(id);
+            if (cached != null) {
+                ((AbstractProcessInstance<?>) instance).internalSetProcessInstance(cached.processInstance());
+                ((AbstractProcessInstance<?>) instance).internalSetVersion(cached.version());
+                return cached.processInstance();
+            }
         }
+        MetadataValue<byte[]> reloaded = cache.getWithMetadata(id);
+        if (reloaded != null) {
+            AbstractProcessInstance<?> reloadedInstance = (AbstractProcessInstance<?>) marshaller.unmarshallProcessInstance(reloaded.getValue(), process, (AbstractProcessInstance<?>) instance);
+            reloadedInstance.internalSetVersion(reloaded.getVersion());
+            return reloadedInstance.internalGetProcessInstance();                    
+        }
+        
+        return null;
+    }
+
+    /**
+     * Returns near cache of unmarshalled process instances, if enabled - mainly to inspect its statistics.
+     */
+    public Optional<ProcessInstanceNearCache> nearCache() {
+        return Optional.ofNullable(nearCache);
+    }
+
+    /**
+     * Stores all pending writes and stops write behind processing, if enabled.
+     */
+    public void close() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+        if (nearCache != null) {
+            cache.removeClientListener(nearCache);
+            nearCache.clear();
+            if (PROMETHEUS_AVAILABLE) {
+                ProcessInstanceNearCacheMetrics.remove(process.id(), nearCache);
+            }
+        }
+    }
+
+    protected ProcessInstance unmarshall(byte[] data, long version) {
+        AbstractProcessInstance<?> processInstance = (AbstractProcessInstance<?>) marshaller.unmarshallProcessInstance(data, process);
+        processInstance.internalSetVersion(version);
+        
+        return processInstance;
     }
 
     @Override
     public void remove(String id) {
+        if (writeBehind != null) {
+            writeBehind.remove(id);
+            return;
+        }
+        if (nearCache != null) {
+            nearCache.invalidate(id);
+        }
         cache.remove(id);
     }
 
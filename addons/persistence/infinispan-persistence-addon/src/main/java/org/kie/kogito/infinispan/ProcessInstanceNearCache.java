@@ -0,0 +1,283 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.infinispan;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryCreated;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+import org.kie.api.runtime.process.ProcessInstance;
+
+/**
+ * Local cache of already unmarshalled process instances stored or read by this node, so they can be
+ * handed out again without unmarshalling. Entries are kept in least recently used order and
+ * evicted once total size of their marshalled form exceeds configured max size.
+ * <p>
+ * Cached process instances are not shared - {@link #checkout(String)} removes the entry so only
+ * single caller owns given instance at a time. Entry is reserved before the process instance is written
+ * so no event of the write can be missed, and it becomes available once the version assigned by the server
+ * to the write is known (received via client listener). Entries of process instances read from the server
+ * are reserved before the read in the same way and take the version returned by the read. Entries are
+ * invalidated as soon as any other write or removal of the same process instance is observed.
+ * <p>
+ * When Prometheus client is available, hit, miss, eviction and invalidation counts are published
+ * by {@link ProcessInstanceNearCacheMetrics}.
+ */
+@ClientListener
+public class ProcessInstanceNearCache {
+
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final long maxSize;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProcessInstanceNearCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Removes cached process instance and returns it to the caller.
+     * @param id process instance id
+     * @return cached entry or null if there is no usable entry for given id
+     */
+    public synchronized Entry checkout(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null || entry.version == UNKNOWN_VERSION || entry.processInstance == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        remove(id);
+        hits.incrementAndGet();
+        return entry;
+    }
+
+    /**
+     * Reserves entry for process instance that is about to be written over given version, must be called
+     * before the write is sent to the server.
+     * @param id process instance id
+     * @param previousVersion version that is going to be replaced by the write, 0 for new process instance
+     * @return reserved entry to be completed once the write succeeds
+     */
+    public synchronized Entry reserve(String id, long previousVersion) {
+        remove(id);
+        Entry entry = new Entry(previousVersion);
+        entries.put(id, entry);
+        return entry;
+    }
+
+    /**
+     * Caches process instance that has just been stored. Nothing is cached when the reserved entry has been
+     * invalidated in the meantime, e.g. because some other write of the same process instance was observed.
+     * @param id process instance id
+     * @param reserved entry reserved before the write
+     * @param processInstance process instance to be cached
+     * @param weight size of the marshalled process instance
+     */
+    public synchronized void complete(String id, Entry reserved, ProcessInstance processInstance, int weight) {
+        if (entries.get(id) != reserved) {
+            return;
+        }
+        cache(id, reserved, processInstance, weight);
+    }
+
+    /**
+     * Reserves entry for process instance that is about to be read from the server, must be called
+     * before the read is sent to the server. Any write of the process instance observed in the meantime
+     * invalidates the reservation since the read might return the state before that write.
+     * @param id process instance id
+     * @return reserved entry to be completed once the read returns or null if there already is an entry for given id
+     */
+    public synchronized Entry reserveRead(String id) {
+        if (entries.containsKey(id)) {
+            return null;
+        }
+        Entry entry = new Entry(UNKNOWN_VERSION);
+        entry.read = true;
+        entries.put(id, entry);
+        return entry;
+    }
+
+    /**
+     * Caches process instance that has just been read from the server in given version. Nothing is cached
+     * when the reserved entry has been invalidated in the meantime.
+     * @param id process instance id
+     * @param reserved entry reserved before the read
+     * @param version version of the process instance returned by the server
+     * @param processInstance process instance to be cached
+     * @param weight size of the marshalled process instance
+     * @return true if the process instance has been cached
+     */
+    public synchronized boolean completeRead(String id, Entry reserved, long version, ProcessInstance processInstance, int weight) {
+        if (entries.get(id) != reserved) {
+            return false;
+        }
+        reserved.version = version;
+        return cache(id, reserved, processInstance, weight);
+    }
+
+    /**
+     * Drops reserved entry that is not going to be completed, e.g. because the read failed.
+     */
+    public synchronized void release(String id, Entry reserved) {
+        if (entries.get(id) == reserved) {
+            remove(id);
+        }
+    }
+
+    public synchronized void invalidate(String id) {
+        if (remove(id) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    @ClientCacheEntryCreated
+    public void handleCreatedEvent(ClientCacheEntryCreatedEvent<String> e) {
+        handleWrite(e.getKey(), e.getVersion());
+    }
+
+    @ClientCacheEntryModified
+    public void handleModifiedEvent(ClientCacheEntryModifiedEvent<String> e) {
+        handleWrite(e.getKey(), e.getVersion());
+    }
+
+    @ClientCacheEntryRemoved
+    public void handleRemovedEvent(ClientCacheEntryRemovedEvent<String> e) {
+        invalidate(e.getKey());
+    }
+
+    @ClientCacheEntryExpired
+    public void handleExpiredEvent(ClientCacheEntryExpiredEvent<String> e) {
+        invalidate(e.getKey());
+    }
+
+    @ClientCacheFailover
+    public void handleFailover(ClientCacheFailoverEvent e) {
+        // events might have been lost
+        clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public synchronized int getEntries() {
+        return entries.size();
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    protected synchronized void handleWrite(String id, long version) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return;
+        }
+        if (entry.version == UNKNOWN_VERSION) {
+            if (entry.read) {
+                // pending read might return the state before this write
+                invalidate(id);
+            } else if (version != entry.previousVersion) {
+                // writes of a key are observed in order, so first write after the replaced version is ours
+                entry.version = version;
+            }
+        } else if (entry.version != version) {
+            invalidate(id);
+        }
+    }
+
+    private boolean cache(String id, Entry entry, ProcessInstance processInstance, int weight) {
+        if (weight > maxSize) {
+            remove(id);
+            return false;
+        }
+        entry.processInstance = processInstance;
+        entry.weight = weight;
+        size += weight;
+
+        Iterator<Entry> it = entries.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= it.next().weight;
+            it.remove();
+            evictions.incrementAndGet();
+        }
+        return true;
+    }
+
+    private Entry remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            size -= entry.weight;
+        }
+        return entry;
+    }
+
+    public static class Entry {
+
+        private final long previousVersion;
+        private boolean read;
+        private ProcessInstance processInstance;
+        private int weight;
+        private long version = UNKNOWN_VERSION;
+
+        Entry(long previousVersion) {
+            this.previousVersion = previousVersion;
+        }
+
+        public ProcessInstance processInstance() {
+            return processInstance;
+        }
+
+        public long version() {
+            return version;
+        }
+    }
+}
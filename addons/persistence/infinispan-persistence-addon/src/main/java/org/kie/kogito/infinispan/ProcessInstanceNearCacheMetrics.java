@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.infinispan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+
+/**
+ * Publishes statistics of the near caches of all processes to the default Prometheus registry,
+ * labelled by process id, so the near cache can be sized.
+ */
+public class ProcessInstanceNearCacheMetrics extends Collector {
+
+    private static final List<String> LABEL_NAMES = Collections.singletonList("process_id");
+
+    private static final ProcessInstanceNearCacheMetrics INSTANCE = new ProcessInstanceNearCacheMetrics().register();
+
+    private final Map<String, ProcessInstanceNearCache> nearCaches = new ConcurrentHashMap<>();
+
+    public static void add(String processId, ProcessInstanceNearCache nearCache) {
+        INSTANCE.nearCaches.put(processId, nearCache);
+    }
+
+    public static void remove(String processId, ProcessInstanceNearCache nearCache) {
+        INSTANCE.nearCaches.remove(processId, nearCache);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        return Arrays.asList(
+                counter("kie_process_instance_near_cache_hits_total", "Process instances taken from the near cache", ProcessInstanceNearCache::getHits),
+                counter("kie_process_instance_near_cache_misses_total", "Process instances not found in the near cache", ProcessInstanceNearCache::getMisses),
+                counter("kie_process_instance_near_cache_evictions_total", "Process instances evicted from the near cache", ProcessInstanceNearCache::getEvictions),
+                counter("kie_process_instance_near_cache_invalidations_total", "Process instances invalidated in the near cache", ProcessInstanceNearCache::getInvalidations),
+                gauge("kie_process_instance_near_cache_entries", "Process instances kept in the near cache", ProcessInstanceNearCache::getEntries),
+                gauge("kie_process_instance_near_cache_size_bytes", "Marshalled size of the process instances kept in the near cache", ProcessInstanceNearCache::getSize));
+    }
+
+    private MetricFamilySamples counter(String name, String help, ToDoubleFunction<ProcessInstanceNearCache> value) {
+        CounterMetricFamily family = new CounterMetricFamily(name, help, LABEL_NAMES);
+        nearCaches.forEach((processId, nearCache) -> family.addMetric(Collections.singletonList(processId), value.applyAsDouble(nearCache)));
+        return family;
+    }
+
+    private MetricFamilySamples gauge(String name, String help, ToDoubleFunction<ProcessInstanceNearCache> value) {
+        GaugeMetricFamily family = new GaugeMetricFamily(name, help, LABEL_NAMES);
+        nearCaches.forEach((processId, nearCache) -> family.addMetric(Collections.singletonList(processId), value.applyAsDouble(nearCache)));
+        return family;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.infinispan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers process instance writes and flushes them to the remote cache in batches.
+ * Multiple writes to the same process instance within single flush interval are coalesced
+ * so only the latest state is sent. Number of pending process instances is bounded, once
+ * the limit is reached writers are blocked until the next flush completes.
+ * <p>
+ * Writes that could not be stored are kept and retried with the next flush unless they have been
+ * replaced by a newer write in the meantime. Once the buffer is closed writes are stored synchronously.
+ * Closing the buffer retries the final flush and reports writes that could not be stored.
+ */
+public class WriteBehindBuffer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    static final byte[] REMOVED = new byte[0];
+
+    private static final int CLOSE_FLUSH_ATTEMPTS = 3;
+    private static final long CLOSE_FLUSH_BACKOFF_MILLIS = 100;
+
+    private final RemoteCache<String, byte[]> cache;
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore capacity;
+    private final ScheduledExecutorService flusher;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+
+    public WriteBehindBuffer(RemoteCache<String, byte[]> cache, long flushInterval, int maxPending) {
+        this.cache = cache;
+        this.capacity = new Semaphore(maxPending);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kogito-write-behind-" + cache.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        
+        // last resort only, the owner is expected to close the buffer when the application stops
+        this.shutdownHook = new Thread(this::flush);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    public void put(String id, byte[] data) {
+        enqueue(id, data);
+    }
+
+    public void remove(String id) {
+        enqueue(id, REMOVED);
+    }
+
+    /**
+     * Returns not yet stored state of given process instance.
+     * @param id process instance id
+     * @return pending data, {@link #REMOVED} if instance has been removed or null if there is nothing pending
+     */
+    public byte[] get(String id) {
+        byte[] data = pending.get(id);
+        if (data == null) {
+            data = inFlight.get(id);
+        }
+        return data;
+    }
+
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, byte[]> updates = new HashMap<>();
+        List<String> removals = new ArrayList<>();
+        for (String id : new ArrayList<>(pending.keySet())) {
+            byte[] data = pending.remove(id);
+            if (data == null) {
+                continue;
+            }
+            // keep it visible to readers until it is actually stored
+            inFlight.put(id, data);
+            if (data == REMOVED) {
+                removals.add(id);
+            } else {
+                updates.put(id, data);
+            }
+        }
+        if (!updates.isEmpty()) {
+            try {
+                cache.putAll(updates);
+                updates.forEach(this::stored);
+            } catch (Exception e) {
+                LOGGER.error("Unable to store {} process instances in cache {}, will retry", updates.size(), cache.getName(), e);
+                updates.forEach(this::failed);
+            }
+        }
+        for (String id : removals) {
+            try {
+                cache.remove(id);
+                stored(id, REMOVED);
+            } catch (Exception e) {
+                LOGGER.error("Unable to remove process instance {} from cache {}, will retry", id, cache.getName(), e);
+                failed(id, REMOVED);
+            }
+        }
+    }
+
+    /**
+     * Stops background flushes and stores all pending writes, retrying a few times when the cache fails.
+     * @throws IllegalStateException if some of the pending writes could not be stored
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (int attempt = 1; attempt <= CLOSE_FLUSH_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            flush();
+            if (!pending.isEmpty() && attempt < CLOSE_FLUSH_ATTEMPTS) {
+                pause(attempt * CLOSE_FLUSH_BACKOFF_MILLIS);
+            }
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // already shutting down
+        }
+        if (!pending.isEmpty()) {
+            throw new IllegalStateException("Unable to store process instances " + pending.keySet() + " in cache " + cache.getName());
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected void enqueue(String id, byte[] data) {
+        if (pending.put(id, data) == null && !capacity.tryAcquire()) {
+            requestFlush();
+            capacity.acquireUninterruptibly();
+        }
+        if (closed) {
+            // there are no background flushes anymore so store it right away
+            flush();
+        }
+    }
+
+    protected void requestFlush() {
+        if (closed) {
+            flush();
+            return;
+        }
+        try {
+            flusher.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // closed in the meantime
+            flush();
+        }
+    }
+
+    private void stored(String id, byte[] data) {
+        inFlight.remove(id, data);
+        capacity.release();
+    }
+
+    private void failed(String id, byte[] data) {
+        // requeue unless there is a newer write, requeued entry keeps its slot of the pending limit
+        if (pending.putIfAbsent(id, data) != null) {
+            capacity.release();
+        }
+        inFlight.remove(id, data);
+    }
+}
@@ -17,6 +17,7 @@ package org.kie.kogito.persistence;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.protostream.MessageMarshaller;
@@ -31,6 +32,8 @@ import org.kie.kogito.process.ProcessInstancesFactory;
 public abstract class KogitoProcessInstancesFactory implements ProcessInstancesFactory {
    
     protected RemoteCacheManager cacheManager; 
+    
+    private final List<CacheProcessInstances> created = new CopyOnWriteArrayList<>();
 
     public KogitoProcessInstancesFactory(RemoteCacheManager cacheManager) {
         this.cacheManager = cacheManager;
@@ -38,7 +41,33 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
     
     public CacheProcessInstances createProcessInstances(Process<?> process) {
         List<?> marshallers = marshallers();
-        return new CacheProcessInstances(process, cacheManager, template(), proto(), marshallers.toArray(new MessageMarshaller<?>[marshallers.size()]));
+        long writeBehindInterval = writeBehind() ? writeBehindInterval() : 0;
+        CacheProcessInstances processInstances = new CacheProcessInstances(process, cacheManager, template(), writeBehindInterval, writeBehindMaxPending(), nearCacheMaxSize(), proto(), marshallers.toArray(new MessageMarshaller<?>[marshallers.size()]));
+        created.add(processInstances);
+        return processInstances;
+    }
+    
+    /**
+     * Closes all process instances created by this factory, storing their pending writes when write behind is enabled.
+     * Meant to be called when the application shuts down, the generated factory does so when it is destroyed.
+     */
+    public void close() {
+        RuntimeException failure = null;
+        for (CacheProcessInstances processInstances : created) {
+            try {
+                processInstances.close();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        created.clear();
+        if (failure != null) {
+            throw failure;
+        }
     }
     
     public String proto() {
@@ -52,4 +81,30 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
     public String template() {
         return null;
     }
+    
+    public boolean writeBehind() {
+        return false;
+    }
+    
+    /**
+     * Interval in milliseconds in which buffered writes are stored when write behind is enabled
+     */
+    public long writeBehindInterval() {
+        return 50;
+    }
+    
+    /**
+     * Max number of process instances waiting to be stored when write behind is enabled
+     */
+    public int writeBehindMaxPending() {
+        return 1000;
+    }
+    
+    /**
+     * Max size (in bytes of marshalled process instances) of the near cache of unmarshalled process instances,
+     * 0 disables the near cache
+     */
+    public long nearCacheMaxSize() {
+        return 0;
+    }
 }
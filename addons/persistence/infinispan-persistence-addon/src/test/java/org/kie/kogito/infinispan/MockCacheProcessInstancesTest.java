@@ -24,15 +24,20 @@ import static org.kie.api.runtime.process.ProcessInstance.STATE_ERROR;
 import static org.mockito.Mockito.*;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.drools.core.io.impl.ClassPathResource;
+import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.RemoteCacheManagerAdmin;
+import org.infinispan.client.hotrod.impl.MetadataValueImpl;
+import org.infinispan.commons.util.CloseableIterator;
 import org.jbpm.process.instance.impl.Action;
 import org.jbpm.workflow.core.DroolsAction;
 import org.jbpm.workflow.core.WorkflowProcess;
@@ -46,6 +51,7 @@ import org.kie.kogito.persistence.KogitoProcessInstancesFactory;
 import org.kie.kogito.process.ProcessError;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceNotFoundException;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
@@ -56,7 +62,7 @@ import org.mockito.stubbing.Answer;
 
 public class MockCacheProcessInstancesTest {
     
-    private final ConcurrentHashMap<Object, Object> mockCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, MetadataValue<Object>> mockCache = new ConcurrentHashMap<>();
     private RemoteCacheManager cacheManager;
     
     @SuppressWarnings("unchecked")
@@ -70,17 +76,45 @@ public class MockCacheProcessInstancesTest {
         when(cacheManager.administration()).thenReturn(admin);
         when(admin.getOrCreateCache(any(), (String)any())).thenReturn(cache);
         
-        when(cache.put(any(), any())).then(new Answer<Object>() {
+        when(cache.withFlags(any())).thenReturn(cache);
+
+        when(cache.putIfAbsent(any(), any())).then(new Answer<Object>() {
+
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Object key = invocation.getArgument(0, Object.class);
+                Object value = invocation.getArgument(1, Object.class);
+                MetadataValue<Object> existing = mockCache.putIfAbsent(key, metadataValue(1, value));
+                return existing == null ? null : existing.getValue();
+            }
+        });
+
+        when(cache.replaceWithVersion(any(), any(), anyLong())).then(new Answer<Object>() {
 
             @Override
             public Object answer(InvocationOnMock invocation) throws Throwable {
                 Object key = invocation.getArgument(0, Object.class);
                 Object value = invocation.getArgument(1, Object.class);
-                return mockCache.put(key, value);
+                long version = invocation.getArgument(2, Long.class);
+                MetadataValue<Object> existing = mockCache.get(key);
+                if (existing == null || existing.getVersion() != version) {
+                    return false;
+                }
+                return mockCache.replace(key, existing, metadataValue(version + 1, value));
             }
         });
         
-        when(cache.get(any())).then(new Answer<Object>() {
+        doAnswer(new Answer<Object>() {
+
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Map<Object, Object> values = invocation.getArgument(0, Map.class);
+                values.forEach((key, value) -> mockCache.put(key, metadataValue(1, value)));
+                return null;
+            }
+        }).when(cache).putAll(any());
+        
+        when(cache.getWithMetadata(any())).then(new Answer<Object>() {
 
             @Override
             public Object answer(InvocationOnMock invocation) throws Throwable {
@@ -89,6 +123,35 @@ public class MockCacheProcessInstancesTest {
                 return mockCache.get(key);
             }
         });
+
+        when(cache.retrieveEntriesWithMetadata(any(), anyInt())).then(new Answer<Object>() {
+
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Iterator<Map.Entry<Object, MetadataValue<Object>>> entries = mockCache.entrySet().iterator();
+
+                return new CloseableIterator<Map.Entry<Object, MetadataValue<Object>>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<Object, MetadataValue<Object>> next() {
+                        return entries.next();
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                };
+            }
+        });
+    }
+
+    private MetadataValue<Object> metadataValue(long version, Object value) {
+        return new MetadataValueImpl<>(-1, -1, -1, -1, version, value);
     }
 
     
@@ -112,6 +175,179 @@ public class MockCacheProcessInstancesTest {
         assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
     }
     
+    @Test
+    public void testPagedValues() {
+
+        BpmnProcess process = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        process.setProcessInstancesFactory(new CacheProcessInstancesFactory(cacheManager));
+        process.configure();
+
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+            processInstance.start();
+            assertThat(processInstance.status()).isEqualTo(STATE_ACTIVE);
+        }
+
+        assertThat(process.instances().values(0, 10)).hasSize(3);
+        assertThat(process.instances().values(1, 1)).hasSize(1);
+        assertThat(process.instances().values(3, 10)).isEmpty();
+        assertThat(process.instances().stream().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testConcurrentUpdate() {
+
+        BpmnProcess process = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        process.setProcessInstancesFactory(new CacheProcessInstancesFactory(cacheManager));
+        process.configure();
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(STATE_ACTIVE);
+
+        ProcessInstance<BpmnVariables> first = process.instances().findById(processInstance.id()).get();
+        ProcessInstance<BpmnVariables> second = process.instances().findById(processInstance.id()).get();
+
+        first.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "first")));
+
+        assertThatThrownBy(() -> second.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "second"))))
+            .isInstanceOf(ProcessInstanceOptimisticLockingException.class);
+    }
+
+    @Test
+    public void testBasicFlowWithWriteBehind() {
+
+        BpmnProcess process = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        CacheProcessInstances instances = new CacheProcessInstancesFactory(cacheManager) {
+
+            @Override
+            public boolean writeBehind() {
+                return true;
+            }
+
+            @Override
+            public long writeBehindInterval() {
+                return 60000;
+            }
+        }.createProcessInstances(process);
+        process.setProcessInstancesFactory(p -> instances);
+        process.configure();
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(STATE_ACTIVE);
+        // not yet stored but still available
+        assertThat(mockCache).isEmpty();
+        assertThat(process.instances().findById(processInstance.id())).isPresent();
+
+        WorkItem workItem = processInstance.workItems(SecurityPolicy.of(new StaticIdentityProvider("john"))).get(0);
+        assertThat(workItem).isNotNull();
+
+        instances.close();
+        assertThat(mockCache).containsKey(processInstance.id());
+    }
+
+    @Test
+    public void testFactoryCloseStoresPendingWrites() {
+
+        BpmnProcess process = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        KogitoProcessInstancesFactory factory = new CacheProcessInstancesFactory(cacheManager) {
+
+            @Override
+            public boolean writeBehind() {
+                return true;
+            }
+
+            @Override
+            public long writeBehindInterval() {
+                return 60000;
+            }
+        };
+        process.setProcessInstancesFactory(factory);
+        process.configure();
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        assertThat(mockCache).isEmpty();
+
+        factory.close();
+        assertThat(mockCache).containsKey(processInstance.id());
+    }
+
+    @Test
+    public void testBasicFlowWithNearCache() {
+
+        BpmnProcess process = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        CacheProcessInstances instances = new CacheProcessInstancesFactory(cacheManager) {
+
+            @Override
+            public long nearCacheMaxSize() {
+                return 1024 * 1024;
+            }
+        }.createProcessInstances(process);
+        process.setProcessInstancesFactory(p -> instances);
+        process.configure();
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(STATE_ACTIVE);
+
+        ProcessInstanceNearCache nearCache = instances.nearCache().get();
+        assertThat(nearCache.getEntries()).isEqualTo(1);
+        // simulate event of the write of the instance
+        nearCache.handleWrite(processInstance.id(), 1);
+
+        ProcessInstance<BpmnVariables> loaded = process.instances().findById(processInstance.id()).get();
+        assertThat(nearCache.getHits()).isEqualTo(1);
+        assertThat(nearCache.getEntries()).isEqualTo(0);
+        // already checked out so must be loaded from the cache
+        assertThat(process.instances().findById(processInstance.id())).isPresent();
+        assertThat(nearCache.getMisses()).isEqualTo(1);
+
+        WorkItem workItem = loaded.workItems(SecurityPolicy.of(new StaticIdentityProvider("john"))).get(0);
+        assertThat(workItem).isNotNull();
+        loaded.completeWorkItem(workItem.getId(), null, SecurityPolicy.of(new StaticIdentityProvider("john")));
+        assertThat(loaded.status()).isEqualTo(STATE_COMPLETED);
+    }
+
+    @Test
+    public void testNearCacheFilledOnRead() {
+
+        BpmnProcess process = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        process.setProcessInstancesFactory(new CacheProcessInstancesFactory(cacheManager));
+        process.configure();
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        // another node reads the process instance stored above
+        BpmnProcess reader = (BpmnProcess) BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        CacheProcessInstances instances = new CacheProcessInstancesFactory(cacheManager) {
+
+            @Override
+            public long nearCacheMaxSize() {
+                return 1024 * 1024;
+            }
+        }.createProcessInstances(reader);
+        reader.setProcessInstancesFactory(p -> instances);
+        reader.configure();
+        ProcessInstanceNearCache nearCache = instances.nearCache().get();
+
+        ProcessInstance<BpmnVariables> first = reader.instances().findById(processInstance.id()).get();
+        assertThat(first.status()).isEqualTo(STATE_ACTIVE);
+        assertThat(first.variables().toMap()).containsEntry("test", "test");
+        assertThat(nearCache.getMisses()).isEqualTo(1);
+        assertThat(nearCache.getEntries()).isEqualTo(1);
+
+        // first reader did not use the instance so the next one takes it from the near cache
+        ProcessInstance<BpmnVariables> second = reader.instances().findById(processInstance.id()).get();
+        assertThat(nearCache.getHits()).isEqualTo(1);
+        assertThat(nearCache.getEntries()).isEqualTo(0);
+
+        WorkItem workItem = second.workItems(SecurityPolicy.of(new StaticIdentityProvider("john"))).get(0);
+        second.completeWorkItem(workItem.getId(), null, SecurityPolicy.of(new StaticIdentityProvider("john")));
+        assertThat(second.status()).isEqualTo(STATE_COMPLETED);
+    }
+
     @Test
     public void testProcessInstanceNotFound() {
         
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.infinispan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.process.ProcessInstance;
+
+public class ProcessInstanceNearCacheTest {
+
+    @Test
+    public void testCheckoutOnlyWhenVersionKnown() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+        ProcessInstance processInstance = mock(ProcessInstance.class);
+
+        put(nearCache, "1", 5, processInstance, 10);
+        assertThat(nearCache.checkout("1")).isNull();
+
+        // late event of the replaced version is ignored
+        nearCache.handleWrite("1", 5);
+        assertThat(nearCache.checkout("1")).isNull();
+
+        nearCache.handleWrite("1", 6);
+        ProcessInstanceNearCache.Entry entry = nearCache.checkout("1");
+        assertThat(entry).isNotNull();
+        assertThat(entry.version()).isEqualTo(6);
+        assertThat(entry.processInstance()).isSameAs(processInstance);
+
+        assertThat(nearCache.checkout("1")).isNull();
+        assertThat(nearCache.getHits()).isEqualTo(1);
+        assertThat(nearCache.getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    public void testInvalidateOnOtherWrite() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+
+        put(nearCache, "1", 0, mock(ProcessInstance.class), 10);
+        nearCache.handleWrite("1", 1);
+        nearCache.handleWrite("1", 2);
+
+        assertThat(nearCache.getEntries()).isEqualTo(0);
+        assertThat(nearCache.getSize()).isEqualTo(0);
+        assertThat(nearCache.getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+
+        put(nearCache, "1", 0, mock(ProcessInstance.class), 40);
+        put(nearCache, "2", 0, mock(ProcessInstance.class), 40);
+        nearCache.handleWrite("1", 1);
+        put(nearCache, "3", 0, mock(ProcessInstance.class), 40);
+
+        assertThat(nearCache.getEntries()).isEqualTo(2);
+        assertThat(nearCache.getSize()).isEqualTo(80);
+        assertThat(nearCache.getEvictions()).isEqualTo(1);
+        assertThat(nearCache.checkout("1")).isNotNull();
+
+        // larger than the cache itself
+        put(nearCache, "4", 0, mock(ProcessInstance.class), 200);
+        assertThat(nearCache.getEntries()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOwnWriteObservedBeforeComplete() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+        ProcessInstance processInstance = mock(ProcessInstance.class);
+
+        ProcessInstanceNearCache.Entry reserved = nearCache.reserve("1", 5);
+        nearCache.handleWrite("1", 6);
+        assertThat(nearCache.checkout("1")).isNull();
+        nearCache.complete("1", reserved, processInstance, 10);
+
+        ProcessInstanceNearCache.Entry entry = nearCache.checkout("1");
+        assertThat(entry).isNotNull();
+        assertThat(entry.version()).isEqualTo(6);
+        assertThat(entry.processInstance()).isSameAs(processInstance);
+    }
+
+    @Test
+    public void testRemoteWriteBeforeComplete() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+
+        ProcessInstanceNearCache.Entry reserved = nearCache.reserve("1", 5);
+        // our write followed by write of another node, both observed before the local update completes
+        nearCache.handleWrite("1", 6);
+        nearCache.handleWrite("1", 7);
+        nearCache.complete("1", reserved, mock(ProcessInstance.class), 10);
+
+        assertThat(nearCache.checkout("1")).isNull();
+        assertThat(nearCache.getEntries()).isEqualTo(0);
+        assertThat(nearCache.getSize()).isEqualTo(0);
+        // even later events must not make the stale instance available
+        nearCache.handleWrite("1", 8);
+        assertThat(nearCache.checkout("1")).isNull();
+    }
+
+    @Test
+    public void testReadCachedWithItsVersion() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+        ProcessInstance processInstance = mock(ProcessInstance.class);
+
+        ProcessInstanceNearCache.Entry reserved = nearCache.reserveRead("1");
+        assertThat(nearCache.completeRead("1", reserved, 3, processInstance, 10)).isTrue();
+        // late event of the version that has been read is not another write
+        nearCache.handleWrite("1", 3);
+
+        ProcessInstanceNearCache.Entry entry = nearCache.checkout("1");
+        assertThat(entry).isNotNull();
+        assertThat(entry.version()).isEqualTo(3);
+        assertThat(entry.processInstance()).isSameAs(processInstance);
+    }
+
+    @Test
+    public void testWriteDuringReadInvalidatesReservation() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+
+        ProcessInstanceNearCache.Entry reserved = nearCache.reserveRead("1");
+        nearCache.handleWrite("1", 4);
+
+        assertThat(nearCache.completeRead("1", reserved, 3, mock(ProcessInstance.class), 10)).isFalse();
+        assertThat(nearCache.checkout("1")).isNull();
+        assertThat(nearCache.getEntries()).isEqualTo(0);
+    }
+
+    @Test
+    public void testReadDoesNotReplacePendingWrite() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+
+        ProcessInstanceNearCache.Entry written = nearCache.reserve("1", 5);
+        assertThat(nearCache.reserveRead("1")).isNull();
+
+        nearCache.handleWrite("1", 6);
+        nearCache.complete("1", written, mock(ProcessInstance.class), 10);
+        assertThat(nearCache.checkout("1").version()).isEqualTo(6);
+    }
+
+    @Test
+    public void testMetricsPublished() {
+        ProcessInstanceNearCache nearCache = new ProcessInstanceNearCache(100);
+        put(nearCache, "1", 0, mock(ProcessInstance.class), 10);
+        nearCache.handleWrite("1", 1);
+        nearCache.checkout("1");
+        nearCache.checkout("1");
+
+        ProcessInstanceNearCacheMetrics.add("metricsTest", nearCache);
+        try {
+            assertThat(sample("kie_process_instance_near_cache_hits_total", "metricsTest")).isEqualTo(1);
+            assertThat(sample("kie_process_instance_near_cache_misses_total", "metricsTest")).isEqualTo(1);
+            assertThat(sample("kie_process_instance_near_cache_entries", "metricsTest")).isEqualTo(0);
+        } finally {
+            ProcessInstanceNearCacheMetrics.remove("metricsTest", nearCache);
+        }
+        assertThat(CollectorRegistry.defaultRegistry.getSampleValue("kie_process_instance_near_cache_hits_total",
+                                                                    new String[]{"process_id"}, new String[]{"metricsTest"})).isNull();
+    }
+
+    private Double sample(String name, String processId) {
+        return CollectorRegistry.defaultRegistry.getSampleValue(name, new String[]{"process_id"}, new String[]{processId});
+    }
+
+    private void put(ProcessInstanceNearCache nearCache, String id, long previousVersion, ProcessInstance processInstance, int weight) {
+        nearCache.complete(id, nearCache.reserve(id, previousVersion), processInstance, weight);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.infinispan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindBufferTest {
+
+    private static final long NO_BACKGROUND_FLUSH = 3_600_000;
+
+    private Map<String, byte[]> stored;
+    private RemoteCache<String, byte[]> cache;
+    private WriteBehindBuffer buffer;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        stored = new ConcurrentHashMap<>();
+        cache = mock(RemoteCache.class);
+        when(cache.getName()).thenReturn("test");
+        doAnswer(invocation -> {
+            stored.putAll(invocation.getArgument(0));
+            return null;
+        }).when(cache).putAll(anyMap());
+        buffer = new WriteBehindBuffer(cache, NO_BACKGROUND_FLUSH, 10);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        buffer.close();
+    }
+
+    @Test
+    public void testFailedWriteIsRetried() {
+        byte[] data = new byte[]{1};
+        failNextPutAll(() -> {});
+
+        buffer.put("1", data);
+        buffer.flush();
+        assertThat(stored).isEmpty();
+        assertThat(buffer.get("1")).isSameAs(data);
+
+        buffer.flush();
+        assertThat(stored).containsEntry("1", data);
+        assertThat(buffer.get("1")).isNull();
+    }
+
+    @Test
+    public void testFailedWriteDoesNotReplaceNewerWrite() {
+        byte[] older = new byte[]{1};
+        byte[] newer = new byte[]{2};
+        failNextPutAll(() -> buffer.put("1", newer));
+
+        buffer.put("1", older);
+        buffer.flush();
+        assertThat(buffer.get("1")).isSameAs(newer);
+
+        buffer.flush();
+        assertThat(stored).containsEntry("1", newer);
+    }
+
+    @Test
+    public void testWriteAfterCloseIsStoredSynchronously() {
+        byte[] data = new byte[]{1};
+        buffer.close();
+
+        buffer.put("1", data);
+        assertThat(stored).containsEntry("1", data);
+        assertThat(buffer.get("1")).isNull();
+    }
+
+    @Test
+    public void testFailedFlushIsRetriedOnClose() {
+        byte[] data = new byte[]{1};
+        failNextPutAll(() -> {});
+
+        buffer.put("1", data);
+        buffer.close();
+
+        assertThat(stored).containsEntry("1", data);
+        assertThat(buffer.get("1")).isNull();
+    }
+
+    @Test
+    public void testUnstoredWritesReportedOnClose() {
+        doThrow(new IllegalStateException("cache not available")).when(cache).putAll(anyMap());
+
+        buffer.put("1", new byte[]{1});
+
+        assertThatThrownBy(buffer::close).isInstanceOf(IllegalStateException.class).hasMessageContaining("[1]");
+        assertThat(buffer.get("1")).isNotNull();
+
+        doAnswer(invocation -> {
+            stored.putAll(invocation.getArgument(0));
+            return null;
+        }).when(cache).putAll(anyMap());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failNextPutAll(Runnable whileStoring) {
+        doAnswer(invocation -> {
+            whileStoring.run();
+            throw new IllegalStateException("cache not available");
+        }).doAnswer(invocation -> {
+            stored.putAll(invocation.getArgument(0));
+            return null;
+        }).when(cache).putAll(anyMap());
+    }
+}
@@ -61,4 +61,37 @@ public interface KieBaseConfigurationMonitorMBean {
     @Deprecated
     public boolean isShareBetaNodes();
 
+    public boolean isEagerJitting();
+
+    public int getJittingThreshold();
+
+    /**
+     * The number of constraints scheduled for jitting, either at their first evaluation
+     * in eager jitting mode or when they reach the jitting threshold
+     */
+    public long getScheduledJittingConstraints();
+
+    public long getPendingJittingConstraints();
+
+    public long getJittedConstraints();
+
+    /**
+     * The number of constraints that couldn't be jitted and are evaluated in interpreted mode
+     */
+    public long getInterpretedFallbackConstraints();
+
+    /**
+     * The number of parallel evaluations of each partition of the rule base, indexed by partition
+     */
+    public long[] getPartitionEvaluations();
+
+    /**
+     * The number of rules fired by the parallel evaluations of each partition, indexed by partition
+     */
+    public long[] getPartitionFiredRules();
+
+    public long[] getPartitionAverageLatencyNanos();
+
+    public long[] getPartitionMaxLatencyNanos();
+
 }
@@ -80,4 +80,11 @@ public interface WorkflowProcessInstance
      */
     String getErrorMessage();
 
+    /**
+     * Returns sequence number of the last unit of work that changed this process instance. It is stored
+     * together with the process instance so it keeps increasing regardless of which node changed it.
+     * @return event sequence number, 0 if the process instance has not been stored yet
+     */
+    long getEventSequence();
+
 }
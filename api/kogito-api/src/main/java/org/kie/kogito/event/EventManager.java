@@ -58,4 +58,11 @@ public interface EventManager {
      * @param addons addons available in the service
      */
     void setAddons(Addons addons);
+    
+    /**
+     * Enables delta mode for process instance events, in this mode events carry only
+     * variables that changed within the unit of work instead of all process instance variables
+     * @param variablesDelta true if only changed variables should be included in events
+     */
+    void setVariablesDelta(boolean variablesDelta);
 }
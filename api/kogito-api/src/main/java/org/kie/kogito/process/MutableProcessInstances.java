@@ -17,6 +17,14 @@ package org.kie.kogito.process;
 
 public interface MutableProcessInstances<T> extends ProcessInstances<T> {
     
+    /**
+     * Stores given process instance. Implementations are expected to only store the instance
+     * when it was not modified by others since it has been loaded.
+     *
+     * @param id process instance id
+     * @param instance process instance to be stored
+     * @throws ProcessInstanceOptimisticLockingException in case process instance was concurrently modified
+     */
     void update(String id, ProcessInstance<T> instance);
     
     void remove(String id);
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.process;
+
+/**
+ * Thrown when process instance could not be stored because it has been modified
+ * concurrently (e.g. by another node) since it was loaded.
+ * 
+ */
+public class ProcessInstanceOptimisticLockingException extends RuntimeException {
+
+    private static final long serialVersionUID = -6138237482720436931L;
+
+    private String processInstanceId;
+    private boolean retryable;
+
+    public ProcessInstanceOptimisticLockingException(String processInstanceId) {
+        this(processInstanceId, false);
+    }
+
+    public ProcessInstanceOptimisticLockingException(String processInstanceId, boolean retryable) {
+        super("Process instance with id " + processInstanceId + " has been modified concurrently");
+        this.processInstanceId = processInstanceId;
+        this.retryable = retryable;
+    }
+
+    /**
+     * Returns process instance id of the instance that was concurrently modified.
+     * @return process instance id
+     */
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    /**
+     * Returns true when nothing of the unit of work that failed has been stored yet,
+     * so the whole work can safely be executed again.
+     * @return true if the work can be retried
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+}
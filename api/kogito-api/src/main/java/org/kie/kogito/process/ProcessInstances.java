@@ -17,6 +17,8 @@ package org.kie.kogito.process;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface ProcessInstances<T> {
 
@@ -24,4 +26,29 @@ public interface ProcessInstances<T> {
 
     Collection<? extends ProcessInstance<T>> values();
 
+    /**
+     * Returns single page of process instances, skipping first <code>offset</code> instances
+     * and returning at most <code>limit</code> of them. Only instances that belong to the
+     * requested page are expected to be materialized.
+     *
+     * @param offset number of instances to skip
+     * @param limit maximum number of instances to return
+     * @return collection of process instances of the requested page
+     */
+    default Collection<? extends ProcessInstance<T>> values(int offset, int limit) {
+        try (Stream<? extends ProcessInstance<T>> instances = stream()) {
+            return instances.skip(offset).limit(limit).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns lazy stream of all process instances. Returned stream might hold resources
+     * of the underlying store and thus should be closed once consumed.
+     *
+     * @return stream of process instances
+     */
+    default Stream<? extends ProcessInstance<T>> stream() {
+        return values().stream();
+    }
+
 }
@@ -21,6 +21,12 @@ import org.kie.api.internal.utils.ServiceRegistry;
 public interface DataSource<T> {
     void subscribe(DataProcessor<T> subscriber);
 
+    /**
+     * Stops notifying the given subscriber, sources that do not keep their subscribers have nothing to do
+     */
+    default void unsubscribe(DataProcessor<T> subscriber) {
+    }
+
     interface Factory {
         <T> DataStream<T> createStream();
         <T> DataStore<T> createStore();
@@ -29,4 +29,10 @@ public interface RuleUnitInstance<T extends RuleUnitData> {
     List<Map<String, Object>> executeQuery(String query, Object... arguments);
 
     <T extends SessionClock> T getClock();
+
+    /**
+     * Releases the session backing this instance, that must not be used afterwards
+     */
+    default void dispose() {
+    }
 }
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.EventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event publisher that hands events over to the delegate publisher on a dedicated thread
+ * so the caller does not wait for the delivery. Events are kept in a bounded in memory buffer and
+ * delivered in the order they were published, so events not yet delivered are lost when the
+ * application crashes.
+ * <p>
+ * Variables, inputs and outputs carried by the events are copied when the events are published, so
+ * later changes of the process instance do not leak into them. Only maps, collections and arrays are
+ * copied, other variable values are expected not to be modified in place once the unit of work completed.
+ * <p>
+ * Two modes are supported:
+ * <ul>
+ *  <li>{@link Mode#BLOCKING} - publishers are blocked when the buffer is full and failed
+ *  deliveries are retried until they succeed, with the delay between attempts growing up to
+ *  the configured number of retries, so events are delivered at least once</li>
+ *  <li>{@link Mode#FIRE_AND_FORGET} - events are dropped when the buffer is full and failed
+ *  deliveries are not retried</li>
+ * </ul>
+ * Once closed, remaining events are delivered by the delivery thread and newly published ones
+ * are delivered directly by the caller.
+ * <p>
+ * When Prometheus client is on the class path, delivery statistics and the queue depth are published
+ * to its default registry, see {@link AsyncEventPublisherMetrics}.
+ */
+public class AsyncEventPublisher implements EventPublisher, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventPublisher.class);
+
+    private static final boolean PROMETHEUS_AVAILABLE = isPrometheusAvailable();
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    public static final int DEFAULT_MAX_RETRIES = 5;
+    public static final long DEFAULT_RETRY_DELAY = 100;
+
+    public enum Mode {
+        BLOCKING,
+        FIRE_AND_FORGET;
+
+        /**
+         * Resolves mode from its configuration value e.g. <code>blocking</code> or <code>fire-and-forget</code>
+         * @param value configuration value
+         * @return mode matching given value
+         */
+        public static Mode fromValue(String value) {
+            return Mode.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private final EventPublisher delegate;
+    private final Mode mode;
+    private final int maxRetries;
+    private final long retryDelay;
+    private final BlockingQueue<PendingEvents> buffer;
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private volatile boolean running = true;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder latency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public AsyncEventPublisher(EventPublisher delegate, Mode mode) {
+        this(delegate, mode, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_RETRIES, DEFAULT_RETRY_DELAY);
+    }
+
+    public AsyncEventPublisher(EventPublisher delegate, Mode mode, int bufferSize, int maxRetries, long retryDelay) {
+        this.delegate = delegate;
+        this.mode = mode;
+        this.maxRetries = mode == Mode.BLOCKING ? maxRetries : 0;
+        this.retryDelay = retryDelay;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.worker = new Thread(this::deliver, "kogito-event-publisher-" + delegate.getClass().getSimpleName());
+        this.worker.setDaemon(true);
+        this.worker.start();
+
+        this.shutdownHook = new Thread(this::stop);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        if (PROMETHEUS_AVAILABLE) {
+            AsyncEventPublisherMetrics.add(this);
+        }
+    }
+
+    private static boolean isPrometheusAvailable() {
+        try {
+            Class.forName("io.prometheus.client.Collector", false, AsyncEventPublisher.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void publish(DataEvent<?> event) {
+        publish(Collections.singletonList(event));
+    }
+
+    @Override
+    public void publish(Collection<DataEvent<?>> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        PendingEvents pending = new PendingEvents(snapshot(events));
+        if (!running) {
+            // already closed, deliver whatever is still buffered first to keep the order
+            deliverLeftovers();
+            deliver(pending);
+            return;
+        }
+        if (mode == Mode.FIRE_AND_FORGET) {
+            if (!buffer.offer(pending)) {
+                dropped.add(events.size());
+                LOGGER.debug("Event buffer of {} is full, dropping {} events", delegate, events.size());
+            }
+        } else {
+            put(pending);
+        }
+        if (!running) {
+            // closed concurrently, delivery thread might have already finished
+            deliverLeftovers();
+        }
+    }
+
+    private void put(PendingEvents pending) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                buffer.put(pending);
+                break;
+            } catch (InterruptedException e) {
+                // do not lose nor reorder events of interrupted publisher
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return publisher the events are delivered with
+     */
+    public EventPublisher getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return number of event collections waiting for delivery
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getRetriedCount() {
+        return retried.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return average time in nanoseconds between publishing events and their delivery
+     */
+    public long getAveragePublishLatency() {
+        long count = published.sum();
+        return count == 0 ? 0 : latency.sum() / count;
+    }
+
+    /**
+     * @return total time in nanoseconds between publishing events and their delivery, summed over all delivered events
+     */
+    public long getTotalPublishLatency() {
+        return latency.sum();
+    }
+
+    /**
+     * @return maximum time in nanoseconds between publishing events and their delivery
+     */
+    public long getMaxPublishLatency() {
+        return maxLatency.get();
+    }
+
+    @Override
+    public void close() {
+        stop();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // already shutting down
+        }
+        if (PROMETHEUS_AVAILABLE) {
+            AsyncEventPublisherMetrics.remove(this);
+        }
+    }
+
+    /**
+     * Stops accepting events into the buffer and waits until the delivery thread delivers all buffered events.
+     */
+    protected void stop() {
+        running = false;
+        try {
+            worker.join(TimeUnit.MINUTES.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            LOGGER.warn("{} event collections were not delivered with {} in time", buffer.size(), delegate);
+        }
+    }
+
+    protected void deliver() {
+        // buffered events are always delivered by this thread only, so they cannot be reordered
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingEvents pending = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (pending != null) {
+                    deliver(pending);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    protected void deliver(PendingEvents pending) {
+        for (int attempt = 0;; attempt++) {
+            try {
+                delegate.publish(pending.events);
+                recordLatency(pending);
+                return;
+            } catch (Exception e) {
+                // in blocking mode events are never given up, only the delay stops growing after max retries
+                if (mode == Mode.FIRE_AND_FORGET || !sleep(retryDelay << Math.min(attempt, maxRetries))) {
+                    failed.add(pending.events.size());
+                    LOGGER.error("Unable to publish {} events with {}", pending.events.size(), delegate, e);
+                    return;
+                }
+                retried.increment();
+                if (attempt == maxRetries) {
+                    LOGGER.error("Publishing {} events with {} failed {} times, retrying until it succeeds", pending.events.size(), delegate, attempt + 1, e);
+                } else {
+                    LOGGER.debug("Publishing events with {} failed, retrying", delegate, e);
+                }
+            }
+        }
+    }
+
+    private void deliverLeftovers() {
+        try {
+            worker.join(TimeUnit.MINUTES.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!worker.isAlive()) {
+            synchronized (buffer) {
+                PendingEvents pending;
+                while ((pending = buffer.poll()) != null) {
+                    deliver(pending);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies mutable content of given events so it is not affected by further changes of the process instances.
+     */
+    protected Collection<DataEvent<?>> snapshot(Collection<DataEvent<?>> events) {
+        for (DataEvent<?> event : events) {
+            Object data = event.getData();
+            if (data instanceof ProcessInstanceEventBody) {
+                ProcessInstanceEventBody body = (ProcessInstanceEventBody) data;
+                body.update().variables(copy(body.getVariables()));
+            } else if (data instanceof UserTaskInstanceEventBody) {
+                UserTaskInstanceEventBody body = (UserTaskInstanceEventBody) data;
+                body.update().inputs(copy(body.getInputs())).outputs(copy(body.getOutputs()));
+            }
+        }
+        return new ArrayList<>(events);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <T> T copy(T value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> copy.put(k, copy(v)));
+            return (T) copy;
+        } else if (value instanceof Set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            ((Set<?>) value).forEach(v -> copy.add(copy(v)));
+            return (T) copy;
+        } else if (value instanceof Collection) {
+            Collection<Object> copy = new ArrayList<>();
+            ((Collection<?>) value).forEach(v -> copy.add(copy(v)));
+            return (T) copy;
+        } else if (value instanceof Object[]) {
+            Object[] copy = ((Object[]) value).clone();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = copy(copy[i]);
+            }
+            return (T) copy;
+        }
+        return value;
+    }
+
+    private void recordLatency(PendingEvents pending) {
+        long elapsed = System.nanoTime() - pending.timestamp;
+        published.add(pending.events.size());
+        latency.add(elapsed * pending.events.size());
+        maxLatency.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private boolean sleep(long delay) {
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class PendingEvents {
+
+        private final Collection<DataEvent<?>> events;
+        private final long timestamp = System.nanoTime();
+
+        PendingEvents(Collection<DataEvent<?>> events) {
+            this.events = events;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import io.prometheus.client.SummaryMetricFamily;
+
+/**
+ * Publishes delivery statistics and queue depth of all asynchronous event publishers to the default
+ * Prometheus registry, labelled by the class of the publisher the events are delivered with.
+ */
+public class AsyncEventPublisherMetrics extends Collector {
+
+    private static final List<String> LABEL_NAMES = Collections.singletonList("publisher");
+
+    private static final AsyncEventPublisherMetrics INSTANCE = new AsyncEventPublisherMetrics().register();
+
+    private final Set<AsyncEventPublisher> publishers = ConcurrentHashMap.newKeySet();
+
+    public static void add(AsyncEventPublisher publisher) {
+        INSTANCE.publishers.add(publisher);
+    }
+
+    public static void remove(AsyncEventPublisher publisher) {
+        INSTANCE.publishers.remove(publisher);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        SummaryMetricFamily latency = new SummaryMetricFamily("kie_event_publisher_latency_seconds", "Time between publishing events and their delivery", LABEL_NAMES);
+        publishers.forEach(publisher -> latency.addMetric(labels(publisher),
+                                                          publisher.getPublishedCount(),
+                                                          publisher.getTotalPublishLatency() / NANOSECONDS_PER_SECOND));
+        return Arrays.asList(
+                counter("kie_event_publisher_published_total", "Events delivered", AsyncEventPublisher::getPublishedCount),
+                counter("kie_event_publisher_dropped_total", "Events dropped because the buffer was full", AsyncEventPublisher::getDroppedCount),
+                counter("kie_event_publisher_retried_total", "Failed deliveries that were retried", AsyncEventPublisher::getRetriedCount),
+                counter("kie_event_publisher_failed_total", "Events given up after failed delivery", AsyncEventPublisher::getFailedCount),
+                gauge("kie_event_publisher_queue_depth", "Event collections waiting for delivery", AsyncEventPublisher::getQueueDepth),
+                gauge("kie_event_publisher_max_latency_seconds", "Maximum time between publishing events and their delivery", publisher -> publisher.getMaxPublishLatency() / NANOSECONDS_PER_SECOND),
+                latency);
+    }
+
+    private MetricFamilySamples counter(String name, String help, ToDoubleFunction<AsyncEventPublisher> value) {
+        CounterMetricFamily family = new CounterMetricFamily(name, help, LABEL_NAMES);
+        publishers.forEach(publisher -> family.addMetric(labels(publisher), value.applyAsDouble(publisher)));
+        return family;
+    }
+
+    private MetricFamilySamples gauge(String name, String help, ToDoubleFunction<AsyncEventPublisher> value) {
+        GaugeMetricFamily family = new GaugeMetricFamily(name, help, LABEL_NAMES);
+        publishers.forEach(publisher -> family.addMetric(labels(publisher), value.applyAsDouble(publisher)));
+        return family;
+    }
+
+    private static List<String> labels(AsyncEventPublisher publisher) {
+        return Collections.singletonList(publisher.getDelegate().getClass().getName());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown by batch handlers when only some of the messages of the batch could not be handled,
+ * the remaining ones are considered handled.
+ */
+public class MessageBatchException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<Integer, Throwable> failures;
+
+    /**
+     * @param batchSize number of messages in the batch
+     * @param failures errors of the failed messages by their position in the batch
+     */
+    public MessageBatchException(int batchSize, Map<Integer, Throwable> failures) {
+        super(failures.size() + " of " + batchSize + " messages could not be handled");
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+}
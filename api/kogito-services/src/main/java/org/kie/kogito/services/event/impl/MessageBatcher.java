@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups incoming messages into batches handed over to the handler either when the batch is full
+ * or when the batch window since the first message of the batch elapsed, whichever comes first.
+ * Batches are handled one at a time, in the order they were collected, on a dedicated thread.
+ * <p>
+ * Stage returned when adding a message completes once the batch it belongs to has been handled,
+ * so the message can be acknowledged only then. It completes exceptionally when the handler fails,
+ * handlers that manage to handle part of the batch throw {@link MessageBatchException} so that
+ * only the failed messages complete exceptionally.
+ * <p>
+ * Callers are expected to stop adding messages while {@link #accepting()} is not completed,
+ * that is while too many batches are waiting to be handled.
+ *
+ * @param <T> type of the messages
+ */
+public class MessageBatcher<T> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageBatcher.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_BATCH_WINDOW = 10;
+    private static final int MAX_PENDING_BATCHES = 4;
+    private static final CompletableFuture<Void> ACCEPTING = CompletableFuture.completedFuture(null);
+
+    private final Consumer<List<T>> handler;
+    private final int batchSize;
+    private final long batchWindow;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService worker;
+    private final Deque<CompletableFuture<Void>> pendingBatches = new ArrayDeque<>();
+
+    private List<T> messages;
+    private List<CompletableFuture<Void>> completions;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public MessageBatcher(String name, Consumer<List<T>> handler) {
+        this(name, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_WINDOW, handler);
+    }
+
+    public MessageBatcher(String name, int batchSize, long batchWindow, Consumer<List<T>> handler) {
+        this.handler = handler;
+        this.batchSize = batchSize;
+        this.batchWindow = batchWindow;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "kogito-message-batch-timer-" + name));
+        this.worker = Executors.newSingleThreadExecutor(r -> daemon(r, "kogito-message-batch-" + name));
+        reset();
+    }
+
+    public CompletionStage<Void> add(T message) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Runnable batch = null;
+        synchronized (this) {
+            messages.add(message);
+            completions.add(result);
+            if (messages.size() >= batchSize) {
+                batch = take();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = timer.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch != null) {
+            worker.execute(batch);
+        }
+        return result;
+    }
+
+    /**
+     * Returns stage that completes once less than the maximum number of batches are waiting to be handled,
+     * it never blocks nor runs batches on the calling thread.
+     */
+    public synchronized CompletionStage<Void> accepting() {
+        if (pendingBatches.size() < MAX_PENDING_BATCHES) {
+            return ACCEPTING;
+        }
+        return pendingBatches.peekFirst();
+    }
+
+    public void flush() {
+        Runnable batch;
+        synchronized (this) {
+            if (messages.isEmpty()) {
+                return;
+            }
+            batch = take();
+        }
+        worker.execute(batch);
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        flush();
+        worker.shutdown();
+        try {
+            worker.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Runnable take() {
+        List<T> batch = messages;
+        List<CompletableFuture<Void>> batchCompletions = completions;
+        CompletableFuture<Void> handled = new CompletableFuture<>();
+        pendingBatches.addLast(handled);
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        reset();
+        return () -> {
+            try {
+                handler.accept(batch);
+                batchCompletions.forEach(completion -> completion.complete(null));
+            } catch (MessageBatchException e) {
+                LOGGER.error("Error when handling batch of {} messages: {}", batch.size(), e.getMessage());
+                for (int i = 0; i < batchCompletions.size(); i++) {
+                    Throwable failure = e.getFailures().get(i);
+                    if (failure == null) {
+                        batchCompletions.get(i).complete(null);
+                    } else {
+                        batchCompletions.get(i).completeExceptionally(failure);
+                    }
+                }
+            } catch (Throwable e) {
+                LOGGER.error("Error when handling batch of {} messages", batch.size(), e);
+                batchCompletions.forEach(completion -> completion.completeExceptionally(e));
+            } finally {
+                synchronized (this) {
+                    pendingBatches.remove(handled);
+                }
+                handled.complete(null);
+            }
+        };
+    }
+
+    private void reset() {
+        messages = new ArrayList<>(batchSize);
+        completions = new ArrayList<>(batchSize);
+        scheduledFlush = null;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -39,7 +39,7 @@ public class ProcessErrorEventBody {
         return new Builder(new ProcessErrorEventBody());
     }
 
-    static class Builder {
+    public static class Builder {
 
         private ProcessErrorEventBody instance;
 
@@ -17,15 +17,22 @@ package org.kie.kogito.services.event.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.kie.api.event.process.ProcessCompletedEvent;
 import org.kie.api.event.process.ProcessEvent;
 import org.kie.api.event.process.ProcessNodeEvent;
 import org.kie.api.event.process.ProcessNodeLeftEvent;
 import org.kie.api.event.process.ProcessNodeTriggeredEvent;
+import org.kie.api.event.process.ProcessStartedEvent;
+import org.kie.api.event.process.ProcessVariableChangedEvent;
 import org.kie.api.event.process.ProcessWorkItemTransitionEvent;
 import org.kie.api.runtime.process.HumanTaskWorkItem;
 import org.kie.api.runtime.process.NodeInstance;
@@ -43,42 +50,56 @@ public class ProcessInstanceEventBatch implements EventBatch {
     
     private final String service;
     private Addons addons;
+    private final boolean variablesDelta;
     private List<ProcessEvent> rawEvents = new ArrayList<>();
+    private Map<String, Set<String>> changedVariables = new HashMap<>();
+    private Set<String> startedInstances = new HashSet<>();
 
     public ProcessInstanceEventBatch(String service, Addons addons) {
+        this(service, addons, false);
+    }
+    
+    public ProcessInstanceEventBatch(String service, Addons addons, boolean variablesDelta) {
         this.service = service;
-        this.addons = addons;                
+        this.addons = addons;
+        this.variablesDelta = variablesDelta;
     }
 
     @Override
     public void append(Object rawEvent) {
         if (rawEvent instanceof ProcessEvent) {
-            rawEvents.add((ProcessEvent) rawEvent);
+            ProcessEvent event = (ProcessEvent) rawEvent;
+            rawEvents.add(event);
+            if (variablesDelta) {
+                track(event);
+            }
         }
     }
 
     @Override
     public Collection<DataEvent<?>> events() {
         Map<String, ProcessInstanceEventBody> processInstances = new LinkedHashMap<>();
+        Map<String, Map<String, NodeInstanceEventBody>> nodeInstances = new HashMap<>();
         Map<String, UserTaskInstanceEventBody> userTaskInstances = new LinkedHashMap<>();
         
         for (ProcessEvent event : rawEvents) {
-            ProcessInstanceEventBody body = processInstances.computeIfAbsent(event.getProcessInstance().getId(), key -> create(event));
+            String processInstanceId = event.getProcessInstance().getId();
+            ProcessInstanceEventBody body = processInstances.computeIfAbsent(processInstanceId, key -> create(event));
             
             if (event instanceof ProcessNodeTriggeredEvent) {
                 
-                NodeInstanceEventBody nodeInstanceBody = create((ProcessNodeEvent)event);
-                if (!body.getNodeInstances().contains(nodeInstanceBody)) {
-                    // add it only if it does not exist
-                    body.update().nodeInstance(nodeInstanceBody);
-                }
+                ProcessNodeEvent nodeEvent = (ProcessNodeEvent) event;
+                // add it only if it does not exist
+                nodeInstances.computeIfAbsent(processInstanceId, key -> new LinkedHashMap<>())
+                        .computeIfAbsent(nodeEvent.getNodeInstance().getId(), key -> create(nodeEvent));
             } else if (event instanceof ProcessNodeLeftEvent) {
                 
-                NodeInstanceEventBody nodeInstanceBody = create((ProcessNodeEvent)event);
+                ProcessNodeEvent nodeEvent = (ProcessNodeEvent) event;
+                Map<String, NodeInstanceEventBody> nodes = nodeInstances.computeIfAbsent(processInstanceId, key -> new LinkedHashMap<>());
                 // if it's already there, remove it
-                body.getNodeInstances().remove(nodeInstanceBody);
+                nodes.remove(nodeEvent.getNodeInstance().getId());
                 // and add it back as the node left event has latest information
-                body.update().nodeInstance(nodeInstanceBody);                
+                nodes.put(nodeEvent.getNodeInstance().getId(), create(nodeEvent));
             } else if (event instanceof ProcessCompletedEvent) {
                 // in case this is a process complete event always updated and date and state 
                 body.update()
@@ -94,6 +115,8 @@ public class ProcessInstanceEventBatch implements EventBatch {
             
         }
         
+        nodeInstances.forEach((processInstanceId, nodes) -> processInstances.get(processInstanceId).update().nodeInstances(nodes.values()));
+        
         Collection<DataEvent<?>> processedEvents = new ArrayList<>();
                 
         processInstances.values().stream().map(pi -> new ProcessInstanceDataEvent(extractProcessId(pi.metaData()), addons.toString(), pi.metaData(), pi)).forEach(processedEvents::add);
@@ -142,7 +165,9 @@ public class ProcessInstanceEventBatch implements EventBatch {
                 .startDate(pi.getStartDate())
                 .endDate(pi.getEndDate())
                 .state(pi.getState())
-                .variables(pi.getVariables());
+                .variables(variables(pi))
+                .variablesDelta(isDelta(pi))
+                .sequence(pi.getEventSequence());
         
         if (pi.getState() == ProcessInstance.STATE_ERROR) {
             eventBuilder.error(ProcessErrorEventBody.create()
@@ -159,6 +184,37 @@ public class ProcessInstanceEventBatch implements EventBatch {
         return eventBuilder.build();
     }
     
+    protected void track(ProcessEvent event) {
+        String processInstanceId = event.getProcessInstance().getId();
+        if (event instanceof ProcessStartedEvent) {
+            startedInstances.add(processInstanceId);
+        } else if (event instanceof ProcessVariableChangedEvent) {
+            String variableId = ((ProcessVariableChangedEvent) event).getVariableId();
+            // variables of nested scopes are prefixed with their container and are not part of process instance variables
+            if (variableId.indexOf(':') == -1) {
+                changedVariables.computeIfAbsent(processInstanceId, key -> new LinkedHashSet<>()).add(variableId);
+            }
+        }
+    }
+    
+    protected boolean isDelta(WorkflowProcessInstance pi) {
+        // process instances started within the batch always carry all variables
+        return variablesDelta && !startedInstances.contains(pi.getId());
+    }
+    
+    protected Map<String, Object> variables(WorkflowProcessInstance pi) {
+        Map<String, Object> variables = pi.getVariables();
+        if (variables == null || !isDelta(pi)) {
+            return variables;
+        }
+        Map<String, Object> changed = new LinkedHashMap<>();
+        for (String name : changedVariables.getOrDefault(pi.getId(), Collections.emptySet())) {
+            // removed variables are sent as null values
+            changed.put(name, variables.get(name));
+        }
+        return changed;
+    }
+    
     protected NodeInstanceEventBody create(ProcessNodeEvent event) {
         NodeInstance ni = event.getNodeInstance();
         
@@ -16,6 +16,7 @@
 package org.kie.kogito.services.event.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -47,6 +48,10 @@ public class ProcessInstanceEventBody {
 
     private Map<String, Object> variables;
     
+    private boolean variablesDelta;
+    
+    private Long sequence;
+    
     private ProcessErrorEventBody error;
     
     private List<String> roles;
@@ -102,6 +107,20 @@ public class ProcessInstanceEventBody {
         return variables;
     }    
     
+    /**
+     * @return true if variables contain only those changed since the previous event of this process instance
+     */
+    public boolean isVariablesDelta() {
+        return variablesDelta;
+    }
+    
+    /**
+     * @return number increasing with every unit of work of the process instance that allows consumers to detect its out of order events
+     */
+    public Long getSequence() {
+        return sequence;
+    }
+    
     public List<String> getRoles() {
         return roles;
     }
@@ -123,7 +142,7 @@ public class ProcessInstanceEventBody {
     @Override
     public String toString() {
         return "ProcessInstanceEventBody [id=" + id + ", parentInstanceId=" + parentInstanceId + ", rootInstanceId=" + rootInstanceId + ", processId=" + processId + ", rootProcessId=" + rootProcessId + ", processName=" +
-               processName + ", startDate=" + startDate + ", endDate=" + endDate + ", state=" + state + "]";
+               processName + ", startDate=" + startDate + ", endDate=" + endDate + ", state=" + state + ", sequence=" + sequence + "]";
     }
     
     @Override
@@ -155,7 +174,7 @@ public class ProcessInstanceEventBody {
         return new Builder(new ProcessInstanceEventBody());
     }
 
-    static class Builder {
+    public static class Builder {
         
         private ProcessInstanceEventBody instance;
         
@@ -213,11 +232,26 @@ public class ProcessInstanceEventBody {
             return this;
         }
         
+        public Builder nodeInstances(Collection<NodeInstanceEventBody> nodeInstances) {
+            instance.nodeInstances.addAll(nodeInstances);
+            return this;
+        }
+        
         public Builder variables(Map<String, Object> variables) {
             instance.variables = variables;
             return this;
         }
         
+        public Builder variablesDelta(boolean variablesDelta) {
+            instance.variablesDelta = variablesDelta;
+            return this;
+        }
+        
+        public Builder sequence(Long sequence) {
+            instance.sequence = sequence;
+            return this;
+        }
+        
         public Builder error(ProcessErrorEventBody error) {
             instance.error = error;
             return this;
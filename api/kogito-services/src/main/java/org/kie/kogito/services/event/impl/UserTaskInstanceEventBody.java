@@ -118,6 +118,10 @@ public class UserTaskInstanceEventBody {
         return outputs;
     }
 
+    public Builder update() {
+        return new Builder(this);
+    }
+
     public String getProcessInstanceId() {
         return processInstanceId;
     }
@@ -180,7 +184,7 @@ public class UserTaskInstanceEventBody {
         return true;
     }
 
-    static class Builder {
+    public static class Builder {
 
         private UserTaskInstanceEventBody instance;
 
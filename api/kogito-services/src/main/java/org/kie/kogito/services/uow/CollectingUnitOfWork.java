@@ -18,12 +18,14 @@ package org.kie.kogito.services.uow;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.kie.kogito.event.EventBatch;
 import org.kie.kogito.event.EventManager;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.uow.UnitOfWork;
 import org.kie.kogito.uow.WorkUnit;
 
@@ -37,6 +39,7 @@ import org.kie.kogito.uow.WorkUnit;
 public class CollectingUnitOfWork implements UnitOfWork {
     
     private Set<WorkUnit<?>> collectedWork;
+    private List<Object> performedWork = new ArrayList<>();
     private boolean done;
     
     private final EventManager eventManager;
@@ -51,6 +54,7 @@ public class CollectingUnitOfWork implements UnitOfWork {
         checkDone();
         if (collectedWork == null) {
             collectedWork = new LinkedHashSet<>();
+            performedWork.clear();
         }
     }
 
@@ -58,10 +62,18 @@ public class CollectingUnitOfWork implements UnitOfWork {
     public void end() {
         checkStarted();
         EventBatch batch = eventManager.newBatch();        
-        
         for (WorkUnit<?> work : sorted()) {
             batch.append(work.data());
-            work.perform();
+            try {
+                work.perform();
+            } catch (ProcessInstanceOptimisticLockingException e) {
+                if (!performedWork.isEmpty()) {
+                    throw e;
+                }
+                // nothing has been stored yet so the whole unit of work can be repeated
+                throw new ProcessInstanceOptimisticLockingException(e.getProcessInstanceId(), true);
+            }
+            performedWork.add(work.data());
         }
         eventManager.publish(batch);
         done();
@@ -76,6 +88,15 @@ public class CollectingUnitOfWork implements UnitOfWork {
         done();
     }
 
+    /**
+     * Returns data of the work units performed when the unit of work was ended. In case ending the unit
+     * of work failed, these are the ones whose work was done before the failure and is not reverted.
+     * @return data of the performed work units in the order they were performed
+     */
+    public List<Object> performed() {
+        return Collections.unmodifiableList(performedWork);
+    }
+
     @SuppressWarnings("rawtypes")
     @Override
     public void intercept(WorkUnit work) {
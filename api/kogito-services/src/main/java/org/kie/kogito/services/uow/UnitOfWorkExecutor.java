@@ -18,11 +18,20 @@ package org.kie.kogito.services.uow;
 import java.util.function.Supplier;
 
 import org.kie.kogito.process.ProcessInstanceExecutionException;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.uow.UnitOfWork;
 import org.kie.kogito.uow.UnitOfWorkManager;
 
 public class UnitOfWorkExecutor {
 
+    /**
+     * Name of the configuration property that defines how many times a unit of work is retried
+     * when it fails due to concurrent modification of a process instance
+     */
+    public static final String CONFLICT_RETRIES_PROPERTY = "kogito.uow.conflict-retries";
+
+    public static final int DEFAULT_CONFLICT_RETRIES = 3;
+
     public static <T> T executeInUnitOfWork(UnitOfWorkManager uowManager, Supplier<T> supplier) {
         T result = null;
         UnitOfWork uow = uowManager.newUnitOfWork();
@@ -48,4 +57,29 @@ public class UnitOfWorkExecutor {
         }
         
     }
+
+    /**
+     * Executes given supplier in unit of work and in case the work could not be completed due to
+     * concurrent modification of process instance it is retried in new unit of work. Work is only retried
+     * when the conflict was detected before any of its changes were stored, otherwise the conflict is
+     * rethrown. Supplier must be repeatable - it should load the process instance it operates on each
+     * time it is called.
+     * 
+     * @param uowManager unit of work manager
+     * @param supplier repeatable work to be executed
+     * @param retries max number of retries on concurrent modification
+     * @return result of the supplier
+     */
+    public static <T> T executeInUnitOfWork(UnitOfWorkManager uowManager, Supplier<T> supplier, int retries) {
+        int attempt = 0;
+        while (true) {
+            try {
+                return executeInUnitOfWork(uowManager, supplier);
+            } catch (ProcessInstanceOptimisticLockingException e) {
+                if (!e.isRetryable() || attempt++ >= retries) {
+                    throw e;
+                }
+            }
+        }
+    }
 }
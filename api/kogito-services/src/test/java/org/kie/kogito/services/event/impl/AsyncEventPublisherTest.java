@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.EventPublisher;
+import org.kie.kogito.services.event.ProcessInstanceDataEvent;
+
+public class AsyncEventPublisherTest {
+
+    @Test
+    public void testPublishInOrder() {
+        RecordingPublisher delegate = new RecordingPublisher();
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.BLOCKING);
+
+        List<DataEvent<?>> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            DataEvent<?> event = event();
+            events.add(event);
+            publisher.publish(event);
+        }
+        publisher.close();
+
+        assertThat(delegate.published).containsExactlyElementsOf(events);
+        assertThat(publisher.getPublishedCount()).isEqualTo(100);
+        assertThat(publisher.getQueueDepth()).isZero();
+        assertThat(publisher.getMaxPublishLatency()).isGreaterThanOrEqualTo(publisher.getAveragePublishLatency());
+    }
+
+    @Test
+    public void testRetryFailedPublish() {
+        RecordingPublisher delegate = new RecordingPublisher();
+        delegate.failures.set(2);
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.BLOCKING, 10, 3, 1);
+
+        DataEvent<?> event = event();
+        publisher.publish(event);
+        publisher.close();
+
+        assertThat(delegate.published).containsExactly(event);
+        assertThat(publisher.getRetriedCount()).isEqualTo(2);
+        assertThat(publisher.getFailedCount()).isZero();
+    }
+
+    @Test
+    public void testBlockingRetriesBeyondMaxRetries() {
+        RecordingPublisher delegate = new RecordingPublisher();
+        delegate.failures.set(5);
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.BLOCKING, 10, 2, 1);
+
+        DataEvent<?> event = event();
+        publisher.publish(event);
+        publisher.close();
+
+        // events are not given up once max retries is reached, only the delay stops growing
+        assertThat(delegate.published).containsExactly(event);
+        assertThat(publisher.getRetriedCount()).isEqualTo(5);
+        assertThat(publisher.getFailedCount()).isZero();
+    }
+
+    @Test
+    public void testMetrics() {
+        RecordingPublisher delegate = new RecordingPublisher();
+        delegate.failures.set(1);
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.BLOCKING, 10, 3, 1);
+        String[] labelNames = {"publisher"};
+        String[] labels = {RecordingPublisher.class.getName()};
+
+        publisher.publish(event());
+        publisher.publish(event());
+        publisher.stop();
+
+        CollectorRegistry registry = CollectorRegistry.defaultRegistry;
+        assertThat(registry.getSampleValue("kie_event_publisher_published_total", labelNames, labels)).isEqualTo(2.0);
+        assertThat(registry.getSampleValue("kie_event_publisher_retried_total", labelNames, labels)).isEqualTo(1.0);
+        assertThat(registry.getSampleValue("kie_event_publisher_queue_depth", labelNames, labels)).isZero();
+        assertThat(registry.getSampleValue("kie_event_publisher_latency_seconds_count", labelNames, labels)).isEqualTo(2.0);
+
+        publisher.close();
+        assertThat(registry.getSampleValue("kie_event_publisher_published_total", labelNames, labels)).isNull();
+    }
+
+    @Test
+    public void testFireAndForgetDropsWhenFull() throws Exception {
+        RecordingPublisher delegate = new RecordingPublisher();
+        CountDownLatch blocked = new CountDownLatch(1);
+        delegate.blocker = blocked;
+        delegate.failures.set(1);
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.FIRE_AND_FORGET, 1, 0, 1);
+
+        // first one is taken by the delivery thread and blocks it
+        publisher.publish(event());
+        assertThat(delegate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        // second one fills the buffer, third one is dropped
+        publisher.publish(event());
+        publisher.publish(event());
+        assertThat(publisher.getDroppedCount()).isEqualTo(1);
+
+        blocked.countDown();
+        publisher.close();
+
+        // failed delivery is not retried in fire and forget mode
+        assertThat(publisher.getFailedCount()).isEqualTo(1);
+        assertThat(publisher.getRetriedCount()).isZero();
+        assertThat(delegate.published).hasSize(1);
+    }
+
+    @Test
+    public void testVariablesSnapshotAtPublish() {
+        RecordingPublisher delegate = new RecordingPublisher();
+        CountDownLatch blocked = new CountDownLatch(1);
+        delegate.blocker = blocked;
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.BLOCKING);
+
+        Map<String, Object> variables = new HashMap<>();
+        List<String> items = new ArrayList<>();
+        items.add("first");
+        variables.put("items", items);
+        ProcessInstanceEventBody body = ProcessInstanceEventBody.create().id("1").variables(variables).build();
+        publisher.publish(new ProcessInstanceDataEvent("test", null, Collections.emptyMap(), body));
+        // process instance keeps changing after the events were published
+        variables.put("other", "value");
+        items.add("second");
+
+        blocked.countDown();
+        publisher.close();
+
+        ProcessInstanceEventBody published = (ProcessInstanceEventBody) delegate.published.get(0).getData();
+        assertThat(published.getVariables()).containsOnlyKeys("items");
+        assertThat((List<?>) published.getVariables().get("items")).containsExactly("first");
+    }
+
+    @Test
+    public void testPublishAfterClose() {
+        RecordingPublisher delegate = new RecordingPublisher();
+        AsyncEventPublisher publisher = new AsyncEventPublisher(delegate, AsyncEventPublisher.Mode.BLOCKING);
+        publisher.close();
+
+        DataEvent<?> event = event();
+        publisher.publish(event);
+
+        assertThat(delegate.published).containsExactly(event);
+    }
+
+    private static DataEvent<?> event() {
+        return new ProcessInstanceDataEvent("test", null, Collections.emptyMap(), null);
+    }
+
+    private static class RecordingPublisher implements EventPublisher {
+
+        private final List<DataEvent<?>> published = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private CountDownLatch blocker;
+
+        @Override
+        public void publish(DataEvent<?> event) {
+            publish(Collections.singletonList(event));
+        }
+
+        @Override
+        public void publish(Collection<DataEvent<?>> events) {
+            entered.countDown();
+            if (blocker != null) {
+                try {
+                    blocker.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("publish failed");
+            }
+            published.addAll(events);
+        }
+    }
+}
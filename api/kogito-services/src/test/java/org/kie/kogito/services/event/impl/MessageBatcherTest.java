@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageBatcherTest {
+
+    @Test
+    public void testFullBatchHandledRightAway() throws Exception {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        MessageBatcher<String> batcher = new MessageBatcher<>("test", 3, TimeUnit.MINUTES.toMillis(1), batches::add);
+
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for (String message : Arrays.asList("a", "b", "c")) {
+            completions.add(batcher.add(message).toCompletableFuture());
+        }
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        batcher.close();
+
+        assertThat(batches).containsExactly(Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    public void testPartialBatchHandledAfterWindow() throws Exception {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        MessageBatcher<String> batcher = new MessageBatcher<>("test", 10, 1, batches::add);
+
+        batcher.add("a");
+        batcher.add("b").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        batcher.add("c").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        batcher.close();
+
+        List<String> handled = new ArrayList<>();
+        batches.forEach(handled::addAll);
+        assertThat(handled).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testFailedBatchCompletesExceptionally() throws Exception {
+        MessageBatcher<String> batcher = new MessageBatcher<>("test", 1, 1, batch -> {
+            throw new IllegalStateException("failed");
+        });
+
+        CompletableFuture<Void> completion = batcher.add("a").toCompletableFuture();
+        batcher.close();
+
+        assertThat(completion).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testPartiallyFailedBatchFailsOnlyFailedMessages() throws Exception {
+        IllegalStateException failure = new IllegalStateException("failed");
+        MessageBatcher<String> batcher = new MessageBatcher<>("test", 3, TimeUnit.MINUTES.toMillis(1), batch -> {
+            throw new MessageBatchException(batch.size(), Collections.singletonMap(1, failure));
+        });
+
+        CompletableFuture<Void> first = batcher.add("a").toCompletableFuture();
+        CompletableFuture<Void> second = batcher.add("b").toCompletableFuture();
+        CompletableFuture<Void> third = batcher.add("c").toCompletableFuture();
+        batcher.close();
+
+        assertThat(first).isCompleted().isNotCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(third).isCompleted().isNotCompletedExceptionally();
+    }
+
+    @Test
+    public void testNotAcceptingWhileBatchesPending() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+        MessageBatcher<String> batcher = new MessageBatcher<>("test", 1, TimeUnit.MINUTES.toMillis(1), batch -> {
+            handlerThreads.add(Thread.currentThread());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(batcher.accepting()).isCompleted();
+
+        for (int i = 0; i < 5; i++) {
+            batcher.add("message-" + i);
+        }
+        CompletableFuture<Void> accepting = batcher.accepting().toCompletableFuture();
+
+        assertThat(accepting).isNotCompleted();
+        release.countDown();
+        accepting.get(5, TimeUnit.SECONDS);
+        batcher.close();
+        assertThat(handlerThreads).hasSize(5).doesNotContain(Thread.currentThread());
+    }
+}
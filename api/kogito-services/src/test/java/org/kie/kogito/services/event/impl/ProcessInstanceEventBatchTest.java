@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.left;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.nodeInstance;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.processInstance;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.triggered;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.process.NodeInstance;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.kogito.Addons;
+import org.kie.kogito.event.DataEvent;
+
+public class ProcessInstanceEventBatchTest {
+
+    @Test
+    public void testNodeInstancesOrderedByLastEvent() {
+        WorkflowProcessInstance pi = processInstance("pi1");
+        NodeInstance start = nodeInstance("n1", 1, null);
+        NodeInstance task = nodeInstance("n2", 2, null);
+        NodeInstance startLeft = nodeInstance("n1", 1, new Date());
+
+        ProcessInstanceEventBatch batch = new ProcessInstanceEventBatch("http://localhost:8080", Addons.EMTPY);
+        batch.append(triggered(pi, start));
+        batch.append(triggered(pi, task));
+        batch.append(left(pi, startLeft));
+        // triggered event of already known node instance is ignored
+        batch.append(triggered(pi, start));
+
+        Collection<DataEvent<?>> events = batch.events();
+        assertThat(events).hasSize(1);
+
+        ProcessInstanceEventBody body = (ProcessInstanceEventBody) events.iterator().next().getData();
+        assertThat(body.getId()).isEqualTo("pi1");
+        assertThat(body.getNodeInstances().stream().map(NodeInstanceEventBody::getId).collect(Collectors.toList())).containsExactly("n2", "n1");
+        assertThat(body.getNodeInstances().stream().filter(n -> n.getId().equals("n1")).findFirst().get().getLeaveTime()).isNotNull();
+    }
+
+    @Test
+    public void testNodeInstancesPerProcessInstance() {
+        WorkflowProcessInstance pi1 = processInstance("pi1");
+        WorkflowProcessInstance pi2 = processInstance("pi2");
+
+        ProcessInstanceEventBatch batch = new ProcessInstanceEventBatch("http://localhost:8080", Addons.EMTPY);
+        batch.append(triggered(pi1, nodeInstance("n1", 1, null)));
+        batch.append(triggered(pi2, nodeInstance("n2", 1, null)));
+        batch.append(triggered(pi1, nodeInstance("n3", 2, null)));
+
+        assertThat(batch.events()).extracting(e -> ((ProcessInstanceEventBody) e.getData()).getNodeInstances().size()).containsExactly(2, 1);
+    }
+}
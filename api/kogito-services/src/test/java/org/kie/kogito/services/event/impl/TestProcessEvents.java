@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.api.definition.process.Node;
+import org.kie.api.definition.process.Process;
+import org.kie.api.event.process.ProcessNodeLeftEvent;
+import org.kie.api.event.process.ProcessNodeTriggeredEvent;
+import org.kie.api.runtime.process.NodeInstance;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+
+/**
+ * Lightweight process events backed by dynamic proxies that return configured values.
+ */
+public final class TestProcessEvents {
+
+    private TestProcessEvents() {
+    }
+
+    public static WorkflowProcessInstance processInstance(String id) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getId", id);
+        values.put("getProcessId", "test");
+        values.put("getProcessName", "Test");
+        values.put("getState", org.kie.api.runtime.process.ProcessInstance.STATE_ACTIVE);
+        values.put("getStartDate", new Date());
+        values.put("getVariables", Collections.singletonMap("name", "john"));
+        values.put("getProcess", stub(Process.class, Collections.singletonMap("getMetaData", Collections.emptyMap())));
+        return stub(WorkflowProcessInstance.class, values);
+    }
+
+    public static NodeInstance nodeInstance(String id, long nodeId, Date leaveTime) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getId", id);
+        values.put("getNodeId", nodeId);
+        values.put("getNodeDefinitionId", "_" + nodeId);
+        values.put("getNodeName", "node" + nodeId);
+        values.put("getNode", stub(Node.class, Collections.emptyMap()));
+        values.put("getTriggerTime", new Date());
+        values.put("getLeaveTime", leaveTime);
+        return stub(NodeInstance.class, values);
+    }
+
+    public static ProcessNodeTriggeredEvent triggered(WorkflowProcessInstance processInstance, NodeInstance nodeInstance) {
+        return stub(ProcessNodeTriggeredEvent.class, nodeEventValues(processInstance, nodeInstance));
+    }
+
+    public static ProcessNodeLeftEvent left(WorkflowProcessInstance processInstance, NodeInstance nodeInstance) {
+        return stub(ProcessNodeLeftEvent.class, nodeEventValues(processInstance, nodeInstance));
+    }
+
+    private static Map<String, Object> nodeEventValues(WorkflowProcessInstance processInstance, NodeInstance nodeInstance) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getProcessInstance", processInstance);
+        values.put("getNodeInstance", nodeInstance);
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(TestProcessEvents.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName() + values;
+                default:
+                    Object value = values.get(method.getName());
+                    return value == null ? defaultValue(method.getReturnType()) : value;
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == int.class) {
+            return 0;
+        }
+        return null;
+    }
+}
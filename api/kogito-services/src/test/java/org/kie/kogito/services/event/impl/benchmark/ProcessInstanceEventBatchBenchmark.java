@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.event.impl.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.event.process.ProcessEvent;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.kogito.Addons;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.services.event.impl.ProcessInstanceEventBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.kie.kogito.services.event.impl.TestProcessEvents.left;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.nodeInstance;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.processInstance;
+import static org.kie.kogito.services.event.impl.TestProcessEvents.triggered;
+
+/**
+ * Measures building of process instance events from batches with many node events,
+ * as produced e.g. by for each nodes with many iterations.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessInstanceEventBatchBenchmark {
+
+    @Param({"10000"})
+    private int numberOfNodeEvents;
+
+    @Param({"1", "10"})
+    private int numberOfProcessInstances;
+
+    private List<ProcessEvent> rawEvents;
+
+    @Setup
+    public void setUp() {
+        List<WorkflowProcessInstance> processInstances = new ArrayList<>();
+        for (int i = 0; i < numberOfProcessInstances; i++) {
+            processInstances.add(processInstance("pi" + i));
+        }
+        rawEvents = new ArrayList<>();
+        Date leaveTime = new Date();
+        // each node instance is triggered and left, so half of the events update already known node instances
+        for (int i = 0; i < numberOfNodeEvents / 2; i++) {
+            WorkflowProcessInstance pi = processInstances.get(i % numberOfProcessInstances);
+            String nodeInstanceId = "ni" + i;
+            rawEvents.add(triggered(pi, nodeInstance(nodeInstanceId, i % 5, null)));
+            rawEvents.add(left(pi, nodeInstance(nodeInstanceId, i % 5, leaveTime)));
+        }
+    }
+
+    @Benchmark
+    public Collection<DataEvent<?>> events() {
+        ProcessInstanceEventBatch batch = new ProcessInstanceEventBatch("http://localhost:8080", Addons.EMTPY);
+        rawEvents.forEach(batch::append);
+        return batch.events();
+    }
+}
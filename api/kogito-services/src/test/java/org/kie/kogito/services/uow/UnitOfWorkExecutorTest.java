@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.services.uow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.uow.UnitOfWorkManager;
+
+public class UnitOfWorkExecutorTest {
+
+    private UnitOfWorkManager unitOfWorkManager;
+
+    @BeforeEach
+    public void setup() {
+        this.unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+    }
+
+    @Test
+    public void testConflictBeforeAnyWorkStoredIsRetried() {
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        String result = UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+            int attempt = attempts.incrementAndGet();
+            unitOfWorkManager.currentUnitOfWork().intercept(new BaseWorkUnit("1", d -> {
+                if (attempt < 3) {
+                    throw new ProcessInstanceOptimisticLockingException("1");
+                }
+            }));
+            return "done";
+        }, UnitOfWorkExecutor.DEFAULT_CONFLICT_RETRIES);
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testConflictRetriesExhausted() {
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        assertThrows(ProcessInstanceOptimisticLockingException.class, () -> UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+            attempts.incrementAndGet();
+            unitOfWorkManager.currentUnitOfWork().intercept(new BaseWorkUnit("1", d -> {
+                throw new ProcessInstanceOptimisticLockingException("1");
+            }));
+            return "done";
+        }, 2));
+
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testConflictAfterWorkStoredIsNotRetried() {
+        AtomicInteger attempts = new AtomicInteger(0);
+        AtomicInteger stored = new AtomicInteger(0);
+
+        ProcessInstanceOptimisticLockingException e = assertThrows(ProcessInstanceOptimisticLockingException.class, () -> UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+            attempts.incrementAndGet();
+            unitOfWorkManager.currentUnitOfWork().intercept(new BaseWorkUnit("1", d -> stored.incrementAndGet()));
+            unitOfWorkManager.currentUnitOfWork().intercept(new BaseWorkUnit("2", d -> {
+                throw new ProcessInstanceOptimisticLockingException("2");
+            }));
+            return "done";
+        }, UnitOfWorkExecutor.DEFAULT_CONFLICT_RETRIES));
+
+        assertFalse(e.isRetryable());
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(stored.get()).isEqualTo(1);
+    }
+}
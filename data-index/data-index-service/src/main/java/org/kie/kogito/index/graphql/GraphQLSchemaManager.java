@@ -19,6 +19,7 @@ package org.kie.kogito.index.graphql;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import graphql.execution.ExecutionStepInfo;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLInputObjectType;
@@ -56,7 +58,9 @@ import org.kie.kogito.index.json.DataIndexParsingException;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.model.ProcessInstanceState;
 import org.kie.kogito.index.model.UserTaskInstance;
+import org.kie.kogito.index.query.AttributeSort;
 import org.kie.kogito.index.query.Query;
+import org.kie.kogito.index.query.QueryCursor;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +117,11 @@ public class GraphQLSchemaManager {
                 })
                 .type("ProcessInstance", builder -> {
                     builder.dataFetcher("childProcessInstanceId", this::getChildProcessInstancesValues);
+                    builder.dataFetcher("cursor", this::getCursorValue);
+                    return builder;
+                })
+                .type("UserTaskInstance", builder -> {
+                    builder.dataFetcher("cursor", this::getCursorValue);
                     return builder;
                 })
                 .type("ProcessInstanceState", builder -> {
@@ -142,10 +151,39 @@ public class GraphQLSchemaManager {
     }
 
     private Collection<ProcessInstance> getProcessInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getProcessInstancesCache(), env);
+        return executeAdvancedQueryForCache(cacheService.getProcessInstancesCache(), env, true);
+    }
+
+    /**
+     * Encodes the position of the entry within the sorted result of the enclosing query, to be used as the "after" pagination argument.
+     */
+    private String getCursorValue(DataFetchingEnvironment env) {
+        ExecutionStepInfo parent = env.getExecutionStepInfo().getParent();
+        List<AttributeSort> sortBy = QueryCursor.withTieBreaker(new GraphQLQueryOrderByParser().apply(parent.getField(), env.getVariables()));
+        Object source = env.getSource();
+        return new QueryCursor(sortBy.stream().map(sort -> getSortValue(source, sort.getAttribute())).collect(toList())).encode();
+    }
+
+    private static Object getSortValue(Object source, String attribute) {
+        Object value = source;
+        for (String property : attribute.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                value = value.getClass().getMethod("get" + Character.toUpperCase(property.charAt(0)) + property.substring(1)).invoke(value);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Unable to read sort attribute " + attribute + " from " + source.getClass().getName(), e);
+            }
+        }
+        return value instanceof ZonedDateTime ? ((ZonedDateTime) value).toInstant().toEpochMilli() : value;
     }
 
     private <T> List<T> executeAdvancedQueryForCache(Cache<String, T> cache, DataFetchingEnvironment env) {
+        return executeAdvancedQueryForCache(cache, env, false);
+    }
+
+    private <T> List<T> executeAdvancedQueryForCache(Cache<String, T> cache, DataFetchingEnvironment env, boolean keyset) {
         String inputTypeName = env.getFieldDefinition().getArgument("where").getType().getName();
 
         Query<T> query = cache.query();
@@ -153,25 +191,33 @@ public class GraphQLSchemaManager {
         Map<String, Object> where = env.getArgument("where");
         query.filter(GraphQLQueryParserRegistry.get().getParser(inputTypeName).apply(where));
 
-        query.sort(new GraphQLQueryOrderByParser().apply(env));
+        List<AttributeSort> sortBy = new GraphQLQueryOrderByParser().apply(env);
+        query.sort(keyset ? QueryCursor.withTieBreaker(sortBy) : sortBy);
 
-        Map<String, Integer> pagination = env.getArgument("pagination");
+        Map<String, Object> pagination = env.getArgument("pagination");
         if (pagination != null) {
-            Integer limit = pagination.get("limit");
+            Integer limit = (Integer) pagination.get("limit");
             if (limit != null) {
                 query.limit(limit);
             }
-            Integer offset = pagination.get("offset");
+            Integer offset = (Integer) pagination.get("offset");
             if (offset != null) {
                 query.offset(offset);
             }
+            String after = (String) pagination.get("after");
+            if (after != null) {
+                if (!keyset) {
+                    throw new IllegalArgumentException("Cursor pagination is not supported for " + cache.getRootType());
+                }
+                query.after(QueryCursor.decode(after));
+            }
         }
 
         return query.execute();
     }
 
     private Collection<UserTaskInstance> getUserTaskInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getUserTaskInstancesCache(), env);
+        return executeAdvancedQueryForCache(cacheService.getUserTaskInstancesCache(), env, true);
     }
 
     private DataFetcher<Publisher<ObjectNode>> getProcessInstanceAddedDataFetcher() {
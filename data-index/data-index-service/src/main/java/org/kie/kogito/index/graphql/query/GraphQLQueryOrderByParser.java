@@ -17,10 +17,12 @@
 package org.kie.kogito.index.graphql.query;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import graphql.execution.MergedField;
 import graphql.language.Argument;
 import graphql.language.EnumValue;
 import graphql.language.ObjectField;
@@ -41,28 +43,32 @@ public class GraphQLQueryOrderByParser implements Function<DataFetchingEnvironme
         if (env == null) {
             return emptyList();
         }
-        Optional<Argument> sortByArgument = env.getMergedField().getArguments().stream().filter(a -> "orderBy".equals(a.getName())).findFirst();
+        return apply(env.getMergedField(), env.getVariables());
+    }
+
+    public List<AttributeSort> apply(MergedField field, Map<String, Object> variables) {
+        Optional<Argument> sortByArgument = field.getArguments().stream().filter(a -> "orderBy".equals(a.getName())).findFirst();
         if (sortByArgument.isPresent()) {
             ObjectValue value = (ObjectValue) sortByArgument.get().getValue();
-            return value.getObjectFields().stream().flatMap(mapSortBy(env)).collect(toList());
+            return value.getObjectFields().stream().flatMap(mapSortBy(variables)).collect(toList());
         } else {
             return emptyList();
         }
     }
 
-    private Function<ObjectField, Stream<AttributeSort>> mapSortBy(DataFetchingEnvironment env) {
+    private Function<ObjectField, Stream<AttributeSort>> mapSortBy(Map<String, Object> variables) {
         return field -> {
             if (field.getValue() instanceof EnumValue) {
                 return Stream.of(orderBy(field.getName(), SortDirection.valueOf(((EnumValue) field.getValue()).getName())));
             } else if (field.getValue() instanceof ObjectValue) {
                 ObjectValue objectValue = (ObjectValue) field.getValue();
-                return objectValue.getObjectFields().stream().flatMap(mapSortBy(env)).map(f -> {
+                return objectValue.getObjectFields().stream().flatMap(mapSortBy(variables)).map(f -> {
                     f.setAttribute(field.getName() + "." + f.getAttribute());
                     return f;
                 });
             } else if (field.getValue() instanceof VariableReference) {
                 VariableReference variable = (VariableReference) field.getValue();
-                Object sort = env.getVariables().get(variable.getName());
+                Object sort = variables.get(variable.getName());
                 return Stream.of(orderBy(field.getName(), SortDirection.valueOf(sort.toString())));
             } else {
                 return null;
@@ -27,6 +27,7 @@ import static org.kie.kogito.index.Constants.KOGITO_DOMAIN_ATTRIBUTE;
 import static org.kie.kogito.index.Constants.LAST_UPDATE;
 import static org.kie.kogito.index.Constants.PROCESS_ID;
 import static org.kie.kogito.index.Constants.PROCESS_INSTANCES_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.Constants.VARIABLES_DELTA;
 import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
 
 public class ProcessInstanceMetaMapper implements Function<KogitoProcessCloudEvent, ObjectNode> {
@@ -45,6 +46,9 @@ public class ProcessInstanceMetaMapper implements Function<KogitoProcessCloudEve
             kogito.put(LAST_UPDATE, event.getTime().toInstant().toEpochMilli());
             kogito.withArray(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE).add(getProcessJson(event, pi));
             json.set(KOGITO_DOMAIN_ATTRIBUTE, kogito);
+            if (pi.isVariablesDelta()) {
+                json.put(VARIABLES_DELTA, true);
+            }
             json.setAll((ObjectNode) event.getData().getVariables());
             return json;
         }
@@ -17,16 +17,26 @@
 package org.kie.kogito.index.messaging;
 
 import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.Deserializer;
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
+import org.kie.kogito.events.protobuf.ProtobufMessageReader;
+import org.kie.kogito.index.event.KogitoCloudEvent;
 import org.kie.kogito.index.json.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class AbstractCloudEventDeserializer<T> implements Deserializer<T> {
+public abstract class AbstractCloudEventDeserializer<T extends KogitoCloudEvent<?>> implements Deserializer<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractCloudEventDeserializer.class);
+    // same zone the JSON mapper adjusts dates to
+    private static final ZoneId UTC = ZoneId.of("UTC");
     private final Class<T> type;
 
     public AbstractCloudEventDeserializer(Class<T> type) {
@@ -45,13 +55,81 @@ public abstract class AbstractCloudEventDeserializer<T> implements Deserializer<
         }
 
         try {
+            if (ProtobufCloudEventCodec.isProtobuf(data)) {
+                return deserialize(ProtobufCloudEventCodec.decode(data));
+            }
             return JsonUtils.getObjectMapper().readValue(data, type);
         } catch (IOException e) {
-            LOGGER.error("Error parsing JSON content: {}", e.getMessage(), e);
+            LOGGER.error("Error parsing cloud event content: {}", e.getMessage(), e);
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Reads a protobuf cloud event straight into the event object, <code>datacontenttype</code> is always its first attribute.
+     */
+    protected abstract T deserialize(ProtobufMessageReader event) throws IOException;
+
+    /**
+     * Reads the current field if it is one of the attributes common to all Kogito cloud events.
+     *
+     * @return <code>false</code> if the field was not read
+     */
+    protected static boolean readAttribute(ProtobufMessageReader reader, KogitoCloudEvent<?> event) throws IOException {
+        switch (reader.field()) {
+            case ProtobufCloudEventCodec.DATA_CONTENT_TYPE_ATTRIBUTE:
+                event.setContentType(reader.string());
+                return true;
+            case "id":
+                event.setId(reader.string());
+                return true;
+            case "source":
+                event.setSource(URI.create(reader.string()));
+                return true;
+            case "type":
+                event.setType(reader.string());
+                return true;
+            case "time":
+                event.setTime(ZonedDateTime.parse(reader.string(), DateTimeFormatter.ISO_DATE_TIME).withZoneSameInstant(UTC));
+                return true;
+            case "kogitoProcessinstanceId":
+                event.setProcessInstanceId(reader.string());
+                return true;
+            case "kogitoProcessId":
+                event.setProcessId(reader.string());
+                return true;
+            case "kogitoRootProcessinstanceId":
+                event.setRootProcessInstanceId(reader.string());
+                return true;
+            case "kogitoRootProcessId":
+                event.setRootProcessId(reader.string());
+                return true;
+            case "kogitoReferenceId":
+                event.setKogitoReferenceId(reader.string());
+                return true;
+            case "kogitoAddons":
+                event.setKogitoAddons(reader.string());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Events copy some attributes into their data when these are set, which only works if data is set first
+     * as it is when reading JSON events. Data is not the first attribute of protobuf events, so those attributes are set again.
+     */
+    protected static <E extends KogitoCloudEvent<?>> E copyAttributesToData(E event) {
+        event.setSource(event.getSource());
+        event.setTime(event.getTime());
+        event.setKogitoAddons(event.getKogitoAddons());
+        return event;
+    }
+
+    protected static ZonedDateTime toZonedDateTime(Instant instant) {
+        return instant.atZone(UTC);
+    }
+
     @Override
     public void close() {
 
@@ -16,11 +16,156 @@
 
 package org.kie.kogito.index.messaging;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
+import org.kie.kogito.events.protobuf.ProtobufMessageReader;
 import org.kie.kogito.index.event.KogitoProcessCloudEvent;
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.ProcessInstanceError;
 
 public class KogitoProcessCloudEventDeserializer extends AbstractCloudEventDeserializer<KogitoProcessCloudEvent> {
 
     public KogitoProcessCloudEventDeserializer() {
         super(KogitoProcessCloudEvent.class);
     }
+
+    @Override
+    protected KogitoProcessCloudEvent deserialize(ProtobufMessageReader reader) throws IOException {
+        KogitoProcessCloudEvent event = new KogitoProcessCloudEvent();
+        while (reader.next()) {
+            if (readAttribute(reader, event)) {
+                continue;
+            }
+            switch (reader.field()) {
+                case "data":
+                    event.setData(readProcessInstance(reader.message(ProtobufCloudEventCodec.dataMessage(event.getContentType()))));
+                    break;
+                case "kogitoParentProcessinstanceId":
+                    event.setParentProcessInstanceId(reader.string());
+                    break;
+                case "kogitoProcessinstanceState":
+                    String state = reader.string();
+                    event.setState(state.isEmpty() ? null : Integer.valueOf(state));
+                    break;
+                default:
+                    reader.skip();
+            }
+        }
+        return copyAttributesToData(event);
+    }
+
+    private static ProcessInstance readProcessInstance(ProtobufMessageReader reader) throws IOException {
+        ProcessInstance processInstance = new ProcessInstance();
+        List<NodeInstance> nodes = new ArrayList<>();
+        Set<String> roles = new HashSet<>();
+        while (reader.next()) {
+            switch (reader.field()) {
+                case "id":
+                    processInstance.setId(reader.string());
+                    break;
+                case "parentInstanceId":
+                    processInstance.setParentProcessInstanceId(reader.string());
+                    break;
+                case "rootInstanceId":
+                    processInstance.setRootProcessInstanceId(reader.string());
+                    break;
+                case "processId":
+                    processInstance.setProcessId(reader.string());
+                    break;
+                case "rootProcessId":
+                    processInstance.setRootProcessId(reader.string());
+                    break;
+                case "processName":
+                    processInstance.setProcessName(reader.string());
+                    break;
+                case "startDate":
+                    processInstance.setStart(toZonedDateTime(reader.timestamp()));
+                    break;
+                case "endDate":
+                    processInstance.setEnd(toZonedDateTime(reader.timestamp()));
+                    break;
+                case "state":
+                    processInstance.setState(reader.int32());
+                    break;
+                case "nodeInstances":
+                    nodes.add(readNodeInstance(reader.message()));
+                    break;
+                case "variables":
+                    processInstance.setVariables(reader.struct());
+                    break;
+                case "error":
+                    processInstance.setError(readError(reader.message()));
+                    break;
+                case "roles":
+                    roles.add(reader.string());
+                    break;
+                case "variablesDelta":
+                    processInstance.setVariablesDelta(reader.bool());
+                    break;
+                case "sequence":
+                    processInstance.setSequence(reader.int64());
+                    break;
+                default:
+                    reader.skip();
+            }
+        }
+        processInstance.setNodes(nodes);
+        processInstance.setRoles(roles);
+        return processInstance;
+    }
+
+    private static NodeInstance readNodeInstance(ProtobufMessageReader reader) throws IOException {
+        NodeInstance nodeInstance = new NodeInstance();
+        while (reader.next()) {
+            switch (reader.field()) {
+                case "id":
+                    nodeInstance.setId(reader.string());
+                    break;
+                case "nodeId":
+                    nodeInstance.setNodeId(reader.string());
+                    break;
+                case "nodeDefinitionId":
+                    nodeInstance.setDefinitionId(reader.string());
+                    break;
+                case "nodeName":
+                    nodeInstance.setName(reader.string());
+                    break;
+                case "nodeType":
+                    nodeInstance.setType(reader.string());
+                    break;
+                case "triggerTime":
+                    nodeInstance.setEnter(toZonedDateTime(reader.timestamp()));
+                    break;
+                case "leaveTime":
+                    nodeInstance.setExit(toZonedDateTime(reader.timestamp()));
+                    break;
+                default:
+                    reader.skip();
+            }
+        }
+        return nodeInstance;
+    }
+
+    private static ProcessInstanceError readError(ProtobufMessageReader reader) throws IOException {
+        ProcessInstanceError error = new ProcessInstanceError();
+        while (reader.next()) {
+            switch (reader.field()) {
+                case "nodeDefinitionId":
+                    error.setNodeDefinitionId(reader.string());
+                    break;
+                case "errorMessage":
+                    error.setMessage(reader.string());
+                    break;
+                default:
+                    reader.skip();
+            }
+        }
+        return error;
+    }
 }
@@ -16,11 +16,117 @@
 
 package org.kie.kogito.index.messaging;
 
+import java.io.IOException;
+import java.util.HashSet;
+
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
+import org.kie.kogito.events.protobuf.ProtobufMessageReader;
 import org.kie.kogito.index.event.KogitoUserTaskCloudEvent;
+import org.kie.kogito.index.model.UserTaskInstance;
 
 public class KogitoUserTaskCloudEventDeserializer extends AbstractCloudEventDeserializer<KogitoUserTaskCloudEvent> {
 
     public KogitoUserTaskCloudEventDeserializer() {
         super(KogitoUserTaskCloudEvent.class);
     }
+
+    @Override
+    protected KogitoUserTaskCloudEvent deserialize(ProtobufMessageReader reader) throws IOException {
+        KogitoUserTaskCloudEvent event = new KogitoUserTaskCloudEvent();
+        while (reader.next()) {
+            if (readAttribute(reader, event)) {
+                continue;
+            }
+            switch (reader.field()) {
+                case "data":
+                    event.setData(readUserTaskInstance(reader.message(ProtobufCloudEventCodec.dataMessage(event.getContentType()))));
+                    break;
+                case "kogitoUserTaskinstanceId":
+                    event.setUserTaskInstanceId(reader.string());
+                    break;
+                case "kogitoUserTaskinstanceState":
+                    event.setState(reader.string());
+                    break;
+                default:
+                    reader.skip();
+            }
+        }
+        return copyAttributesToData(event);
+    }
+
+    private static UserTaskInstance readUserTaskInstance(ProtobufMessageReader reader) throws IOException {
+        UserTaskInstance userTaskInstance = new UserTaskInstance();
+        userTaskInstance.setPotentialUsers(new HashSet<>());
+        userTaskInstance.setPotentialGroups(new HashSet<>());
+        userTaskInstance.setExcludedUsers(new HashSet<>());
+        userTaskInstance.setAdminUsers(new HashSet<>());
+        userTaskInstance.setAdminGroups(new HashSet<>());
+        while (reader.next()) {
+            switch (reader.field()) {
+                case "id":
+                    userTaskInstance.setId(reader.string());
+                    break;
+                case "taskName":
+                    userTaskInstance.setName(reader.string());
+                    break;
+                case "taskDescription":
+                    userTaskInstance.setDescription(reader.string());
+                    break;
+                case "taskPriority":
+                    userTaskInstance.setPriority(reader.string());
+                    break;
+                case "referenceName":
+                    userTaskInstance.setReferenceName(reader.string());
+                    break;
+                case "startDate":
+                    userTaskInstance.setStarted(toZonedDateTime(reader.timestamp()));
+                    break;
+                case "completeDate":
+                    userTaskInstance.setCompleted(toZonedDateTime(reader.timestamp()));
+                    break;
+                case "state":
+                    userTaskInstance.setState(reader.string());
+                    break;
+                case "actualOwner":
+                    userTaskInstance.setActualOwner(reader.string());
+                    break;
+                case "potentialUsers":
+                    userTaskInstance.getPotentialUsers().add(reader.string());
+                    break;
+                case "potentialGroups":
+                    userTaskInstance.getPotentialGroups().add(reader.string());
+                    break;
+                case "excludedUsers":
+                    userTaskInstance.getExcludedUsers().add(reader.string());
+                    break;
+                case "adminUsers":
+                    userTaskInstance.getAdminUsers().add(reader.string());
+                    break;
+                case "adminGroups":
+                    userTaskInstance.getAdminGroups().add(reader.string());
+                    break;
+                case "inputs":
+                    userTaskInstance.setInputs(reader.struct());
+                    break;
+                case "outputs":
+                    userTaskInstance.setOutputs(reader.struct());
+                    break;
+                case "processInstanceId":
+                    userTaskInstance.setProcessInstanceId(reader.string());
+                    break;
+                case "rootProcessInstanceId":
+                    userTaskInstance.setRootProcessInstanceId(reader.string());
+                    break;
+                case "processId":
+                    userTaskInstance.setProcessId(reader.string());
+                    break;
+                case "rootProcessId":
+                    userTaskInstance.setRootProcessId(reader.string());
+                    break;
+                default:
+                    reader.skip();
+            }
+        }
+        return userTaskInstance;
+    }
 }
@@ -29,9 +29,9 @@ import javax.inject.Inject;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.eventbus.EventBus;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.kie.kogito.index.event.DomainModelRegisteredEvent;
 import org.kie.kogito.index.event.KogitoProcessCloudEvent;
 import org.kie.kogito.index.event.KogitoUserTaskCloudEvent;
@@ -79,32 +79,64 @@ public class ReactiveMessagingEventConsumer {
         });
     }
 
+    /**
+     * Messages are acknowledged once indexed, the next message is taken right away unless too many
+     * events are waiting to be indexed, so that events arriving within the same window are indexed together.
+     */
     @Incoming(KOGITO_PROCESSINSTANCES_EVENTS)
+    public CompletionStage<Void> onProcessInstanceMessage(Message<KogitoProcessCloudEvent> message) {
+        return acknowledge(message, onProcessInstanceEvent(message.getPayload()));
+    }
+
+    @Incoming(KOGITO_PROCESSDOMAIN_EVENTS)
+    public CompletionStage<Void> onProcessInstanceDomainMessage(Message<KogitoProcessCloudEvent> message) {
+        return acknowledge(message, onProcessInstanceDomainEvent(message.getPayload()));
+    }
+
+    @Incoming(KOGITO_USERTASKINSTANCES_EVENTS)
+    public CompletionStage<Void> onUserTaskInstanceMessage(Message<KogitoUserTaskCloudEvent> message) {
+        return acknowledge(message, onUserTaskInstanceEvent(message.getPayload()));
+    }
+
+    @Incoming(KOGITO_USERTASKDOMAIN_EVENTS)
+    public CompletionStage<Void> onUserTaskInstanceDomainMessage(Message<KogitoUserTaskCloudEvent> message) {
+        return acknowledge(message, onUserTaskInstanceDomainEvent(message.getPayload()));
+    }
+
     public CompletionStage<Void> onProcessInstanceEvent(KogitoProcessCloudEvent event) {
         LOGGER.debug("Process instance consumer received KogitoCloudEvent: \n{}", event);
-        return CompletableFuture.runAsync(() -> indexingService.indexProcessInstance(event.getData()));
+        return indexingService.submitProcessInstance(event.getData());
     }
 
-    @Incoming(KOGITO_PROCESSDOMAIN_EVENTS)
     public CompletionStage<Void> onProcessInstanceDomainEvent(KogitoProcessCloudEvent event) {
         LOGGER.debug("Process domain consumer received KogitoCloudEvent: \n{}", event);
         ObjectNode json = new ProcessInstanceMetaMapper().apply(event);
         return sendMessage(json);
     }
 
-    @Incoming(KOGITO_USERTASKINSTANCES_EVENTS)
     public CompletionStage<Void> onUserTaskInstanceEvent(KogitoUserTaskCloudEvent event) {
         LOGGER.debug("Task instance received KogitoUserTaskCloudEvent \n{}", event);
-        return CompletableFuture.runAsync(() -> indexingService.indexUserTaskInstance(event.getData()));
+        return indexingService.submitUserTaskInstance(event.getData());
     }
 
-    @Incoming(KOGITO_USERTASKDOMAIN_EVENTS)
     public CompletionStage<Void> onUserTaskInstanceDomainEvent(KogitoUserTaskCloudEvent event) {
         LOGGER.debug("Task domain received KogitoUserTaskCloudEvent \n{}", event);
         ObjectNode json = new UserTaskInstanceMetaMapper().apply(event);
         return sendMessage(json);
     }
 
+    private CompletionStage<Void> acknowledge(Message<?> message, CompletionStage<Void> indexed) {
+        indexed.whenComplete((result, ex) -> {
+            if (ex == null) {
+                message.ack();
+            } else {
+                LOGGER.error("Error indexing event: {}", ex.getMessage(), ex);
+                message.nack(ex);
+            }
+        });
+        return indexingService.accepting();
+    }
+
     private CompletableFuture<Void> sendMessage(ObjectNode json) {
         CompletableFuture<Void> cf = new CompletableFuture<>();
         String processId = json.get("processId").asText();
@@ -112,15 +144,16 @@ public class ReactiveMessagingEventConsumer {
         return cf;
     }
 
-    private void onDomainEvent(Message<ObjectNode> message) {
-        try {
-            LOGGER.debug("Processing domain message: {}", message);
-            indexingService.indexModel(message.body());
-            message.reply(null);
-        } catch (Exception ex) {
-            LOGGER.error("Error processing domain event: {}", ex.getMessage(), ex);
-            message.fail(0, ex.getMessage());
-        }
+    private void onDomainEvent(io.vertx.core.eventbus.Message<ObjectNode> message) {
+        LOGGER.debug("Processing domain message: {}", message);
+        indexingService.submitModel(message.body()).whenComplete((result, ex) -> {
+            if (ex == null) {
+                message.reply(null);
+            } else {
+                LOGGER.error("Error processing domain event: {}", ex.getMessage(), ex);
+                message.fail(0, ex.getMessage());
+            }
+        });
     }
 
     @PreDestroy
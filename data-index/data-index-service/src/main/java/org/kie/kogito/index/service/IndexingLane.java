@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single threaded lane collecting indexing events for a partition of the instances.
+ * Collected events are handed over to the handler in the order they were submitted,
+ * either once the batch window elapsed or when the batch is full.
+ * When the handler fails the events of the batch are handed over one at a time,
+ * so only the events that cannot be indexed complete exceptionally.
+ */
+class IndexingLane implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexingLane.class);
+
+    private final int batchSize;
+    private final long window;
+    private final Consumer<List<Object>> handler;
+    private final ScheduledExecutorService executor;
+
+    private List<Object> events = new ArrayList<>();
+    private List<CompletableFuture<Void>> completions = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    IndexingLane(String name, int batchSize, long window, Consumer<List<Object>> handler) {
+        this.batchSize = batchSize;
+        this.window = window;
+        this.handler = handler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    CompletionStage<Void> submit(Object event) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        synchronized (this) {
+            events.add(event);
+            completions.add(completion);
+            if (events.size() >= batchSize) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                }
+                scheduledFlush = null;
+                executor.execute(this::flush);
+            } else if (scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+            }
+        }
+        return completion;
+    }
+
+    @Override
+    public void close() {
+        executor.execute(this::flush);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush() {
+        List<Object> batch;
+        List<CompletableFuture<Void>> batchCompletions;
+        synchronized (this) {
+            if (events.isEmpty()) {
+                return;
+            }
+            batch = events;
+            batchCompletions = completions;
+            events = new ArrayList<>();
+            completions = new ArrayList<>();
+            scheduledFlush = null;
+        }
+        try {
+            handler.accept(batch);
+            batchCompletions.forEach(c -> c.complete(null));
+        } catch (Exception e) {
+            LOGGER.warn("Error indexing batch of {} events, indexing them one by one: {}", batch.size(), e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                handle(batch.get(i), batchCompletions.get(i));
+            }
+        }
+    }
+
+    private void handle(Object event, CompletableFuture<Void> completion) {
+        try {
+            handler.accept(Collections.singletonList(event));
+            completion.complete(null);
+        } catch (Exception e) {
+            LOGGER.error("Error indexing event: {}", e.getMessage(), e);
+            completion.completeExceptionally(e);
+        }
+    }
+}
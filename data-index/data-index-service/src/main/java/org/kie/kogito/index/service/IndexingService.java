@@ -16,14 +16,25 @@
 
 package org.kie.kogito.index.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.index.cache.Cache;
 import org.kie.kogito.index.cache.CacheService;
 import org.kie.kogito.index.model.NodeInstance;
@@ -33,12 +44,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.kie.kogito.index.Constants.ID;
 import static org.kie.kogito.index.Constants.KOGITO_DOMAIN_ATTRIBUTE;
 import static org.kie.kogito.index.Constants.PROCESS_ID;
 import static org.kie.kogito.index.Constants.PROCESS_INSTANCES_DOMAIN_ATTRIBUTE;
 import static org.kie.kogito.index.Constants.USER_TASK_INSTANCES_DOMAIN_ATTRIBUTE;
 import static org.kie.kogito.index.Constants.LAST_UPDATE;
+import static org.kie.kogito.index.Constants.VARIABLES_DELTA;
 import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
 
 @ApplicationScoped
@@ -49,13 +62,165 @@ public class IndexingService {
     @Inject
     CacheService manager;
 
+    @Inject
+    @ConfigProperty(name = "kogito.indexing.lanes", defaultValue = "4")
+    int laneCount;
+
+    @Inject
+    @ConfigProperty(name = "kogito.indexing.window-millis", defaultValue = "10")
+    long window;
+
+    @Inject
+    @ConfigProperty(name = "kogito.indexing.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @Inject
+    @ConfigProperty(name = "kogito.indexing.max-pending", defaultValue = "1000")
+    int maxPending;
+
+    private IndexingLane[] lanes;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private CompletableFuture<Void> capacity = CompletableFuture.completedFuture(null);
+
+    @PostConstruct
+    public void init() {
+        lanes = new IndexingLane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new IndexingLane("kogito-indexing-lane-" + i, batchSize, window, this::indexBatch);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        for (IndexingLane lane : lanes) {
+            lane.close();
+        }
+    }
+
+    /**
+     * Indexes the process instance asynchronously, events of the same process instance are indexed
+     * in the order they were submitted and events submitted within the same window are merged
+     * before being written to the cache.
+     */
+    public CompletionStage<Void> submitProcessInstance(ProcessInstance pi) {
+        return submit(pi.getId(), pi);
+    }
+
+    public CompletionStage<Void> submitUserTaskInstance(UserTaskInstance ut) {
+        return submit(ut.getProcessInstanceId() == null ? ut.getId() : ut.getProcessInstanceId(), ut);
+    }
+
+    public CompletionStage<Void> submitModel(ObjectNode json) {
+        return submit(json.get(ID).asText(), json);
+    }
+
+    /**
+     * Returns stage that completes once less than <code>kogito.indexing.max-pending</code> events are waiting
+     * to be indexed, consumers are expected to wait for it before taking more events.
+     */
+    public synchronized CompletionStage<Void> accepting() {
+        if (pending.get() < maxPending) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (capacity.isDone()) {
+            capacity = new CompletableFuture<>();
+        }
+        return capacity;
+    }
+
+    private CompletionStage<Void> submit(String id, Object event) {
+        pending.incrementAndGet();
+        return lane(id).submit(event).whenComplete((result, error) -> released());
+    }
+
+    private void released() {
+        if (pending.decrementAndGet() < maxPending) {
+            CompletableFuture<Void> available;
+            synchronized (this) {
+                available = capacity;
+            }
+            available.complete(null);
+        }
+    }
+
+    private IndexingLane lane(String id) {
+        return lanes[Math.floorMod(id == null ? 0 : id.hashCode(), lanes.length)];
+    }
+
+    private void indexBatch(List<Object> events) {
+        List<ProcessInstance> processInstances = new ArrayList<>();
+        Map<String, UserTaskInstance> userTaskInstances = new LinkedHashMap<>();
+        List<ObjectNode> models = new ArrayList<>();
+        for (Object event : events) {
+            if (event instanceof ProcessInstance) {
+                processInstances.add((ProcessInstance) event);
+            } else if (event instanceof UserTaskInstance) {
+                userTaskInstances.put(((UserTaskInstance) event).getId(), (UserTaskInstance) event);
+            } else {
+                models.add((ObjectNode) event);
+            }
+        }
+        if (!processInstances.isEmpty()) {
+            indexProcessInstances(processInstances);
+        }
+        if (!userTaskInstances.isEmpty()) {
+            manager.getUserTaskInstancesCache().putAll(userTaskInstances);
+        }
+        if (!models.isEmpty()) {
+            indexModels(models);
+        }
+    }
+
     public void indexProcessInstance(ProcessInstance pi) {
         ProcessInstance previousPI = manager.getProcessInstancesCache().get(pi.getId());
+        mergeProcessInstance(pi, previousPI);
+        manager.getProcessInstancesCache().put(pi.getId(), pi);
+    }
+
+    private void indexProcessInstances(List<ProcessInstance> processInstances) {
+        Cache<String, ProcessInstance> cache = manager.getProcessInstancesCache();
+        Map<String, ProcessInstance> indexed = new HashMap<>(cache.getAll(processInstances.stream().map(ProcessInstance::getId).collect(toSet())));
+        for (ProcessInstance pi : processInstances) {
+            mergeProcessInstance(pi, indexed.get(pi.getId()));
+            indexed.put(pi.getId(), pi);
+        }
+        Map<String, ProcessInstance> updated = new LinkedHashMap<>();
+        processInstances.forEach(pi -> updated.put(pi.getId(), indexed.get(pi.getId())));
+        cache.putAll(updated);
+    }
+
+    private void mergeProcessInstance(ProcessInstance pi, ProcessInstance previousPI) {
         if (previousPI != null) {
             List<NodeInstance> nodes = previousPI.getNodes().stream().filter(n -> !pi.getNodes().contains(n)).collect(toList());
             pi.getNodes().addAll(nodes);
+            mergeVariables(pi, previousPI);
         }
-        manager.getProcessInstancesCache().put(pi.getId(), pi);
+        pi.setVariablesDelta(false);
+    }
+
+    private void mergeVariables(ProcessInstance pi, ProcessInstance previousPI) {
+        if (!pi.isVariablesDelta()) {
+            return;
+        }
+        // sequence is kept per process instance, so it orders events of the same instance coming from any node
+        boolean outOfOrder = pi.getSequence() != null && previousPI.getSequence() != null && pi.getSequence() < previousPI.getSequence();
+        if (outOfOrder) {
+            pi.setSequence(previousPI.getSequence());
+        }
+        if (!(previousPI.getVariables() instanceof ObjectNode) || !(pi.getVariables() instanceof ObjectNode)) {
+            return;
+        }
+        ObjectNode merged = ((ObjectNode) previousPI.getVariables()).deepCopy();
+        Iterator<Map.Entry<String, JsonNode>> fields = pi.getVariables().fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            // variables of out of order events must not override already indexed newer values
+            if (!outOfOrder || !merged.has(field.getKey())) {
+                merged.set(field.getKey(), field.getValue());
+            }
+        }
+        pi.setVariables(merged);
     }
 
     public void indexUserTaskInstance(UserTaskInstance ut) {
@@ -64,6 +229,7 @@ public class IndexingService {
 
     public void indexModel(ObjectNode json) {
         String processId = json.remove(PROCESS_ID).asText();
+        JsonNode variablesDelta = json.remove(VARIABLES_DELTA);
         Cache<String, ObjectNode> cache = manager.getDomainModelCache(processId);
         if (cache == null) {
 //          Unknown process type, ignore
@@ -72,31 +238,60 @@ public class IndexingService {
         }
 
         String processInstanceId = json.get(ID).asText();
-        String type = cache.getRootType();
-        ObjectNode model = cache.get(processInstanceId);
+        cache.put(processInstanceId, mergeModel(cache.getRootType(), json, cache.get(processInstanceId), variablesDelta));
+    }
+
+    private void indexModels(List<ObjectNode> models) {
+        Map<String, List<ObjectNode>> modelsByProcess = new LinkedHashMap<>();
+        models.forEach(json -> modelsByProcess.computeIfAbsent(json.get(PROCESS_ID).asText(), processId -> new ArrayList<>()).add(json));
+        modelsByProcess.forEach((processId, events) -> {
+            Cache<String, ObjectNode> cache = manager.getDomainModelCache(processId);
+            if (cache == null) {
+//              Unknown process type, ignore
+                LOGGER.debug("Ignoring {} Kogito cloud events for unknown process: {}", events.size(), processId);
+                return;
+            }
+            Map<String, ObjectNode> indexed = new HashMap<>(cache.getAll(events.stream().map(json -> json.get(ID).asText()).collect(toSet())));
+            Map<String, ObjectNode> updated = new LinkedHashMap<>();
+            for (ObjectNode event : events) {
+                // events are left untouched as they are indexed once more on their own when the batch fails
+                ObjectNode json = event.deepCopy();
+                json.remove(PROCESS_ID);
+                JsonNode variablesDelta = json.remove(VARIABLES_DELTA);
+                String processInstanceId = json.get(ID).asText();
+                ObjectNode model = mergeModel(cache.getRootType(), json, indexed.get(processInstanceId), variablesDelta);
+                indexed.put(processInstanceId, model);
+                updated.put(processInstanceId, model);
+            }
+            cache.putAll(updated);
+        });
+    }
+
+    private ObjectNode mergeModel(String type, ObjectNode json, ObjectNode model, JsonNode variablesDelta) {
+        String processInstanceId = json.get(ID).asText();
         ObjectNode builder = getObjectMapper().createObjectNode();
         builder.put("_type", type);
         if (model == null) {
             builder.setAll(json);
         } else {
-            copyAllEventData(json, processInstanceId, model, builder);
+            copyAllEventData(json, processInstanceId, model, builder, variablesDelta != null && variablesDelta.asBoolean());
             ObjectNode kogito = indexKogitoDomain((ObjectNode) json.get(KOGITO_DOMAIN_ATTRIBUTE), (ObjectNode) model.get(KOGITO_DOMAIN_ATTRIBUTE));
             builder.set(KOGITO_DOMAIN_ATTRIBUTE, kogito);
         }
-        cache.put(processInstanceId, builder);
+        return builder;
     }
 
-    private void copyAllEventData(ObjectNode json, String processInstanceId, ObjectNode model, ObjectNode builder) {
+    private void copyAllEventData(ObjectNode json, String processInstanceId, ObjectNode model, ObjectNode builder, boolean variablesDelta) {
         ArrayNode indexPIArray = (ArrayNode) json.get(KOGITO_DOMAIN_ATTRIBUTE).get(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE);
         if (indexPIArray == null) {
             builder.setAll(model);
         } else {
             JsonNode id = indexPIArray.get(0).get(ID);
-            if (processInstanceId.equals(id.asText())) {
+            if (processInstanceId.equals(id.asText()) && !variablesDelta) {
                 //For processes simply copy all values
                 builder.setAll(json);
             } else {
-                //For sub-process merge with current values
+                //For sub-process or changed variables only merge with current values
                 builder.setAll(model);
                 builder.setAll(json);
             }
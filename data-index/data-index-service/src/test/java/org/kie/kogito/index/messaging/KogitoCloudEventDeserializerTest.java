@@ -21,12 +21,16 @@ import java.io.InputStream;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
 import org.kie.kogito.index.event.KogitoProcessCloudEvent;
 import org.kie.kogito.index.event.KogitoUserTaskCloudEvent;
+import org.kie.kogito.index.json.JsonUtils;
 
 import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class KogitoCloudEventDeserializerTest {
 
@@ -141,6 +145,46 @@ public class KogitoCloudEventDeserializerTest {
         softly.assertAll();
     }
 
+    @Test
+    public void testProcessProtobufDeserializer() throws Exception {
+        byte[] json = getJsonEventBytes("process_instance_event.json");
+        KogitoProcessCloudEvent expected = new KogitoProcessCloudEventDeserializer().deserialize(null, json);
+        byte[] protobuf = ProtobufCloudEvents.encode(expected);
+
+        assertThat(ProtobufCloudEventCodec.isProtobuf(json)).isFalse();
+        assertThat(ProtobufCloudEventCodec.isProtobuf(protobuf)).isTrue();
+
+        KogitoProcessCloudEvent decoded = new KogitoProcessCloudEventDeserializer().deserialize(null, protobuf);
+
+        assertThat(decoded.getContentType()).isEqualTo(ProtobufCloudEventCodec.contentType("ProcessInstance"));
+        assertThat(decoded.getData().getVariables().get("hotel").get("name").asText()).isEqualTo("Perfect hotel");
+        assertThat(decoded.getData().getNodes()).hasSize(3);
+        //repeated fields are never absent in protobuf
+        assertThat(decoded.getData().getRoles()).isEmpty();
+        expected.getData().setRoles(emptySet());
+        decoded.setContentType(null);
+        assertThat(toJson(decoded)).isEqualTo(toJson(expected));
+    }
+
+    @Test
+    public void testUserTaskProtobufDeserializer() throws Exception {
+        byte[] json = getJsonEventBytes("user_task_instance_event.json");
+        KogitoUserTaskCloudEvent expected = new KogitoUserTaskCloudEventDeserializer().deserialize(null, json);
+        byte[] protobuf = ProtobufCloudEvents.encode(expected);
+
+        assertThat(ProtobufCloudEventCodec.isProtobuf(protobuf)).isTrue();
+
+        KogitoUserTaskCloudEvent decoded = new KogitoUserTaskCloudEventDeserializer().deserialize(null, protobuf);
+
+        assertThat(decoded.getContentType()).isEqualTo(ProtobufCloudEventCodec.contentType("UserTaskInstance"));
+        decoded.setContentType(null);
+        assertThat(toJson(decoded)).isEqualTo(toJson(expected));
+    }
+
+    private JsonNode toJson(Object event) {
+        return JsonUtils.getObjectMapper().valueToTree(event);
+    }
+
     private byte[] getJsonEventBytes(String file) throws IOException {
         try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(file)) {
             byte[] bytes = new byte[is.available()];
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.messaging;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.kie.kogito.events.protobuf.ProtobufCloudEventCodec;
+import org.kie.kogito.events.protobuf.ProtobufMessageWriter;
+import org.kie.kogito.index.event.KogitoCloudEvent;
+import org.kie.kogito.index.event.KogitoProcessCloudEvent;
+import org.kie.kogito.index.event.KogitoUserTaskCloudEvent;
+import org.kie.kogito.index.json.JsonUtils;
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.ProcessInstanceError;
+import org.kie.kogito.index.model.UserTaskInstance;
+
+/**
+ * Encodes data index events as protobuf cloud events, the way the reactive messaging publisher does from its own events.
+ */
+public final class ProtobufCloudEvents {
+
+    private static final ProtobufCloudEventCodec PROTOBUF = new ProtobufCloudEventCodec(JsonUtils.getObjectMapper());
+
+    private ProtobufCloudEvents() {
+    }
+
+    public static byte[] encode(KogitoProcessCloudEvent event) throws IOException {
+        return PROTOBUF.encode("ProcessInstance", event, (writer, e) -> {
+            writeAttributes(writer, e)
+                    .message("data", "ProcessInstance", e.getData(), ProtobufCloudEvents::writeProcessInstance)
+                    .string("kogitoParentProcessinstanceId", e.getParentProcessInstanceId())
+                    .string("kogitoProcessinstanceState", e.getState() == null ? null : e.getState().toString());
+        });
+    }
+
+    public static byte[] encode(KogitoUserTaskCloudEvent event) throws IOException {
+        return PROTOBUF.encode("UserTaskInstance", event, (writer, e) -> {
+            writeAttributes(writer, e)
+                    .message("data", "UserTaskInstance", e.getData(), ProtobufCloudEvents::writeUserTaskInstance)
+                    .string("kogitoUserTaskinstanceId", e.getUserTaskInstanceId())
+                    .string("kogitoUserTaskinstanceState", e.getState());
+        });
+    }
+
+    private static ProtobufMessageWriter writeAttributes(ProtobufMessageWriter writer, KogitoCloudEvent<?> event) throws IOException {
+        return writer.string("specversion", event.getSpecVersion())
+                .string("id", event.getId())
+                .string("source", event.getSource() == null ? null : event.getSource().toString())
+                .string("type", event.getType())
+                .string("time", event.getTime() == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(event.getTime()))
+                .string("kogitoProcessinstanceId", event.getProcessInstanceId())
+                .string("kogitoRootProcessinstanceId", event.getRootProcessInstanceId())
+                .string("kogitoProcessId", event.getProcessId())
+                .string("kogitoRootProcessId", event.getRootProcessId())
+                .string("kogitoReferenceId", event.getKogitoReferenceId())
+                .string("kogitoAddons", event.getKogitoAddons());
+    }
+
+    private static void writeProcessInstance(ProtobufMessageWriter writer, ProcessInstance processInstance) throws IOException {
+        writer.string("id", processInstance.getId())
+                .string("parentInstanceId", processInstance.getParentProcessInstanceId())
+                .string("rootInstanceId", processInstance.getRootProcessInstanceId())
+                .string("processId", processInstance.getProcessId())
+                .string("rootProcessId", processInstance.getRootProcessId())
+                .string("processName", processInstance.getProcessName())
+                .timestamp("startDate", toInstant(processInstance.getStart()))
+                .timestamp("endDate", toInstant(processInstance.getEnd()))
+                .int32("state", processInstance.getState())
+                .messages("nodeInstances", processInstance.getNodes(), ProtobufCloudEvents::writeNodeInstance)
+                .struct("variables", processInstance.getVariables())
+                .message("error", processInstance.getError(), ProtobufCloudEvents::writeError)
+                .strings("roles", processInstance.getRoles())
+                .bool("variablesDelta", processInstance.isVariablesDelta())
+                .int64("sequence", processInstance.getSequence());
+    }
+
+    private static void writeNodeInstance(ProtobufMessageWriter writer, NodeInstance nodeInstance) throws IOException {
+        writer.string("id", nodeInstance.getId())
+                .string("nodeId", nodeInstance.getNodeId())
+                .string("nodeDefinitionId", nodeInstance.getDefinitionId())
+                .string("nodeName", nodeInstance.getName())
+                .string("nodeType", nodeInstance.getType())
+                .timestamp("triggerTime", toInstant(nodeInstance.getEnter()))
+                .timestamp("leaveTime", toInstant(nodeInstance.getExit()));
+    }
+
+    private static void writeError(ProtobufMessageWriter writer, ProcessInstanceError error) throws IOException {
+        writer.string("nodeDefinitionId", error.getNodeDefinitionId())
+                .string("errorMessage", error.getMessage());
+    }
+
+    private static void writeUserTaskInstance(ProtobufMessageWriter writer, UserTaskInstance userTaskInstance) throws IOException {
+        writer.string("id", userTaskInstance.getId())
+                .string("taskName", userTaskInstance.getName())
+                .string("taskDescription", userTaskInstance.getDescription())
+                .string("taskPriority", userTaskInstance.getPriority())
+                .string("referenceName", userTaskInstance.getReferenceName())
+                .timestamp("startDate", toInstant(userTaskInstance.getStarted()))
+                .timestamp("completeDate", toInstant(userTaskInstance.getCompleted()))
+                .string("state", userTaskInstance.getState())
+                .string("actualOwner", userTaskInstance.getActualOwner())
+                .strings("potentialUsers", userTaskInstance.getPotentialUsers())
+                .strings("potentialGroups", userTaskInstance.getPotentialGroups())
+                .strings("excludedUsers", userTaskInstance.getExcludedUsers())
+                .strings("adminUsers", userTaskInstance.getAdminUsers())
+                .strings("adminGroups", userTaskInstance.getAdminGroups())
+                .struct("inputs", userTaskInstance.getInputs())
+                .struct("outputs", userTaskInstance.getOutputs())
+                .string("processInstanceId", userTaskInstance.getProcessInstanceId())
+                .string("rootProcessInstanceId", userTaskInstance.getRootProcessInstanceId())
+                .string("processId", userTaskInstance.getProcessId())
+                .string("rootProcessId", userTaskInstance.getRootProcessId());
+    }
+
+    private static Instant toInstant(ZonedDateTime date) {
+        return date == null ? null : date.toInstant();
+    }
+}
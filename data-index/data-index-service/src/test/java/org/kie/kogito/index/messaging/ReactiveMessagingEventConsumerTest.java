@@ -16,11 +16,15 @@
 
 package org.kie.kogito.index.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Handler;
 import io.vertx.core.eventbus.EventBus;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.index.event.KogitoProcessCloudEvent;
@@ -34,12 +38,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static java.lang.String.format;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.kie.kogito.index.TestUtils.getProcessCloudEvent;
 import static org.kie.kogito.index.TestUtils.getUserTaskCloudEvent;
 import static org.kie.kogito.index.messaging.ReactiveMessagingEventConsumer.KOGITO_DOMAIN_EVENTS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -103,14 +109,73 @@ public class ReactiveMessagingEventConsumerTest {
     @Test
     public void testOnProcessInstanceEvent() throws Exception {
         KogitoProcessCloudEvent event = mock(KogitoProcessCloudEvent.class);
+        when(service.submitProcessInstance(any())).thenReturn(CompletableFuture.completedFuture(null));
         consumer.onProcessInstanceEvent(event).toCompletableFuture().get();
-        verify(service).indexProcessInstance(event.getData());
+        verify(service).submitProcessInstance(event.getData());
     }
 
     @Test
     public void testOnUserTaskInstanceEvent() throws Exception {
         KogitoUserTaskCloudEvent event = mock(KogitoUserTaskCloudEvent.class);
+        when(service.submitUserTaskInstance(any())).thenReturn(CompletableFuture.completedFuture(null));
         consumer.onUserTaskInstanceEvent(event).toCompletableFuture().get();
-        verify(service).indexUserTaskInstance(event.getData());
+        verify(service).submitUserTaskInstance(event.getData());
+    }
+
+    @Test
+    public void testMessagesTakenWhileIndexing() throws Exception {
+        List<CompletableFuture<Void>> indexed = new ArrayList<>();
+        when(service.submitProcessInstance(any())).thenAnswer(invocation -> {
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            indexed.add(completion);
+            return completion;
+        });
+        when(service.accepting()).thenReturn(CompletableFuture.completedFuture(null));
+
+        List<Message<KogitoProcessCloudEvent>> messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Message<KogitoProcessCloudEvent> message = mockMessage(mock(KogitoProcessCloudEvent.class));
+            messages.add(message);
+            assertThat(consumer.onProcessInstanceMessage(message).toCompletableFuture()).isCompleted();
+        }
+        assertThat(indexed).hasSize(100);
+        messages.forEach(message -> verify(message, never()).ack());
+
+        IllegalStateException failure = new IllegalStateException("failed");
+        for (int i = 0; i < indexed.size(); i++) {
+            if (i == 42) {
+                indexed.get(i).completeExceptionally(failure);
+            } else {
+                indexed.get(i).complete(null);
+            }
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            if (i == 42) {
+                verify(messages.get(i)).nack(failure);
+                verify(messages.get(i), never()).ack();
+            } else {
+                verify(messages.get(i)).ack();
+            }
+        }
+    }
+
+    @Test
+    public void testMessagesNotTakenWhileTooManyPending() throws Exception {
+        CompletableFuture<Void> accepting = new CompletableFuture<>();
+        when(service.submitUserTaskInstance(any())).thenReturn(new CompletableFuture<>());
+        when(service.accepting()).thenReturn(accepting);
+
+        CompletableFuture<Void> next = consumer.onUserTaskInstanceMessage(mockMessage(mock(KogitoUserTaskCloudEvent.class))).toCompletableFuture();
+
+        assertThat(next).isNotCompleted();
+        accepting.complete(null);
+        assertThat(next).isCompleted();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Message<T> mockMessage(T payload) {
+        Message<T> message = mock(Message.class);
+        when(message.getPayload()).thenReturn(payload);
+        return message;
     }
 }
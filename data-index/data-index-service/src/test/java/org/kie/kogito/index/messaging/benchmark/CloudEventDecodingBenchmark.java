@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.messaging.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.kie.kogito.index.event.KogitoProcessCloudEvent;
+import org.kie.kogito.index.json.JsonUtils;
+import org.kie.kogito.index.messaging.KogitoProcessCloudEventDeserializer;
+import org.kie.kogito.index.messaging.ProtobufCloudEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding of the same process instance event from JSON and from protobuf, both through
+ * the deserializer used by the data index consumers.
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=CloudEventDecodingBenchmark</code>.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CloudEventDecodingBenchmark {
+
+    @Param({"1", "100"})
+    private int numberOfNodeInstances;
+
+    private KogitoProcessCloudEventDeserializer deserializer;
+    private byte[] json;
+    private byte[] protobuf;
+
+    @Setup
+    public void setUp() throws IOException {
+        deserializer = new KogitoProcessCloudEventDeserializer();
+
+        JsonNode event;
+        try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream("process_instance_event.json")) {
+            event = JsonUtils.getObjectMapper().readTree(is);
+        }
+        ArrayNode nodes = (ArrayNode) event.get("data").get("nodeInstances");
+        JsonNode node = nodes.get(0);
+        nodes.removeAll();
+        for (int i = 0; i < numberOfNodeInstances; i++) {
+            nodes.add(((ObjectNode) node.deepCopy()).put("id", "ni" + i).put("nodeId", String.valueOf(i)));
+        }
+        json = JsonUtils.getObjectMapper().writeValueAsBytes(event);
+        protobuf = ProtobufCloudEvents.encode(deserializer.deserialize(null, json));
+    }
+
+    @Benchmark
+    public KogitoProcessCloudEvent json() {
+        return deserializer.deserialize(null, json);
+    }
+
+    @Benchmark
+    public KogitoProcessCloudEvent protobuf() {
+        return deserializer.deserialize(null, protobuf);
+    }
+}
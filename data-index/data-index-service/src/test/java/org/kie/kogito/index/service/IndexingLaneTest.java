@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexingLaneTest {
+
+    @Test
+    public void testEventsWithinWindowAreBatchedInOrder() throws Exception {
+        List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        IndexingLane lane = new IndexingLane("test-lane", 100, TimeUnit.SECONDS.toMillis(1), batches::add);
+
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            completions.add(lane.submit(i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        lane.close();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testFullBatchIsFlushedBeforeWindow() throws Exception {
+        List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        IndexingLane lane = new IndexingLane("test-lane", 2, TimeUnit.MINUTES.toMillis(1), batches::add);
+
+        CompletableFuture<Void> first = lane.submit("a").toCompletableFuture();
+        lane.submit("b").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        lane.close();
+
+        assertThat(first).isCompleted();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly("a", "b");
+    }
+
+    @Test
+    public void testFailedBatchCompletesExceptionally() throws Exception {
+        IndexingLane lane = new IndexingLane("test-lane", 1, 1, batch -> {
+            throw new IllegalStateException("failed");
+        });
+
+        CompletableFuture<Void> completion = lane.submit("a").toCompletableFuture();
+        lane.close();
+
+        assertThat(completion).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testFailedBatchIndexedOneByOne() throws Exception {
+        List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        IndexingLane lane = new IndexingLane("test-lane", 3, TimeUnit.MINUTES.toMillis(1), batch -> {
+            batches.add(batch);
+            if (batch.contains("b")) {
+                throw new IllegalStateException("failed");
+            }
+        });
+
+        CompletableFuture<Void> first = lane.submit("a").toCompletableFuture();
+        CompletableFuture<Void> second = lane.submit("b").toCompletableFuture();
+        CompletableFuture<Void> third = lane.submit("c").toCompletableFuture();
+        lane.close();
+
+        assertThat(first).isCompleted().isNotCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(third).isCompleted().isNotCompletedExceptionally();
+        assertThat(batches).containsExactly(asList("a", "b", "c"), singletonList("a"), singletonList("b"), singletonList("c"));
+    }
+}
@@ -22,6 +22,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -43,6 +45,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.restassured.RestAssured.given;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static io.restassured.config.EncoderConfig.encoderConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -356,6 +360,47 @@ public class IndexingServiceTest {
         validateProcessInstance(query, event, null);
     }
 
+    @Test
+    public void testCursorPaginationWithNullSortValues() throws Exception {
+        String processId = "paging_" + UUID.randomUUID().toString().replace("-", "");
+        List<String> completed = new ArrayList<>();
+        List<String> active = new ArrayList<>();
+        for (ProcessInstanceState state : asList(ACTIVE, COMPLETED, ACTIVE, COMPLETED, ERROR)) {
+            String processInstanceId = UUID.randomUUID().toString();
+            (state == COMPLETED ? completed : active).add(processInstanceId);
+            indexProcessCloudEvent(getProcessCloudEvent(processId, processInstanceId, state, null, null, null));
+        }
+
+        // entries without end, and without root process id, are sorted first by Infinispan
+        for (String orderBy : asList("end: ASC", "end: DESC", "rootProcessId: ASC", "rootProcessId: DESC", "state: ASC, end: DESC")) {
+            List<String> paged = new ArrayList<>();
+            List<Map<String, String>> page = queryProcessInstances(processId, orderBy, 2, null);
+            while (!page.isEmpty()) {
+                page.forEach(pi -> paged.add(pi.get("id")));
+                page = queryProcessInstances(processId, orderBy, 2, page.get(page.size() - 1).get("cursor"));
+            }
+            assertThat(paged).as(orderBy).hasSize(5).doesNotHaveDuplicates().isEqualTo(queryProcessInstanceIds(processId, orderBy));
+        }
+        assertThat(queryProcessInstanceIds(processId, "end: ASC").subList(0, active.size())).containsExactlyInAnyOrderElementsOf(active);
+        assertThat(queryProcessInstanceIds(processId, "end: DESC").subList(0, completed.size())).containsExactlyInAnyOrderElementsOf(completed);
+    }
+
+    private List<String> queryProcessInstanceIds(String processId, String orderBy) {
+        return queryProcessInstances(processId, orderBy, null, null).stream().map(pi -> pi.get("id")).collect(toList());
+    }
+
+    private List<Map<String, String>> queryProcessInstances(String processId, String orderBy, Integer limit, String after) {
+        String pagination = "";
+        if (limit != null) {
+            pagination = ", pagination: {limit: " + limit + (after == null ? "" : ", after: \\\"" + after + "\\\"") + "}";
+        }
+        String query = "{ \"query\" : \"{ProcessInstances(where: {processId: {equal: \\\"" + processId + "\\\"}}, orderBy: {" + orderBy + "}" + pagination + ") { id, cursor } }\" }";
+        return given().contentType(ContentType.JSON).body(query)
+                .when().post("/graphql")
+                .then().log().ifValidationFails().statusCode(200)
+                .extract().path("data.ProcessInstances");
+    }
+
     private void indexProcessCloudEvent(KogitoProcessCloudEvent event) throws Exception {
         CompletableFuture.allOf(
                 consumer.onProcessInstanceEvent(event).toCompletableFuture(),
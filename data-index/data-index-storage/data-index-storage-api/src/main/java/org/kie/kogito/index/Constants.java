@@ -26,6 +26,7 @@ public final class Constants {
     public static final String LAST_UPDATE = "lastUpdate";
     public static final String PROCESS_ID = "processId";
     public static final String ID = "id";
+    public static final String VARIABLES_DELTA = "variablesDelta";
 
 
 }
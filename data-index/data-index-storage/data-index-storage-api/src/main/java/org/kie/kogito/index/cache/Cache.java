@@ -16,6 +16,8 @@
 
 package org.kie.kogito.index.cache;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
@@ -23,6 +25,11 @@ import org.kie.kogito.index.query.Query;
 
 public interface Cache<K, V> extends ConcurrentMap<K, V> {
 
+    /**
+     * Retrieves all the entries for the given keys at once, keys not present in the cache are not part of the result.
+     */
+    Map<K, V> getAll(Set<? extends K> keys);
+
     void addObjectCreatedListener(Consumer<V> consumer);
 
     void addObjectUpdatedListener(Consumer<V> consumer);
@@ -31,6 +31,9 @@ public class ProcessInstance extends ProcessInstanceMeta {
 
     private ProcessInstanceError error;
 
+    private boolean variablesDelta;
+    private Long sequence;
+
     public JsonNode getVariables() {
         return variables;
     }
@@ -55,6 +58,22 @@ public class ProcessInstance extends ProcessInstanceMeta {
         this.error = error;
     }
 
+    public boolean isVariablesDelta() {
+        return variablesDelta;
+    }
+
+    public void setVariablesDelta(boolean variablesDelta) {
+        this.variablesDelta = variablesDelta;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     public Set<String> getAddons() {
         return addons;
     }
@@ -70,6 +89,8 @@ public class ProcessInstance extends ProcessInstanceMeta {
                 ", nodes=" + nodes +
                 ", addons=" + addons +
                 ", error=" + error +
+                ", variablesDelta=" + variablesDelta +
+                ", sequence=" + sequence +
                 "} " + super.toString();
     }
 }
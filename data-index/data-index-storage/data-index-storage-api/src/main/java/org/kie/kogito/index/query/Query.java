@@ -27,6 +27,8 @@ public interface Query<T> {
     Query filter(List<AttributeFilter> filters);
 
     Query sort(List<AttributeSort> sortBy);
+
+    Query after(QueryCursor cursor);
     
     List<T> execute();
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.index.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Arrays.asList;
+import static org.kie.kogito.index.query.QueryFilterFactory.and;
+import static org.kie.kogito.index.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.index.query.QueryFilterFactory.greaterThan;
+import static org.kie.kogito.index.query.QueryFilterFactory.isNull;
+import static org.kie.kogito.index.query.QueryFilterFactory.lessThan;
+import static org.kie.kogito.index.query.QueryFilterFactory.notNull;
+import static org.kie.kogito.index.query.QueryFilterFactory.or;
+import static org.kie.kogito.index.query.QueryFilterFactory.orderBy;
+
+/**
+ * Position of an entry within a sorted query result, used for keyset pagination.
+ * A cursor holds the values of every sort attribute of the last returned entry, the unique id being the last one,
+ * and it is translated into a range predicate that selects the entries that follow it.
+ * Null values are considered to be ordered before any other value in ascending order, which is how
+ * Infinispan sorts entries missing the attribute. Sort attributes must therefore not be indexed with a null token,
+ * as nulls would then be sorted, and compared, as that token.
+ */
+public class QueryCursor {
+
+    public static final String ID_ATTRIBUTE = "id";
+
+    private static final byte VERSION = 1;
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+
+    private List<Object> values;
+
+    public QueryCursor(List<Object> values) {
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Appends the id attribute to the given sorting, if not already there, so that every entry has a unique position.
+     */
+    public static List<AttributeSort> withTieBreaker(List<AttributeSort> sortBy) {
+        List<AttributeSort> sorts = sortBy == null ? new ArrayList<>() : new ArrayList<>(sortBy);
+        if (sorts.isEmpty() || !ID_ATTRIBUTE.equals(sorts.get(sorts.size() - 1).getAttribute())) {
+            sorts.add(orderBy(ID_ATTRIBUTE, SortDirection.ASC));
+        }
+        return sorts;
+    }
+
+    public static QueryCursor decode(String cursor) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor version");
+            }
+            int size = in.readInt();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readValue(in));
+            }
+            return new QueryCursor(values);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return in.readUTF();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            default:
+                throw new IOException("Unknown cursor value type " + type);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else {
+            out.writeByte(STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    public List<Object> getValues() {
+        return values;
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(values.size());
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Builds the range predicate selecting the entries placed after this cursor for the given sorting,
+     * that is {@code (s1 > v1) or (s1 = v1 and s2 > v2) or ...}, where the sorting must end on a unique attribute.
+     */
+    public AttributeFilter toFilter(List<AttributeSort> sortBy) {
+        if (sortBy == null || sortBy.size() != values.size()) {
+            throw new IllegalArgumentException("Cursor does not match the query sorting " + sortBy);
+        }
+        List<AttributeFilter> terms = new ArrayList<>();
+        List<AttributeFilter> equalities = new ArrayList<>();
+        for (int i = 0; i < sortBy.size(); i++) {
+            AttributeSort sort = sortBy.get(i);
+            Object value = values.get(i);
+            AttributeFilter after = after(sort, value);
+            if (after != null) {
+                List<AttributeFilter> term = new ArrayList<>(equalities);
+                term.add(after);
+                terms.add(term.size() == 1 ? after : and(term));
+            }
+            equalities.add(value == null ? isNull(sort.getAttribute()) : equalTo(sort.getAttribute(), value));
+        }
+        return or(terms);
+    }
+
+    private static AttributeFilter after(AttributeSort sort, Object value) {
+        String attribute = sort.getAttribute();
+        if (sort.getSort() == SortDirection.DESC) {
+            return value == null ? null : or(asList(lessThan(attribute, value), isNull(attribute)));
+        }
+        return value == null ? notNull(attribute) : greaterThan(attribute, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryCursor)) {
+            return false;
+        }
+        return Objects.equals(values, ((QueryCursor) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(values);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCursor{" +
+                "values=" + values +
+                '}';
+    }
+}
@@ -156,6 +156,11 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         delegate.putAll(m);
     }
 
+    @Override
+    public Map<K, V> getAll(Set<? extends K> keys) {
+        return delegate.getAll(keys);
+    }
+
     @Override
     public Set<K> keySet() {
         return delegate.keySet();
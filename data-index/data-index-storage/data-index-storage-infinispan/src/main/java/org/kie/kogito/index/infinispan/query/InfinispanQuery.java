@@ -16,7 +16,10 @@
 
 package org.kie.kogito.index.infinispan.query;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.infinispan.client.hotrod.RemoteCache;
@@ -25,6 +28,7 @@ import org.infinispan.query.dsl.QueryFactory;
 import org.kie.kogito.index.query.AttributeFilter;
 import org.kie.kogito.index.query.AttributeSort;
 import org.kie.kogito.index.query.Query;
+import org.kie.kogito.index.query.QueryCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,12 +41,14 @@ public class InfinispanQuery<T> implements Query<T> {
     private static final String AND = " and ";
     private static final String OR = " or ";
     private static final String ATTRIBUTE_VALUE = "o.%s = %s";
+    private static final String PARAMETER_PREFIX = "p";
 
     private QueryFactory qf;
     private Integer limit;
     private Integer offset;
     private List<AttributeFilter> filters;
     private List<AttributeSort> sortBy;
+    private QueryCursor cursor;
     private String rootType;
 
     public InfinispanQuery(RemoteCache<?, T> delegate, String rootType) {
@@ -54,8 +60,8 @@ public class InfinispanQuery<T> implements Query<T> {
         this.rootType = rootType;
     }
 
-    private static Function<Object, Object> getValueForQueryString() {
-        return value -> value instanceof String ? "'" + value + "'" : value.toString();
+    private static Function<Object, Object> getLikeValue() {
+        return value -> value instanceof String ? ((String) value).replaceAll("\\*", "%") : value;
     }
 
     @Override
@@ -82,69 +88,91 @@ public class InfinispanQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query after(QueryCursor cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
+        Map<String, Object> parameters = new HashMap<>();
         StringBuilder queryString = new StringBuilder("from " + rootType + " o");
-        if (filters != null && !filters.isEmpty()) {
+        List<AttributeFilter> queryFilters = filters;
+        if (cursor != null) {
+            queryFilters = filters == null ? new ArrayList<>() : new ArrayList<>(filters);
+            queryFilters.add(cursor.toFilter(sortBy));
+        }
+        if (queryFilters != null && !queryFilters.isEmpty()) {
             queryString.append(" where ");
-            queryString.append(filters.stream().map(filterStringFunction()).collect(joining(AND)));
+            queryString.append(queryFilters.stream().map(filterStringFunction(parameters)).collect(joining(AND)));
         }
         if (sortBy != null && !sortBy.isEmpty()) {
             queryString.append(" order by ");
             queryString.append(sortBy.stream().map(f -> "o." + f.getAttribute() + " " + f.getSort().name()).collect(joining(", ")));
         }
-        LOGGER.debug("Executing Infinispan query: {}", queryString);
+        // filter values are bound as named parameters, so queries only differing on values share the same
+        // query string and the Ickle parsing cached by the server is reused
+        LOGGER.debug("Executing Infinispan query: {} with parameters: {}", queryString, parameters);
         org.infinispan.query.dsl.Query query = qf.create(queryString.toString());
-        if (limit != null) {
-            query.maxResults(limit);
-        }
-        if (offset != null) {
-            query.startOffset(offset);
+        if (!parameters.isEmpty()) {
+            query.setParameters(parameters);
         }
+        query.startOffset(offset == null ? 0 : offset);
+        query.maxResults(limit == null ? -1 : limit);
         return query.list();
     }
 
-    private Function<AttributeFilter, String> filterStringFunction() {
+    private Function<Object, String> parameterFunction(Map<String, Object> parameters) {
+        return value -> {
+            String name = PARAMETER_PREFIX + parameters.size();
+            parameters.put(name, value);
+            return ":" + name;
+        };
+    }
+
+    private Function<AttributeFilter, String> filterStringFunction(Map<String, Object> parameters) {
+        Function<Object, String> parameter = parameterFunction(parameters);
         return filter -> {
             switch (filter.getCondition()) {
                 case CONTAINS:
-                    return format(ATTRIBUTE_VALUE, filter.getAttribute(), getValueForQueryString().apply(filter.getValue()));
+                    return format(ATTRIBUTE_VALUE, filter.getAttribute(), parameter.apply(filter.getValue()));
                 case CONTAINS_ALL:
-                    return (String) ((List) filter.getValue()).stream().map(o -> format(ATTRIBUTE_VALUE, filter.getAttribute(), getValueForQueryString().apply(o))).collect(joining(AND));
+                    return (String) ((List) filter.getValue()).stream().map(o -> format(ATTRIBUTE_VALUE, filter.getAttribute(), parameter.apply(o))).collect(joining(AND));
                 case CONTAINS_ANY:
-                    return (String) ((List) filter.getValue()).stream().map(o -> format(ATTRIBUTE_VALUE, filter.getAttribute(), getValueForQueryString().apply(o))).collect(joining(OR));
+                    return (String) ((List) filter.getValue()).stream().map(o -> format(ATTRIBUTE_VALUE, filter.getAttribute(), parameter.apply(o))).collect(joining(OR, "(", ")"));
                 case LIKE:
-                    return format("o.%s like %s", filter.getAttribute(), getValueForQueryString().apply(filter.getValue())).replaceAll("\\*", "%");
+                    return format("o.%s like %s", filter.getAttribute(), parameter.apply(getLikeValue().apply(filter.getValue())));
                 case EQUAL:
-                    return format(ATTRIBUTE_VALUE, filter.getAttribute(), getValueForQueryString().apply(filter.getValue()));
+                    return format(ATTRIBUTE_VALUE, filter.getAttribute(), parameter.apply(filter.getValue()));
                 case IN:
-                    return format("o.%s in (%s)", filter.getAttribute(), ((List) filter.getValue()).stream().map(getValueForQueryString()).collect(joining(", ")));
+                    return format("o.%s in (%s)", filter.getAttribute(), ((List) filter.getValue()).stream().map(parameter).collect(joining(", ")));
                 case IS_NULL:
                     return format("o.%s is null", filter.getAttribute());
                 case NOT_NULL:
                     return format("o.%s is not null", filter.getAttribute());
                 case BETWEEN:
                     List<Object> value = (List<Object>) filter.getValue();
-                    return format("o.%s between %s and %s", filter.getAttribute(), getValueForQueryString().apply(value.get(0)), getValueForQueryString().apply(value.get(1)));
+                    return format("o.%s between %s and %s", filter.getAttribute(), parameter.apply(value.get(0)), parameter.apply(value.get(1)));
                 case GT:
-                    return format("o.%s > %s", filter.getAttribute(), getValueForQueryString().apply(filter.getValue()));
+                    return format("o.%s > %s", filter.getAttribute(), parameter.apply(filter.getValue()));
                 case GTE:
-                    return format("o.%s >= %s", filter.getAttribute(), getValueForQueryString().apply(filter.getValue()));
+                    return format("o.%s >= %s", filter.getAttribute(), parameter.apply(filter.getValue()));
                 case LT:
-                    return format("o.%s < %s", filter.getAttribute(), getValueForQueryString().apply(filter.getValue()));
+                    return format("o.%s < %s", filter.getAttribute(), parameter.apply(filter.getValue()));
                 case LTE:
-                    return format("o.%s <= %s", filter.getAttribute(), getValueForQueryString().apply(filter.getValue()));
+                    return format("o.%s <= %s", filter.getAttribute(), parameter.apply(filter.getValue()));
                 case OR:
-                    return getRecursiveString(filter, OR);
+                    return "(" + getRecursiveString(filter, OR, parameters) + ")";
                 case AND:
-                    return getRecursiveString(filter, AND);
+                    return getRecursiveString(filter, AND, parameters);
                 default:
                     return null;
             }
         };
     }
 
-    private String getRecursiveString(AttributeFilter filter, String joining) {
-        return ((List<AttributeFilter>) filter.getValue()).stream().map(filterStringFunction()).collect(joining(joining));
+    private String getRecursiveString(AttributeFilter filter, String joining, Map<String, Object> parameters) {
+        return ((List<AttributeFilter>) filter.getValue()).stream().map(filterStringFunction(parameters)).collect(joining(joining));
     }
 }
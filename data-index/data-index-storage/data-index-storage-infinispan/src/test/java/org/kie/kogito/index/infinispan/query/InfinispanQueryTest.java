@@ -16,7 +16,9 @@
 
 package org.kie.kogito.index.infinispan.query;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.infinispan.query.dsl.Query;
@@ -29,6 +31,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.query.AttributeFilter;
+import org.kie.kogito.index.query.QueryCursor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,6 +41,8 @@ import static org.kie.kogito.index.query.QueryFilterFactory.*;
 import static org.kie.kogito.index.query.SortDirection.ASC;
 import static org.kie.kogito.index.query.SortDirection.DESC;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,72 +58,96 @@ public class InfinispanQueryTest {
     private static Stream<Arguments> provideFilters() {
         return Stream.of(
                 Arguments.of(
-                        asList(like("name", "test%")),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name like 'test%'"
+                        asList(like("name", "test*")),
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.name like :p0",
+                        params("p0", "test%")
                 ),
                 Arguments.of(
                         asList(in("id", asList("8035b580-6ae4-4aa8-9ec0-e18e19809e0b", "a1e139d5-4e77-48c9-84ae-34578e904e5a"))),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.id in ('8035b580-6ae4-4aa8-9ec0-e18e19809e0b', 'a1e139d5-4e77-48c9-84ae-34578e904e5a')"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.id in (:p0, :p1)",
+                        params("p0", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b", "p1", "a1e139d5-4e77-48c9-84ae-34578e904e5a")
                 ),
                 Arguments.of(
                         asList(equalTo("id", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b")),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.id = '8035b580-6ae4-4aa8-9ec0-e18e19809e0b'"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.id = :p0",
+                        params("p0", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b")
                 ),
                 Arguments.of(
                         asList(contains("name", "test")),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name = 'test'"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.name = :p0",
+                        params("p0", "test")
                 ),
                 Arguments.of(
                         asList(containsAll("name", asList("name1", "name2"))),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name = 'name1' and o.name = 'name2'"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.name = :p0 and o.name = :p1",
+                        params("p0", "name1", "p1", "name2")
                 ),
                 Arguments.of(
                         asList(containsAny("name", asList("name1", "name2"))),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name = 'name1' or o.name = 'name2'"
+                        "from org.kie.kogito.index.model.ProcessInstance o where (o.name = :p0 or o.name = :p1)",
+                        params("p0", "name1", "p1", "name2")
                 ),
                 Arguments.of(
                         asList(isNull("name")),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name is null"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.name is null",
+                        params()
                 ),
                 Arguments.of(
                         asList(notNull("name")),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name is not null"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.name is not null",
+                        params()
                 ),
                 Arguments.of(
                         asList(between("start", "2019-01-01", "2020-01-01")),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.start between '2019-01-01' and '2020-01-01'"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.start between :p0 and :p1",
+                        params("p0", "2019-01-01", "p1", "2020-01-01")
                 ),
                 Arguments.of(
                         asList(greaterThan("priority", 1)),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority > 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority > :p0",
+                        params("p0", 1)
                 ),
                 Arguments.of(
                         asList(greaterThanEqual("priority", 1)),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority >= 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority >= :p0",
+                        params("p0", 1)
                 ),
                 Arguments.of(
                         asList(lessThan("priority", 1)),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority < 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority < :p0",
+                        params("p0", 1)
                 ),
                 Arguments.of(
                         asList(lessThanEqual("priority", 1)),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority <= 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority <= :p0",
+                        params("p0", 1)
                 ),
                 Arguments.of(
                         asList(and(asList(lessThanEqual("priority", 1), greaterThan("priority", 1)))),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority <= 1 and o.priority > 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority <= :p0 and o.priority > :p1",
+                        params("p0", 1, "p1", 1)
                 ),
                 Arguments.of(
                         asList(or(asList(lessThanEqual("priority", 1), greaterThan("priority", 1)))),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.priority <= 1 or o.priority > 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where (o.priority <= :p0 or o.priority > :p1)",
+                        params("p0", 1, "p1", 1)
                 ),
                 Arguments.of(
                         asList(and(asList(notNull("name"), contains("name", "test"))), or(asList(lessThanEqual("priority", 1), greaterThan("priority", 1)))),
-                        "from org.kie.kogito.index.model.ProcessInstance o where o.name is not null and o.name = 'test' and o.priority <= 1 or o.priority > 1"
+                        "from org.kie.kogito.index.model.ProcessInstance o where o.name is not null and o.name = :p0 and (o.priority <= :p1 or o.priority > :p2)",
+                        params("p0", "test", "p1", 1, "p2", 1)
                 )
         );
     }
 
+    private static Map<String, Object> params(Object... keyValues) {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+
     @BeforeEach
     public void setup() {
         when(factory.create(any())).thenReturn(mockQuery);
@@ -171,15 +200,31 @@ public class InfinispanQueryTest {
         verify(mockQuery).list();
     }
 
+    @Test
+    public void testValuesBoundAsParameters() {
+        new InfinispanQuery(factory, ProcessInstance.class.getName()).filter(asList(equalTo("id", "1"))).execute();
+        new InfinispanQuery(factory, ProcessInstance.class.getName()).filter(asList(equalTo("id", "2"))).execute();
+
+        verify(factory, times(2)).create("from org.kie.kogito.index.model.ProcessInstance o where o.id = :p0");
+        verify(mockQuery).setParameters(params("p0", "1"));
+        verify(mockQuery).setParameters(params("p0", "2"));
+        verify(mockQuery, times(2)).list();
+    }
+
     @ParameterizedTest
     @MethodSource("provideFilters")
-    public void assertQueryFilters(List<AttributeFilter> filters, String queryString) {
+    public void assertQueryFilters(List<AttributeFilter> filters, String queryString, Map<String, Object> parameters) {
         InfinispanQuery query = new InfinispanQuery(factory, ProcessInstance.class.getName());
         query.filter(filters);
 
         query.execute();
 
         verify(factory).create(queryString);
+        if (parameters.isEmpty()) {
+            verify(mockQuery, never()).setParameters(any());
+        } else {
+            verify(mockQuery).setParameters(parameters);
+        }
         verify(mockQuery).list();
     }
 }
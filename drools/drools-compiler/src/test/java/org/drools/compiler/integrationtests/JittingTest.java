@@ -20,8 +20,13 @@ import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.Person;
 import org.drools.compiler.integrationtests.facts.AnEnum;
 import org.drools.compiler.integrationtests.facts.FactWithEnum;
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.rule.constraint.JittingStatistics;
 import org.junit.jupiter.api.Test;
 import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
@@ -121,4 +126,38 @@ public class JittingTest extends CommonTestMethodBase {
         kieSession.insert(new FactWithEnum(AnEnum.FIRST));
         assertThat(kieSession.fireAllRules()).isEqualTo(1);
     }
+
+    @Test
+    public void testEagerJitting() throws Exception {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                " rule R1 \n" +
+                " when \n" +
+                "    Person( age > 30, name.startsWith(\"M\") ) \n" +
+                " then \n" +
+                " end ";
+
+        final KieBaseConfiguration kieBaseConf = KieServices.get().newKieBaseConfiguration();
+        kieBaseConf.setProperty(RuleBaseConfiguration.EAGER_JITTING_PROPERTY, "true");
+
+        final KieHelper kieHelper = new KieHelper();
+        kieHelper.addContent( drl, ResourceType.DRL );
+        final InternalKnowledgeBase kieBase = (InternalKnowledgeBase) kieHelper.build(kieBaseConf);
+
+        final JittingStatistics statistics = kieBase.getJittingStatistics();
+        assertThat(statistics.getScheduled()).isZero();
+
+        final KieSession kieSession = kieBase.newKieSession();
+        kieSession.insert(new Person("Mario", 45));
+        assertThat(kieSession.fireAllRules()).isEqualTo(1);
+        kieSession.dispose();
+
+        // jitted in background right after the first evaluation, without waiting for the threshold
+        assertThat(statistics.getScheduled()).isPositive();
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (statistics.getPending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(statistics.getPending()).isZero();
+        assertThat(statistics.getJitted() + statistics.getFallbacks()).isEqualTo(statistics.getScheduled());
+    }
 }
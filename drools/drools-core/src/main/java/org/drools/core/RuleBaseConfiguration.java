@@ -107,6 +107,7 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.declarativeAgendaEnabled =  &lt;true|false&gt; 
  * drools.permgenThreshold = &lt;1...n&gt;
  * drools.jittingThreshold = &lt;1...n&gt;
+ * drools.eagerJitting = &lt;true|false&gt;
  * </pre>
  */
 public class RuleBaseConfiguration
@@ -120,6 +121,8 @@ public class RuleBaseConfiguration
 
     public static final String DEFAULT_SIGN_ON_SERIALIZATION = "false";
 
+    public static final String EAGER_JITTING_PROPERTY = "drools.eagerJitting";
+
     protected static final transient Logger logger = LoggerFactory.getLogger(RuleBaseConfiguration.class);
 
     private ChainedProperties chainedProperties;
@@ -135,6 +138,7 @@ public class RuleBaseConfiguration
     private boolean         shareBetaNodes;
     private int             permGenThreshold;
     private int             jittingThreshold;
+    private boolean         eagerJitting;
     private int             alphaNodeHashingThreshold;
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
@@ -156,6 +160,7 @@ public class RuleBaseConfiguration
     // in parallel by using multiple internal threads
     private boolean multithread;
     private int     maxThreads;
+    private boolean maxThreadsSet;
 
     // this property activates MBean monitoring and management
     private boolean mbeansEnabled;
@@ -210,6 +215,8 @@ public class RuleBaseConfiguration
         out.writeBoolean(declarativeAgenda);
         out.writeObject(componentFactory);
         out.writeInt(sessionPoolSize);
+        out.writeBoolean(eagerJitting);
+        out.writeBoolean(maxThreadsSet);
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -242,6 +249,8 @@ public class RuleBaseConfiguration
         declarativeAgenda = in.readBoolean();
         componentFactory = (KieComponentFactory) in.readObject();
         sessionPoolSize = in.readInt();
+        eagerJitting = in.readBoolean();
+        maxThreadsSet = in.readBoolean();
     }
 
     /**
@@ -303,6 +312,8 @@ public class RuleBaseConfiguration
             setPermGenThreshold(StringUtils.isEmpty(value) ? PermGenThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
         } else if ( name.equals( ConstraintJittingThresholdOption.PROPERTY_NAME ) ) {
             setJittingThreshold( StringUtils.isEmpty( value ) ? ConstraintJittingThresholdOption.DEFAULT_VALUE : Integer.parseInt( value ) );
+        } else if ( name.equals( EAGER_JITTING_PROPERTY ) ) {
+            setEagerJitting( StringUtils.isEmpty( value ) ? false : Boolean.valueOf( value ) );
         } else if ( name.equals( AlphaThresholdOption.PROPERTY_NAME ) ) {
             setAlphaNodeHashingThreshold( StringUtils.isEmpty( value ) ? 3 : Integer.parseInt(value));
         } else if ( name.equals( SessionsPoolOption.PROPERTY_NAME ) ) {
@@ -326,7 +337,7 @@ public class RuleBaseConfiguration
         } else if ( name.equals( MultithreadEvaluationOption.PROPERTY_NAME ) ) {
             setMultithreadEvaluation( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( MaxThreadsOption.PROPERTY_NAME ) ) {
-            setMaxThreads( StringUtils.isEmpty( value ) ? 3 : Integer.parseInt(value));
+            initMaxThreads( value );
         } else if ( name.equals( EventProcessingOption.PROPERTY_NAME ) ) {
             setEventProcessingMode( EventProcessingOption.determineEventProcessingMode( StringUtils.isEmpty( value ) ? "cloud" : value));
         } else if ( name.equals( MBeansOption.PROPERTY_NAME ) ) {
@@ -356,6 +367,8 @@ public class RuleBaseConfiguration
             return Integer.toString( getPermGenThreshold() );
         } else if ( name.equals( ConstraintJittingThresholdOption.PROPERTY_NAME ) ) {
             return Integer.toString( getJittingThreshold() );
+        } else if ( name.equals( EAGER_JITTING_PROPERTY ) ) {
+            return Boolean.toString( isEagerJitting() );
         } else if ( name.equals( AlphaThresholdOption.PROPERTY_NAME ) ) {
             return Integer.toString( getAlphaNodeHashingThreshold() );
         } else if ( name.equals( SessionsPoolOption.PROPERTY_NAME ) ) {
@@ -434,6 +447,8 @@ public class RuleBaseConfiguration
 
         setJittingThreshold( Integer.parseInt( this.chainedProperties.getProperty( ConstraintJittingThresholdOption.PROPERTY_NAME, "" + ConstraintJittingThresholdOption.DEFAULT_VALUE)));
 
+        setEagerJitting( Boolean.valueOf( this.chainedProperties.getProperty( EAGER_JITTING_PROPERTY, "false" ) ) );
+
         setAlphaNodeHashingThreshold(Integer.parseInt(this.chainedProperties.getProperty(AlphaThresholdOption.PROPERTY_NAME, "3")));
 
         setSessionPoolSize(Integer.parseInt(this.chainedProperties.getProperty( SessionsPoolOption.PROPERTY_NAME, "-1")));
@@ -462,8 +477,7 @@ public class RuleBaseConfiguration
         setMultithreadEvaluation( Boolean.valueOf( this.chainedProperties.getProperty( MultithreadEvaluationOption.PROPERTY_NAME,
                                                                                        "false" ) ).booleanValue() );
 
-        setMaxThreads( Integer.parseInt( this.chainedProperties.getProperty( MaxThreadsOption.PROPERTY_NAME,
-                                                                             "3" ) ) );
+        initMaxThreads( this.chainedProperties.getProperty( MaxThreadsOption.PROPERTY_NAME, null ) );
 
         setEventProcessingMode( EventProcessingOption.determineEventProcessingMode( this.chainedProperties.getProperty( EventProcessingOption.PROPERTY_NAME,
                                                                                                                         "cloud" ) ) );
@@ -574,6 +588,20 @@ public class RuleBaseConfiguration
         this.jittingThreshold = jittingThreshold;
     }
 
+    /**
+     * Returns true if the constraints are compiled when the rule base is built and jitted in
+     * background right after their first evaluation, instead of being interpreted until the
+     * jittingThreshold is reached.
+     */
+    public boolean isEagerJitting() {
+        return eagerJitting;
+    }
+
+    public void setEagerJitting( boolean eagerJitting ) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.eagerJitting = eagerJitting;
+    }
+
     public int getAlphaNodeHashingThreshold() {
         return this.alphaNodeHashingThreshold;
     }
@@ -722,6 +750,16 @@ public class RuleBaseConfiguration
      */
     public void setMaxThreads(final int maxThreads) {
         this.maxThreads = maxThreads;
+        this.maxThreadsSet = true;
+    }
+
+    private void initMaxThreads(String value) {
+        if ( StringUtils.isEmpty( value ) ) {
+            this.maxThreads = 3;
+            this.maxThreadsSet = false;
+        } else {
+            setMaxThreads( Integer.parseInt( value ) );
+        }
     }
 
     /**
@@ -734,6 +772,14 @@ public class RuleBaseConfiguration
         return this.maxThreads;
     }
 
+    /**
+     * Returns true if the maximum number of threads was configured, otherwise the parallel
+     * evaluation uses one thread per partition of the rule base whatever {@link #getMaxThreads()} returns
+     */
+    public boolean isMaxThreadsSet() {
+        return this.maxThreadsSet;
+    }
+
     public boolean isClassLoaderCacheEnabled() {
         return this.classLoaderCacheEnabled;
     }
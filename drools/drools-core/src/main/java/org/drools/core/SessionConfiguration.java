@@ -78,6 +78,9 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract ClockType getClockType();
     public abstract void setClockType(ClockType clockType);
 
+    public abstract PropagationListType getPropagationListType();
+    public abstract void setPropagationListType(PropagationListType propagationListType);
+
     public abstract TimerJobFactoryType getTimerJobFactoryType();
     public abstract void setTimerJobFactoryType(TimerJobFactoryType timerJobFactoryType);
 
@@ -170,6 +173,8 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( property ) );
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             setBeliefSystemType(StringUtils.isEmpty(value) ? BeliefSystemType.SIMPLE : BeliefSystemType.resolveBeliefSystemType(value));
+        } else if ( name.equals( PropagationListType.PROPERTY_NAME ) ) {
+            setPropagationListType(StringUtils.isEmpty(value) ? PropagationListType.SYNCHRONIZED : PropagationListType.resolvePropagationListType(value));
         }
     }
 
@@ -189,6 +194,8 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return getQueryListenerOption().getAsString();
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             return getBeliefSystemType().getId();
+        } else if ( name.equals( PropagationListType.PROPERTY_NAME ) ) {
+            return getPropagationListType().getId();
         }
         return null;
     }
@@ -62,6 +62,7 @@ import org.kie.internal.utils.ChainedProperties;
  * 
  * drools.keepReference = <true|false>
  * drools.clockType = <pseudo|realtime|heartbeat|implicit>
+ * drools.propagationList = <synchronized|lockfree>
  */
 public class SessionConfigurationImpl extends SessionConfiguration {
 
@@ -80,6 +81,8 @@ public class SessionConfigurationImpl extends SessionConfiguration {
     
     private BeliefSystemType               beliefSystemType;
 
+    private PropagationListType            propagationListType;
+
     private QueryListenerOption            queryListener;
 
     private Map<String, WorkItemHandler>   workItemHandlers;
@@ -170,6 +173,9 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         setClockType( ClockType.resolveClockType( this.chainedProperties.getProperty( ClockTypeOption.PROPERTY_NAME,
                                                                                       ClockType.REALTIME_CLOCK.getId() ) ) );
 
+        setPropagationListType( PropagationListType.resolvePropagationListType( this.chainedProperties.getProperty( PropagationListType.PROPERTY_NAME,
+                                                                                                                   PropagationListType.SYNCHRONIZED.getId() ) ) );
+
         setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( this.chainedProperties.getProperty( QueryListenerOption.PROPERTY_NAME,
                                                                                                                            QueryListenerOption.STANDARD.getAsString() ) ) );
 
@@ -256,6 +262,15 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         this.clockType = clockType;
     }
 
+    public PropagationListType getPropagationListType() {
+        return propagationListType;
+    }
+
+    public void setPropagationListType(PropagationListType propagationListType) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.propagationListType = propagationListType;
+    }
+
     public TimerJobFactoryType getTimerJobFactoryType() {
         return timerJobFactoryType;
     }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.drools.core.util.LongCountedTree;
+
+/**
+ * Base class for reversible min/max accumulators over integral values. Every accumulated
+ * value is kept in a counted tree, so accumulate, reverse and getResult are all O(log n)
+ * and the accumulate node never has to re-iterate the matching facts on a retraction.
+ */
+public abstract class AbstractCountedMinMaxAccumulateFunction extends AbstractAccumulateFunction<AbstractCountedMinMaxAccumulateFunction.CountedData> {
+
+    private final boolean max;
+
+    protected AbstractCountedMinMaxAccumulateFunction(boolean max) {
+        this.max = max;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+    }
+
+    protected static class CountedData implements Externalizable {
+        public LongCountedTree values = new LongCountedTree();
+
+        public CountedData() {}
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            values = (LongCountedTree) in.readObject();
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(values);
+        }
+
+        @Override
+        public String toString() {
+            return "counted " + values;
+        }
+    }
+
+    public CountedData createContext() {
+        return new CountedData();
+    }
+
+    public void init(CountedData data) {
+        data.values.clear();
+    }
+
+    public void accumulate(CountedData data,
+                           Object value) {
+        if (value != null) {
+            data.values.add(toKey(value));
+        }
+    }
+
+    public void reverse(CountedData data,
+                        Object value) {
+        if (value != null) {
+            data.values.remove(toKey(value));
+        }
+    }
+
+    public Object getResult(CountedData data) {
+        if (data.values.isEmpty()) {
+            return null;
+        }
+        return fromKey(max ? data.values.max() : data.values.min());
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    protected abstract long toKey(Object value);
+
+    protected abstract Object fromKey(long key);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+/**
+ * A reversible implementation of an accumulator capable of calculating minimum long values
+ */
+public class ReversibleLongMinAccumulateFunction extends AbstractCountedMinMaxAccumulateFunction {
+
+    public ReversibleLongMinAccumulateFunction() {
+        super(false);
+    }
+
+    @Override
+    protected long toKey(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    @Override
+    protected Object fromKey(long key) {
+        return Long.valueOf(key);
+    }
+
+    public Class<?> getResultType() {
+        return Long.class;
+    }
+}
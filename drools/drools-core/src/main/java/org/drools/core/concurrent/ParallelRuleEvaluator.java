@@ -16,43 +16,77 @@
 
 package org.drools.core.concurrent;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.common.DefaultAgenda;
 import org.drools.core.common.InternalAgendaGroup;
 import org.drools.core.common.RuleBasePartitionId;
+import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.spi.Activation;
 import org.drools.core.spi.KnowledgeHelper;
 import org.kie.api.runtime.rule.AgendaFilter;
-import org.kie.internal.concurrent.ExecutorProviderFactory;
 
+/**
+ * Evaluates the partitions of the rule base in parallel on a {@link ForkJoinPool}. The agenda
+ * items of a partition share its network memories, so they are evaluated in order by a single
+ * task, a partition being the smallest unit of work; the tasks of the different partitions are
+ * forked together and run on any free worker. The parallelism is the maxThreads of the KieBase
+ * configuration when explicitly set, otherwise the number of partitions. The statistics of the
+ * partitions are shared by the sessions of the KieBase.
+ */
 public class ParallelRuleEvaluator extends AbstractRuleEvaluator implements RuleEvaluator {
 
-    private static final RuleAgendaItem POISON_PILL = new RuleAgendaItem();
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
 
-    private final int evaluatorsNr = RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER;
+    private final int partitionsNr = RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER;
 
-    private RuleEvaluatorCallable[] evaluators = new RuleEvaluatorCallable[evaluatorsNr];
-    private Future<Integer>[] results = new Future[evaluatorsNr];
+    private final ForkJoinPool pool;
 
-    private AgendaFilter filter;
-    private int fireCount;
-    private int fireLimit;
+    private final List<RuleAgendaItem>[] partitionItems = new List[partitionsNr];
+    private final List<PartitionStatistics> statistics;
 
     public ParallelRuleEvaluator( DefaultAgenda agenda ) {
         super(agenda);
-        for (int i = 0; i < evaluatorsNr; i++) {
-            evaluators[i] = new RuleEvaluatorCallable();
+        InternalKnowledgeBase kBase = agenda.getWorkingMemory().getKnowledgeBase();
+        RuleBaseConfiguration conf = kBase.getConfiguration();
+        this.pool = getPool( conf.isMaxThreadsSet() && conf.getMaxThreads() > 0 ? conf.getMaxThreads() : partitionsNr );
+        this.statistics = kBase.getPartitionStatistics();
+        for (int i = 0; i < partitionsNr; i++) {
+            partitionItems[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Creates the statistics of all the partitions of a rule base
+     */
+    public static List<PartitionStatistics> newPartitionStatistics() {
+        List<PartitionStatistics> statistics = new ArrayList<>();
+        for (int i = 0; i < RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER; i++) {
+            statistics.add( new PartitionStatistics( i ) );
         }
+        return Collections.unmodifiableList( statistics );
     }
 
-    private static class Completion {
-        private static final CompletionService<Integer> service = ExecutorProviderFactory.getExecutorProvider().getCompletionService();
+    static ForkJoinPool getPool( int parallelism ) {
+        return POOLS.computeIfAbsent( parallelism, p -> new ForkJoinPool( p, ParallelRuleEvaluator::newWorkerThread, null, false ) );
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread( ForkJoinPool pool ) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+        thread.setName( "drools-evaluator-" + pool.getParallelism() + "-" + thread.getPoolIndex() );
+        thread.setDaemon( true );
+        return thread;
     }
 
     @Override
@@ -60,37 +94,57 @@ public class ParallelRuleEvaluator extends AbstractRuleEvaluator implements Rule
                                 int fireCount,
                                 int fireLimit,
                                 InternalAgendaGroup group ) {
-        this.filter = filter;
-        this.fireCount = fireCount;
-        this.fireLimit = fireLimit;
-
         Activation[] activations = group.getActivations();
         for ( Activation activation : activations ) {
             RuleAgendaItem item = (RuleAgendaItem) activation;
-            int index = item.getPartition().getParallelEvaluationSlot();
-            RuleEvaluatorCallable evaluator = evaluators[index];
-            evaluator.enqueue( item );
-            if ( !evaluator.running ) {
-                evaluator.running = true;
-                results[index] = Completion.service.submit( evaluator );
+            partitionItems[item.getPartition().getParallelEvaluationSlot()].add( item );
+        }
+
+        List<PartitionEvaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < partitionsNr; i++) {
+            if (!partitionItems[i].isEmpty()) {
+                evaluations.add( new PartitionEvaluation( i, filter, fireCount, fireLimit ) );
             }
         }
 
-        int localFireCount = 0;
-        for (int i = 0; i < evaluatorsNr; i++) {
-            if (results[i] != null) {
-                try {
-                    evaluators[i].enqueue( POISON_PILL );
-                    localFireCount += results[i].get();
-                } catch (Exception e) {
-                    throw new RuntimeException( e );
-                } finally {
-                    results[i] = null;
-                }
+        try {
+            switch (evaluations.size()) {
+                case 0:
+                    return 0;
+                case 1:
+                    // nothing to run in parallel, evaluate it in the calling thread
+                    return evaluations.get( 0 ).invoke();
+                default:
+                    return pool.invoke( new RecursiveTask<Integer>() {
+                        @Override
+                        protected Integer compute() {
+                            // the joins signal the completion of each partition
+                            invokeAll( evaluations );
+                            int localFireCount = 0;
+                            for (PartitionEvaluation evaluation : evaluations) {
+                                localFireCount += evaluation.join();
+                            }
+                            return localFireCount;
+                        }
+                    } );
+            }
+        } finally {
+            for (List<RuleAgendaItem> items : partitionItems) {
+                items.clear();
             }
         }
+    }
 
-        return localFireCount;
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Returns the statistics of each partition, the skew among them shows how evenly
+     * the rule base is partitioned
+     */
+    public List<PartitionStatistics> getPartitionStatistics() {
+        return statistics;
     }
 
     @Override
@@ -98,35 +152,79 @@ public class ParallelRuleEvaluator extends AbstractRuleEvaluator implements Rule
         throw new UnsupportedOperationException();
     }
 
-    public class RuleEvaluatorCallable implements Callable<Integer> {
-        private final BlockingQueue<RuleAgendaItem> queue = new LinkedBlockingQueue<>();
-
-        private final KnowledgeHelper knowledgeHelper = newKnowledgeHelper();
-
-        private boolean running = false;
+    private class PartitionEvaluation extends RecursiveTask<Integer> {
+        private final int partition;
+        private final AgendaFilter filter;
+        private final int fireCount;
+        private final int fireLimit;
+
+        private PartitionEvaluation( int partition, AgendaFilter filter, int fireCount, int fireLimit ) {
+            this.partition = partition;
+            this.filter = filter;
+            this.fireCount = fireCount;
+            this.fireLimit = fireLimit;
+        }
 
         @Override
-        public Integer call() {
+        protected Integer compute() {
+            long start = System.nanoTime();
             int count = 0;
-            while (true) {
-                try {
-                    RuleAgendaItem item = queue.take();
-                    if (item == POISON_PILL) {
-                        break;
-                    }
-                    count += internalEvaluateAndFire( filter, fireCount, fireLimit, item );
-                } catch (InterruptedException e) {
-                    throw new RuntimeException( e );
-                }
+            for (RuleAgendaItem item : partitionItems[partition]) {
+                count += internalEvaluateAndFire( filter, fireCount, fireLimit, item );
             }
-            running = false;
+            statistics.get( partition ).record( count, System.nanoTime() - start );
             return count;
         }
+    }
 
-        private void enqueue(RuleAgendaItem item) {
-            if (!queue.offer( item )) {
-                throw new IllegalStateException("Cannot insert item into the queue! There is no space left in the queue.");
-            }
+    public static class PartitionStatistics {
+        private final int partition;
+
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder firedRules = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        PartitionStatistics( int partition ) {
+            this.partition = partition;
+        }
+
+        void record( int fired, long latencyNanos ) {
+            evaluations.increment();
+            firedRules.add( fired );
+            totalLatencyNanos.add( latencyNanos );
+            maxLatencyNanos.accumulateAndGet( latencyNanos, Math::max );
+        }
+
+        public int getPartition() {
+            return partition;
+        }
+
+        public long getEvaluations() {
+            return evaluations.sum();
+        }
+
+        public long getFiredRules() {
+            return firedRules.sum();
+        }
+
+        public long getTotalLatencyNanos() {
+            return totalLatencyNanos.sum();
+        }
+
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos.get();
+        }
+
+        public long getAverageLatencyNanos() {
+            long count = getEvaluations();
+            return count == 0 ? 0 : getTotalLatencyNanos() / count;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition " + partition + ": evaluations=" + getEvaluations() + ", fired=" + getFiredRules() +
+                   ", avgLatency=" + getAverageLatencyNanos() + "ns, maxLatency=" + getMaxLatencyNanos() + "ns";
         }
     }
 }
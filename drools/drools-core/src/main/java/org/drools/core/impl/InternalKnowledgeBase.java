@@ -26,6 +26,7 @@ import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.SessionConfiguration;
 import org.drools.core.base.ClassFieldAccessorCache;
 import org.drools.core.common.InternalAgenda;
+import org.drools.core.concurrent.ParallelRuleEvaluator;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.definitions.InternalKnowledgePackage;
@@ -40,6 +41,7 @@ import org.drools.core.reteoo.ReteooBuilder;
 import org.drools.core.reteoo.SegmentMemory;
 import org.drools.core.rule.InvalidPatternException;
 import org.drools.core.rule.TypeDeclaration;
+import org.drools.core.rule.constraint.JittingStatistics;
 import org.drools.core.spi.FactHandleFactory;
 import org.drools.core.util.TripleStore;
 import org.kie.api.KieBase;
@@ -59,6 +61,10 @@ public interface InternalKnowledgeBase extends KieBase {
 
     RuleBaseConfiguration getConfiguration();
 
+    JittingStatistics getJittingStatistics();
+
+    List<ParallelRuleEvaluator.PartitionStatistics> getPartitionStatistics();
+
     void readLock();
     void readUnlock();
 
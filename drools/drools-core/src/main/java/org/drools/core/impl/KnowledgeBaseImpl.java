@@ -52,6 +52,7 @@ import org.drools.core.common.DroolsObjectOutputStream;
 import org.drools.core.common.InternalAgenda;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.RuleBasePartitionId;
+import org.drools.core.concurrent.ParallelRuleEvaluator;
 import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.impl.KnowledgePackageImpl;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -84,6 +85,7 @@ import org.drools.core.rule.InvalidPatternException;
 import org.drools.core.rule.JavaDialectRuntimeData;
 import org.drools.core.rule.TypeDeclaration;
 import org.drools.core.rule.WindowDeclaration;
+import org.drools.core.rule.constraint.JittingStatistics;
 import org.drools.core.ruleunit.RuleUnitDescriptionRegistry;
 import org.drools.core.spi.FactHandleFactory;
 import org.drools.core.util.TripleStore;
@@ -179,6 +181,10 @@ public class KnowledgeBaseImpl
 
     private transient InternalKieContainer kieContainer;
 
+    private final transient JittingStatistics jittingStatistics = new JittingStatistics();
+
+    private final transient List<ParallelRuleEvaluator.PartitionStatistics> partitionStatistics = ParallelRuleEvaluator.newPartitionStatistics();
+
     private ReleaseId resolvedReleaseId;
     private String containerId;
     private AtomicBoolean mbeanRegistered = new AtomicBoolean(false);
@@ -1660,6 +1666,14 @@ public class KnowledgeBaseImpl
         return this.config;
     }
 
+    public JittingStatistics getJittingStatistics() {
+        return jittingStatistics;
+    }
+
+    public List<ParallelRuleEvaluator.PartitionStatistics> getPartitionStatistics() {
+        return partitionStatistics;
+    }
+
     public ClassLoader getRootClassLoader() {
         return this.rootClassLoader;
     }
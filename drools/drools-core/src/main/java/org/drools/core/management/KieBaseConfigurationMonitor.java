@@ -16,7 +16,13 @@
 
 package org.drools.core.management;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
 import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.concurrent.ParallelRuleEvaluator.PartitionStatistics;
+import org.drools.core.rule.constraint.JittingStatistics;
 import org.kie.api.management.KieBaseConfigurationMonitorMBean;
 
 /**
@@ -26,8 +32,22 @@ public class KieBaseConfigurationMonitor implements KieBaseConfigurationMonitorM
     
     private RuleBaseConfiguration conf;
 
+    private JittingStatistics jittingStatistics;
+
+    private List<PartitionStatistics> partitionStatistics;
+
     public KieBaseConfigurationMonitor(RuleBaseConfiguration conf) {
+        this(conf, new JittingStatistics());
+    }
+
+    public KieBaseConfigurationMonitor(RuleBaseConfiguration conf, JittingStatistics jittingStatistics) {
+        this(conf, jittingStatistics, Collections.emptyList());
+    }
+
+    public KieBaseConfigurationMonitor(RuleBaseConfiguration conf, JittingStatistics jittingStatistics, List<PartitionStatistics> partitionStatistics) {
         this.conf = conf;
+        this.jittingStatistics = jittingStatistics;
+        this.partitionStatistics = partitionStatistics;
     }
 
     /* (non-Javadoc)
@@ -142,4 +162,78 @@ public class KieBaseConfigurationMonitor implements KieBaseConfigurationMonitorM
         return conf.isShareBetaNodes();
     }
 
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#isEagerJitting()
+     */
+    public boolean isEagerJitting() {
+        return conf.isEagerJitting();
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getJittingThreshold()
+     */
+    public int getJittingThreshold() {
+        return conf.getJittingThreshold();
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getScheduledJittingConstraints()
+     */
+    public long getScheduledJittingConstraints() {
+        return jittingStatistics.getScheduled();
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getPendingJittingConstraints()
+     */
+    public long getPendingJittingConstraints() {
+        return jittingStatistics.getPending();
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getJittedConstraints()
+     */
+    public long getJittedConstraints() {
+        return jittingStatistics.getJitted();
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getInterpretedFallbackConstraints()
+     */
+    public long getInterpretedFallbackConstraints() {
+        return jittingStatistics.getFallbacks();
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getPartitionEvaluations()
+     */
+    public long[] getPartitionEvaluations() {
+        return partitionValues(PartitionStatistics::getEvaluations);
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getPartitionFiredRules()
+     */
+    public long[] getPartitionFiredRules() {
+        return partitionValues(PartitionStatistics::getFiredRules);
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getPartitionAverageLatencyNanos()
+     */
+    public long[] getPartitionAverageLatencyNanos() {
+        return partitionValues(PartitionStatistics::getAverageLatencyNanos);
+    }
+
+    /* (non-Javadoc)
+     * @see org.kie.api.management.KBaseConfigurationMonitorMBean#getPartitionMaxLatencyNanos()
+     */
+    public long[] getPartitionMaxLatencyNanos() {
+        return partitionValues(PartitionStatistics::getMaxLatencyNanos);
+    }
+
+    private long[] partitionValues(ToLongFunction<PartitionStatistics> value) {
+        return partitionStatistics.stream().mapToLong(value).toArray();
+    }
+
 }
@@ -240,7 +240,7 @@ public class KnowledgeBaseMonitoring
                 }
             }
         }
-        final KieBaseConfigurationMonitor kbcm = new KieBaseConfigurationMonitor( kbase.getConfiguration() );
+        final KieBaseConfigurationMonitor kbcm = new KieBaseConfigurationMonitor( kbase.getConfiguration(), kbase.getJittingStatistics(), kbase.getPartitionStatistics() );
         try {
             final StandardMBean adapter = new StandardMBean(kbcm, KieBaseConfigurationMonitorMBean.class);
             ObjectName name = DroolsManagementAgent.createObjectName( this.name.toString() + ",group=Configuration" );
@@ -51,6 +51,7 @@ import org.kie.api.marshalling.ObjectMarshallingStrategy.Context;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.ByteString.Output;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.ExtensionRegistry;
 import com.google.protobuf.Message;
 
@@ -227,6 +228,26 @@ public class PersisterHelper {
         context.stream.write( _header.build().toByteArray() );
     }
 
+    /**
+     * Builds header (version, used strategies and runtime defined classes) without the payload and signature.
+     * It allows to write the payload right after the header (as payload field) without creating intermediate
+     * copies of the payload. It's up to the caller to make sure signing is not required.
+     */
+    public static ProtobufMessages.Header buildHeaderWithoutPayload( MarshallerWriteContext context ) throws IOException {
+        ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
+        _header.setVersion( ProtobufMessages.Version.newBuilder()
+                                            .setVersionMajor( Drools.getMajorVersion() )
+                                            .setVersionMinor( Drools.getMinorVersion() )
+                                            .setVersionRevision( Drools.getRevisionVersion() )
+                            .build() );
+
+        writeStrategiesIndex( context, _header );
+
+        writeRuntimeDefinedClasses( context, _header );
+
+        return _header.build();
+    }
+
     public static void writeRuntimeDefinedClasses( MarshallerWriteContext context,
                                                   ProtobufMessages.Header.Builder _header ) {
         if (context.kBase == null) {
@@ -306,6 +327,15 @@ public class PersisterHelper {
         return loadStrategiesCheckSignature(context, _header);
     }
     
+    public static ProtobufMessages.Header readFromBytesWithHeader( MarshallerReaderContext context, byte[] data, int offset, int length, ExtensionRegistry registry ) throws IOException, ClassNotFoundException {
+        CodedInputStream input = CodedInputStream.newInstance( data, offset, length );
+        // same as for preloaded stream, there is no reason to limit the size of already loaded message
+        input.setSizeLimit( Integer.MAX_VALUE );
+        ProtobufMessages.Header _header = ProtobufMessages.Header.parseFrom( input, registry );
+
+        return loadStrategiesCheckSignature(context, _header);
+    }
+
     /* Method that preloads the source stream into a byte array to bypass the message size limitations in Protobuf unmarshalling.
        (Protobuf does not enforce a message size limit when unmarshalling from a byte array)
     */
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.drools.core.common.InternalWorkingMemory;
+
+/**
+ * A multi-producer single-consumer {@link PropagationList}. Producers push entries on a
+ * linked stack with a single CAS, without taking any lock, while {@link #takeAll()} detaches
+ * the whole stack with an atomic swap and reverses it, so entries are still flushed in
+ * insertion order.
+ *
+ * The monitor of this list is only used to park the consumer in {@link #waitOnRest()}: a
+ * producer takes it to wake the consumer up only when the list goes from empty to non-empty
+ * while the consumer is actually waiting.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private static final AtomicReferenceFieldUpdater<LockFreePropagationList, PropagationEntry> TOP_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater( LockFreePropagationList.class, PropagationEntry.class, "top" );
+
+    protected final InternalWorkingMemory workingMemory;
+
+    // the most recently added entry, entries are linked from the newest to the oldest one
+    private volatile PropagationEntry top;
+
+    private volatile int waiters = 0;
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean hasEntriesDeferringExpiration = false;
+
+    public LockFreePropagationList(InternalWorkingMemory workingMemory) {
+        this.workingMemory = workingMemory;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(workingMemory);
+            } else {
+                workingMemory.getAgenda().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( workingMemory, true );
+                        } else {
+                            entry.execute( workingMemory );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        PropagationEntry currentTop;
+        do {
+            currentTop = top;
+            entry.setNext( currentTop );
+        } while ( !TOP_UPDATER.compareAndSet( this, currentTop, entry ) );
+
+        if ( entry.defersExpiration() ) {
+            hasEntriesDeferringExpiration = true;
+        }
+        // waitOnRest() registers itself as waiter before checking the list again,
+        // so either the consumer sees this entry or this producer sees the waiter
+        if ( currentTop == null && waiters > 0 ) {
+            notifyWaitOnRest();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void flush() {
+        flush( workingMemory, takeAll() );
+    }
+
+    @Override
+    public void flush(PropagationEntry currentHead) {
+        flush( workingMemory, currentHead );
+    }
+
+    private void flush( InternalWorkingMemory workingMemory, PropagationEntry currentHead ) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(workingMemory);
+        }
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        return hasEntriesDeferringExpiration;
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        // cleared before the swap, so a flag raised by a concurrent producer is never lost
+        hasEntriesDeferringExpiration = false;
+        return reverse( TOP_UPDATER.getAndSet( this, null ) );
+    }
+
+    private static PropagationEntry reverse( PropagationEntry entry ) {
+        PropagationEntry head = null;
+        while ( entry != null ) {
+            PropagationEntry next = entry.getNext();
+            entry.setNext( head );
+            head = entry;
+            entry = next;
+        }
+        return head;
+    }
+
+    @Override
+    public void reset() {
+        top = null;
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    @Override
+    public synchronized void waitOnRest() {
+        waiters++;
+        try {
+            if ( top == null ) {
+                workingMemory.onSuspend();
+                wait();
+            }
+        } catch (InterruptedException e) {
+            // do nothing
+        } finally {
+            waiters--;
+        }
+    }
+
+    @Override
+    public synchronized void notifyWaitOnRest() {
+        notifyAll();
+        workingMemory.onResume();
+    }
+
+    /**
+     * Returns a snapshot of the pending entries in insertion order. It is only meant to be
+     * used while the list is not concurrently flushed, e.g. when marshalling the session.
+     */
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        List<PropagationEntry> entries = new ArrayList<>();
+        for (PropagationEntry entry = top; entry != null; entry = entry.getNext()) {
+            entries.add( entry );
+        }
+        Collections.reverse( entries );
+        return Collections.unmodifiableList( entries ).iterator();
+    }
+
+    @Override
+    public void onEngineInactive() { }
+}
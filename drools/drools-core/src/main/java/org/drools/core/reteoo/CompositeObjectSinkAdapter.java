@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import org.drools.core.base.ValueType;
 import org.drools.core.common.BaseNode;
@@ -59,6 +61,8 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     ObjectHashMap             hashedSinkMap;
 
+    LinkedList<RangeIndex>    rangeIndexes;
+
     private int               alphaNodeHashingThreshold;
 
     private ObjectSink[]      sinks;
@@ -80,6 +84,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         hashedFieldIndexes = (LinkedList) in.readObject();
         hashedSinkMap = (ObjectHashMap) in.readObject();
         alphaNodeHashingThreshold = in.readInt();
+        rangeIndexes = (LinkedList) in.readObject();
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
@@ -88,6 +93,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         out.writeObject( hashedFieldIndexes );
         out.writeObject( hashedSinkMap );
         out.writeInt( alphaNodeHashingThreshold );
+        out.writeObject( rangeIndexes );
     }
 
     public ObjectSinkNodeList getOthers() {
@@ -102,6 +108,22 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         return this.hashedSinkMap;
     }
 
+    /**
+     * Returns the alpha nodes currently held in a range index, or null if no field is range indexed.
+     */
+    public ObjectSink[] getRangeIndexedSinks() {
+        int size = rangeIndexedSize();
+        if ( size == 0 ) {
+            return null;
+        }
+        ObjectSink[] rangeSinks = new ObjectSink[size];
+        int at = 0;
+        for ( RangeIndex rangeIndex = this.rangeIndexes.getFirst(); rangeIndex != null; rangeIndex = rangeIndex.getNext() ) {
+            at = rangeIndex.collectSinks( rangeSinks, at );
+        }
+        return rangeSinks;
+    }
+
     public ObjectSinkPropagator addObjectSink(ObjectSink sink) {
         return addObjectSink(sink, 0);
     }
@@ -140,14 +162,33 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                 }
                 return this;
             }
+
+            final InternalReadAccessor rangeAccessor = getRangeIndexableAccessor(alphaNode);
+            if ( rangeAccessor != null && this.alphaNodeHashingThreshold != 0 ) {
+                final RangeIndex rangeIndex = registerRangeIndex( rangeAccessor );
+                if ( rangeIndex.isIndexed() ) {
+                    rangeIndex.add( alphaNode );
+                    return this;
+                }
+
+                addOtherSink( alphaNode );
+                if ( rangeIndex.getCount() >= this.alphaNodeHashingThreshold ) {
+                    indexRangeSinks( rangeIndex );
+                }
+                return this;
+            }
         }
 
+        addOtherSink( (ObjectSinkNode) sink );
+        return this;
+    }
+
+    private void addOtherSink(ObjectSinkNode sink) {
         if ( this.otherSinks == null ) {
             this.otherSinks = new ObjectSinkNodeList();
         }
 
-        this.otherSinks.add( (ObjectSinkNode) sink );
-        return this;
+        this.otherSinks.add( sink );
     }
 
     static InternalReadAccessor getHashableAccessor(AlphaNode alphaNode) {
@@ -168,6 +209,17 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                 indexableConstraint.getFieldExtractor().getIndex() >= 0;
     }
 
+    static InternalReadAccessor getRangeIndexableAccessor(AlphaNode alphaNode) {
+        AlphaNodeFieldConstraint fieldConstraint = alphaNode.getConstraint();
+        if ( fieldConstraint instanceof IndexableConstraint ) {
+            IndexableConstraint indexableConstraint = (IndexableConstraint) fieldConstraint;
+            if ( RangeIndex.isIndexable( indexableConstraint ) ) {
+                return indexableConstraint.getFieldExtractor();
+            }
+        }
+        return null;
+    }
+
     public ObjectSinkPropagator removeObjectSink(final ObjectSink sink) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
         if (this.sinksMap != null) {
@@ -205,6 +257,18 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
                     return size() == 1 ? new SingleObjectSinkAdapter( getSinks()[0] ) : this;
                 }
+
+                if ( this.rangeIndexes != null && RangeIndex.isIndexable( indexableConstraint ) ) {
+                    final RangeIndex rangeIndex = unregisterRangeIndex( indexableConstraint.getFieldExtractor().getIndex() );
+
+                    if ( rangeIndex != null && rangeIndex.isIndexed() ) {
+                        rangeIndex.remove( alphaNode );
+                        if ( rangeIndex.getCount() <= this.alphaNodeHashingThreshold - 1 ) {
+                            unIndexRangeSinks( rangeIndex );
+                        }
+                        return size() == 1 ? new SingleObjectSinkAdapter( getSinks()[0] ) : this;
+                    }
+                }
             }
         }
 
@@ -297,6 +361,91 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         fieldIndex.setHashed( false );
     }
 
+    void indexRangeSinks(final RangeIndex rangeIndex) {
+        final int index = rangeIndex.getIndex();
+
+        ObjectSinkNode currentSink = this.otherSinks.getFirst();
+
+        while ( currentSink != null ) {
+            final ObjectSinkNode sink = currentSink;
+
+            // position to the next sink now, as the current one may be moved into the range index
+            currentSink = currentSink.getNextObjectSinkNode();
+
+            if ( sink.getType() == NodeTypeEnums.AlphaNode ) {
+                final InternalReadAccessor rangeAccessor = getRangeIndexableAccessor( (AlphaNode) sink );
+                if ( rangeAccessor != null && rangeAccessor.getIndex() == index ) {
+                    rangeIndex.add( (AlphaNode) sink );
+                    this.otherSinks.remove( sink );
+                }
+            }
+        }
+
+        if ( this.otherSinks.isEmpty() ) {
+            this.otherSinks = null;
+        }
+
+        rangeIndex.setIndexed( true );
+    }
+
+    void unIndexRangeSinks(final RangeIndex rangeIndex) {
+        final ObjectSink[] rangeSinks = new ObjectSink[rangeIndex.size()];
+        rangeIndex.collectSinks( rangeSinks, 0 );
+
+        for ( ObjectSink sink : rangeSinks ) {
+            addOtherSink( (ObjectSinkNode) sink );
+        }
+
+        rangeIndex.clear();
+        rangeIndex.setIndexed( false );
+    }
+
+    /**
+     * Returns a RangeIndex which keeps a count on how many times a particular field is compared against a
+     * numeric literal in the sinks.
+     */
+    private RangeIndex registerRangeIndex(final InternalReadAccessor fieldExtractor) {
+        if ( this.rangeIndexes == null ) {
+            this.rangeIndexes = new LinkedList<>();
+        }
+
+        RangeIndex rangeIndex = findRangeIndex( fieldExtractor.getIndex() );
+        if ( rangeIndex == null ) {
+            rangeIndex = new RangeIndex( fieldExtractor );
+            this.rangeIndexes.add( rangeIndex );
+        }
+
+        rangeIndex.increaseCounter();
+
+        return rangeIndex;
+    }
+
+    private RangeIndex unregisterRangeIndex(final int index) {
+        final RangeIndex rangeIndex = findRangeIndex( index );
+        if ( rangeIndex != null ) {
+            rangeIndex.decreaseCounter();
+
+            if ( rangeIndex.getCount() == 0 ) {
+                this.rangeIndexes.remove( rangeIndex );
+
+                if ( this.rangeIndexes.isEmpty() ) {
+                    this.rangeIndexes = null;
+                }
+            }
+        }
+        return rangeIndex;
+    }
+
+    private RangeIndex findRangeIndex(final int index) {
+        for ( RangeIndex node = this.rangeIndexes.getFirst(); node != null; node = node.getNext() ) {
+            if ( node.getIndex() == index ) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Returns a FieldIndex which Keeps a count on how many times a particular field is used with an equality check
      * in the sinks.
@@ -382,6 +531,15 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
+        // range indexed alpha nodes are only visited when their constraint is satisfied by the object
+        if ( this.rangeIndexes != null ) {
+            for ( RangeIndex rangeIndex = this.rangeIndexes.getFirst(); rangeIndex != null; rangeIndex = rangeIndex.getNext() ) {
+                if ( rangeIndex.isIndexed() ) {
+                    rangeIndex.propagateAssertObject( factHandle, context, workingMemory );
+                }
+            }
+        }
+
         // propagate unhashed
         if ( this.hashableSinks != null ) {
             for ( ObjectSinkNode sink = this.hashableSinks.getFirst(); sink != null; sink = sink.getNextObjectSinkNode() ) {
@@ -427,6 +585,15 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
+        // range indexed alpha nodes are only visited when their constraint is satisfied by the object
+        if ( this.rangeIndexes != null ) {
+            for ( RangeIndex rangeIndex = this.rangeIndexes.getFirst(); rangeIndex != null; rangeIndex = rangeIndex.getNext() ) {
+                if ( rangeIndex.isIndexed() ) {
+                    rangeIndex.propagateModifyObject( factHandle, modifyPreviousTuples, context, workingMemory );
+                }
+            }
+        }
+
         // propagate unhashed
         if ( this.hashableSinks != null ) {
             for ( ObjectSinkNode sink = this.hashableSinks.getFirst(); sink != null; sink = sink.getNextObjectSinkNode() ) {
@@ -472,6 +639,14 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
+        if ( this.rangeIndexes != null ) {
+            for ( RangeIndex rangeIndex = this.rangeIndexes.getFirst(); rangeIndex != null; rangeIndex = rangeIndex.getNext() ) {
+                if ( rangeIndex.isIndexed() ) {
+                    rangeIndex.byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, workingMemory );
+                }
+            }
+        }
+
         // propagate unhashed
         if ( this.hashableSinks != null ) {
             for ( ObjectSinkNode sink = this.hashableSinks.getFirst(); sink != null; sink = sink.getNextObjectSinkNode() ) {
@@ -541,6 +716,13 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                 sinksMap.put( sink, sink );
             }
         }
+
+        final ObjectSink[] rangeSinks = getRangeIndexedSinks();
+        if ( rangeSinks != null ) {
+            for ( ObjectSink sink : rangeSinks ) {
+                sinksMap.put( sink, sink );
+            }
+        }
     }
 
     public ObjectSink[] getSinks() {
@@ -568,6 +750,12 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
+        if ( this.rangeIndexes != null ) {
+            for ( RangeIndex rangeIndex = this.rangeIndexes.getFirst(); rangeIndex != null; rangeIndex = rangeIndex.getNext() ) {
+                at = rangeIndex.collectSinks( newSinks, at );
+            }
+        }
+
         if ( this.hashableSinks != null ) {
             for ( ObjectSinkNode sink = this.hashableSinks.getFirst(); sink != null; sink = sink.getNextObjectSinkNode() ) {
                 newSinks[at++] = sink;
@@ -602,7 +790,17 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
     }     
 
     public int size() {
-        return (this.otherSinks != null ? this.otherSinks.size() : 0) + (this.hashableSinks != null ? this.hashableSinks.size() : 0) + (this.hashedSinkMap != null ? this.hashedSinkMap.size() : 0);
+        return (this.otherSinks != null ? this.otherSinks.size() : 0) + (this.hashableSinks != null ? this.hashableSinks.size() : 0) + (this.hashedSinkMap != null ? this.hashedSinkMap.size() : 0) + rangeIndexedSize();
+    }
+
+    private int rangeIndexedSize() {
+        int size = 0;
+        if ( this.rangeIndexes != null ) {
+            for ( RangeIndex rangeIndex = this.rangeIndexes.getFirst(); rangeIndex != null; rangeIndex = rangeIndex.getNext() ) {
+                size += rangeIndex.size();
+            }
+        }
+        return size;
     }
 
     public boolean isEmpty() {
@@ -979,4 +1177,311 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             next = null;
         }
     }
+
+    /**
+     * Indexes the alpha nodes comparing the same numeric field against a literal with one of the
+     * {@code <}, {@code <=}, {@code >} or {@code >=} operators. The nodes are kept in a sorted map per operator, keyed by their literal,
+     * so that a propagation only visits the nodes whose constraint is satisfied by the value of the fact.
+     * Floating point literals are mapped onto longs preserving their ordering, so the same maps serve both
+     * integer and floating point fields.
+     */
+    public static class RangeIndex
+        implements
+        LinkedListNode<RangeIndex>,
+        Externalizable {
+        private static final long                      serialVersionUID = 510l;
+
+        private int                                    index;
+        private InternalReadAccessor                   fieldExtractor;
+        private boolean                                integral;
+
+        private int                                    count;
+        private int                                    size;
+
+        private boolean                                indexed;
+
+        private TreeMap<Long, List<AlphaNode>>         greaterThan      = new TreeMap<>();
+        private TreeMap<Long, List<AlphaNode>>         greaterOrEqual   = new TreeMap<>();
+        private TreeMap<Long, List<AlphaNode>>         lessThan         = new TreeMap<>();
+        private TreeMap<Long, List<AlphaNode>>         lessOrEqual      = new TreeMap<>();
+
+        private RangeIndex                             previous;
+        private RangeIndex                             next;
+
+        public RangeIndex() {
+        }
+
+        public RangeIndex(final InternalReadAccessor fieldExtractor) {
+            this.index = fieldExtractor.getIndex();
+            this.fieldExtractor = fieldExtractor;
+            this.integral = fieldExtractor.getValueType().isIntegerNumber();
+        }
+
+        static boolean isIndexable(IndexableConstraint indexableConstraint) {
+            if ( !indexableConstraint.getConstraintType().isComparison() ) {
+                return false;
+            }
+            final FieldValue value = indexableConstraint.getField();
+            final InternalReadAccessor extractor = indexableConstraint.getFieldExtractor();
+            if ( value == null || value.isNull() || extractor == null || extractor.getIndex() < 0 ) {
+                return false;
+            }
+            // big numbers are not indexed, as their long or double value may lose precision
+            final ValueType vtype = extractor.getValueType();
+            if ( vtype.isIntegerNumber() ) {
+                return value.isIntegerNumberField();
+            }
+            if ( vtype.isFloatNumber() ) {
+                return value.isIntegerNumberField() || ( value.isFloatNumberField() && !Double.isNaN( value.getDoubleValue() ) );
+            }
+            return false;
+        }
+
+        /**
+         * Maps a double onto a long with the same ordering. -0.0 is folded into 0.0 as they compare as equal.
+         */
+        static long toKey(double value) {
+            final long bits = Double.doubleToLongBits( value + 0.0 );
+            return bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+        }
+
+        private long toKey(FieldValue value) {
+            return this.integral ? value.getLongValue() : toKey( value.getDoubleValue() );
+        }
+
+        /**
+         * Returns the key of the indexed field of the given object, or null if it cannot satisfy any
+         * comparison, as for null or NaN values.
+         */
+        private Long readKey(Object object) {
+            if ( this.fieldExtractor.isNullValue( null, object ) ) {
+                return null;
+            }
+            if ( this.integral ) {
+                return this.fieldExtractor.getLongValue( null, object );
+            }
+            final double value = this.fieldExtractor.getDoubleValue( null, object );
+            return Double.isNaN( value ) ? null : toKey( value );
+        }
+
+        private TreeMap<Long, List<AlphaNode>> getSinksMap(AlphaNode alphaNode) {
+            switch ( ((IndexableConstraint) alphaNode.getConstraint()).getConstraintType() ) {
+                case GREATER_THAN :
+                    return this.greaterThan;
+                case GREATER_OR_EQUAL :
+                    return this.greaterOrEqual;
+                case LESS_THAN :
+                    return this.lessThan;
+                case LESS_OR_EQUAL :
+                    return this.lessOrEqual;
+            }
+            throw new IllegalArgumentException( "Not a comparison constraint: " + alphaNode.getConstraint() );
+        }
+
+        private long getKey(AlphaNode alphaNode) {
+            return toKey( ((IndexableConstraint) alphaNode.getConstraint()).getField() );
+        }
+
+        public void add(final AlphaNode alphaNode) {
+            getSinksMap( alphaNode ).computeIfAbsent( getKey( alphaNode ), k -> new ArrayList<>( 1 ) ).add( alphaNode );
+            this.size++;
+        }
+
+        public void remove(final AlphaNode alphaNode) {
+            final TreeMap<Long, List<AlphaNode>> sinksMap = getSinksMap( alphaNode );
+            final long key = getKey( alphaNode );
+            final List<AlphaNode> sinks = sinksMap.get( key );
+            if ( sinks == null ) {
+                return;
+            }
+            for ( int i = 0; i < sinks.size(); i++ ) {
+                if ( sinks.get( i ) == alphaNode ) {
+                    sinks.remove( i );
+                    if ( sinks.isEmpty() ) {
+                        sinksMap.remove( key );
+                    }
+                    this.size--;
+                    return;
+                }
+            }
+        }
+
+        public void clear() {
+            this.greaterThan.clear();
+            this.greaterOrEqual.clear();
+            this.lessThan.clear();
+            this.lessOrEqual.clear();
+            this.size = 0;
+        }
+
+        /**
+         * Returns, for the given operator, the alpha nodes whose literal is satisfied by the key.
+         */
+        private NavigableMap<Long, List<AlphaNode>> getMatchingSinks(int operator, long key) {
+            switch ( operator ) {
+                case 0 :
+                    return this.greaterThan.headMap( key, false );
+                case 1 :
+                    return this.greaterOrEqual.headMap( key, true );
+                case 2 :
+                    return this.lessThan.tailMap( key, false );
+                default :
+                    return this.lessOrEqual.tailMap( key, true );
+            }
+        }
+
+        public void propagateAssertObject(final InternalFactHandle factHandle,
+                                          final PropagationContext context,
+                                          final InternalWorkingMemory workingMemory) {
+            final Long key = readKey( factHandle.getObject() );
+            if ( key == null ) {
+                return;
+            }
+            for ( int operator = 0; operator < 4; operator++ ) {
+                for ( List<AlphaNode> sinks : getMatchingSinks( operator, key ).values() ) {
+                    for ( int i = 0; i < sinks.size(); i++ ) {
+                        // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
+                        sinks.get( i ).getObjectSinkPropagator().propagateAssertObject( factHandle, context, workingMemory );
+                    }
+                }
+            }
+        }
+
+        public void propagateModifyObject(final InternalFactHandle factHandle,
+                                          final ModifyPreviousTuples modifyPreviousTuples,
+                                          final PropagationContext context,
+                                          final InternalWorkingMemory workingMemory) {
+            final Long key = readKey( factHandle.getObject() );
+            if ( key == null ) {
+                return;
+            }
+            for ( int operator = 0; operator < 4; operator++ ) {
+                for ( List<AlphaNode> sinks : getMatchingSinks( operator, key ).values() ) {
+                    for ( int i = 0; i < sinks.size(); i++ ) {
+                        sinks.get( i ).getObjectSinkPropagator().propagateModifyObject( factHandle, modifyPreviousTuples, context, workingMemory );
+                    }
+                }
+            }
+        }
+
+        public void byPassModifyToBetaNode(final InternalFactHandle factHandle,
+                                           final ModifyPreviousTuples modifyPreviousTuples,
+                                           final PropagationContext context,
+                                           final InternalWorkingMemory workingMemory) {
+            final Long key = readKey( factHandle.getObject() );
+            if ( key == null ) {
+                return;
+            }
+            for ( int operator = 0; operator < 4; operator++ ) {
+                for ( List<AlphaNode> sinks : getMatchingSinks( operator, key ).values() ) {
+                    for ( int i = 0; i < sinks.size(); i++ ) {
+                        sinks.get( i ).getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, workingMemory );
+                    }
+                }
+            }
+        }
+
+        /**
+         * Copies the indexed alpha nodes into the given array starting at the given position.
+         * @return the position following the last copied node
+         */
+        int collectSinks(final ObjectSink[] target, int at) {
+            at = collectSinks( this.greaterThan, target, at );
+            at = collectSinks( this.greaterOrEqual, target, at );
+            at = collectSinks( this.lessThan, target, at );
+            return collectSinks( this.lessOrEqual, target, at );
+        }
+
+        private static int collectSinks(final TreeMap<Long, List<AlphaNode>> sinksMap, final ObjectSink[] target, int at) {
+            for ( List<AlphaNode> sinks : sinksMap.values() ) {
+                for ( AlphaNode sink : sinks ) {
+                    target[at++] = sink;
+                }
+            }
+            return at;
+        }
+
+        public void readExternal(ObjectInput in) throws IOException,
+                                                ClassNotFoundException {
+            index = in.readInt();
+            fieldExtractor = (InternalReadAccessor) in.readObject();
+            integral = in.readBoolean();
+            count = in.readInt();
+            size = in.readInt();
+            indexed = in.readBoolean();
+            greaterThan = (TreeMap<Long, List<AlphaNode>>) in.readObject();
+            greaterOrEqual = (TreeMap<Long, List<AlphaNode>>) in.readObject();
+            lessThan = (TreeMap<Long, List<AlphaNode>>) in.readObject();
+            lessOrEqual = (TreeMap<Long, List<AlphaNode>>) in.readObject();
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeInt( index );
+            out.writeObject( fieldExtractor );
+            out.writeBoolean( integral );
+            out.writeInt( count );
+            out.writeInt( size );
+            out.writeBoolean( indexed );
+            out.writeObject( greaterThan );
+            out.writeObject( greaterOrEqual );
+            out.writeObject( lessThan );
+            out.writeObject( lessOrEqual );
+        }
+
+        public InternalReadAccessor getFieldExtractor() {
+            return this.fieldExtractor;
+        }
+
+        public int getIndex() {
+            return this.index;
+        }
+
+        public int getCount() {
+            return this.count;
+        }
+
+        /**
+         * @return the number of alpha nodes currently held in this index
+         */
+        public int size() {
+            return this.size;
+        }
+
+        public boolean isIndexed() {
+            return this.indexed;
+        }
+
+        public void setIndexed(final boolean indexed) {
+            this.indexed = indexed;
+        }
+
+        public void increaseCounter() {
+            this.count++;
+        }
+
+        public void decreaseCounter() {
+            this.count--;
+        }
+
+        public RangeIndex getNext() {
+            return this.next;
+        }
+
+        public RangeIndex getPrevious() {
+            return this.previous;
+        }
+
+        public void setNext(final RangeIndex next) {
+            this.next = next;
+        }
+
+        public void setPrevious(final RangeIndex previous) {
+            this.previous = previous;
+        }
+
+        public void nullPrevNext() {
+            previous = null;
+            next = null;
+        }
+    }
 }
@@ -96,6 +96,8 @@ public class ObjectTypeNodeParser {
             CompositeObjectSinkAdapter composite = (CompositeObjectSinkAdapter) propagator;
 
             traverseSinkLisk(composite.getHashableSinks(), handler);
+            // range indexed alphas are compiled as plain alphas, each one testing its own constraint
+            traverseSinkLisk(composite.getRangeIndexedSinks(), handler);
             traverseSinkLisk(composite.getOthers(), handler);
             indexableConstraint = traverseHashedAlphaNodes(composite.getHashedSinkMap(), handler);
         } else if (propagator instanceof CompositePartitionAwareObjectSinkAdapter) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.rule.constraint;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the constraints of a rule base scheduled for jitting, the ones that have been
+ * jitted and the ones that failed to be jitted and fell back to interpreted mode.
+ * Each scheduled constraint is eventually counted exactly once as jitted or fallback.
+ */
+public class JittingStatistics {
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder jitted = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public void onScheduled() {
+        scheduled.increment();
+    }
+
+    public void onJitted() {
+        jitted.increment();
+    }
+
+    public void onFallback() {
+        fallbacks.increment();
+    }
+
+    public long getScheduled() {
+        return scheduled.sum();
+    }
+
+    public long getJitted() {
+        return jitted.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    public long getPending() {
+        // every jitting is scheduled before it completes, so the completed ones are read first
+        long completed = getJitted() + getFallbacks();
+        return getScheduled() - completed;
+    }
+
+    @Override
+    public String toString() {
+        return "JittingStatistics{scheduled=" + getScheduled() + ", jitted=" + getJitted() +
+               ", fallbacks=" + getFallbacks() + ", pending=" + getPending() + "}";
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassFieldReader;
 import org.drools.core.base.DroolsQuery;
 import org.drools.core.base.EvaluatorWrapper;
@@ -109,6 +110,8 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
     private EvaluationContext evaluationContext = new EvaluationContext();
 
     protected transient volatile ConditionEvaluator conditionEvaluator;
+    // the interpreted evaluator prepared when the kbase is built with eager jitting
+    private transient volatile ConditionEvaluator preparedEvaluator;
     private transient volatile Condition analyzedCondition;
 
     private static final Declaration[] EMPTY_DECLARATIONS = new Declaration[0];
@@ -253,7 +256,8 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
 
     protected boolean evaluate(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple) {
         if (!jitted) {
-            int jittingThreshold = TEST_JITTING ? 0 : workingMemory.getKnowledgeBase().getConfiguration().getJittingThreshold();
+            RuleBaseConfiguration conf = workingMemory.getKnowledgeBase().getConfiguration();
+            int jittingThreshold = TEST_JITTING ? 0 : conf.getJittingThreshold();
             if (conditionEvaluator == null) {
                 if (jittingThreshold == 0 && !isDynamic) { // Only for test purposes or when jitting is enforced at first evaluation
                     synchronized (this) {
@@ -262,14 +266,28 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
                         }
                     }
                 } else {
-                    conditionEvaluator = createMvelConditionEvaluator( workingMemory );
+                    conditionEvaluator = takePreparedEvaluator( workingMemory );
                 }
             }
 
-            if (jittingThreshold != 0 && !isDynamic && invocationCounter.getAndIncrement() == jittingThreshold) {
-                jitEvaluator(handle, workingMemory, tuple);
+            if (jittingThreshold != 0 && !isDynamic) {
+                if (conf.isEagerJitting()) {
+                    // the condition can be analyzed only once it has been evaluated, so it is jitted in background right after
+                    boolean result = evaluateCondition( handle, workingMemory, tuple );
+                    if (invocationCounter.getAndIncrement() == 0) {
+                        jitEvaluator(handle, workingMemory, tuple);
+                    }
+                    return result;
+                }
+                if (invocationCounter.getAndIncrement() == jittingThreshold) {
+                    jitEvaluator(handle, workingMemory, tuple);
+                }
             }
         }
+        return evaluateCondition( handle, workingMemory, tuple );
+    }
+
+    private boolean evaluateCondition(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple) {
         try {
             return conditionEvaluator.evaluate( handle, workingMemory, tuple );
         } catch (Exception e) {
@@ -277,21 +295,40 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
         }
     }
 
+    private ConditionEvaluator takePreparedEvaluator(InternalWorkingMemory workingMemory) {
+        ConditionEvaluator mvelEvaluator = preparedEvaluator;
+        preparedEvaluator = null;
+        return mvelEvaluator != null ? mvelEvaluator : createMvelConditionEvaluator( workingMemory );
+    }
+
     protected ConditionEvaluator createMvelConditionEvaluator(InternalWorkingMemory workingMemory) {
         if (compilationUnit != null) {
-            MVELDialectRuntimeData data = getMVELDialectRuntimeData(workingMemory);
-            ExecutableStatement statement = (ExecutableStatement)compilationUnit.getCompiledExpression(data, evaluationContext);
-            ParserConfiguration configuration = statement instanceof CompiledExpression ?
-                    ((CompiledExpression)statement).getParserConfiguration() :
-                    data.getParserConfiguration();
-            return new MvelConditionEvaluator(compilationUnit, configuration, statement, declarations, operators, getAccessedClass());
+            return createCompiledConditionEvaluator(getMVELDialectRuntimeData(workingMemory));
         } else {
             return new MvelConditionEvaluator(getParserConfiguration(workingMemory), expression, declarations, operators, getAccessedClass());
         }
     }
 
+    protected ConditionEvaluator createMvelConditionEvaluator(InternalKnowledgeBase kBase) {
+        MVELDialectRuntimeData data = getMVELDialectRuntimeData(kBase);
+        if (compilationUnit != null) {
+            return createCompiledConditionEvaluator(data);
+        } else {
+            return new MvelConditionEvaluator(data.getParserConfiguration(), expression, declarations, operators, getAccessedClass());
+        }
+    }
+
+    private ConditionEvaluator createCompiledConditionEvaluator(MVELDialectRuntimeData data) {
+        ExecutableStatement statement = (ExecutableStatement)compilationUnit.getCompiledExpression(data, evaluationContext);
+        ParserConfiguration configuration = statement instanceof CompiledExpression ?
+                ((CompiledExpression)statement).getParserConfiguration() :
+                data.getParserConfiguration();
+        return new MvelConditionEvaluator(compilationUnit, configuration, statement, declarations, operators, getAccessedClass());
+    }
+
     protected ConditionEvaluator forceJitEvaluator(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple) {
-        ConditionEvaluator mvelEvaluator = createMvelConditionEvaluator(workingMemory);
+        ConditionEvaluator mvelEvaluator = takePreparedEvaluator(workingMemory);
+        workingMemory.getKnowledgeBase().getJittingStatistics().onScheduled();
         try {
             mvelEvaluator.evaluate(handle, workingMemory, tuple);
         } catch (ClassCastException cce) { }
@@ -300,6 +337,7 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
 
     protected void jitEvaluator(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple) {
         jitted = true;
+        workingMemory.getKnowledgeBase().getJittingStatistics().onScheduled();
         ExecutorHolder.executor.execute(new ConditionJitter(this, handle, workingMemory, tuple));
     }
 
@@ -332,6 +370,7 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
     private ConditionEvaluator executeJitting(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple, ConditionEvaluator mvelEvaluator) {
         InternalKnowledgeBase kBase = workingMemory.getKnowledgeBase();
         if ( !isJmxAvailable() && MemoryUtil.permGenStats.isUsageThresholdExceeded(kBase.getConfiguration().getPermGenThreshold()) ) {
+            kBase.getJittingStatistics().onFallback();
             return mvelEvaluator;
         }
 
@@ -342,7 +381,9 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
             ClassLoader jitClassLoader = kBase.getRootClassLoader() instanceof ProjectClassLoader ?
                     (( ProjectClassLoader ) kBase.getRootClassLoader()).getTypesClassLoader() :
                     kBase.getRootClassLoader();
-            return ASMConditionEvaluatorJitter.jitEvaluator(expression, analyzedCondition, declarations, operators, jitClassLoader, tuple);
+            ConditionEvaluator jittedEvaluator = ASMConditionEvaluatorJitter.jitEvaluator(expression, analyzedCondition, declarations, operators, jitClassLoader, tuple);
+            kBase.getJittingStatistics().onJitted();
+            return jittedEvaluator;
         } catch (Throwable t) {
             if (TEST_JITTING) {
                 if (analyzedCondition == null) {
@@ -355,6 +396,7 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
                              " This is NOT an error and NOT prevent the correct execution since the constraint will be evaluated in intrepreted mode" );
             }
         }
+        kBase.getJittingStatistics().onFallback();
         return mvelEvaluator;
     }
 
@@ -399,6 +441,7 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
         if (indexingDeclaration != null && indexingDeclaration.equals(oldDecl)) {
             indexingDeclaration = newDecl;
         }
+        preparedEvaluator = null;
     }
 
     // Slot specific
@@ -565,6 +608,7 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
         MvelConstraint clone = (MvelConstraint)super.cloneIfInUse();
         if ( clone != this) {
             clone.conditionEvaluator = null;
+            clone.preparedEvaluator = null;
         }
         return clone;
     }
@@ -893,6 +937,26 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
 
     public void registerEvaluationContext(BuildContext buildContext) {
         evaluationContext.addContext(buildContext);
+        InternalKnowledgeBase kBase = buildContext.getKnowledgeBase();
+        if (kBase != null && kBase.getConfiguration().isEagerJitting() && !isDynamic) {
+            prepareForJitting(kBase);
+        }
+    }
+
+    /**
+     * Compiles the interpreted evaluator while the kbase is being built, so that the first
+     * evaluation of this constraint doesn't have to compile it before scheduling its jitting
+     */
+    private synchronized void prepareForJitting(InternalKnowledgeBase kBase) {
+        if (preparedEvaluator != null || conditionEvaluator != null) {
+            return;
+        }
+        try {
+            preparedEvaluator = createMvelConditionEvaluator(kBase);
+        } catch (Exception e) {
+            // not an error: the evaluator will be created at the first evaluation of the constraint
+            logger.debug("Unable to prepare constraint '" + expression + "' for jitting", e);
+        }
     }
 
     public static class EvaluationContext implements Externalizable {
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted multiset of primitive longs, implemented as an AVL tree whose nodes
+ * keep the number of occurrences of their key. Nodes live in parallel arrays,
+ * so neither keys nor nodes are boxed, and removed nodes are recycled through a
+ * free list. Insertion, removal, min and max are all O(log n) in the number of
+ * distinct keys.
+ */
+public class LongCountedTree implements Externalizable {
+
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private long[] keys;
+    private int[] counts;
+    private int[] left;
+    private int[] right;
+    private byte[] heights;
+
+    private int root = NIL;
+    private int free = NIL;
+    private int used;
+
+    private int distinct;
+    private long size;
+
+    public LongCountedTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongCountedTree(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    public void add(long key) {
+        add(key, 1);
+    }
+
+    public void add(long key, int occurrences) {
+        if (occurrences <= 0) {
+            throw new IllegalArgumentException("Occurrences must be positive: " + occurrences);
+        }
+        root = insert(root, key, occurrences);
+        size += occurrences;
+    }
+
+    /**
+     * Removes a single occurrence of the given key.
+     * @return false if the key was not present
+     */
+    public boolean remove(long key) {
+        if (count(key) == 0) {
+            return false;
+        }
+        root = delete(root, key);
+        size--;
+        return true;
+    }
+
+    public int count(long key) {
+        int node = root;
+        while (node != NIL) {
+            if (key < keys[node]) {
+                node = left[node];
+            } else if (key > keys[node]) {
+                node = right[node];
+            } else {
+                return counts[node];
+            }
+        }
+        return 0;
+    }
+
+    public long min() {
+        if (root == NIL) {
+            throw new NoSuchElementException();
+        }
+        int node = root;
+        while (left[node] != NIL) {
+            node = left[node];
+        }
+        return keys[node];
+    }
+
+    public long max() {
+        if (root == NIL) {
+            throw new NoSuchElementException();
+        }
+        int node = root;
+        while (right[node] != NIL) {
+            node = right[node];
+        }
+        return keys[node];
+    }
+
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    /**
+     * @return the total number of occurrences, duplicates included
+     */
+    public long size() {
+        return size;
+    }
+
+    public int distinctSize() {
+        return distinct;
+    }
+
+    public void clear() {
+        root = NIL;
+        free = NIL;
+        used = 0;
+        distinct = 0;
+        size = 0;
+    }
+
+    private int insert(int node, long key, int occurrences) {
+        if (node == NIL) {
+            return newNode(key, occurrences);
+        }
+        if (key < keys[node]) {
+            left[node] = insert(left[node], key, occurrences);
+        } else if (key > keys[node]) {
+            right[node] = insert(right[node], key, occurrences);
+        } else {
+            counts[node] += occurrences;
+            return node;
+        }
+        return balance(node);
+    }
+
+    private int delete(int node, long key) {
+        if (key < keys[node]) {
+            left[node] = delete(left[node], key);
+        } else if (key > keys[node]) {
+            right[node] = delete(right[node], key);
+        } else {
+            if (--counts[node] > 0) {
+                return node;
+            }
+            if (left[node] == NIL || right[node] == NIL) {
+                int child = left[node] == NIL ? right[node] : left[node];
+                release(node);
+                return child;
+            }
+            int successor = right[node];
+            while (left[successor] != NIL) {
+                successor = left[successor];
+            }
+            keys[node] = keys[successor];
+            counts[node] = counts[successor];
+            right[node] = deleteMin(right[node]);
+        }
+        return balance(node);
+    }
+
+    private int deleteMin(int node) {
+        if (left[node] == NIL) {
+            int child = right[node];
+            release(node);
+            return child;
+        }
+        left[node] = deleteMin(left[node]);
+        return balance(node);
+    }
+
+    private int balance(int node) {
+        updateHeight(node);
+        int factor = height(left[node]) - height(right[node]);
+        if (factor > 1) {
+            if (height(left[left[node]]) < height(right[left[node]])) {
+                left[node] = rotateLeft(left[node]);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(right[right[node]]) < height(left[right[node]])) {
+                right[node] = rotateRight(right[node]);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private int height(int node) {
+        return node == NIL ? 0 : heights[node];
+    }
+
+    private void updateHeight(int node) {
+        heights[node] = (byte) (1 + Math.max(height(left[node]), height(right[node])));
+    }
+
+    private int newNode(long key, int occurrences) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = left[free];
+        } else {
+            if (used == keys.length) {
+                grow();
+            }
+            node = used++;
+        }
+        keys[node] = key;
+        counts[node] = occurrences;
+        left[node] = NIL;
+        right[node] = NIL;
+        heights[node] = 1;
+        distinct++;
+        return node;
+    }
+
+    private void release(int node) {
+        left[node] = free;
+        free = node;
+        distinct--;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        heights = new byte[capacity];
+    }
+
+    private void grow() {
+        int capacity = keys.length << 1;
+        keys = Arrays.copyOf(keys, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(distinct);
+        writeNode(out, root);
+    }
+
+    private void writeNode(ObjectOutput out, int node) throws IOException {
+        if (node == NIL) {
+            return;
+        }
+        writeNode(out, left[node]);
+        out.writeLong(keys[node]);
+        out.writeInt(counts[node]);
+        writeNode(out, right[node]);
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int entries = in.readInt();
+        clear();
+        allocate(Math.max(DEFAULT_CAPACITY, entries));
+        for (int i = 0; i < entries; i++) {
+            long key = in.readLong();
+            add(key, in.readInt());
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        appendNode(sb, root);
+        return sb.append(']').toString();
+    }
+
+    private void appendNode(StringBuilder sb, int node) {
+        if (node == NIL) {
+            return;
+        }
+        appendNode(sb, left[node]);
+        if (sb.length() > 1) {
+            sb.append(", ");
+        }
+        sb.append(keys[node]).append('x').append(counts[node]);
+        appendNode(sb, right[node]);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReversibleMinMaxAccumulateFunctionTest {
+
+    @Test
+    public void testIntegerMaxReverse() {
+        ReversibleIntegerMaxAccumulateFunction function = new ReversibleIntegerMaxAccumulateFunction();
+        AbstractCountedMinMaxAccumulateFunction.CountedData data = function.createContext();
+        function.init(data);
+
+        assertTrue(function.supportsReverse());
+        assertNull(function.getResult(data));
+
+        function.accumulate(data, 10);
+        function.accumulate(data, 30);
+        function.accumulate(data, 30);
+        function.accumulate(data, 20);
+        assertEquals(30, function.getResult(data));
+
+        function.reverse(data, 30);
+        assertEquals(30, function.getResult(data));
+        function.reverse(data, 30);
+        assertEquals(20, function.getResult(data));
+        function.reverse(data, 20);
+        function.reverse(data, 10);
+        assertNull(function.getResult(data));
+    }
+
+    @Test
+    public void testLongMinReverse() {
+        ReversibleLongMinAccumulateFunction function = new ReversibleLongMinAccumulateFunction();
+        AbstractCountedMinMaxAccumulateFunction.CountedData data = function.createContext();
+        function.init(data);
+
+        function.accumulate(data, 5L);
+        function.accumulate(data, -5L);
+        function.accumulate(data, null);
+        assertEquals(-5L, function.getResult(data));
+
+        function.reverse(data, -5L);
+        assertEquals(5L, function.getResult(data));
+        function.reverse(data, null);
+        assertEquals(5L, function.getResult(data));
+
+        function.init(data);
+        assertNull(function.getResult(data));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.base.ClassFieldAccessorCache;
+import org.drools.core.base.ClassFieldAccessorStore;
+import org.drools.core.base.field.LongFieldImpl;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter;
+import org.drools.core.reteoo.MockObjectSink;
+import org.drools.core.reteoo.MockObjectSource;
+import org.drools.core.reteoo.builder.BuildContext;
+import org.drools.core.rule.MvelConstraintTestUtil;
+import org.drools.core.spi.InternalReadAccessor;
+import org.drools.core.spi.PropagationContext;
+import org.drools.core.test.model.Cheese;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Propagation of a fact through an object type with thousands of alpha nodes comparing the same
+ * field against a literal, as a rule base with one rule per price band has. A threshold of 0 turns
+ * the alpha indexing off, so every alpha node tests its constraint.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AlphaRangeIndexBenchmark {
+
+    private static final String[] OPERATORS = { ">", ">=", "<", "<=" };
+
+    @Param({"1000", "5000"})
+    private int alphaNodes;
+
+    @Param({"0", "3"})
+    private int alphaNodeHashingThreshold;
+
+    private InternalWorkingMemory workingMemory;
+    private PropagationContext context;
+    private CompositeObjectSinkAdapter adapter;
+    private MockObjectSink sink;
+    private InternalFactHandle[] handles;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClassFieldAccessorStore store = new ClassFieldAccessorStore();
+        store.setClassFieldAccessorCache(new ClassFieldAccessorCache(Thread.currentThread().getContextClassLoader()));
+        store.setEagerWire(true);
+        InternalReadAccessor extractor = store.getReader(Cheese.class, "price");
+
+        InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
+        BuildContext buildContext = new BuildContext(kBase);
+        buildContext.setRule(new RuleImpl("test"));
+
+        adapter = new CompositeObjectSinkAdapter(alphaNodeHashingThreshold);
+        // all the alpha nodes share the same child, which only records the propagations
+        sink = new MockObjectSink();
+        for (int i = 0; i < alphaNodes; i++) {
+            String operator = OPERATORS[i % OPERATORS.length];
+            AlphaNode alphaNode = new AlphaNode(buildContext.getNextId(),
+                                                new MvelConstraintTestUtil("price " + operator + " " + i, new LongFieldImpl(i), extractor),
+                                                new MockObjectSource(buildContext.getNextId()),
+                                                buildContext);
+            alphaNode.addObjectSink(sink);
+            adapter.addObjectSink(alphaNode);
+        }
+
+        workingMemory = (InternalWorkingMemory) kBase.newKieSession();
+        context = kBase.getConfiguration().getComponentFactory().getPropagationContextFactory()
+                .createPropagationContext(0, PropagationContext.Type.INSERTION, null, null, null);
+
+        Random random = new Random(0);
+        handles = new InternalFactHandle[1024];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = (InternalFactHandle) workingMemory.insert(new Cheese("stilton", random.nextInt(alphaNodes)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workingMemory.dispose();
+    }
+
+    @Benchmark
+    public int propagateAssert() {
+        InternalFactHandle handle = handles[next++ & (handles.length - 1)];
+        adapter.propagateAssertObject(handle, context, workingMemory);
+        int matched = sink.getAsserted().size();
+        sink.getAsserted().clear();
+        return matched;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.benchmark;
+
+import java.io.Serializable;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.base.accumulators.IntegerMaxAccumulateFunction;
+import org.drools.core.base.accumulators.ReversibleIntegerMaxAccumulateFunction;
+import org.kie.api.runtime.rule.AccumulateFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sliding window churn over a max accumulate: every operation retracts the oldest value
+ * and inserts a new one. When the function does not support reverse, the accumulate node
+ * has to re-initialize the context and re-accumulate the whole window, which is what the
+ * CURRENT type replays here.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MinMaxAccumulateBenchmark {
+
+    public enum FunctionType {
+        CURRENT, REVERSIBLE
+    }
+
+    @Param({"1000", "100000"})
+    private int windowSize;
+
+    @Param({"CURRENT", "REVERSIBLE"})
+    private FunctionType type;
+
+    private AccumulateFunction<Serializable> function;
+    private Serializable context;
+    private int[] window;
+    private int head;
+    private Random random;
+
+    @Setup(Level.Iteration)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        function = (AccumulateFunction<Serializable>) (type == FunctionType.CURRENT ?
+                new IntegerMaxAccumulateFunction() :
+                new ReversibleIntegerMaxAccumulateFunction());
+        context = function.createContext();
+        random = new Random(0);
+        window = new int[windowSize];
+        head = 0;
+        try {
+            function.init(context);
+            for (int i = 0; i < windowSize; i++) {
+                window[i] = random.nextInt();
+                function.accumulate(context, window[i]);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public Object churn() throws Exception {
+        Integer retracted = window[head];
+        int inserted = random.nextInt();
+        window[head] = inserted;
+        head = (head + 1) % windowSize;
+
+        if (function.supportsReverse()) {
+            function.reverse(context, retracted);
+            function.accumulate(context, inserted);
+        } else {
+            function.init(context);
+            for (int value : window) {
+                function.accumulate(context, value);
+            }
+        }
+        return function.getResult(context);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.PropagationListType;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.PropagationList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contention on the session propagation list: the producer threads add entries concurrently,
+ * as request threads inserting into a shared session do, while the benchmark thread drains
+ * them as the engine running fireUntilHalt does.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropagationListBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    private int producers;
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE"})
+    private PropagationListType type;
+
+    @Param("100000")
+    private int entries;
+
+    private InternalWorkingMemory workingMemory;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workingMemory = (InternalWorkingMemory) KnowledgeBaseFactory.newKnowledgeBase().newKieSession();
+        executor = Executors.newFixedThreadPool(producers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        workingMemory.dispose();
+    }
+
+    @Benchmark
+    public int addAndDrain() throws InterruptedException {
+        PropagationList list = type.createInstance(workingMemory);
+        int entriesPerProducer = entries / producers;
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < producers; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < entriesPerProducer; j++) {
+                    list.addEntry(new NoopEntry());
+                }
+            });
+        }
+        start.countDown();
+
+        int total = entriesPerProducer * producers;
+        int drained = 0;
+        while (drained < total) {
+            PropagationEntry head = list.takeAll();
+            if (head == null) {
+                Thread.yield();
+            }
+            for (PropagationEntry entry = head; entry != null; entry = entry.getNext()) {
+                drained++;
+            }
+        }
+        return drained;
+    }
+
+    private static class NoopEntry extends PropagationEntry.AbstractPropagationEntry {
+
+        @Override
+        public void execute(InternalWorkingMemory wm) { }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.common.DefaultAgenda;
+import org.drools.core.common.InternalAgenda;
+import org.drools.core.common.InternalAgendaGroup;
+import org.drools.core.common.RuleBasePartitionId;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.management.KieBaseConfigurationMonitor;
+import org.drools.core.phreak.RuleAgendaItem;
+import org.drools.core.phreak.RuleExecutor;
+import org.drools.core.rule.constraint.JittingStatistics;
+import org.drools.core.spi.Activation;
+import org.junit.jupiter.api.Test;
+import org.kie.internal.conf.MaxThreadsOption;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelRuleEvaluatorTest {
+
+    @Test
+    public void testOnePartitionPerThreadByDefault() {
+        RuleBaseConfiguration conf = new RuleBaseConfiguration();
+        // the configured default is kept for the other users of the option
+        assertEquals(3, conf.getMaxThreads());
+        assertFalse(conf.isMaxThreadsSet());
+
+        ParallelRuleEvaluator evaluator = new ParallelRuleEvaluator(agenda(conf));
+        assertEquals(RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER, evaluator.getParallelism());
+    }
+
+    @Test
+    public void testMaxThreadsSet() {
+        RuleBaseConfiguration conf = new RuleBaseConfiguration();
+        conf.setProperty(MaxThreadsOption.PROPERTY_NAME, "3");
+        assertTrue(conf.isMaxThreadsSet());
+
+        ParallelRuleEvaluator evaluator = new ParallelRuleEvaluator(agenda(conf));
+        assertEquals(3, evaluator.getParallelism());
+    }
+
+    @Test
+    public void testEvaluateAllPartitions() {
+        RuleBaseConfiguration conf = new RuleBaseConfiguration();
+        conf.setMaxThreads(2);
+        DefaultAgenda agenda = agenda(conf);
+        ParallelRuleEvaluator evaluator = new ParallelRuleEvaluator(agenda);
+        assertEquals(2, evaluator.getParallelism());
+
+        List<RuleExecutor> executors = new ArrayList<>();
+        List<Activation> activations = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            RuleBasePartitionId partition = RuleBasePartitionId.createPartition();
+            // two items per partition, their order must be kept
+            for (int j = 0; j < 2; j++) {
+                RuleExecutor executor = mock(RuleExecutor.class);
+                when(executor.evaluateNetworkAndFire(any(InternalAgenda.class), any(), anyInt(), anyInt())).thenReturn(i + 1);
+                RuleAgendaItem item = mock(RuleAgendaItem.class);
+                when(item.getPartition()).thenReturn(partition);
+                when(item.getRuleExecutor()).thenReturn(executor);
+                executors.add(executor);
+                activations.add(item);
+            }
+        }
+        InternalAgendaGroup group = mock(InternalAgendaGroup.class);
+        when(group.getActivations()).thenReturn(activations.toArray(new Activation[0]));
+
+        assertEquals(72, evaluator.evaluateAndFire(null, 0, -1, group));
+
+        for (int i = 0; i < executors.size(); i += 2) {
+            InOrder inOrder = inOrder(executors.get(i), executors.get(i + 1));
+            inOrder.verify(executors.get(i)).evaluateNetworkAndFire(any(InternalAgenda.class), any(), anyInt(), anyInt());
+            inOrder.verify(executors.get(i + 1)).evaluateNetworkAndFire(any(InternalAgenda.class), any(), anyInt(), anyInt());
+        }
+
+        long fired = 0;
+        for (ParallelRuleEvaluator.PartitionStatistics statistics : evaluator.getPartitionStatistics()) {
+            fired += statistics.getFiredRules();
+        }
+        assertEquals(72, fired);
+
+        // nothing left from the previous evaluation
+        when(group.getActivations()).thenReturn(new Activation[0]);
+        assertEquals(0, evaluator.evaluateAndFire(null, 0, -1, group));
+
+        // statistics are kept by the rule base, so they are exposed by its configuration mbean
+        KieBaseConfigurationMonitor monitor = new KieBaseConfigurationMonitor(conf, new JittingStatistics(),
+                                                                              agenda.getWorkingMemory().getKnowledgeBase().getPartitionStatistics());
+        assertEquals(72, LongStream.of(monitor.getPartitionFiredRules()).sum());
+        assertEquals(RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER, monitor.getPartitionEvaluations().length);
+    }
+
+    private static DefaultAgenda agenda(RuleBaseConfiguration conf) {
+        DefaultAgenda agenda = mock(DefaultAgenda.class, RETURNS_DEEP_STUBS);
+        InternalKnowledgeBase kBase = agenda.getWorkingMemory().getKnowledgeBase();
+        when(kBase.getConfiguration()).thenReturn(conf);
+        when(kBase.getPartitionStatistics()).thenReturn(ParallelRuleEvaluator.newPartitionStatistics());
+        return agenda;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.PropagationListType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LockFreePropagationListTest {
+
+    private InternalWorkingMemory workingMemory;
+
+    @BeforeEach
+    public void setUp() {
+        InternalKnowledgeBase kBase = (InternalKnowledgeBase) KnowledgeBaseFactory.newKnowledgeBase();
+        workingMemory = (InternalWorkingMemory) kBase.newKieSession();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        workingMemory.dispose();
+    }
+
+    @Test
+    public void testSelectedBySessionConfiguration() {
+        SessionConfiguration conf = SessionConfiguration.newInstance();
+        assertSame(PropagationListType.SYNCHRONIZED, conf.getPropagationListType());
+
+        conf.setProperty(PropagationListType.PROPERTY_NAME, "lockfree");
+        assertSame(PropagationListType.LOCK_FREE, conf.getPropagationListType());
+        assertEquals("lockfree", conf.getProperty(PropagationListType.PROPERTY_NAME));
+        assertTrue(conf.getPropagationListType().createInstance(workingMemory) instanceof LockFreePropagationList);
+    }
+
+    @Test
+    public void testTakeAllKeepsInsertionOrder() {
+        LockFreePropagationList list = new LockFreePropagationList(workingMemory);
+        assertTrue(list.isEmpty());
+        assertNull(list.takeAll());
+
+        List<PropagationEntry> added = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PropagationEntry entry = new NoopEntry();
+            added.add(entry);
+            list.addEntry(entry);
+        }
+        assertFalse(list.isEmpty());
+
+        Iterator<PropagationEntry> iterator = list.iterator();
+        for (PropagationEntry entry : added) {
+            assertSame(entry, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+
+        PropagationEntry head = list.takeAll();
+        assertTrue(list.isEmpty());
+        for (PropagationEntry entry : added) {
+            assertSame(entry, head);
+            head = head.getNext();
+        }
+        assertNull(head);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        LockFreePropagationList list = new LockFreePropagationList(workingMemory);
+        int producers = 8;
+        int entriesPerProducer = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < producers; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < entriesPerProducer; j++) {
+                        list.addEntry(new NoopEntry());
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            int taken = 0;
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (taken < producers * entriesPerProducer && System.currentTimeMillis() < deadline) {
+                for (PropagationEntry entry = list.takeAll(); entry != null; entry = entry.getNext()) {
+                    taken++;
+                }
+            }
+            assertEquals(producers * entriesPerProducer, taken);
+            assertTrue(list.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAddEntryWakesUpWaitOnRest() throws Exception {
+        LockFreePropagationList list = new LockFreePropagationList(workingMemory);
+        CountDownLatch woken = new CountDownLatch(1);
+
+        Thread consumer = new Thread(() -> {
+            synchronized (list) {
+                if (list.takeAll() == null) {
+                    list.waitOnRest();
+                }
+            }
+            woken.countDown();
+        });
+        consumer.start();
+
+        // gives the consumer the chance to park before the entry is added: the wake up
+        // must not be lost whichever thread gets there first
+        Thread.sleep(100);
+        list.addEntry(new NoopEntry());
+
+        assertTrue(woken.await(10, TimeUnit.SECONDS));
+        assertFalse(list.isEmpty());
+    }
+
+    private static class NoopEntry extends PropagationEntry.AbstractPropagationEntry {
+
+        @Override
+        public void execute(InternalWorkingMemory wm) { }
+    }
+}
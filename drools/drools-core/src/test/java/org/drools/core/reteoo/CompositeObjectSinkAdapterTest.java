@@ -22,6 +22,7 @@ import java.io.ObjectOutput;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassFieldAccessorCache;
@@ -51,6 +52,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class CompositeObjectSinkAdapterTest {
@@ -443,6 +445,87 @@ public class CompositeObjectSinkAdapterTest {
         assertNull( ad.hashedSinkMap );
     }    
 
+    @Test
+    public void testRangeIndexedAlpha() {
+        final CompositeObjectSinkAdapter ad = new CompositeObjectSinkAdapter();
+        InternalReadAccessor extractor = store.getReader( Cheese.class,
+                                                          "price" );
+
+        final AlphaNode al1 = createAlphaNode( "price > 10", 10, extractor );
+        final AlphaNode al2 = createAlphaNode( "price >= 20", 20, extractor );
+        final AlphaNode al3 = createAlphaNode( "price < 15", 15, extractor );
+
+        ad.addObjectSink( al1 );
+        ad.addObjectSink( al2 );
+
+        // not enough comparisons on price yet, so they are still tested one by one
+        assertEquals( 2,
+                      ad.otherSinks.size() );
+        assertNull( ad.getRangeIndexedSinks() );
+
+        ad.addObjectSink( al3 );
+
+        //this should now be range indexed.
+        assertNull( ad.otherSinks );
+        assertEquals( 3,
+                      ad.getRangeIndexedSinks().length );
+        assertEquals( 3,
+                      ad.getSinks().length );
+
+        assertPropagatedTo( ad, 17, al1 );
+        assertPropagatedTo( ad, 12, al1, al3 );
+        assertPropagatedTo( ad, 20, al1, al2 );
+        assertPropagatedTo( ad, 10, al3 );
+
+        //now remove one, check the indexing is undone
+        ad.removeObjectSink( al2 );
+        assertNull( ad.getRangeIndexedSinks() );
+        assertEquals( 2,
+                      ad.otherSinks.size() );
+        assertEquals( 2,
+                      ad.getSinks().length );
+    }
+
+    @Test
+    public void testRangeIndexKeyOrdering() {
+        final double[] values = { Double.NEGATIVE_INFINITY, -1e10, -1.5, -Double.MIN_VALUE, 0.0, Double.MIN_VALUE, 1.5, 1e10, Double.POSITIVE_INFINITY };
+        for ( int i = 1; i < values.length; i++ ) {
+            assertTrue( CompositeObjectSinkAdapter.RangeIndex.toKey( values[i - 1] ) < CompositeObjectSinkAdapter.RangeIndex.toKey( values[i] ) );
+        }
+        assertEquals( CompositeObjectSinkAdapter.RangeIndex.toKey( 0.0 ),
+                      CompositeObjectSinkAdapter.RangeIndex.toKey( -0.0 ) );
+    }
+
+    private AlphaNode createAlphaNode(String expression, long value, InternalReadAccessor extractor) {
+        final MvelConstraint constraint = new MvelConstraintTestUtil( expression,
+                                                                      new LongFieldImpl( value ),
+                                                                      extractor );
+        final AlphaNode alphaNode = new AlphaNode( buildContext.getNextId(),
+                                                   constraint,
+                                                   new MockObjectSource( buildContext.getNextId() ),
+                                                   buildContext );
+        alphaNode.addObjectSink( new MockObjectSink() );
+        return alphaNode;
+    }
+
+    private void assertPropagatedTo(CompositeObjectSinkAdapter ad, int price, AlphaNode... expected) {
+        final Cheese cheese = new Cheese( "stilton", price );
+        InternalFactHandle handle = new ReteooFactHandleFactory().newFactHandle( cheese,
+                                                                                 null,
+                                                                                 null,
+                                                                                 new DisconnectedWorkingMemoryEntryPoint( "DEFAULT" ) );
+        ad.propagateAssertObject( handle,
+                                  null,
+                                  null );
+
+        for ( ObjectSink sink : ad.getSinks() ) {
+            final MockObjectSink child = (MockObjectSink) ((AlphaNode) sink).getObjectSinkPropagator().getSinks()[0];
+            final boolean propagated = child.getAsserted().stream().anyMatch( asserted -> ((Object[]) asserted)[0] == handle );
+            assertEquals( Arrays.asList( expected ).contains( sink ),
+                          propagated );
+        }
+    }
+
     @Test
     public void testPropagationWithNullValue() {
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongCountedTreeTest {
+
+    @Test
+    public void testDuplicates() {
+        LongCountedTree tree = new LongCountedTree();
+        tree.add(5);
+        tree.add(5);
+        tree.add(3);
+
+        assertEquals(3, tree.size());
+        assertEquals(2, tree.distinctSize());
+        assertEquals(2, tree.count(5));
+        assertEquals(3, tree.min());
+        assertEquals(5, tree.max());
+
+        assertTrue(tree.remove(5));
+        assertEquals(5, tree.max());
+        assertTrue(tree.remove(5));
+        assertEquals(3, tree.max());
+        assertFalse(tree.remove(5));
+        assertTrue(tree.remove(3));
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void testRandomChurnAgainstTreeMap() {
+        Random random = new Random(0);
+        LongCountedTree tree = new LongCountedTree(1);
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(500) - 250;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.containsKey(key), tree.remove(key));
+                expected.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+            } else {
+                tree.add(key);
+                expected.merge(key, 1, Integer::sum);
+            }
+            assertEquals(expected.size(), tree.distinctSize());
+            if (!expected.isEmpty()) {
+                assertEquals(expected.firstKey().longValue(), tree.min());
+                assertEquals(expected.lastKey().longValue(), tree.max());
+            }
+        }
+    }
+
+    @Test
+    public void testExternalization() throws Exception {
+        LongCountedTree tree = new LongCountedTree();
+        tree.add(Long.MIN_VALUE);
+        tree.add(7, 3);
+        tree.add(Long.MAX_VALUE);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(tree);
+        }
+        LongCountedTree copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LongCountedTree) in.readObject();
+        }
+
+        assertEquals(5, copy.size());
+        assertEquals(3, copy.count(7));
+        assertEquals(Long.MIN_VALUE, copy.min());
+        assertEquals(Long.MAX_VALUE, copy.max());
+        assertEquals(tree.toString(), copy.toString());
+    }
+}
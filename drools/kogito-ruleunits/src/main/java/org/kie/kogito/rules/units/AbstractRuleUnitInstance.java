@@ -16,9 +16,12 @@
 package org.kie.kogito.rules.units;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.drools.core.impl.InternalKnowledgeBase;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.time.SessionClock;
@@ -26,12 +29,17 @@ import org.kie.kogito.rules.DataSource;
 import org.kie.kogito.rules.RuleUnit;
 import org.kie.kogito.rules.RuleUnitInstance;
 import org.kie.kogito.rules.RuleUnitData;
+import org.kie.kogito.rules.units.impl.AbstractRuleUnit;
 
 public class AbstractRuleUnitInstance<T extends RuleUnitData> implements RuleUnitInstance<T> {
 
+    // reflective bindings of interpreted units, computed once per unit data class
+    private static final Map<Class<?>, List<FieldBinding>> fieldBindings = new ConcurrentHashMap<>();
+
     private final T unitMemory;
     private final RuleUnit<T> unit;
     private final KieSession runtime;
+    private final List<Subscription> subscriptions = new ArrayList<>();
 
     public AbstractRuleUnitInstance( RuleUnit<T> unit, T unitMemory, KieSession runtime ) {
         this.unit = unit;
@@ -63,27 +71,98 @@ public class AbstractRuleUnitInstance<T extends RuleUnitData> implements RuleUni
         return unitMemory;
     }
 
+    @Override
+    public void dispose() {
+        subscriptions.forEach(Subscription::cancel);
+        subscriptions.clear();
+        if (unit instanceof AbstractRuleUnit) {
+            ((AbstractRuleUnit<T>) unit).release(runtime);
+        } else {
+            runtime.dispose();
+        }
+    }
+
+    /**
+     * Feeds the given entry point with the data of the given source, until this instance is disposed
+     */
+    protected void subscribe(DataSource<?> source, EntryPoint entryPoint) {
+        Subscription subscription = new Subscription(source, new EntryPointDataProcessor(entryPoint));
+        subscriptions.add(subscription);
+        source.subscribe(subscription.processor);
+    }
+
     protected void bind(KieSession runtime, T workingMemory) {
-        try {
-            for (Field f : workingMemory.getClass().getDeclaredFields()) {
-                f.setAccessible(true);
-                Object v = null;
-                v = f.get(workingMemory);
-                String dataSourceName = String.format(
-                        "%s.%s", workingMemory.getClass().getCanonicalName(), f.getName());
-                if ( v instanceof DataSource ) {
-                    DataSource<?> o = ( DataSource<?> ) v;
-                    EntryPoint ep = runtime.getEntryPoint(dataSourceName);
-                    o.subscribe(new EntryPointDataProcessor( ep ));
-                }
+        Map<String, Class<?>> globals = runtime.getKieBase() instanceof InternalKnowledgeBase ?
+                (( InternalKnowledgeBase ) runtime.getKieBase()).getGlobals() : null;
+        for (FieldBinding binding : fieldBindings( workingMemory.getClass() )) {
+            Object v = binding.get( workingMemory );
+            if ( v instanceof DataSource ) {
+                subscribe( ( DataSource<?> ) v, runtime.getEntryPoint( binding.name ) );
+            }
+            if (globals == null) {
                 try {
-                    runtime.setGlobal( dataSourceName, v );
+                    runtime.setGlobal( binding.name, v );
                 } catch (RuntimeException e) {
                     // ignore if the global doesn't exist
                 }
+            } else if (globals.containsKey( binding.name )) {
+                runtime.setGlobal( binding.name, v );
+            }
+        }
+    }
+
+    static List<FieldBinding> fieldBindings( Class<?> unitClass ) {
+        return fieldBindings.computeIfAbsent( unitClass, FieldBinding::of );
+    }
+
+    /**
+     * A processor subscribed to a data source of the unit data, once cancelled the source no longer holds it and
+     * the session behind it is not fed anymore
+     */
+    private static class Subscription {
+
+        private final DataSource source;
+        private final EntryPointDataProcessor processor;
+
+        private Subscription( DataSource<?> source, EntryPointDataProcessor processor ) {
+            this.source = source;
+            this.processor = processor;
+        }
+
+        void cancel() {
+            source.unsubscribe( processor );
+            processor.detach();
+        }
+    }
+
+    /**
+     * A field of a unit data class, made accessible once, with the name of the entry point and global it is bound to
+     */
+    private static class FieldBinding {
+
+        private final Field field;
+        private final String name;
+
+        private FieldBinding( Field field, String name ) {
+            this.field = field;
+            this.name = name;
+        }
+
+        static List<FieldBinding> of( Class<?> unitClass ) {
+            List<FieldBinding> bindings = new ArrayList<>();
+            for (Field f : unitClass.getDeclaredFields()) {
+                f.setAccessible( true );
+                bindings.add( new FieldBinding( f, unitClass.getCanonicalName() + "." + f.getName() ) );
+            }
+            return bindings;
+        }
+
+        Object get( Object workingMemory ) {
+            try {
+                return field.get( workingMemory );
+            } catch (IllegalAccessException e) {
+                throw new Error(e);
             }
-        } catch (IllegalAccessException e) {
-            throw new Error(e);
         }
     }
 }
@@ -35,12 +35,23 @@ public class EntryPointDataProcessor implements DataProcessor {
 
     private final Map<DataHandle, InternalFactHandle> handles = new HashMap<>();
 
+    // once detached, the session behind the entry point may be serving another unit instance
+    private volatile boolean detached;
+
     public EntryPointDataProcessor( EntryPoint entryPoint ) {
         this.entryPoint = entryPoint;
     }
 
+    public void detach() {
+        detached = true;
+        handles.clear();
+    }
+
     @Override
     public FactHandle insert(DataHandle handle, Object object) {
+        if (detached) {
+            return null;
+        }
         InternalFactHandle fh = (InternalFactHandle)entryPoint.insert( object );
         if (handle != null) {
             handles.put( handle, fh );
@@ -53,16 +64,25 @@ public class EntryPointDataProcessor implements DataProcessor {
     }
 
     public void update( InternalFactHandle fh, Object obj, BitMask mask, Class<?> modifiedClass, Activation activation) {
+        if (detached) {
+            return;
+        }
         (( WorkingMemoryEntryPoint ) entryPoint).update( fh, obj, mask, modifiedClass, activation );
     }
 
     @Override
     public void update(DataHandle handle, Object object) {
+        if (detached) {
+            return;
+        }
         entryPoint.update( handles.get(handle), object );
     }
 
     @Override
     public void delete(DataHandle handle) {
+        if (detached) {
+            return;
+        }
         entryPoint.delete( handles.remove(handle) );
     }
 
@@ -71,6 +91,9 @@ public class EntryPointDataProcessor implements DataProcessor {
     }
 
     public void delete(InternalFactHandle fh, RuleImpl rule, TerminalNode terminalNode, FactHandle.State fhState) {
+        if (detached) {
+            return;
+        }
         (( WorkingMemoryEntryPoint ) entryPoint).delete( fh, rule, terminalNode, fhState );
         handles.remove( fh.getDataHandle() );
     }
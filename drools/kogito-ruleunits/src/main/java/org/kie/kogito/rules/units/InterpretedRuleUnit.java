@@ -6,6 +6,7 @@ import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.impl.KnowledgeBaseFactory;
 import org.drools.core.io.impl.InputStreamResource;
+import org.kie.api.KieBase;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.builder.KnowledgeBuilder;
@@ -23,18 +24,42 @@ import org.kie.kogito.uow.UnitOfWorkManager;
  */
 public class InterpretedRuleUnit<T extends RuleUnitData> extends AbstractRuleUnit<T> {
 
+    // the DRL of a unit is compiled only once, every instance then just creates a new session out of the same KieBase;
+    // values of a ClassValue are bound to the class itself, so they do not keep unit classes and their class loaders alive
+    private static final ClassValue<KieBase> kieBases = new ClassValue<KieBase>() {
+        @Override
+        protected KieBase computeValue(Class<?> type) {
+            return createKieBase(type);
+        }
+    };
+
+    /**
+     * Creates the unit, compiling its DRL unless already compiled for the same class,
+     * so that the first instance of the unit does not pay for the compilation
+     */
     public static <T extends RuleUnitData> RuleUnit<T> of(Class<T> type) {
-        return new InterpretedRuleUnit<>();
+        return new InterpretedRuleUnit<>(kieBase(type));
     }
 
-    private InterpretedRuleUnit() {
+    private final KieBase kieBase;
+
+    private InterpretedRuleUnit(KieBase kieBase) {
         super(DummyApplication.INSTANCE);
+        this.kieBase = kieBase;
     }
 
     @Override
     public RuleUnitInstance<T> internalCreateInstance(T data) {
+        KieSession kSession = kieBase.newKieSession();
+        return new InterpretedRuleUnitInstance<>(this, data, kSession);
+    }
+
+    static KieBase kieBase(Class<? extends RuleUnitData> wmClass) {
+        return kieBases.get(wmClass);
+    }
+
+    private static KieBase createKieBase(Class<?> wmClass) {
         KnowledgeBuilder kBuilder = new KnowledgeBuilderImpl();
-        Class<? extends RuleUnitData> wmClass = data.getClass();
         String canonicalName = wmClass.getCanonicalName();
 
         // transform foo.bar.Baz to /foo/bar/Baz.drl
@@ -45,9 +70,7 @@ public class InterpretedRuleUnit<T extends RuleUnitData> extends AbstractRuleUni
 
         InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
         kBase.addPackages(kBuilder.getKnowledgePackages());
-        KieSession kSession = kBase.newKieSession();
-
-        return new InterpretedRuleUnitInstance<>(this, data, kSession);
+        return kBase;
     }
 
     public static class DummyApplication implements org.kie.kogito.Application {
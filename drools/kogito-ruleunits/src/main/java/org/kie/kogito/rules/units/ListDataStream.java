@@ -48,4 +48,9 @@ public class ListDataStream<T> implements DataStream<T> {
         values.forEach(subscriber::insert);
     }
 
+    @Override
+    public void unsubscribe(DataProcessor subscriber) {
+        subscribers.remove(subscriber);
+    }
+
 }
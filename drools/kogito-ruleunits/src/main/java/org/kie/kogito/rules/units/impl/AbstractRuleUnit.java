@@ -15,6 +15,7 @@
 
 package org.kie.kogito.rules.units.impl;
 
+import org.kie.api.runtime.KieSession;
 import org.kie.kogito.Application;
 import org.kie.kogito.rules.RuleUnit;
 import org.kie.kogito.rules.RuleUnitData;
@@ -36,4 +37,11 @@ public abstract class AbstractRuleUnit<T extends RuleUnitData> implements RuleUn
         app.ruleUnits().register( name, instance );
         return instance;
     }
+
+    /**
+     * Invoked when an instance of this unit is disposed, units that reuse their sessions hand them back here
+     */
+    public void release(KieSession session) {
+        session.dispose();
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.kie.kogito.rules.units.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.drools.core.common.NamedEntryPoint;
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.EntryPoint;
+
+/**
+ * Bounded pool of sessions of a rule unit. Released sessions, with all their entry points, are reset and kept, together with their listeners,
+ * so that short-lived unit instances do not pay for the creation of a new session. When the pool is full,
+ * or its size is zero, released sessions are disposed.
+ */
+public class KieSessionPool {
+
+    private final Supplier<KieSession> sessionSupplier;
+    private final BlockingQueue<KieSession> idle;
+    private final int size;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder disposed = new LongAdder();
+
+    public KieSessionPool(int size, Supplier<KieSession> sessionSupplier) {
+        this.size = size;
+        this.sessionSupplier = sessionSupplier;
+        this.idle = new ArrayBlockingQueue<>(Math.max(size, 1));
+    }
+
+    public KieSession acquire() {
+        KieSession session = idle.poll();
+        if (session != null) {
+            reused.increment();
+            return session;
+        }
+        created.increment();
+        return sessionSupplier.get();
+    }
+
+    public void release(KieSession session) {
+        if (size > 0 && session instanceof StatefulKnowledgeSessionImpl) {
+            reset((StatefulKnowledgeSessionImpl) session);
+            if (idle.offer(session)) {
+                released.increment();
+                return;
+            }
+        }
+        disposed.increment();
+        session.dispose();
+    }
+
+    // the session resets its default entry point only, facts inserted through the data sources of the unit
+    // live in the other entry points and must not be seen by the next unit instance
+    private static void reset(StatefulKnowledgeSessionImpl session) {
+        session.reset();
+        for (EntryPoint entryPoint : session.getEntryPoints()) {
+            if (entryPoint instanceof NamedEntryPoint) {
+                ((NamedEntryPoint) entryPoint).reset();
+            }
+        }
+    }
+
+    public void close() {
+        KieSession session;
+        while ((session = idle.poll()) != null) {
+            disposed.increment();
+            session.dispose();
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getIdle() {
+        return idle.size();
+    }
+
+    public long getCreated() {
+        return created.sum();
+    }
+
+    public long getReused() {
+        return reused.sum();
+    }
+
+    public long getReleased() {
+        return released.sum();
+    }
+
+    public long getDisposed() {
+        return disposed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "KieSessionPool{" +
+                "size=" + size +
+                ", idle=" + getIdle() +
+                ", created=" + getCreated() +
+                ", reused=" + getReused() +
+                ", released=" + getReleased() +
+                ", disposed=" + getDisposed() +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package org.kie.kogito.rules.units;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.kogito.rules.DataProcessor;
+import org.kie.kogito.rules.DataSource;
+import org.kie.kogito.rules.RuleUnit;
+import org.kie.kogito.rules.RuleUnitData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class AbstractRuleUnitInstanceTest {
+
+    @Test
+    public void testDisposeUnsubscribesProcessors() {
+        RecordingDataSource<String> strings = new RecordingDataSource<>();
+        KieSession session = mock(KieSession.class);
+        AbstractRuleUnitInstance<Strings> instance = new AbstractRuleUnitInstance<>(mock(RuleUnit.class), new Strings(strings), session);
+        assertThat(strings.subscribers).hasSize(1);
+
+        instance.dispose();
+
+        // the data source outlives the instance, it must not keep feeding the released session
+        assertThat(strings.subscribers).isEmpty();
+        verify(session).dispose();
+    }
+
+    public static class Strings implements RuleUnitData {
+
+        private final DataSource<String> strings;
+
+        Strings(DataSource<String> strings) {
+            this.strings = strings;
+        }
+    }
+
+    private static class RecordingDataSource<T> implements DataSource<T> {
+
+        private final List<DataProcessor<T>> subscribers = new ArrayList<>();
+
+        @Override
+        public void subscribe(DataProcessor<T> subscriber) {
+            subscribers.add(subscriber);
+        }
+
+        @Override
+        public void unsubscribe(DataProcessor<T> subscriber) {
+            subscribers.remove(subscriber);
+        }
+    }
+}
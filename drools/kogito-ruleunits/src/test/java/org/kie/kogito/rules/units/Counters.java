@@ -0,0 +1,7 @@
+package org.kie.kogito.rules.units;
+
+import org.kie.kogito.rules.RuleUnitData;
+
+public class Counters implements RuleUnitData {
+
+}
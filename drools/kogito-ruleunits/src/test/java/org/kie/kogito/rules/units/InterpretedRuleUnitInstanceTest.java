@@ -0,0 +1,64 @@
+package org.kie.kogito.rules.units;
+
+import java.util.Collections;
+
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.kogito.rules.RuleUnit;
+import org.kie.kogito.rules.RuleUnitInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InterpretedRuleUnitInstanceTest {
+
+    private static final String NUMBERS = "org.kie.kogito.rules.units.Scores.numbers";
+    private static final String RESULTS = "org.kie.kogito.rules.units.Scores.results";
+
+    @Test
+    public void testEntryPointsFedFromDataSources() {
+        RuleUnit<Scores> unit = InterpretedRuleUnit.of(Scores.class);
+        Scores first = new Scores();
+        Scores second = new Scores();
+        RuleUnitInstance<Scores> firstInstance = unit.createInstance(first);
+        RuleUnitInstance<Scores> secondInstance = unit.createInstance(second);
+
+        first.getNumbers().append(1);
+        assertThat(firstInstance.fire()).isEqualTo(1);
+        assertThat(secondInstance.fire()).isZero();
+
+        second.getNumbers().append(2);
+        second.getNumbers().append(3);
+        assertThat(secondInstance.fire()).isEqualTo(2);
+        assertThat(firstInstance.fire()).isZero();
+
+        // both instances went through the same bindings, computed for the first one
+        assertThat(AbstractRuleUnitInstance.fieldBindings(Scores.class)).hasSize(2)
+                .isSameAs(AbstractRuleUnitInstance.fieldBindings(Scores.class));
+
+        firstInstance.dispose();
+        secondInstance.dispose();
+    }
+
+    @Test
+    public void testGlobalsSet() {
+        InternalKnowledgeBase kieBase = mock(InternalKnowledgeBase.class);
+        when(kieBase.getGlobals()).thenReturn(Collections.singletonMap(RESULTS, Object.class));
+        KieSession session = mock(KieSession.class);
+        when(session.getKieBase()).thenReturn(kieBase);
+        Scores scores = new Scores();
+
+        new InterpretedRuleUnitInstance<>(mock(RuleUnit.class), scores, session);
+
+        verify(session).getEntryPoint(NUMBERS);
+        verify(session).setGlobal(RESULTS, scores.getResults());
+        // fields with no global of their name are not set, rather than failing on the session
+        verify(session, never()).setGlobal(eq(NUMBERS), any());
+    }
+}
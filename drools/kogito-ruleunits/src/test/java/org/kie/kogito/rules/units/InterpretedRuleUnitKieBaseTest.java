@@ -0,0 +1,83 @@
+package org.kie.kogito.rules.units;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.kogito.rules.RuleUnitData;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class InterpretedRuleUnitKieBaseTest {
+
+    @Test
+    public void testKieBaseCompiledOnce() {
+        KieBase kieBase = InterpretedRuleUnit.kieBase(Counters.class);
+        assertNotNull(kieBase.getRule("org.kie.kogito.rules.units", "CountIntegers"));
+        assertSame(kieBase, InterpretedRuleUnit.kieBase(Counters.class));
+
+        InterpretedRuleUnit.of(Counters.class);
+        assertSame(kieBase, InterpretedRuleUnit.kieBase(Counters.class));
+    }
+
+    @Test
+    public void testKieBaseDoesNotRetainUnitClass() throws Exception {
+        IsolatingClassLoader classLoader = new IsolatingClassLoader(Counters.class.getName());
+        Class<? extends RuleUnitData> unitClass = classLoader.loadClass(Counters.class.getName()).asSubclass(RuleUnitData.class);
+        KieBase kieBase = InterpretedRuleUnit.kieBase(unitClass);
+        assertSame(kieBase, InterpretedRuleUnit.kieBase(unitClass));
+
+        WeakReference<ClassLoader> classLoaderRef = new WeakReference<>(classLoader);
+        classLoader = null;
+        unitClass = null;
+        for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(classLoaderRef.get());
+    }
+
+    // defines its own copy of the given class, as a unit class of a redeployed application would be
+    private static class IsolatingClassLoader extends ClassLoader {
+
+        private final String isolatedClassName;
+
+        IsolatingClassLoader(String isolatedClassName) {
+            super(InterpretedRuleUnitKieBaseTest.class.getClassLoader());
+            this.isolatedClassName = isolatedClassName;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(isolatedClassName)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = readClass(name);
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
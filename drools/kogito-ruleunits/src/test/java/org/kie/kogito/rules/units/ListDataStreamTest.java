@@ -30,6 +30,16 @@ public class ListDataStreamTest {
         assertEquals(3, counter.count);
     }
 
+    @Test
+    public void testUnsubscribe() {
+        Counter counter = new Counter();
+        ListDataStream<Integer> integers = ListDataStream.create(10);
+        integers.subscribe(counter);
+        integers.unsubscribe(counter);
+        integers.append(20);
+        assertEquals(1, counter.count);
+    }
+
     private static class Counter<T> implements DataProcessor<T> {
 
         int count = 0;
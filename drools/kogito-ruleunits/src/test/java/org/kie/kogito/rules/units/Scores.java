@@ -0,0 +1,20 @@
+package org.kie.kogito.rules.units;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kie.kogito.rules.RuleUnitData;
+
+public class Scores implements RuleUnitData {
+
+    private final ListDataStream<Integer> numbers = ListDataStream.create();
+    private final List<Integer> results = new ArrayList<>();
+
+    public ListDataStream<Integer> getNumbers() {
+        return numbers;
+    }
+
+    public List<Integer> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,98 @@
+package org.kie.kogito.rules.units.impl;
+
+import java.nio.charset.StandardCharsets;
+
+import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.drools.core.io.impl.ByteArrayResource;
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.KnowledgeBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class KieSessionPoolTest {
+
+    private static final String DRL =
+            "package org.kie.kogito.rules.units.impl;\n" +
+            "rule Greet when\n" +
+            "    String() from entry-point \"strings\"\n" +
+            "then\n" +
+            "end\n";
+
+    @Test
+    public void testReusedSessionDoesNotSeePreviousFacts() {
+        KieBase kieBase = kieBase();
+        KieSessionPool pool = new KieSessionPool(1, kieBase::newKieSession);
+
+        KieSession first = pool.acquire();
+        first.insert(42);
+        first.getEntryPoint("strings").insert("Hello");
+        assertThat(first.fireAllRules()).isEqualTo(1);
+        pool.release(first);
+
+        KieSession second = pool.acquire();
+        assertThat(second).isSameAs(first);
+        assertThat(second.getFactCount()).isZero();
+        assertThat(second.getEntryPoint("strings").getFactCount()).isZero();
+        assertThat(second.fireAllRules()).isZero();
+
+        second.getEntryPoint("strings").insert("World");
+        assertThat(second.fireAllRules()).isEqualTo(1);
+        assertThat(second.getEntryPoint("strings").getObjects()).containsExactly("World");
+
+        assertThat(pool.getCreated()).isEqualTo(1);
+        assertThat(pool.getReused()).isEqualTo(1);
+        assertThat(pool.getReleased()).isEqualTo(1);
+        pool.release(second);
+        pool.close();
+    }
+
+    @Test
+    public void testSessionIsDisposedWhenPoolIsFull() {
+        KieSessionPool pool = new KieSessionPool(1, () -> mock(StatefulKnowledgeSessionImpl.class));
+
+        KieSession first = pool.acquire();
+        KieSession second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        verify(second).dispose();
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getCreated()).isEqualTo(2);
+        assertThat(pool.getDisposed()).isEqualTo(1);
+
+        pool.close();
+        verify(first).dispose();
+        assertThat(pool.getIdle()).isZero();
+    }
+
+    @Test
+    public void testNoPooling() {
+        StatefulKnowledgeSessionImpl session = mock(StatefulKnowledgeSessionImpl.class);
+        KieSessionPool pool = new KieSessionPool(0, () -> session);
+
+        pool.release(pool.acquire());
+
+        verify(session, never()).reset();
+        verify(session).dispose();
+        assertThat(pool.getIdle()).isZero();
+    }
+
+    private static KieBase kieBase() {
+        KnowledgeBuilder kBuilder = new KnowledgeBuilderImpl();
+        kBuilder.add(new ByteArrayResource(DRL.getBytes(StandardCharsets.UTF_8)), ResourceType.DRL);
+        assertThat(kBuilder.hasErrors()).as(kBuilder.getErrors().toString()).isFalse();
+
+        InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
+        kBase.addPackages(kBuilder.getKnowledgePackages());
+        return kBase;
+    }
+}
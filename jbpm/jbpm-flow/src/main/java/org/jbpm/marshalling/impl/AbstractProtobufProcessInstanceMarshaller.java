@@ -129,6 +129,9 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         if (workFlow.getReferenceId() != null) {
             _instance.setReferenceId(workFlow.getReferenceId());
         }
+        if (workFlow.getEventSequence() > 0) {
+            _instance.setEventSequence(workFlow.getEventSequence());
+        }
 
         SwimlaneContextInstance swimlaneContextInstance = (SwimlaneContextInstance) workFlow.getContextInstance( SwimlaneContext.SWIMLANE_SCOPE );
         if ( swimlaneContextInstance != null ) {
@@ -760,6 +763,7 @@ public abstract class AbstractProtobufProcessInstanceMarshaller
         processInstance.internalSetErrorMessage(_instance.getErrorMessage());
         
         processInstance.setReferenceId(_instance.getReferenceId());
+        processInstance.internalSetEventSequence(_instance.getEventSequence());
         
         for( String completedNodeId : _instance.getCompletedNodeIdsList() ) { 
             processInstance.addCompletedNodeId(completedNodeId);
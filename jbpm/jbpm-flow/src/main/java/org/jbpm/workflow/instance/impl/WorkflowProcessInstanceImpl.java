@@ -116,6 +116,8 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
     
     private String referenceId;
 
+    private long eventSequence;
+
     @Override
     public NodeContainer getNodeContainer() {
         return getWorkflowProcess();
@@ -968,6 +970,23 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
         return this.referenceId;
     }
 
+    @Override
+    public long getEventSequence() {
+        return eventSequence;
+    }
+
+    public void internalSetEventSequence(long eventSequence) {
+        this.eventSequence = eventSequence;
+    }
+
+    /**
+     * Moves to the next event sequence number, invoked once for every unit of work that stores this process instance.
+     * @return new event sequence number
+     */
+    public long nextEventSequence() {
+        return ++eventSequence;
+    }
+
     private boolean isVariableExpression(String eventType) {
         if (eventType == null) {
             return false;
@@ -16,6 +16,7 @@
 package org.kie.kogito.process.impl;
 
 import java.util.Collections;
+import java.util.stream.Stream;
 
 import org.jbpm.process.instance.LightProcessRuntime;
 import org.jbpm.process.instance.LightProcessRuntimeContext;
@@ -80,7 +81,9 @@ public abstract class AbstractProcess<T extends Model> implements Process<T> {
 
     @Override
     public <S> void send(Signal<S> signal) {
-        instances().values().forEach(pi -> pi.send(signal));
+        try (Stream<? extends ProcessInstance<T>> stream = instances().stream()) {
+            stream.forEach(pi -> pi.send(signal));
+        }
     }
     
     @SuppressWarnings("unchecked")
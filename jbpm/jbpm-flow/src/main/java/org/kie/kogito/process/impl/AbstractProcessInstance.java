@@ -60,6 +60,7 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
     
     private Integer status;
     private String id;
+    private long version;
     
     private ProcessError processError;
     
@@ -103,6 +104,16 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         unbind(variables, legacyProcessInstance.getVariables());
     }
     
+    // for marshaller/persistence only
+    public long version() {
+        return version;
+    }
+
+    // for marshaller/persistence only
+    public void internalSetVersion(long version) {
+        this.version = version;
+    }
+
     public org.kie.api.runtime.process.ProcessInstance internalGetProcessInstance() {
         return legacyProcessInstance;
     }
@@ -113,6 +124,8 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         if (this.status == STATE_ERROR) {
             this.processError = buildProcessError();
         }
+        // detached process instance might be attached to another instance later on
+        ((WorkflowProcessInstance) legacyProcessInstance).removeEventListener("processInstanceCompleted:" + this.id, completionEventListener, false);
         this.legacyProcessInstance = null;
     }
     
@@ -141,7 +154,11 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
     
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void addToUnitOfWork(Consumer<ProcessInstance<T>> action) {
-        ((InternalProcessRuntime) rt).getUnitOfWorkManager().currentUnitOfWork().intercept(new ProcessInstanceWorkUnit(this, action));
+        ((InternalProcessRuntime) rt).getUnitOfWorkManager().currentUnitOfWork().intercept(new ProcessInstanceWorkUnit(this, pi -> {
+            // events of this unit of work carry the sequence number stored with the instance
+            ((WorkflowProcessInstanceImpl) legacyProcessInstance()).nextEventSequence();
+            action.accept(pi);
+        }));
     }
 
     public void abort() {
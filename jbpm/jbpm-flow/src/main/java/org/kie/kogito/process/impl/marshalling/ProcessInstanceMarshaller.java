@@ -17,7 +17,9 @@ package org.kie.kogito.process.impl.marshalling;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 
 import org.drools.core.impl.EnvironmentImpl;
@@ -25,7 +27,9 @@ import org.drools.core.marshalling.impl.ClassObjectMarshallingStrategyAcceptor;
 import org.drools.core.marshalling.impl.MarshallerReaderContext;
 import org.drools.core.marshalling.impl.PersisterHelper;
 import org.drools.core.marshalling.impl.ProcessMarshallerWriteContext;
+import org.drools.core.marshalling.impl.ProtobufMessages;
 import org.drools.core.marshalling.impl.SerializablePlaceholderResolverStrategy;
+import org.drools.core.util.KeyStoreHelper;
 import org.jbpm.marshalling.impl.JBPMMessages;
 import org.jbpm.marshalling.impl.ProcessMarshallerRegistry;
 import org.jbpm.marshalling.impl.ProtobufRuleFlowProcessInstanceMarshaller;
@@ -40,10 +44,43 @@ import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.impl.AbstractProcess;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Marshals process instances into byte arrays and back.
+ * <p>
+ * Process instances handled by protobuf based marshallers are written in compact format - format marker followed by
+ * process type and protobuf header with the process instance as payload - written directly into exactly sized
+ * array without java serialization framing and intermediate copies. Write contexts are reused per thread.
+ * Process instances written in the original, java serialization framed format, can still be read.
+ */
 public class ProcessInstanceMarshaller {
     
+    private static final byte[] COMPACT_FORMAT_MARKER = new byte[]{'K', 1};
+    private static final byte[] OBJECT_STREAM_HEADER = new byte[]{(byte) 0xAC, (byte) 0xED, 0x00, 0x05};
+    
+    private static final OutputStream DISCARDING_STREAM = new OutputStream() {
+        
+        @Override
+        public void write(int b) {
+            // write contexts used for compact format never write to the stream
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // write contexts used for compact format never write to the stream
+        }
+    };
+    
     private Environment env = new EnvironmentImpl();
     
+    private final boolean signed = new KeyStoreHelper().isSigned();
+    
+    private final ThreadLocal<ProcessMarshallerWriteContext> writeContexts = ThreadLocal.withInitial(this::newWriteContext);
+    
     public ProcessInstanceMarshaller(ObjectMarshallingStrategy... strategies) {
         ObjectMarshallingStrategy[] strats = null;
         if ( strategies == null ) {
@@ -65,6 +102,50 @@ public class ProcessInstanceMarshaller {
         
         org.kie.api.runtime.process.ProcessInstance legacyProcessInstance = ((AbstractProcessInstance<?>) processInstance).internalGetProcessInstance();
         
+        String processType = ((ProcessInstanceImpl) legacyProcessInstance).getProcess().getType();
+        org.jbpm.marshalling.impl.ProcessInstanceMarshaller marshaller = ProcessMarshallerRegistry.INSTANCE.getMarshaller( processType );
+        if (signed || !(marshaller instanceof ProtobufRuleFlowProcessInstanceMarshaller)) {
+            return marshallWithObjectStream(legacyProcessInstance);
+        }
+        
+        try {
+            ProcessMarshallerWriteContext context = writeContexts.get();
+            resetWriteContext(context);
+            context.setProcessInstanceId(legacyProcessInstance.getId());
+            context.setState(legacyProcessInstance.getState());
+            
+            JBPMMessages.ProcessInstance _instance = (JBPMMessages.ProcessInstance) marshaller.writeProcessInstance( context,
+                                                                                                                   legacyProcessInstance);
+            ProtobufMessages.Header _header = PersisterHelper.buildHeaderWithoutPayload( context );
+            
+            int payloadSize = _instance.getSerializedSize();
+            int size = COMPACT_FORMAT_MARKER.length
+                    + CodedOutputStream.computeStringSizeNoTag(processType)
+                    + _header.getSerializedSize()
+                    + CodedOutputStream.computeTagSize(ProtobufMessages.Header.PAYLOAD_FIELD_NUMBER)
+                    + CodedOutputStream.computeUInt32SizeNoTag(payloadSize)
+                    + payloadSize;
+            
+            byte[] data = new byte[size];
+            CodedOutputStream output = CodedOutputStream.newInstance(data);
+            output.writeRawBytes(COMPACT_FORMAT_MARKER);
+            output.writeStringNoTag(processType);
+            _header.writeTo(output);
+            // payload is the only field missing in the header so appending it results in complete header message
+            output.writeTag(ProtobufMessages.Header.PAYLOAD_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(payloadSize);
+            _instance.writeTo(output);
+            output.checkNoSpaceLeft();
+            
+            resetWriteContext(context);
+            ((WorkflowProcessInstanceImpl) legacyProcessInstance).disconnect();
+            return data;
+        } catch (Exception e) {
+            throw new RuntimeException("Error while marshalling process instance", e);
+        }
+    }
+    
+    protected byte[] marshallWithObjectStream(org.kie.api.runtime.process.ProcessInstance legacyProcessInstance) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
         
             ProcessMarshallerWriteContext context = new ProcessMarshallerWriteContext( baos,
@@ -105,6 +186,9 @@ public class ProcessInstanceMarshaller {
     }
     
     public ProcessInstance<?> unmarshallProcessInstance(byte[] data, Process<?> process, AbstractProcessInstance<?> processInstance) {
+        if (isCompactFormat(data)) {
+            return unmarshallCompactProcessInstance(data, process, processInstance);
+        }
         
         org.kie.api.runtime.process.ProcessInstance legacyProcessInstance = null;
         try (ByteArrayInputStream bais = new ByteArrayInputStream( data )) {
@@ -131,4 +215,62 @@ public class ProcessInstanceMarshaller {
             throw new RuntimeException("Error while unmarshalling process instance", e);
         }
     }
+    
+    protected ProcessInstance<?> unmarshallCompactProcessInstance(byte[] data, Process<?> process, AbstractProcessInstance<?> processInstance) {
+        
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(data, COMPACT_FORMAT_MARKER.length, data.length - COMPACT_FORMAT_MARKER.length);
+            String processInstanceType = input.readString();
+            int headerOffset = COMPACT_FORMAT_MARKER.length + input.getTotalBytesRead();
+            
+            // context is only used to carry strategies and processes, the stream itself is not read
+            MarshallerReaderContext context = new MarshallerReaderContext( new ByteArrayInputStream( OBJECT_STREAM_HEADER ),
+                                                                           Collections.singletonMap(process.id(), ((AbstractProcess<?>)process).legacyProcess()),
+                                                                           null,
+                                                                           null,
+                                                                           null,
+                                                                           this.env
+                                                                          );
+            ExtensionRegistry registry = PersisterHelper.buildRegistry( context, null );
+            ProtobufMessages.Header _header = PersisterHelper.readFromBytesWithHeader( context, data, headerOffset, data.length - headerOffset, registry );
+            context.parameterObject = JBPMMessages.ProcessInstance.parseFrom( _header.getPayload(), registry );
+            
+            org.jbpm.marshalling.impl.ProcessInstanceMarshaller marshaller = ProcessMarshallerRegistry.INSTANCE.getMarshaller( processInstanceType );
+            org.kie.api.runtime.process.ProcessInstance legacyProcessInstance = marshaller.readProcessInstance(context);
+            context.close();
+            
+            processInstance.internalSetProcessInstance(legacyProcessInstance);
+            
+            return processInstance;
+        } catch (Exception e) {
+            throw new RuntimeException("Error while unmarshalling process instance", e);
+        }
+    }
+    
+    protected boolean isCompactFormat(byte[] data) {
+        return data.length > COMPACT_FORMAT_MARKER.length && data[0] == COMPACT_FORMAT_MARKER[0] && data[1] == COMPACT_FORMAT_MARKER[1];
+    }
+    
+    protected ProcessMarshallerWriteContext newWriteContext() {
+        try {
+            return new ProcessMarshallerWriteContext( DISCARDING_STREAM,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      this.env );
+        } catch (IOException e) {
+            throw new RuntimeException("Error while creating marshalling context", e);
+        }
+    }
+    
+    protected void resetWriteContext(ProcessMarshallerWriteContext context) {
+        context.usedStrategies.clear();
+        context.strategyContext.clear();
+        context.terminalTupleMap.clear();
+        context.parameterObject = null;
+        context.setProcessInstanceId(null);
+        context.setTaskId(null);
+        context.setWorkItemId(null);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.process.impl.marshalling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.kie.api.runtime.process.ProcessRuntime;
+import org.kie.kogito.Model;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.impl.AbstractProcess;
+import org.kie.kogito.process.impl.AbstractProcessInstance;
+
+/**
+ * Simple process - start, human task and end - used to exercise marshalling of active process instances.
+ */
+public class HumanTaskProcess extends AbstractProcess<HumanTaskProcess.Variables> {
+
+    private final RuleFlowProcess process;
+
+    public HumanTaskProcess() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("humanTaskProcess");
+        factory
+                .name("Human task process").packageName("org.kie.kogito.test")
+                .variable("name", new ObjectDataType(String.class.getName()))
+                .variable("approved", new ObjectDataType(Boolean.class.getName()))
+                .startNode(1).name("Start").done()
+                .workItemNode(2).name("Approve")
+                .workName("Human Task")
+                .workParameter("TaskName", "approve")
+                .inMapping("name", "name")
+                .outMapping("approved", "approved").done()
+                .endNode(3).name("End").done()
+                .connection(1, 2)
+                .connection(2, 3);
+        this.process = factory.validate().getProcess();
+    }
+
+    @Override
+    public org.kie.api.definition.process.Process legacyProcess() {
+        return process;
+    }
+
+    @Override
+    public Variables createModel() {
+        return new Variables();
+    }
+
+    @Override
+    public ProcessInstance<Variables> createInstance(Variables variables) {
+        return new Instance(this, variables, createLegacyProcessRuntime());
+    }
+
+    public static class Variables implements Model {
+
+        private Map<String, Object> values = new HashMap<>();
+
+        @Override
+        public Map<String, Object> toMap() {
+            return new HashMap<>(values);
+        }
+
+        @Override
+        public void fromMap(Map<String, Object> params) {
+            values = new HashMap<>(params);
+        }
+
+        public Variables with(String name, Object value) {
+            values.put(name, value);
+            return this;
+        }
+    }
+
+    public static class Instance extends AbstractProcessInstance<Variables> {
+
+        public Instance(AbstractProcess<Variables> process, Variables variables, ProcessRuntime rt) {
+            super(process, variables, rt);
+        }
+
+        @Override
+        protected Map<String, Object> bind(Variables variables) {
+            return variables == null ? null : variables.toMap();
+        }
+
+        @Override
+        protected void unbind(Variables variables, Map<String, Object> vmap) {
+            if (variables != null) {
+                variables.fromMap(vmap);
+            }
+        }
+    }
+}
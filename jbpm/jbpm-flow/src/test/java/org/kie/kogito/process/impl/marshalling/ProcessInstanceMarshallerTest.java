@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.process.impl.marshalling;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.impl.AbstractProcessInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessInstanceMarshallerTest {
+
+    @Test
+    public void testCompactRoundTrip() {
+        HumanTaskProcess process = new HumanTaskProcess();
+        ProcessInstanceMarshaller marshaller = new ProcessInstanceMarshaller();
+
+        ProcessInstance<HumanTaskProcess.Variables> processInstance = process.createInstance(process.createModel().with("name", "john"));
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_ACTIVE);
+
+        byte[] data = marshaller.marhsallProcessInstance(processInstance);
+        assertThat(marshaller.isCompactFormat(data)).isTrue();
+        // second write on the same thread reuses the context and must produce the same content
+        assertThat(marshaller.marhsallProcessInstance(processInstance)).isEqualTo(data);
+
+        ProcessInstance<?> unmarshalled = marshaller.unmarshallProcessInstance(data, process);
+        assertThat(unmarshalled.id()).isEqualTo(processInstance.id());
+        assertThat(unmarshalled.status()).isEqualTo(ProcessInstance.STATE_ACTIVE);
+        assertThat(unmarshalled.workItems()).hasSize(1);
+        assertThat(((HumanTaskProcess.Variables) unmarshalled.variables()).toMap()).containsEntry("name", "john");
+    }
+
+    @Test
+    public void testReadObjectStreamFormat() {
+        HumanTaskProcess process = new HumanTaskProcess();
+        ProcessInstanceMarshaller marshaller = new ProcessInstanceMarshaller();
+
+        ProcessInstance<HumanTaskProcess.Variables> processInstance = process.createInstance(process.createModel().with("name", "mary"));
+        processInstance.start();
+
+        byte[] data = marshaller.marshallWithObjectStream(((AbstractProcessInstance<?>) processInstance).internalGetProcessInstance());
+        assertThat(marshaller.isCompactFormat(data)).isFalse();
+
+        ProcessInstance<?> unmarshalled = marshaller.unmarshallProcessInstance(data, process);
+        assertThat(unmarshalled.id()).isEqualTo(processInstance.id());
+        assertThat(unmarshalled.workItems()).hasSize(1);
+        assertThat(((HumanTaskProcess.Variables) unmarshalled.variables()).toMap()).containsEntry("name", "mary");
+    }
+
+    @Test
+    public void testEventSequenceRoundTrip() {
+        HumanTaskProcess process = new HumanTaskProcess();
+        ProcessInstanceMarshaller marshaller = new ProcessInstanceMarshaller();
+
+        ProcessInstance<HumanTaskProcess.Variables> processInstance = process.createInstance(process.createModel().with("name", "john"));
+        processInstance.start();
+        long sequence = eventSequence(processInstance);
+        assertThat(sequence).isPositive();
+
+        ProcessInstance<?> unmarshalled = marshaller.unmarshallProcessInstance(marshaller.marhsallProcessInstance(processInstance), process);
+        assertThat(eventSequence(unmarshalled)).isEqualTo(sequence);
+    }
+
+    private static long eventSequence(ProcessInstance<?> processInstance) {
+        return ((WorkflowProcessInstance) ((AbstractProcessInstance<?>) processInstance).internalGetProcessInstance()).getEventSequence();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.process.impl.marshalling.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.process.impl.marshalling.HumanTaskProcess;
+import org.kie.kogito.process.impl.marshalling.ProcessInstanceMarshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares compact and java serialization framed process instance formats,
+ * run with <code>-prof gc</code> to see allocation per operation.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProcessInstanceMarshallerBenchmark {
+
+    public enum Format {
+        COMPACT,
+        OBJECT_STREAM
+    }
+
+    @Param({"COMPACT", "OBJECT_STREAM"})
+    private Format format;
+
+    private HumanTaskProcess process;
+    private ProcessInstance<HumanTaskProcess.Variables> processInstance;
+    private ObjectStreamMarshaller marshaller;
+    private byte[] data;
+
+    @Setup
+    public void setUp() {
+        process = new HumanTaskProcess();
+        marshaller = new ObjectStreamMarshaller(format == Format.OBJECT_STREAM);
+
+        processInstance = process.createInstance(process.createModel().with("name", "john"));
+        processInstance.start();
+        data = marshaller.marhsallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public byte[] marshall() {
+        return marshaller.marhsallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshall() {
+        return marshaller.unmarshallProcessInstance(data, process);
+    }
+
+    private static class ObjectStreamMarshaller extends ProcessInstanceMarshaller {
+
+        private final boolean objectStream;
+
+        ObjectStreamMarshaller(boolean objectStream) {
+            this.objectStream = objectStream;
+        }
+
+        @Override
+        public byte[] marhsallProcessInstance(ProcessInstance<?> processInstance) {
+            if (objectStream) {
+                return marshallWithObjectStream(((AbstractProcessInstance<?>) processInstance).internalGetProcessInstance());
+            }
+            return super.marhsallProcessInstance(processInstance);
+        }
+    }
+}
@@ -122,10 +122,22 @@ public class ApplicationGenerator {
         FieldDeclaration kogitoServiceField = new FieldDeclaration().addVariable(new VariableDeclarator()
                                                                                 .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, String.class.getCanonicalName()))))
                                                                                 .setName("kogitoService"));
+        FieldDeclaration eventPublishModeField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                                                                                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, String.class.getCanonicalName()))))
+                                                                                .setName("eventPublishMode"));
+        FieldDeclaration eventPublishBufferSizeField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                                                                                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Integer.class.getCanonicalName()))))
+                                                                                .setName("eventPublishBufferSize"));
+        FieldDeclaration variablesDeltaField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                                                                                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Boolean.class.getCanonicalName()))))
+                                                                                .setName("variablesDelta"));
 
 
         cls.addMember(eventPublishersFieldDeclaration);
         cls.addMember(kogitoServiceField);
+        cls.addMember(eventPublishModeField);
+        cls.addMember(eventPublishBufferSizeField);
+        cls.addMember(variablesDeltaField);
         if (useInjection()) {
             annotator.withSingletonComponent(cls);
 
@@ -133,13 +145,23 @@ public class ApplicationGenerator {
             orElseThrow(() -> new RuntimeException("setup method template not found"))
             .addAnnotation("javax.annotation.PostConstruct");
 
+            cls.findFirst(MethodDeclaration.class, md -> md.getNameAsString().equals("close")).
+            orElseThrow(() -> new RuntimeException("close method template not found"))
+            .addAnnotation("javax.annotation.PreDestroy");
+
             annotator.withOptionalInjection(eventPublishersFieldDeclaration);
             eventPublishersDeclarator = new VariableDeclarator(new ClassOrInterfaceType(null, new SimpleName(annotator.multiInstanceInjectionType()), NodeList.nodeList(new ClassOrInterfaceType(null, EventPublisher.class.getCanonicalName()))), "eventPublishers");
 
             annotator.withConfigInjection("kogito.service.url", kogitoServiceField);
+            annotator.withConfigInjection("kogito.events.publish-mode", eventPublishModeField);
+            annotator.withConfigInjection("kogito.events.publish-buffer-size", eventPublishBufferSizeField);
+            annotator.withConfigInjection("kogito.events.processinstances.delta", variablesDeltaField);
         } else {
             eventPublishersDeclarator = new VariableDeclarator(new ClassOrInterfaceType(null, new SimpleName(List.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, EventPublisher.class.getCanonicalName()))), "eventPublishers");
             kogitoServiceField.getVariable(0).setInitializer(new MethodCallExpr(new NameExpr(Optional.class.getCanonicalName()), "empty"));
+            eventPublishModeField.getVariable(0).setInitializer(new MethodCallExpr(new NameExpr(Optional.class.getCanonicalName()), "empty"));
+            eventPublishBufferSizeField.getVariable(0).setInitializer(new MethodCallExpr(new NameExpr(Optional.class.getCanonicalName()), "empty"));
+            variablesDeltaField.getVariable(0).setInitializer(new MethodCallExpr(new NameExpr(Optional.class.getCanonicalName()), "empty"));
         }
 
         eventPublishersFieldDeclaration.addVariable(eventPublishersDeclarator);
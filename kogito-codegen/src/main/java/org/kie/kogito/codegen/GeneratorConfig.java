@@ -21,6 +21,8 @@ package org.kie.kogito.codegen;
 public class GeneratorConfig {
 
     public static final String KOGITO_REST_RESOURCE_TYPE_PROP = "kogito.rest.resource.type";
+    public static final String KOGITO_MESSAGING_BATCH_PROP = "kogito.messaging.batch";
+    public static final String KOGITO_RULES_SESSION_POOL_SIZE_PROP = "kogito.rules.session-pool.size";
     
     private GeneratorConfig() {
     }
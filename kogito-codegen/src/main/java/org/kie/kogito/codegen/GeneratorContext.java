@@ -57,6 +57,11 @@ public class GeneratorContext {
         return this.buildContext;
     }
 
+    public GeneratorContext withApplicationProperty(String property, String value) {
+        this.applicationProperties.setProperty(property, value);
+        return this;
+    }
+
     public Optional<String> getApplicationProperty(String property) {
         return Optional.ofNullable(applicationProperties.getProperty(property));
     }
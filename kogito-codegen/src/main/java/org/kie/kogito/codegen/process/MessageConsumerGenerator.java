@@ -21,10 +21,15 @@ import static org.kie.kogito.codegen.process.CodegenUtils.interpolateTypes;
 import static org.kie.kogito.codegen.process.CodegenUtils.isApplicationField;
 import static org.kie.kogito.codegen.process.CodegenUtils.isProcessField;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.drools.core.util.StringUtils;
 import org.jbpm.compiler.canonical.TriggerMetaData;
 import org.kie.api.definition.process.WorkflowProcess;
 import org.kie.kogito.codegen.BodyDeclarationComparator;
+import org.kie.kogito.codegen.di.CDIDependencyInjectionAnnotator;
 import org.kie.kogito.codegen.di.DependencyInjectionAnnotator;
 
 import com.github.javaparser.ast.CompilationUnit;
@@ -32,11 +37,17 @@ import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 
 public class MessageConsumerGenerator {
+
+    // methods of the templates that refer to the trigger and its data types
+    private static final Set<String> CONSUMING_METHODS = new HashSet<>(Arrays.asList("consume", "handleEvent", "handleData"));
+
     private final String relativePath;
 
     private WorkflowProcess process;
@@ -50,6 +61,7 @@ public class MessageConsumerGenerator {
     private final String appCanonicalName;
     private final String messageDataEventClassName;
     private DependencyInjectionAnnotator annotator;
+    private boolean batching;
     
     private TriggerMetaData trigger;
     
@@ -80,6 +92,17 @@ public class MessageConsumerGenerator {
         return this;
     }
 
+    /**
+     * Generates consumer that handles messages in batches, signals targeting the same process instance
+     * within a batch are delivered with single load of the instance and all of them share one unit of work.
+     * On reactive messaging messages are grouped into batches by the consumer itself, other runtimes
+     * are expected to deliver lists of messages (e.g. Spring Kafka batch listener).
+     */
+    public MessageConsumerGenerator withBatching(boolean batching) {
+        this.batching = batching;
+        return this;
+    }
+
     public String className() {
         return resourceClazzName;
     }
@@ -94,7 +117,7 @@ public class MessageConsumerGenerator {
     
     public String generate() {
         CompilationUnit clazz = parse(
-                this.getClass().getResourceAsStream("/class-templates/MessageConsumerTemplate.java"));
+                this.getClass().getResourceAsStream(batching ? "/class-templates/MessageBatchConsumerTemplate.java" : "/class-templates/MessageConsumerTemplate.java"));
         clazz.setPackageDeclaration(process.getPackageName());
         clazz.addImport(modelfqcn);
 
@@ -103,14 +126,24 @@ public class MessageConsumerGenerator {
         
         template.findAll(ClassOrInterfaceType.class).forEach(cls -> interpolateTypes(cls, dataClazzName));
         template.findAll(MethodDeclaration.class).stream().filter(md -> md.getNameAsString().equals("configure")).forEach(md -> md.addAnnotation("javax.annotation.PostConstruct"));
-        template.findAll(MethodDeclaration.class).stream().filter(md -> md.getNameAsString().equals("consume")).forEach(md -> { 
-            interpolateArguments(md, "String");
+        template.findAll(MethodDeclaration.class).stream().filter(md -> CONSUMING_METHODS.contains(md.getNameAsString())).forEach(md -> { 
+            if (!batching) {
+                interpolateArguments(md, "String");
+            }
             md.findAll(StringLiteralExpr.class).forEach(str -> str.setString(str.asString().replace("$Trigger$", trigger.getName())));
             md.findAll(ClassOrInterfaceType.class).forEach(t -> t.setName(t.getNameAsString().replace("$DataEventType$", messageDataEventClassName)));
             md.findAll(ClassOrInterfaceType.class).forEach(t -> t.setName(t.getNameAsString().replace("$DataType$", trigger.getDataType())));
         });
         template.findAll(MethodCallExpr.class).forEach(this::interpolateStrings);
         
+        boolean receiveBatches = batching && useInjection() && annotator instanceof CDIDependencyInjectionAnnotator;
+        if (receiveBatches) {
+            template.findAll(MethodDeclaration.class).stream().filter(md -> md.getNameAsString().equals("configure"))
+                    .forEach(md -> md.findAll(StringLiteralExpr.class).forEach(str -> str.setString(str.asString().replace("$Trigger$", trigger.getName()))));
+        } else if (batching) {
+            removeBatcher(clazz, template);
+        }
+        
         if (useInjection()) {
             annotator.withApplicationComponent(template);
             
@@ -121,8 +154,17 @@ public class MessageConsumerGenerator {
             
             template.findAll(FieldDeclaration.class,
                              fd -> fd.getVariable(0).getNameAsString().equals("useCloudEvents")).forEach(fd -> annotator.withConfigInjection("kogito.messaging.as-cloudevents", fd));
+            template.findAll(FieldDeclaration.class,
+                             fd -> fd.getVariable(0).getNameAsString().equals("conflictRetries")).forEach(fd -> annotator.withConfigInjection("kogito.uow.conflict-retries", fd));
             
-            template.findAll(MethodDeclaration.class).stream().filter(md -> md.getNameAsString().equals("consume")).forEach(md -> annotator.withIncomingMessage(md, trigger.getName()));
+            if (receiveBatches) {
+                template.findAll(FieldDeclaration.class,
+                                 fd -> fd.getVariable(0).getNameAsString().equals("batchSize")).forEach(fd -> annotator.withConfigInjection("kogito.messaging.batch.size", fd));
+                template.findAll(FieldDeclaration.class,
+                                 fd -> fd.getVariable(0).getNameAsString().equals("batchWindow")).forEach(fd -> annotator.withConfigInjection("kogito.messaging.batch.window-millis", fd));
+            }
+            String incomingMethod = receiveBatches ? "receive" : "consume";
+            template.findAll(MethodDeclaration.class).stream().filter(md -> md.getNameAsString().equals(incomingMethod)).forEach(md -> annotator.withIncomingMessage(md, trigger.getName()));
         } else {
             template.findAll(FieldDeclaration.class,
                              fd -> isProcessField(fd)).forEach(fd -> initializeProcessField(fd, template));
@@ -134,6 +176,18 @@ public class MessageConsumerGenerator {
         return clazz.toString();
     }
     
+    // batches are delivered by the runtime itself, no need to group them
+    private void removeBatcher(CompilationUnit clazz, ClassOrInterfaceDeclaration template) {
+        template.findAll(MethodDeclaration.class, md -> md.getNameAsString().equals("receive")).forEach(MethodDeclaration::remove);
+        template.findAll(FieldDeclaration.class, fd -> {
+            String name = fd.getVariable(0).getNameAsString();
+            return name.equals("batcher") || name.equals("batchSize") || name.equals("batchWindow");
+        }).forEach(FieldDeclaration::remove);
+        template.findAll(ExpressionStmt.class, stmt -> stmt.findAll(NameExpr.class).stream().anyMatch(n -> n.getNameAsString().equals("batcher"))).forEach(ExpressionStmt::remove);
+        clazz.getImports().removeIf(i -> i.getNameAsString().equals("org.eclipse.microprofile.reactive.messaging.Message")
+                || i.getNameAsString().equals("org.kie.kogito.services.event.impl.MessageBatcher"));
+    }
+
     private void initializeProcessField(FieldDeclaration fd, ClassOrInterfaceDeclaration template) {
         fd.getVariable(0).setInitializer(new ObjectCreationExpr().setType(processClazzName));
     }
@@ -203,6 +203,8 @@ public class ProcessCodegen extends AbstractGenerator {
         Map<String, List<UserTaskModelMetaData>> processIdToUserTaskModel = new HashMap<>();
         Map<String, ProcessMetaData> processIdToMetadata = new HashMap<>();
 
+        boolean batchMessages = Boolean.parseBoolean(context.getApplicationProperty(GeneratorConfig.KOGITO_MESSAGING_BATCH_PROP).orElse("false"));
+
         // first we generate all the data classes from variable declarations
         for (WorkflowProcess workFlowProcess : processes.values()) {
             ModelClassGenerator mcg = new ModelClassGenerator(workFlowProcess);
@@ -319,7 +321,8 @@ public class ProcessCodegen extends AbstractGenerator {
                                     applicationCanonicalName,
                                     msgDataEventGenerator.className(),
                                     trigger)
-                                        .withDependencyInjection(annotator));
+                                        .withDependencyInjection(annotator)
+                                        .withBatching(batchMessages));
                     } else if (trigger.getType().equals(TriggerMetaData.TriggerType.ProduceMessage)) {
                         mpgs.add(new MessageProducerGenerator(
                                                               workFlowProcess,
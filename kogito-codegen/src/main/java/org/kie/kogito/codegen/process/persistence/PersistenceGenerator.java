@@ -35,13 +35,17 @@ import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.MethodReferenceExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.NullLiteralExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.SimpleName;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.SuperExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt;
@@ -63,6 +67,10 @@ import org.kie.kogito.codegen.process.persistence.proto.ProtoGenerator;
 public class PersistenceGenerator extends AbstractGenerator {
     
     private static final String TEMPLATE_NAME = "templateName";
+    private static final String WRITE_BEHIND = "writeBehind";
+    private static final String WRITE_BEHIND_INTERVAL = "writeBehindInterval";
+    private static final String WRITE_BEHIND_MAX_PENDING = "writeBehindMaxPending";
+    private static final String NEAR_CACHE_MAX_SIZE = "nearCacheMaxSize";
     private static final String KOGITO_APPLICATION_PROTO = "kogito-application.proto";
 
     private final File targetDirectory;
@@ -177,6 +185,53 @@ public class PersistenceGenerator extends AbstractGenerator {
                 
                 persistenceProviderClazz.addMember(templateNameField);
                 persistenceProviderClazz.addMember(templateNameMethod);
+                
+                FieldDeclaration writeBehindField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                                                                                        .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Boolean.class.getCanonicalName()))))
+                                                                                        .setName(WRITE_BEHIND));
+                annotator.withConfigInjection("kogito.persistence.infinispan.write-behind", writeBehindField);
+                // allow to opt in for write behind mode of the cache
+                BlockStmt writeBehindMethodBody = new BlockStmt();
+                writeBehindMethodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(WRITE_BEHIND), "orElse").addArgument(new BooleanLiteralExpr(false))));
+                
+                MethodDeclaration writeBehindMethod = new MethodDeclaration()
+                        .addModifier(Keyword.PUBLIC)
+                        .setName(WRITE_BEHIND)
+                        .setType(boolean.class)
+                        .setBody(writeBehindMethodBody);
+                
+                persistenceProviderClazz.addMember(writeBehindField);
+                persistenceProviderClazz.addMember(writeBehindMethod);
+                // allow to tune how often and how many buffered writes are stored in write behind mode
+                addConfigurableMethod(persistenceProviderClazz, WRITE_BEHIND_INTERVAL, "kogito.persistence.infinispan.write-behind-interval", Long.class, long.class);
+                addConfigurableMethod(persistenceProviderClazz, WRITE_BEHIND_MAX_PENDING, "kogito.persistence.infinispan.write-behind-max-pending", Integer.class, int.class);
+                
+                FieldDeclaration nearCacheMaxSizeField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                                                                                             .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Long.class.getCanonicalName()))))
+                                                                                             .setName(NEAR_CACHE_MAX_SIZE));
+                annotator.withConfigInjection("kogito.persistence.infinispan.near-cache-max-size", nearCacheMaxSizeField);
+                // allow to enable near cache of unmarshalled process instances
+                BlockStmt nearCacheMaxSizeMethodBody = new BlockStmt();
+                nearCacheMaxSizeMethodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(NEAR_CACHE_MAX_SIZE), "orElse").addArgument(new LongLiteralExpr("0L"))));
+                
+                MethodDeclaration nearCacheMaxSizeMethod = new MethodDeclaration()
+                        .addModifier(Keyword.PUBLIC)
+                        .setName(NEAR_CACHE_MAX_SIZE)
+                        .setType(long.class)
+                        .setBody(nearCacheMaxSizeMethodBody);
+                
+                persistenceProviderClazz.addMember(nearCacheMaxSizeField);
+                persistenceProviderClazz.addMember(nearCacheMaxSizeMethod);
+
+                // store writes still buffered in write behind mode when the application stops
+                MethodDeclaration closeMethod = new MethodDeclaration()
+                        .addModifier(Keyword.PUBLIC)
+                        .setName("close")
+                        .setType(void.class)
+                        .setBody(new BlockStmt().addStatement(new MethodCallExpr(new SuperExpr(), "close")))
+                        .addAnnotation("javax.annotation.PreDestroy");
+
+                persistenceProviderClazz.addMember(closeMethod);
             }
             List<String> variableMarshallers = new ArrayList<>();  
             // handler process variable marshallers
@@ -271,4 +326,27 @@ public class PersistenceGenerator extends AbstractGenerator {
     protected boolean useInjection() {
         return this.annotator != null;
     }
+
+    /*
+     * Adds optional config property field together with method that returns its value or
+     * falls back to the default defined by the factory
+     */
+    protected void addConfigurableMethod(ClassOrInterfaceDeclaration clazz, String name, String configKey, Class<?> boxedType, Class<?> returnType) {
+        FieldDeclaration field = new FieldDeclaration().addVariable(new VariableDeclarator()
+                                                                    .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, boxedType.getCanonicalName()))))
+                                                                    .setName(name));
+        annotator.withConfigInjection(configKey, field);
+
+        BlockStmt methodBody = new BlockStmt();
+        methodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(name), "orElseGet").addArgument(new MethodReferenceExpr(new SuperExpr(), null, name))));
+
+        MethodDeclaration method = new MethodDeclaration()
+                .addModifier(Keyword.PUBLIC)
+                .setName(name)
+                .setType(returnType)
+                .setBody(methodBody);
+
+        clazz.addMember(field);
+        clazz.addMember(method);
+    }
 }
@@ -45,7 +45,6 @@ import org.kie.api.builder.model.KieBaseModel;
 import org.kie.api.builder.model.KieModuleModel;
 import org.kie.api.builder.model.KieSessionModel;
 import org.kie.api.conf.EventProcessingOption;
-import org.kie.api.conf.SessionsPoolOption;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.conf.ClockTypeOption;
@@ -55,6 +54,7 @@ import org.kie.kogito.codegen.AbstractGenerator;
 import org.kie.kogito.codegen.ApplicationGenerator;
 import org.kie.kogito.codegen.ApplicationSection;
 import org.kie.kogito.codegen.ConfigGenerator;
+import org.kie.kogito.codegen.GeneratorConfig;
 import org.kie.kogito.codegen.KogitoPackageSources;
 import org.kie.kogito.codegen.di.DependencyInjectionAnnotator;
 import org.kie.kogito.codegen.rules.config.RuleConfigGenerator;
@@ -210,7 +210,8 @@ public class IncrementalRuleCodegen extends AbstractGenerator {
                 for (RuleUnitDescription ruleUnit : ruleUnits) {
                     RuleUnitGenerator ruSource = new RuleUnitGenerator(ruleUnit, pkgSources.getRulesFileName())
                             .withDependencyInjection(annotator)
-                            .withQueries( pkgSources.getQueriesInRuleUnit( ruleUnit.getCanonicalName() ) );
+                            .withQueries( pkgSources.getQueriesInRuleUnit( ruleUnit.getCanonicalName() ) )
+                            .withSessionPoolSize( sessionPoolSize( ruleUnit.getRuleUnitClass() ) );
                     moduleGenerator.addRuleUnit(ruSource);
                     unitsMap.put(ruleUnit.getCanonicalName(), ruSource.targetCanonicalName());
                     // only Class<?> has config for now
@@ -286,15 +287,27 @@ public class IncrementalRuleCodegen extends AbstractGenerator {
         return generatedFiles;
     }
 
+    /**
+     * Sessions of rule units are pooled by the generated unit itself, so that they are reset and reused
+     * without registering their listeners again: the size is taken from the {@link SessionsPool} annotation
+     * of the unit, if any, or from the application wide property
+     */
+    private int sessionPoolSize( Class<?> ruleUnit ) {
+        SessionsPool sessionsPoolAnn = ruleUnit.getAnnotation( SessionsPool.class );
+        if (sessionsPoolAnn != null && sessionsPoolAnn.value() > 0) {
+            return sessionsPoolAnn.value();
+        }
+        if (context == null) {
+            return 0;
+        }
+        return Integer.parseInt( context.getApplicationProperty( GeneratorConfig.KOGITO_RULES_SESSION_POOL_SIZE_PROP ).orElse( "0" ) );
+    }
+
     private void addUnitConfToKieModule( Class<?> ruleUnit ) {
         KieBaseModel unitKieBaseModel = kieModuleModel.newKieBaseModel( ruleUnit2KieBaseName(ruleUnit.getName()) );
         unitKieBaseModel.setEventProcessingMode(org.kie.api.conf.EventProcessingOption.CLOUD);
         unitKieBaseModel.addPackage(ruleUnit.getPackage().getName());
 
-        SessionsPool sessionsPoolAnn = ruleUnit.getAnnotation( SessionsPool.class );
-        if (sessionsPoolAnn != null && sessionsPoolAnn.value() > 0) {
-            unitKieBaseModel.setSessionsPool( SessionsPoolOption.get( sessionsPoolAnn.value() ) );
-        }
         EventProcessing eventAnn = ruleUnit.getAnnotation( EventProcessing.class );
         if (eventAnn != null && eventAnn.value() == EventProcessing.Type.STREAM) {
             unitKieBaseModel.setEventProcessingMode( EventProcessingOption.STREAM );
@@ -24,7 +24,9 @@ import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.TypeParameter;
@@ -54,6 +56,7 @@ public class RuleUnitGenerator implements FileGenerator {
     private DependencyInjectionAnnotator annotator;
     private Collection<QueryModel> queries;
     private String applicationPackageName;
+    private int sessionPoolSize;
 
     public RuleUnitGenerator(RuleUnitDescription ruleUnit, String generatedSourceFile) {
         this.ruleUnit = ruleUnit;
@@ -154,6 +157,8 @@ public class RuleUnitGenerator implements FileGenerator {
                 .forEach( e -> e.toNameExpr().get().setName( typeName + ".class" ) );
         cls.findAll(TypeParameter.class)
                 .forEach(tp -> tp.setName(typeName));
+        cls.findAll(NameExpr.class, e -> e.getNameAsString().equals("$SessionPoolSize$"))
+                .forEach(e -> e.replace(new IntegerLiteralExpr(sessionPoolSize)));
     }
 
     private void setClassName(ConstructorDeclaration constructorDeclaration) {
@@ -165,6 +170,11 @@ public class RuleUnitGenerator implements FileGenerator {
         return this;
     }
 
+    public RuleUnitGenerator withSessionPoolSize(int sessionPoolSize) {
+        this.sessionPoolSize = sessionPoolSize;
+        return this;
+    }
+
     public RuleUnitGenerator withQueries(Collection<QueryModel> queries) {
         this.queries = queries;
         return this;
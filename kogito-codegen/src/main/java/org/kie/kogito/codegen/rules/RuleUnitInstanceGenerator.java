@@ -17,8 +17,9 @@ package org.kie.kogito.codegen.rules;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.NodeList;
@@ -27,12 +28,10 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
-import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import org.kie.kogito.rules.units.AbstractRuleUnitInstance;
-import org.kie.kogito.rules.units.EntryPointDataProcessor;
 import org.drools.core.util.ClassUtils;
 import org.kie.api.runtime.KieSession;
 import org.kie.kogito.codegen.BodyDeclarationComparator;
@@ -112,7 +111,9 @@ public class RuleUnitInstanceGenerator implements FileGenerator {
         try {
 
 
-            for (Method m : typeClass.getMethods()) {
+            Method[] methods = typeClass.getMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method m : methods) {
                 String methodName = m.getName();
                 String propertyName = ClassUtils.getter2property(methodName);
                 if (propertyName == null || propertyName.equals( "class" )) {
@@ -125,13 +126,12 @@ public class RuleUnitInstanceGenerator implements FileGenerator {
                     Expression fieldAccessor =
                             new MethodCallExpr(new NameExpr("value"), methodName);
 
-                    // .subscribe( new EntryPointDataProcessor(runtime.getEntryPoint()) )
-                    MethodCallExpr drainInto = new MethodCallExpr(fieldAccessor, "subscribe")
-                            .addArgument(new ObjectCreationExpr(null, StaticJavaParser.parseClassOrInterfaceType( EntryPointDataProcessor.class.getName() ), NodeList.nodeList(
-                                    new MethodCallExpr(
+                    // subscribe( value.$method(), runtime.getEntryPoint() )
+                    MethodCallExpr drainInto = new MethodCallExpr(null, "subscribe")
+                            .addArgument(fieldAccessor)
+                            .addArgument(new MethodCallExpr(
                                     new NameExpr("runtime"), "getEntryPoint",
-                                    NodeList.nodeList(new StringLiteralExpr( getEntryPointName( typeClass, propertyName ) ))))));
-//                            new MethodReferenceExpr().setScope(new NameExpr("runtime")).setIdentifier("insert"));
+                                    NodeList.nodeList(new StringLiteralExpr( getEntryPointName( typeClass, propertyName ) ))));
 
                     methodBlock.addStatement(drainInto);
                 }
@@ -2,11 +2,14 @@ package $Package$;
 
 
 import org.kie.kogito.Config;
+import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.process.Processes;
+import org.kie.kogito.services.event.impl.AsyncEventPublisher;
 import org.kie.kogito.uow.UnitOfWorkManager;
 
 public class Application implements org.kie.kogito.Application {
 
+    private final java.util.List<AsyncEventPublisher> asyncPublishers = new java.util.concurrent.CopyOnWriteArrayList<>();
    
     public Config config() {
         return config;
@@ -20,11 +23,32 @@ public class Application implements org.kie.kogito.Application {
         if (config().process() != null) {
             if (eventPublishers != null) {
                 eventPublishers.forEach(publisher -> 
-                unitOfWorkManager().eventManager().addPublisher(publisher));
+                unitOfWorkManager().eventManager().addPublisher(configurePublisher(publisher)));
                 
             }
             unitOfWorkManager().eventManager().setService(kogitoService.orElse(""));
             unitOfWorkManager().eventManager().setAddons(config().addons());
+            unitOfWorkManager().eventManager().setVariablesDelta(variablesDelta.orElse(false));
         }
     }
+    
+    protected EventPublisher configurePublisher(EventPublisher publisher) {
+        String mode = eventPublishMode.orElse("sync");
+        if ("sync".equalsIgnoreCase(mode)) {
+            return publisher;
+        }
+        AsyncEventPublisher asyncPublisher = new AsyncEventPublisher(publisher, 
+                                       AsyncEventPublisher.Mode.fromValue(mode), 
+                                       eventPublishBufferSize.orElse(AsyncEventPublisher.DEFAULT_BUFFER_SIZE), 
+                                       AsyncEventPublisher.DEFAULT_MAX_RETRIES, 
+                                       AsyncEventPublisher.DEFAULT_RETRY_DELAY);
+        asyncPublishers.add(asyncPublisher);
+        return asyncPublisher;
+    }
+    
+    public void close() {
+        // deliver buffered events before the publishers they are delegated to go away
+        asyncPublishers.forEach(AsyncEventPublisher::close);
+        asyncPublishers.clear();
+    }
 }
@@ -0,0 +1,223 @@
+package com.myspace.demo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.kie.kogito.Application;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceExecutionException;
+import org.kie.kogito.process.impl.Sig;
+import org.kie.kogito.services.event.impl.MessageBatchException;
+import org.kie.kogito.services.event.impl.MessageBatcher;
+import org.kie.kogito.services.uow.CollectingUnitOfWork;
+import org.kie.kogito.uow.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+public class $Type$MessageConsumer {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger("MessageConsumer");
+
+    Process<$Type$> process;
+
+    Application application;
+    
+    Optional<Boolean> useCloudEvents = Optional.of(true);
+    
+    Optional<Integer> conflictRetries = Optional.empty();
+    
+    Optional<Integer> batchSize = Optional.empty();
+    
+    Optional<Long> batchWindow = Optional.empty();
+    
+    private ObjectMapper json = new ObjectMapper();
+    
+    private MessageBatcher<String> batcher;
+        
+    public void configure() {
+        json.setDateFormat(new StdDateFormat().withColonInTimeZone(true).withTimeZone(TimeZone.getDefault()));
+        batcher = new MessageBatcher<>("$Trigger$", batchSize.orElse(MessageBatcher.DEFAULT_BATCH_SIZE), batchWindow.orElse(MessageBatcher.DEFAULT_BATCH_WINDOW), this::consume);
+    }
+    
+    public CompletionStage<Void> receive(Message<String> message) {
+        batcher.add(message.getPayload()).whenComplete((v, e) -> {
+            if (e == null) {
+                message.ack();
+            } else {
+                message.nack(e);
+            }
+        });
+        return batcher.accepting();
+    }
+    
+    public void consume(List<String> payloads) {
+        final Map<Integer, Throwable> failures = new LinkedHashMap<>();
+        // process instance handled by each message, messages are not consumed again once their instance is stored
+        final Map<Integer, String> handled = new HashMap<>();
+        final AtomicReference<UnitOfWork> batchUnitOfWork = new AtomicReference<>();
+        
+        if (useCloudEvents.orElse(true)) {
+            final List<$DataEventType$> events = new ArrayList<>(payloads.size());
+            for (int i = 0; i < payloads.size(); i++) {
+                try {
+                    events.add(json.readValue(payloads.get(i), $DataEventType$.class));
+                } catch (Exception e) {
+                    LOGGER.error("Error when reading message for process {}", process.id(), e);
+                    events.add(null);
+                    failures.put(i, e);
+                }
+            }
+            try {
+                org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+                    batchUnitOfWork.set(application.unitOfWorkManager().currentUnitOfWork());
+                    handled.clear();
+                    final Map<String, ProcessInstance<$Type$>> instances = new HashMap<>();
+                    for (int i = 0; i < events.size(); i++) {
+                        if (events.get(i) != null) {
+                            handled.put(i, handleEvent(events.get(i), instances));
+                        }
+                    }
+                    return null;
+                }, conflictRetries.orElse(org.kie.kogito.services.uow.UnitOfWorkExecutor.DEFAULT_CONFLICT_RETRIES));
+            } catch (Exception e) {
+                final Set<String> stored = storedInstances(batchUnitOfWork.get());
+                LOGGER.warn("Error when consuming {} messages for process {}, consuming the ones not stored one by one", payloads.size(), process.id(), e);
+                for (int i = 0; i < events.size(); i++) {
+                    final $DataEventType$ eventData = events.get(i);
+                    if (eventData == null || stored.contains(handled.get(i))) {
+                        continue;
+                    }
+                    try {
+                        org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+                            handleEvent(eventData, new HashMap<>());
+                            return null;
+                        }, conflictRetries.orElse(org.kie.kogito.services.uow.UnitOfWorkExecutor.DEFAULT_CONFLICT_RETRIES));
+                    } catch (Exception ex) {
+                        LOGGER.error("Error when consuming message for process {}", process.id(), ex);
+                        failures.put(i, ex);
+                    }
+                }
+            }
+        } else {
+            final List<$DataType$> events = new ArrayList<>(payloads.size());
+            for (int i = 0; i < payloads.size(); i++) {
+                try {
+                    events.add(json.readValue(payloads.get(i), $DataType$.class));
+                } catch (Exception e) {
+                    LOGGER.error("Error when reading message for process {}", process.id(), e);
+                    events.add(null);
+                    failures.put(i, e);
+                }
+            }
+            try {
+                org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+                    batchUnitOfWork.set(application.unitOfWorkManager().currentUnitOfWork());
+                    handled.clear();
+                    for (int i = 0; i < events.size(); i++) {
+                        if (events.get(i) != null) {
+                            handled.put(i, handleData(events.get(i)));
+                        }
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                final Set<String> stored = storedInstances(batchUnitOfWork.get());
+                LOGGER.warn("Error when consuming {} messages for process {}, consuming the ones not stored one by one", payloads.size(), process.id(), e);
+                for (int i = 0; i < events.size(); i++) {
+                    final $DataType$ eventData = events.get(i);
+                    if (eventData == null || stored.contains(handled.get(i))) {
+                        continue;
+                    }
+                    try {
+                        org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+                            handleData(eventData);
+                            return null;
+                        });
+                    } catch (Exception ex) {
+                        LOGGER.error("Error when consuming message for process {}", process.id(), ex);
+                        failures.put(i, ex);
+                    }
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new MessageBatchException(payloads.size(), failures);
+        }
+    }
+    
+    // the failed batch unit of work stores process instances one by one, the ones stored before the failure are kept
+    private Set<String> storedInstances(UnitOfWork unitOfWork) {
+        final Set<String> stored = new HashSet<>();
+        if (unitOfWork instanceof CollectingUnitOfWork) {
+            for (Object data : ((CollectingUnitOfWork) unitOfWork).performed()) {
+                if (data instanceof ProcessInstance) {
+                    stored.add(((ProcessInstance) data).id());
+                }
+            }
+        }
+        return stored;
+    }
+    
+    // instances loaded or started earlier in the same unit of work are reused, messages are handled in arrival order
+    private String handleEvent($DataEventType$ eventData, Map<String, ProcessInstance<$Type$>> instances) {
+        final String trigger = "$Trigger$";
+        ProcessInstance<$Type$> pi = null;
+        try {
+            if (eventData.getKogitoReferenceId() != null) {
+                LOGGER.debug("Received message with reference id '{}' going to use it to send signal '{}'", eventData.getKogitoReferenceId(), trigger);
+                pi = instances.computeIfAbsent(eventData.getKogitoReferenceId(), id -> process.instances().findById(id).orElse(null));
+                if (pi != null) {
+                    pi.send(Sig.of("Message-" + trigger, eventData.getData(), eventData.getKogitoProcessinstanceId()));
+                }
+            } else {
+                LOGGER.debug("Received message without reference id, staring new process instance with trigger '{}'", trigger);
+                final $Type$ model = new $Type$();
+                model.set$ModelRef$(eventData.getData());
+                pi = process.createInstance(model);
+                
+                if (eventData.getKogitoStartFromNode() != null) {
+                    pi.startFrom(eventData.getKogitoStartFromNode(), eventData.getKogitoProcessinstanceId());
+                } else {
+                    pi.start(trigger, eventData.getKogitoProcessinstanceId());
+                }
+                instances.put(pi.id(), pi);
+            }
+        } catch (ProcessInstanceExecutionException e) {
+            // the instance is stored in error state, same as when the message is consumed on its own
+            LOGGER.error("Error when consuming message for process {}", process.id(), e);
+        }
+        return pi != null ? pi.id() : eventData.getKogitoReferenceId();
+    }
+    
+    private String handleData($DataType$ eventData) {
+        final String trigger = "$Trigger$";
+        ProcessInstance<$Type$> pi = null;
+        try {
+            LOGGER.debug("Received message without reference id, staring new process instance with trigger '{}'", trigger);
+            final $Type$ model = new $Type$();
+            model.set$ModelRef$(eventData);
+            pi = process.createInstance(model);
+            pi.start(trigger, null);
+        } catch (ProcessInstanceExecutionException e) {
+            LOGGER.error("Error when consuming message for process {}", process.id(), e);
+        }
+        return pi != null ? pi.id() : null;
+    }
+}
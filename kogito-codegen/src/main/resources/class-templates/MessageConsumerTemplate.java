@@ -26,6 +26,8 @@ public class $Type$MessageConsumer {
     
     Optional<Boolean> useCloudEvents = Optional.of(true);
     
+    Optional<Integer> conflictRetries = Optional.empty();
+    
     private ObjectMapper json = new ObjectMapper();
         
     public void configure() {
@@ -56,7 +58,7 @@ public class $Type$MessageConsumer {
                         }
                     }
                     return null;
-                });
+                }, conflictRetries.orElse(org.kie.kogito.services.uow.UnitOfWorkExecutor.DEFAULT_CONFLICT_RETRIES));
             } else {
                 final $DataType$ eventData = json.readValue(payload, $DataType$.class);
                 final $Type$ model = new $Type$();
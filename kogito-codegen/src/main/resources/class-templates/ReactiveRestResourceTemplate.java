@@ -2,12 +2,14 @@ package com.myspace.demo;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
@@ -16,8 +18,10 @@ import javax.ws.rs.Path;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 
 import org.kie.api.runtime.process.WorkItemNotFoundException;
@@ -26,6 +30,7 @@ import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceExecutionException;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.workitem.Policy;
 
@@ -49,7 +54,7 @@ public class $Type$ReactiveResource {
         }
         final $Type$ value = resource;
         return CompletableFuture.supplyAsync(() -> {
-            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            return executeInUnitOfWork(() -> {
                 ProcessInstance<$Type$> pi = process.createInstance(value);
                 pi.start();
                 return getModel(pi);
@@ -59,9 +64,15 @@ public class $Type$ReactiveResource {
 
     @GET()
     @Produces(MediaType.APPLICATION_JSON)
-    public CompletionStage<List<$Type$>> getResources_$name$() {
+    public CompletionStage<List<$Type$>> getResources_$name$(@QueryParam("offset") Integer offset, @QueryParam("limit") Integer limit) {
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            throw new BadRequestException("offset and limit must not be negative");
+        }
         return CompletableFuture.supplyAsync(() -> {
-            return process.instances().values().stream()
+            // without paging parameters all instances are returned, as before paging was introduced
+            return (offset == null && limit == null ?
+                    process.instances().values() :
+                    process.instances().values(offset == null ? 0 : offset, limit == null ? Integer.MAX_VALUE : limit)).stream()
                     .map(ProcessInstance::variables)
                  .collect(Collectors.toList());
         });   
@@ -84,7 +95,7 @@ public class $Type$ReactiveResource {
     @Produces(MediaType.APPLICATION_JSON)
     public CompletionStage<$Type$> deleteResource_$name$(@PathParam("id") final String id) {
         return CompletableFuture.supplyAsync(() -> {
-            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            return executeInUnitOfWork(() -> {
                 ProcessInstance<$Type$> pi = process.instances()
                         .findById(id)
                         .orElse(null);
@@ -104,7 +115,7 @@ public class $Type$ReactiveResource {
     @Produces(MediaType.APPLICATION_JSON)
     public CompletionStage<$Type$> updateModel_$name$(@PathParam("id") String id, $Type$ resource) {
         return CompletableFuture.supplyAsync(() -> {
-            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            return executeInUnitOfWork(() -> {
                 ProcessInstance<$Type$> pi = process.instances()
                         .findById(id)
                         .orElse(null);
@@ -149,4 +160,13 @@ public class $Type$ReactiveResource {
         }
         return new Policy[] {SecurityPolicy.of(identity)};
     }
+
+    protected <R> R executeInUnitOfWork(Supplier<R> work) {
+        try {
+            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), work);
+        } catch (ProcessInstanceOptimisticLockingException e) {
+            // the instance was changed by someone else in the meantime, client should reload it and retry
+            throw new WebApplicationException(e.getMessage(), e, Response.Status.CONFLICT);
+        }
+    }
 }
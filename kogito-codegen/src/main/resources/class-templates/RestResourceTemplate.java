@@ -2,10 +2,12 @@ package com.myspace.demo;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -15,10 +17,12 @@ import javax.ws.rs.Path;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 
 import org.kie.api.runtime.process.WorkItemNotFoundException;
@@ -27,6 +31,7 @@ import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceExecutionException;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.workitem.Policy;
 
@@ -49,7 +54,7 @@ public class $Type$Resource {
         }
         final $Type$ value = resource;
 
-        return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+        return executeInUnitOfWork(() -> {
             ProcessInstance<$Type$> pi = process.createInstance(value);
             String startFromNode = httpHeaders.getHeaderString("X-KOGITO-StartFromNode");
             
@@ -65,8 +70,14 @@ public class $Type$Resource {
 
     @GET()
     @Produces(MediaType.APPLICATION_JSON)
-    public List<$Type$> getResources_$name$() {
-        return process.instances().values().stream()
+    public List<$Type$> getResources_$name$(@QueryParam("offset") Integer offset, @QueryParam("limit") Integer limit) {
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            throw new BadRequestException("offset and limit must not be negative");
+        }
+        // without paging parameters all instances are returned, as before paging was introduced
+        return (offset == null && limit == null ?
+                process.instances().values() :
+                process.instances().values(offset == null ? 0 : offset, limit == null ? Integer.MAX_VALUE : limit)).stream()
                 .map(ProcessInstance::variables)
                 .collect(Collectors.toList());
     }
@@ -85,7 +96,7 @@ public class $Type$Resource {
     @Path("/{id}")
     @Produces(MediaType.APPLICATION_JSON)
     public $Type$ deleteResource_$name$(@PathParam("id") final String id) {
-        return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+        return executeInUnitOfWork(() -> {
             ProcessInstance<$Type$> pi = process.instances()
                     .findById(id)
                     .orElse(null);
@@ -103,7 +114,7 @@ public class $Type$Resource {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public $Type$ updateModel_$name$(@PathParam("id") String id, $Type$ resource) {
-        return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+        return executeInUnitOfWork(() -> {
             ProcessInstance<$Type$> pi = process.instances()
                     .findById(id)
                     .orElse(null);
@@ -146,4 +157,13 @@ public class $Type$Resource {
         }
         return new Policy[] {SecurityPolicy.of(identity)};
     }
+
+    protected <R> R executeInUnitOfWork(Supplier<R> work) {
+        try {
+            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), work);
+        } catch (ProcessInstanceOptimisticLockingException e) {
+            // the instance was changed by someone else in the meantime, client should reload it and retry
+            throw new WebApplicationException(e.getMessage(), e, Response.Status.CONFLICT);
+        }
+    }
 }
@@ -14,7 +14,7 @@ public class $Type$Resource {
     @Produces(MediaType.APPLICATION_JSON)
     public $Type$ completeTask(@PathParam("id") final String id, @PathParam("workItemId") final String workItemId, @QueryParam("phase") @DefaultValue("complete") final String phase, @QueryParam("user") final String user, @QueryParam("group") final List<String> groups, final $TaskOutput$ model) {
         try {
-            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            return executeInUnitOfWork(() -> {
                 ProcessInstance<$Type$> pi = process.instances().findById(id).orElse(null);
                 if (pi == null) {
                     return null;
@@ -63,7 +63,7 @@ public class $Type$Resource {
         
         try {
             
-            return org.kie.kogito.services.uow.UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+            return executeInUnitOfWork(() -> {
                 ProcessInstance<$Type$> pi = process.instances().findById(id).orElse(null);
                 if (pi == null) {
                     return null;
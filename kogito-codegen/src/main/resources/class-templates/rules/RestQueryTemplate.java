@@ -30,7 +30,11 @@ public class $unit$Query$name$Endpoint {
     @Consumes(MediaType.APPLICATION_JSON)
     public List<$ReturnType$> executeQuery($UnitTypeDTO$ unitDTO) {
         RuleUnitInstance<$UnitType$> instance = ruleUnit.createInstance(unitDTO.get());
-        return instance.executeQuery( "$queryName$" ).stream().map( this::toResult ).collect( toList() );
+        try {
+            return instance.executeQuery( "$queryName$" ).stream().map( this::toResult ).collect( toList() );
+        } finally {
+            instance.dispose();
+        }
     }
 
     @POST()
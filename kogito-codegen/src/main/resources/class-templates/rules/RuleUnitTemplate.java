@@ -3,9 +3,12 @@ package $Package$;
 import org.kie.api.runtime.KieSession;
 import org.kie.kogito.rules.RuleEventListenerConfig;
 import org.kie.kogito.rules.units.impl.AbstractRuleUnit;
+import org.kie.kogito.rules.units.impl.KieSessionPool;
 
 public class $Name$ extends AbstractRuleUnit<$ModelName$> {
 
+    private final KieSessionPool sessionPool = new KieSessionPool($SessionPoolSize$, this::createLegacySession);
+
     public $Name$() {
         this(new $Application$());
     }
@@ -15,7 +18,16 @@ public class $Name$ extends AbstractRuleUnit<$ModelName$> {
     }
 
     public $InstanceName$ internalCreateInstance($ModelName$ value) {
-        return new $InstanceName$( this, value, createLegacySession());
+        return new $InstanceName$( this, value, sessionPool.acquire());
+    }
+
+    @Override
+    public void release(KieSession session) {
+        sessionPool.release(session);
+    }
+
+    public KieSessionPool sessionPool() {
+        return sessionPool;
     }
 
     private KieSession createLegacySession() {
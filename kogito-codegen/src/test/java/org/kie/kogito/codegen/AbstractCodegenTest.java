@@ -62,7 +62,12 @@ public class AbstractCodegenTest {
     }
 
     protected Application generateCode(List<String> processResources, List<String> rulesResources, boolean hasRuleUnit) throws Exception {
+        return generateCode(processResources, rulesResources, hasRuleUnit, Collections.emptyMap());
+    }
+
+    protected Application generateCode(List<String> processResources, List<String> rulesResources, boolean hasRuleUnit, Map<String, String> applicationProperties) throws Exception {
         GeneratorContext context = GeneratorContext.ofResourcePath(new File("src/test/resources"));
+        applicationProperties.forEach(context::withApplicationProperty);
         ApplicationGenerator appGen =
                 new ApplicationGenerator(this.getClass().getPackage().getName(), new File("target/codegen-tests"))
                         .withGeneratorContext(context)
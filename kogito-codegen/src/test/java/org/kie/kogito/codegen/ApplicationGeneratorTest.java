@@ -42,6 +42,8 @@ import org.kie.kogito.Config;
 import org.kie.kogito.codegen.di.CDIDependencyInjectionAnnotator;
 import org.kie.kogito.codegen.metadata.MetaDataWriter;
 import org.kie.kogito.codegen.metadata.PrometheusLabeler;
+import org.kie.kogito.event.EventPublisher;
+import org.kie.kogito.services.event.impl.AsyncEventPublisher;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,7 +85,7 @@ public class ApplicationGeneratorTest {
     @Test
     public void compilationUnit() {
         final ApplicationGenerator appGenerator = new ApplicationGenerator(PACKAGE_NAME, new File("target"));
-        assertCompilationUnit(appGenerator.compilationUnit(), false, 4);
+        assertCompilationUnit(appGenerator.compilationUnit(), false, 10);
     }
 
     @Test
@@ -91,7 +93,7 @@ public class ApplicationGeneratorTest {
         final ApplicationGenerator initialAppGenerator = new ApplicationGenerator(PACKAGE_NAME, new File("target"));
         final ApplicationGenerator appGenerator = initialAppGenerator.withDependencyInjection(new CDIDependencyInjectionAnnotator());
         assertThat(appGenerator).isSameAs(initialAppGenerator);
-        assertCompilationUnit(appGenerator.compilationUnit(), true, 4);
+        assertCompilationUnit(appGenerator.compilationUnit(), true, 10);
     }
 
     @Test
@@ -104,7 +106,7 @@ public class ApplicationGeneratorTest {
         appGenerator.addFactoryMethods(Collections.singleton(methodDeclaration));
 
         final CompilationUnit compilationUnit = appGenerator.compilationUnit();
-        assertCompilationUnit(compilationUnit, false, 5);
+        assertCompilationUnit(compilationUnit, false, 11);
 
         final TypeDeclaration mainAppClass = compilationUnit.getTypes().get(0);
         assertThat(mainAppClass.getMembers())
@@ -175,7 +177,7 @@ public class ApplicationGeneratorTest {
         final CompilationUnit compilationUnit = appGenerator.compilationUnit();
         assertGeneratedFiles(generatedFiles, compilationUnit.toString().getBytes(StandardCharsets.UTF_8), 3);
 
-        assertCompilationUnit(compilationUnit, false, 7);
+        assertCompilationUnit(compilationUnit, false, 13);
         final TypeDeclaration mainAppClass = compilationUnit.getTypes().get(0);
         assertThat(mainAppClass.getMembers()).filteredOn(member -> member == appSection.factoryMethod()).hasSize(1);
         assertThat(mainAppClass.getMembers()).filteredOn(member -> member == appSection.classDeclaration()).hasSize(1);
@@ -227,8 +229,11 @@ public class ApplicationGeneratorTest {
         assertThat(compilationUnit.getPackageDeclaration().get().getName().toString()).isEqualTo(PACKAGE_NAME);
 
         assertThat(compilationUnit.getImports()).isNotNull();
-        assertThat(compilationUnit.getImports()).hasSize(3);
+        assertThat(compilationUnit.getImports()).hasSize(5);
         assertThat(compilationUnit.getImports().get(0).getName().toString()).isEqualTo(Config.class.getCanonicalName());
+        assertThat(compilationUnit.getImports())
+                .extracting(importDeclaration -> importDeclaration.getName().toString())
+                .contains(EventPublisher.class.getCanonicalName(), AsyncEventPublisher.class.getCanonicalName());
 
         assertThat(compilationUnit.getTypes()).isNotNull();
         assertThat(compilationUnit.getTypes()).hasSize(1);
@@ -244,6 +249,10 @@ public class ApplicationGeneratorTest {
             assertThat(mainAppClass.getAnnotationByName("Singleton")).isNotPresent();
         }
 
+        assertThat(mainAppClass.getMethodsByName("close"))
+                .hasSize(1)
+                .allMatch(close -> ((MethodDeclaration) close).isAnnotationPresent("javax.annotation.PreDestroy") == checkCDI);
+
         assertThat(mainAppClass.getMembers()).isNotNull();
         assertThat(mainAppClass.getMembers()).hasSize(2 + expectedNumberOfCustomFactoryMethods);
 
@@ -253,6 +262,22 @@ public class ApplicationGeneratorTest {
                         && !((MethodDeclaration) member).isStatic())
                 .hasSize(1);
 
+        assertThat(mainAppClass.getMembers())
+                .filteredOn(member -> member instanceof MethodDeclaration
+                        && ((MethodDeclaration) member).getName().toString().equals("configurePublisher"))
+                .hasSize(1);
+
+        assertThat(mainAppClass.getMembers())
+                .filteredOn(member -> member instanceof FieldDeclaration
+                        && (((FieldDeclaration) member).getVariable(0).getName().toString().equals("eventPublishMode")
+                        || ((FieldDeclaration) member).getVariable(0).getName().toString().equals("eventPublishBufferSize")))
+                .hasSize(2);
+
+        assertThat(mainAppClass.getMembers())
+                .filteredOn(member -> member instanceof FieldDeclaration
+                        && ((FieldDeclaration) member).getVariable(0).getName().toString().equals("variablesDelta"))
+                .hasSize(1);
+
         assertThat(mainAppClass.getMembers())
                 .filteredOn(member -> member instanceof FieldDeclaration
                         && ((FieldDeclaration) member).getVariable(0).getName().toString().equals("config")
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.codegen.tests;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.Application;
+import org.kie.kogito.Model;
+import org.kie.kogito.codegen.AbstractCodegenTest;
+import org.kie.kogito.codegen.GeneratorConfig;
+import org.kie.kogito.process.MutableProcessInstances;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceOptimisticLockingException;
+import org.kie.kogito.process.impl.AbstractProcess;
+import org.kie.kogito.services.event.impl.MessageBatchException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class MessageBatchConsumerTest extends AbstractCodegenTest {
+
+    @Test
+    public void testBatchDeliveredInArrivalOrder() throws Exception {
+        Application app = generateBatchingCode("messageevent/IntermediateCatchEventMessage.bpmn2");
+        Process<? extends Model> p = app.processes().processById("IntermediateCatchEvent");
+        ProcessInstance<?> first = start(p);
+        ProcessInstance<?> second = start(p);
+
+        consume(app, p, Arrays.asList(signal(first, "CUS-1"), signal(second, "CUS-2")));
+
+        assertCompleted(p, first, "CUS-1");
+        assertCompleted(p, second, "CUS-2");
+    }
+
+    @Test
+    public void testFailedMessageDoesNotFailBatch() throws Exception {
+        Application app = generateBatchingCode("messageevent/IntermediateCatchEventMessage.bpmn2");
+        Process<? extends Model> p = app.processes().processById("IntermediateCatchEvent");
+        ProcessInstance<?> first = start(p);
+        ProcessInstance<?> second = start(p);
+
+        Throwable error = catchThrowable(() -> consume(app, p, Arrays.asList(signal(first, "CUS-1"), "{\"data\":", signal(second, "CUS-2"))));
+
+        assertThat(error).isInstanceOf(MessageBatchException.class);
+        assertThat(((MessageBatchException) error).getFailures()).containsOnlyKeys(1);
+        assertCompleted(p, first, "CUS-1");
+        assertCompleted(p, second, "CUS-2");
+    }
+
+    @Test
+    public void testPartiallyStoredBatchNotConsumedAgain() throws Exception {
+        Application app = generateBatchingCode("messagestartevent/MessageStartEvent.bpmn2");
+        Process<? extends Model> p = app.processes().processById("MessageStartEvent");
+        // the second instance started by the batch is modified concurrently once the first one is stored
+        List<String> stored = conflictOnStore(p, 2);
+
+        consume(app, p, Arrays.asList("{\"data\":\"CUS-1\"}", "{\"data\":\"CUS-2\"}"));
+
+        // the instance started by the first message is not started again
+        assertThat(stored).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    private Application generateBatchingCode(String process) throws Exception {
+        return generateCode(Collections.singletonList(process), Collections.emptyList(), false,
+                            Collections.singletonMap(GeneratorConfig.KOGITO_MESSAGING_BATCH_PROP, "true"));
+    }
+
+    private ProcessInstance<?> start(Process<? extends Model> p) {
+        ProcessInstance<?> processInstance = p.createInstance(p.createModel());
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_ACTIVE);
+        return processInstance;
+    }
+
+    private String signal(ProcessInstance<?> processInstance, String customerId) {
+        return "{\"data\":\"" + customerId + "\",\"kogitoReferenceId\":\"" + processInstance.id() + "\"}";
+    }
+
+    private void assertCompleted(Process<? extends Model> p, ProcessInstance<?> processInstance, String customerId) {
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_COMPLETED);
+        assertThat(((Model) processInstance.variables()).toMap()).containsEntry("customerId", customerId);
+        assertThat(p.instances().findById(processInstance.id())).isEmpty();
+    }
+
+    private void consume(Application app, Process<? extends Model> p, List<String> payloads) throws Exception {
+        // class name is suffixed with the node id of the message event
+        Class<?> consumerClazz = null;
+        for (int i = 1; consumerClazz == null && i < 10; i++) {
+            try {
+                consumerClazz = Class.forName("org.kie.kogito.test." + p.id() + "MessageConsumer_" + i, true, testClassLoader());
+            } catch (ClassNotFoundException e) {
+                // try next node id
+            }
+        }
+        assertThat(consumerClazz).isNotNull();
+
+        Object consumer = consumerClazz.newInstance();
+        setField(consumer, "process", p);
+        setField(consumer, "application", app);
+        consumerClazz.getMethod("configure").invoke(consumer);
+        try {
+            consumerClazz.getMethod("consume", List.class).invoke(consumer, payloads);
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<String> conflictOnStore(Process<? extends Model> p, int store) throws Exception {
+        Field field = AbstractProcess.class.getDeclaredField("instances");
+        field.setAccessible(true);
+        MutableProcessInstances delegate = (MutableProcessInstances) field.get(p);
+        List<String> stored = new ArrayList<>();
+        AtomicInteger stores = new AtomicInteger();
+        field.set(p, new MutableProcessInstances() {
+
+            @Override
+            public Optional findById(String id) {
+                return delegate.findById(id);
+            }
+
+            @Override
+            public Collection values() {
+                return delegate.values();
+            }
+
+            @Override
+            public void update(String id, ProcessInstance instance) {
+                conflictOnStore(id);
+                delegate.update(id, instance);
+            }
+
+            @Override
+            public void remove(String id) {
+                conflictOnStore(id);
+                delegate.remove(id);
+            }
+
+            private void conflictOnStore(String id) {
+                if (stores.incrementAndGet() == store) {
+                    throw new ProcessInstanceOptimisticLockingException(id);
+                }
+                stored.add(id);
+            }
+        });
+        return stored;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}